@@ -0,0 +1,78 @@
+package com.healthcare.aiservice.benchmark;
+
+import com.healthcare.aiservice.common.prompt.dto.AiPromptDetailsResponse;
+import com.healthcare.aiservice.common.prompt.dto.AiPromptResponse;
+import com.healthcare.aiservice.common.prompt.mapper.AiPromptMapper;
+import com.healthcare.aiservice.common.prompt.model.AiPrompt;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.constant.PromptType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures mapping a page of prompt versions to admin API responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AiPromptMapperBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"1", "10", "50", "200"})
+    private int contentKb;
+
+    private List<AiPrompt> prompts;
+
+    @Setup
+    public void setUp() {
+        String content = BenchmarkNotes.medicalNote(contentKb);
+        Instant now = Instant.now();
+
+        prompts = IntStream.rangeClosed(1, PAGE_SIZE)
+                .mapToObj(version -> AiPrompt.builder()
+                        .id("prompt-" + version)
+                        .feature(FeatureName.MEDICAL_SUMMARY)
+                        .type(PromptType.SYSTEM)
+                        .targetModel(AiProviderModel.LLAMA_3)
+                        .version(version)
+                        .content(content)
+                        .active(version == PAGE_SIZE)
+                        .createdByUserId("user-1")
+                        .createdByUsername("admin")
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .promptDescription("Summary system prompt")
+                        .versionComment("Version " + version)
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public List<AiPromptResponse> toResponseList() {
+        return AiPromptMapper.toResponseList(prompts);
+    }
+
+    @Benchmark
+    public List<AiPromptDetailsResponse> toDetailsResponseList() {
+        return AiPromptMapper.toDetailsResponseList(prompts);
+    }
+}
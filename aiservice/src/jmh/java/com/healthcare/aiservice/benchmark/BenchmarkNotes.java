@@ -0,0 +1,41 @@
+package com.healthcare.aiservice.benchmark;
+
+import java.util.List;
+
+/**
+ * Builds clinical notes of a given size for benchmarks. Notes mix CRLF line endings, trailing spaces,
+ * tabs and repeated whitespace the way notes pasted from EHR systems do, so the normalizer does real work.
+ */
+public final class BenchmarkNotes {
+
+    private static final String BOM = "\uFEFF";
+    private static final int BYTES_PER_KB = 1024;
+
+    private static final List<String> LINES = List.of(
+            "Patient is a 58-year-old male presenting with intermittent chest tightness on exertion.   ",
+            "History of type 2 diabetes mellitus and  hypertension,\tdiagnosed 2015.",
+            "Medications: Metformin 1000 mg twice daily; Lisinopril 10 mg once daily.  ",
+            "Denies shortness of breath at rest. Reports  mild ankle swelling in the evenings.\t",
+            "BP 148/92, HR 84, SpO2 97% on room air. Lungs clear to auscultation bilaterally.",
+            "ECG: sinus rhythm, no acute ST changes.   ",
+            "Plan: stress test, lipid panel, HbA1c; follow-up in two weeks.  "
+    );
+
+    private BenchmarkNotes() {
+    }
+
+    public static String medicalNote(int sizeKb) {
+        int targetLength = sizeKb * BYTES_PER_KB;
+        StringBuilder note = new StringBuilder(targetLength + 128).append(BOM);
+
+        for (int i = 0; note.length() < targetLength; i++) {
+            note.append(LINES.get(i % LINES.size())).append("\r\n");
+
+            if (i % LINES.size() == LINES.size() - 1) {
+                note.append("\r\n");
+            }
+        }
+
+        return note.toString();
+    }
+}
@@ -0,0 +1,92 @@
+package com.healthcare.aiservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.aiservice.common.prompt.model.AiPrompt;
+import com.healthcare.aiservice.config.CacheConfiguration;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.constant.PromptType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Redis value serializer from {@link CacheConfiguration} on an active prompt entry and on a
+ * cached AI response, which is stored as a JSON string.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheValueSerializerBenchmark {
+
+    @Param({"1", "10", "50", "200"})
+    private int payloadKb;
+
+    private GenericJackson2JsonRedisSerializer serializer;
+
+    private AiPrompt prompt;
+    private byte[] serializedPrompt;
+
+    private String response;
+    private byte[] serializedResponse;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        serializer = CacheConfiguration.cacheValueSerializer(objectMapper);
+
+        prompt = AiPrompt.builder()
+                .id("prompt-1")
+                .feature(FeatureName.MEDICAL_SUMMARY)
+                .type(PromptType.SYSTEM)
+                .targetModel(AiProviderModel.LLAMA_3)
+                .version(1L)
+                .content(BenchmarkNotes.medicalNote(payloadKb))
+                .active(true)
+                .createdByUsername("admin")
+                .createdAt(Instant.now())
+                .build();
+
+        response = "{\"summary\":\"%s\",\"diagnoses\":[],\"medications\":[],\"recommendations\":[]}"
+                .formatted(BenchmarkNotes.medicalNote(payloadKb).replace("\r\n", "\\n"));
+
+        serializedPrompt = serializer.serialize(prompt);
+        serializedResponse = serializer.serialize(response);
+    }
+
+    @Benchmark
+    public byte[] serializePrompt() {
+        return serializer.serialize(prompt);
+    }
+
+    @Benchmark
+    public Object deserializePrompt() {
+        return serializer.deserialize(serializedPrompt);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() {
+        return serializer.serialize(response);
+    }
+
+    @Benchmark
+    public Object deserializeResponse() {
+        return serializer.deserialize(serializedResponse);
+    }
+}
@@ -0,0 +1,106 @@
+package com.healthcare.aiservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionResponse;
+import com.healthcare.aiservice.common.provider.JsonExtractor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the previous extract-then-parse path (indexOf/lastIndexOf, substring, readValue) with the
+ * single-pass {@link JsonExtractor#parseObject} on Ollama-style extraction outputs.
+ * <p>
+ * Run with {@code mvn -Pjmh test-compile exec:exec -Djmh.args="JsonExtractorBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonExtractorBenchmark {
+
+    private static final int FIELDS = 6;
+    private static final int BYTES_PER_ITEM = 80;
+
+    @Param({"1", "10", "50", "200"})
+    private int responseKb;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String rawResponse;
+    private StringBuilder streamedResponse;
+
+    @Setup
+    public void setUp() {
+        rawResponse = """
+                Here is the structured medical information extracted from the note:
+
+                ```json
+                %s
+                ```
+
+                All fields were extracted from the note as written. Let me know if anything needs clarification.
+                """.formatted(extractionJson(Math.max(1, responseKb * 1024 / FIELDS / BYTES_PER_ITEM)));
+
+        streamedResponse = new StringBuilder(rawResponse);
+    }
+
+    @Benchmark
+    public MedicalInfoExtractionResponse extractThenReadValue() throws Exception {
+        int start = rawResponse.indexOf('{');
+        int end = rawResponse.lastIndexOf('}');
+
+        return objectMapper.readValue(rawResponse.substring(start, end + 1), MedicalInfoExtractionResponse.class);
+    }
+
+    @Benchmark
+    public MedicalInfoExtractionResponse parseObject() {
+        return JsonExtractor.parseObject(rawResponse, objectMapper, MedicalInfoExtractionResponse.class);
+    }
+
+    @Benchmark
+    public String extractObject() {
+        return JsonExtractor.extractObject(rawResponse);
+    }
+
+    @Benchmark
+    public MedicalInfoExtractionResponse streamedToStringThenExtract() throws Exception {
+        String json = JsonExtractor.extractObject(streamedResponse.toString());
+
+        return objectMapper.readValue(json, MedicalInfoExtractionResponse.class);
+    }
+
+    @Benchmark
+    public MedicalInfoExtractionResponse streamedParseObject() {
+        return JsonExtractor.parseObject(streamedResponse, objectMapper, MedicalInfoExtractionResponse.class);
+    }
+
+    private static String extractionJson(int itemsPerField) {
+        return List.of("symptoms", "diagnoses", "medications", "allergies", "procedures", "recommendations")
+                .stream()
+                .map(field -> "  \"%s\": %s".formatted(field, jsonArray(field, itemsPerField)))
+                .collect(Collectors.joining(",\n", "{\n", "\n}"));
+    }
+
+    private static String jsonArray(String field, int items) {
+        return IntStream.range(0, items)
+                .mapToObj(index -> "\"%s entry %d, reported by patient as \\\"persistent\\\" since last visit\""
+                        .formatted(field, index))
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+}
@@ -0,0 +1,139 @@
+package com.healthcare.aiservice.benchmark;
+
+import com.healthcare.aiservice.common.medical_summary.dto.MedicalSummaryRequest;
+import com.healthcare.aiservice.common.medical_summary.prompt.MedicalSummaryPromptProvider;
+import com.healthcare.aiservice.common.message_classification.category.ClassificationCategoryProvider;
+import com.healthcare.aiservice.common.message_classification.prompt.MessageClassificationPromptProvider;
+import com.healthcare.aiservice.common.prompt.model.AiPrompt;
+import com.healthcare.aiservice.common.prompt.model.AiPromptKey;
+import com.healthcare.aiservice.common.prompt.model.FeaturePrompts;
+import com.healthcare.aiservice.common.prompt.service.CachedActivePromptService;
+import com.healthcare.aiservice.common.prompt.service.DefaultAiPromptFactory;
+import com.healthcare.aiservice.common.prompt.service.DefaultAiPromptResolver;
+import com.healthcare.aiservice.common.prompt.template.PromptTemplateCache;
+import com.healthcare.aiservice.common.provider.AiModelRouter;
+import com.healthcare.aiservice.common.provider.logging.AiRequestMetrics;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.constant.PromptType;
+import com.healthcare.aiservice.config.propertie.AiMetricsProperties;
+import com.healthcare.aiservice.config.propertie.AiRoutingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures user prompt rendering through {@link DefaultAiPromptFactory} with an active database template,
+ * against the previous {@link String#formatted} rendering of the same template.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromptRenderingBenchmark {
+
+    private static final String USER_TEMPLATE = """
+            Summarize the following medical note and extract structured medical information.
+
+            Medical note:
+
+            {{note}}
+
+            Return exactly one valid root JSON object and nothing else.
+            """;
+
+    private static final String LEGACY_USER_TEMPLATE = USER_TEMPLATE.replace("{{note}}", "%s");
+
+    @Param({"1", "10", "50", "200"})
+    private int noteKb;
+
+    private DefaultAiPromptFactory promptFactory;
+    private MedicalSummaryRequest request;
+
+    @Setup
+    public void setUp() {
+        request = new MedicalSummaryRequest(BenchmarkNotes.medicalNote(noteKb));
+
+        AiRoutingProperties routingProperties = new AiRoutingProperties(
+                false,
+                0.2,
+                0.0,
+                0.3,
+                Map.of(AiProviderModel.LLAMA_3, new AiRoutingProperties.ModelEndpoint("llama3:latest", null)),
+                Map.of(
+                        FeatureName.MESSAGE_CLASSIFICATION, route(),
+                        FeatureName.MEDICAL_EXTRACTION, route(),
+                        FeatureName.MEDICAL_SUMMARY, route()
+                )
+        );
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        promptFactory = new DefaultAiPromptFactory(
+                List.of(
+                        new MedicalSummaryPromptProvider(),
+                        new MessageClassificationPromptProvider(new ClassificationCategoryProvider())
+                ),
+                new DefaultAiPromptResolver(activePromptService(), new PromptTemplateCache()),
+                new AiModelRouter(routingProperties, meterRegistry),
+                new AiRequestMetrics(new AiMetricsProperties(List.of(0.5, 0.95, 0.99), List.of()), meterRegistry)
+        );
+    }
+
+    @Benchmark
+    public String getUserPrompt() {
+        return promptFactory.getUserPrompt(FeatureName.MEDICAL_SUMMARY, request);
+    }
+
+    @Benchmark
+    public String getPromptsAndRenderUserPrompt() {
+        FeaturePrompts prompts = promptFactory.getPrompts(FeatureName.MEDICAL_SUMMARY, request);
+
+        return prompts.userPrompt();
+    }
+
+    @Benchmark
+    public String legacyFormatted() {
+        return LEGACY_USER_TEMPLATE.formatted(request.note());
+    }
+
+    // Stands in for the two-level cache: every lookup returns the same cached prompt instance.
+    private static CachedActivePromptService activePromptService() {
+        AiPrompt userPrompt = AiPrompt.builder()
+                .id("user-prompt")
+                .feature(FeatureName.MEDICAL_SUMMARY)
+                .type(PromptType.USER)
+                .targetModel(AiProviderModel.LLAMA_3)
+                .version(1L)
+                .content(USER_TEMPLATE)
+                .active(true)
+                .build();
+
+        return new CachedActivePromptService(null) {
+            @Override
+            public AiPrompt findActivePrompt(AiPromptKey key) {
+                return key.type() == PromptType.USER ? userPrompt : null;
+            }
+        };
+    }
+
+    private static AiRoutingProperties.FeatureRoute route() {
+        return new AiRoutingProperties.FeatureRoute(List.of(AiProviderModel.LLAMA_3), Duration.ofSeconds(30));
+    }
+}
@@ -0,0 +1,50 @@
+package com.healthcare.aiservice.benchmark;
+
+import com.healthcare.aiservice.common.prompt.normalizer.PromptTextNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures note normalization done for every cached AI request and every stored prompt.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromptTextNormalizerBenchmark {
+
+    @Param({"1", "10", "50", "200"})
+    private int noteKb;
+
+    private final PromptTextNormalizer normalizer = new PromptTextNormalizer();
+
+    private String note;
+
+    @Setup
+    public void setUp() {
+        note = BenchmarkNotes.medicalNote(noteKb);
+    }
+
+    @Benchmark
+    public String normalizeContent() {
+        return normalizer.normalizeContent(note);
+    }
+
+    @Benchmark
+    public String normalizeShortText() {
+        return normalizer.normalizeShortText(note);
+    }
+}
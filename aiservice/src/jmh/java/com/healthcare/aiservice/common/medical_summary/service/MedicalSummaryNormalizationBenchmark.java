@@ -0,0 +1,63 @@
+package com.healthcare.aiservice.common.medical_summary.service;
+
+import com.healthcare.aiservice.benchmark.BenchmarkNotes;
+import com.healthcare.aiservice.common.medical_summary.dto.MedicalSummaryResponse;
+import com.healthcare.aiservice.common.medical_summary.dto.MedicationInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures validation and normalization of a parsed summary response. The benchmark lives in the service
+ * package because the normalization is package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MedicalSummaryNormalizationBenchmark {
+
+    private static final int BYTES_PER_MEDICATION = 64;
+
+    @Param({"1", "10", "50", "200"})
+    private int responseKb;
+
+    private final MedicalSummaryService service = new MedicalSummaryService(null, null, null, null, null, null);
+
+    private MedicalSummaryResponse response;
+
+    @Setup
+    public void setUp() {
+        int medications = Math.max(1, responseKb * 1024 / 2 / BYTES_PER_MEDICATION);
+
+        response = new MedicalSummaryResponse(
+                "  " + BenchmarkNotes.medicalNote(responseKb / 2 + 1) + "  ",
+                List.of("Type 2 diabetes mellitus", "Hypertension"),
+                IntStream.range(0, medications)
+                        .mapToObj(index -> index % 10 == 0
+                                ? new MedicationInfo("  ", null)
+                                : new MedicationInfo("  Medication " + index + " ", " " + index + " mg daily  "))
+                        .toList(),
+                null
+        );
+    }
+
+    @Benchmark
+    public MedicalSummaryResponse validateAndNormalize() {
+        return service.validateAndNormalize(response);
+    }
+}
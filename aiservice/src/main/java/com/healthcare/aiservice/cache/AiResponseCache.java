@@ -0,0 +1,176 @@
+package com.healthcare.aiservice.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.aiservice.common.prompt.model.FeaturePrompts;
+import com.healthcare.aiservice.common.prompt.normalizer.PromptTextNormalizer;
+import com.healthcare.aiservice.common.provider.AiRequestCoalescer;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.propertie.cache_propertie.CacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiResponseCache {
+
+    static final String CACHE_METRIC = "ai.response.cache";
+    static final String FEATURE_TAG = "feature";
+    static final String RESULT_TAG = "result";
+    static final String HIT = "hit";
+    static final String MISS = "miss";
+
+    private final CacheManager cacheManager;
+    private final CacheProperties cacheProperties;
+    private final PromptTextNormalizer normalizer;
+    private final ObjectMapper objectMapper;
+    private final AiRequestCoalescer coalescer;
+    private final MeterRegistry meterRegistry;
+
+    public <T> T getOrCompute(
+            FeatureName feature,
+            String note,
+            FeaturePrompts prompts,
+            Class<T> responseType,
+            Supplier<T> loader
+    ) {
+        String key = AiResponseCacheKey.of(
+                normalizer.normalizeContent(note),
+                prompts.systemPrompt(),
+                prompts.userPromptTemplate(),
+                prompts.targetModel().name(),
+                prompts.renderedLocale()
+        );
+
+        return lookup(feature, key, responseType, loader);
+    }
+
+    // For responses merged by a reduce prompt: a new version of either stage must miss the cache.
+    public <T> T getOrCompute(
+            FeatureName feature,
+            String note,
+            FeaturePrompts prompts,
+            FeaturePrompts reducePrompts,
+            Class<T> responseType,
+            Supplier<T> loader
+    ) {
+        String key = AiResponseCacheKey.of(
+                normalizer.normalizeContent(note),
+                List.of(
+                        prompts.systemPrompt(),
+                        prompts.userPromptTemplate(),
+                        reducePrompts.systemPrompt(),
+                        reducePrompts.userPromptTemplate()
+                ),
+                prompts.targetModel().name(),
+                prompts.renderedLocale()
+        );
+
+        return lookup(feature, key, responseType, loader);
+    }
+
+    private <T> T lookup(
+            FeatureName feature,
+            String key,
+            Class<T> responseType,
+            Supplier<T> loader
+    ) {
+        Cache cache = findCache(feature);
+
+        if (cache == null) {
+            return coalescer.execute(feature, key, responseType, loader);
+        }
+
+        T cached = read(cache, key, responseType);
+
+        if (cached != null) {
+            counter(feature, HIT).increment();
+            return cached;
+        }
+
+        counter(feature, MISS).increment();
+
+        return coalescer.execute(feature, key, responseType, () -> {
+            T response = loader.get();
+
+            if (response != null) {
+                write(cache, key, response);
+            }
+
+            return response;
+        });
+    }
+
+    public void evict(FeatureName feature) {
+        Cache cache = findCache(feature);
+
+        if (cache == null) {
+            return;
+        }
+
+        try {
+            cache.invalidate();
+        } catch (RuntimeException ex) {
+            log.warn(
+                    "AI response cache invalidation failed. feature={}, error={}",
+                    feature.getValue(),
+                    ex.getClass().getSimpleName()
+            );
+        }
+    }
+
+    private Cache findCache(FeatureName feature) {
+        return cacheProperties.aiResponse().ttlFor(feature).isPresent()
+                ? cacheManager.getCache(CacheNames.aiResponses(feature))
+                : null;
+    }
+
+    // Responses are cached as plain JSON so that cache entries do not depend on type metadata.
+    private <T> T read(Cache cache, String key, Class<T> responseType) {
+        try {
+            String json = cache.get(key, String.class);
+
+            return json == null
+                    ? null
+                    : objectMapper.readValue(json, responseType);
+
+        } catch (JsonProcessingException | RuntimeException ex) {
+            log.warn(
+                    "AI response cache read failed. cache={}, error={}",
+                    cache.getName(),
+                    ex.getClass().getSimpleName()
+            );
+            return null;
+        }
+    }
+
+    private void write(Cache cache, String key, Object response) {
+        try {
+            cache.put(key, objectMapper.writeValueAsString(response));
+
+        } catch (JsonProcessingException | RuntimeException ex) {
+            log.warn(
+                    "AI response cache write failed. cache={}, error={}",
+                    cache.getName(),
+                    ex.getClass().getSimpleName()
+            );
+        }
+    }
+
+    private Counter counter(FeatureName feature, String result) {
+        return Counter.builder(CACHE_METRIC)
+                .description("AI response cache lookups")
+                .tag(FEATURE_TAG, feature.getValue())
+                .tag(RESULT_TAG, result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,83 @@
+package com.healthcare.aiservice.cache;
+
+import com.healthcare.aiservice.common.prompt.model.ResolvedPrompt;
+import com.healthcare.aiservice.config.constant.PromptSource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+public final class AiResponseCacheKey {
+
+    private static final String DELIMITER = ":";
+    private static final String VERSION_PREFIX = "v";
+    private static final String FALLBACK_PREFIX = "fallback-";
+    private static final int FALLBACK_HASH_LENGTH = 16;
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private AiResponseCacheKey() {
+    }
+
+    public static String of(
+            String normalizedNote,
+            ResolvedPrompt systemPrompt,
+            ResolvedPrompt userPromptTemplate,
+            String model,
+            String locale
+    ) {
+        Objects.requireNonNull(systemPrompt, "System prompt must not be null");
+        Objects.requireNonNull(userPromptTemplate, "User prompt template must not be null");
+
+        return of(normalizedNote, List.of(systemPrompt, userPromptTemplate), model, locale);
+    }
+
+    // A response built in several prompt stages is keyed by the versions of every stage, in order.
+    public static String of(
+            String normalizedNote,
+            List<ResolvedPrompt> prompts,
+            String model,
+            String locale
+    ) {
+        Objects.requireNonNull(normalizedNote, "Normalized note must not be null");
+
+        List<String> parts = new ArrayList<>();
+
+        for (ResolvedPrompt prompt : prompts) {
+            parts.add(promptVersion(Objects.requireNonNull(prompt, "Prompt must not be null")));
+        }
+
+        parts.add(model == null ? "" : model.toLowerCase(Locale.ROOT));
+        parts.add(sha256(normalizedNote));
+
+        String key = String.join(DELIMITER, parts);
+
+        // Only prompts rendered with a locale vary by it, so other keys stay stable across locales.
+        return locale == null ? key : key + DELIMITER + locale.toLowerCase(Locale.ROOT);
+    }
+
+    // Fallback prompts have no version, so the key follows the prompt text itself.
+    private static String promptVersion(ResolvedPrompt prompt) {
+        if (prompt.source() == PromptSource.DATABASE && prompt.version() != null) {
+            return VERSION_PREFIX + prompt.version();
+        }
+
+        return FALLBACK_PREFIX + sha256(prompt.content()).substring(0, FALLBACK_HASH_LENGTH);
+    }
+
+    public static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+
+            return HexFormat.of().formatHex(
+                    digest.digest(Objects.requireNonNullElse(value, "").getBytes(StandardCharsets.UTF_8))
+            );
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.healthcare.aiservice.cache;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public record CacheInvalidationMessage(
+
+        String origin,
+
+        String cacheName,
+
+        String key
+) {
+    @JsonIgnore
+    public boolean isClear() {
+        return key == null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.healthcare.aiservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.io.IOException;
+
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationMessageListener implements MessageListener {
+
+    private final TwoLevelCacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final String origin;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidation;
+
+        try {
+            invalidation = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+        } catch (IOException ex) {
+            log.warn("Cache invalidation message could not be read. error={}", ex.getClass().getSimpleName());
+            return;
+        }
+
+        if (origin.equals(invalidation.origin())) {
+            return;
+        }
+
+        cacheManager.findTwoLevelCache(invalidation.cacheName())
+                .ifPresent(cache -> {
+                    if (invalidation.isClear()) {
+                        cache.clearLocal();
+                    } else {
+                        cache.evictLocal(invalidation.key());
+                    }
+                });
+    }
+}
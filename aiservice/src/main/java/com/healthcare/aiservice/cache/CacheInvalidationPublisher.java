@@ -0,0 +1,8 @@
+package com.healthcare.aiservice.cache;
+
+public interface CacheInvalidationPublisher {
+
+    void publishEvict(String cacheName, Object key);
+
+    void publishClear(String cacheName);
+}
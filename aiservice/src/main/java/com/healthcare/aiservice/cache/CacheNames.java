@@ -1,11 +1,19 @@
 package com.healthcare.aiservice.cache;
 
+import com.healthcare.aiservice.config.constant.FeatureName;
+
 public final class CacheNames {
 
     public static final String ACTIVE_PROMPTS = "active-prompts";
 
     public static final String USER_AUTH_INFO = "user-auth-info";
 
+    public static final String AI_RESPONSES_PREFIX = "ai-responses:";
+
     private CacheNames() {
     }
+
+    public static String aiResponses(FeatureName feature) {
+        return AI_RESPONSES_PREFIX + feature.getValue();
+    }
 }
@@ -0,0 +1,45 @@
+package com.healthcare.aiservice.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RedisCacheInvalidationPublisher implements CacheInvalidationPublisher {
+
+    public static final String CACHE_INVALIDATION_CHANNEL = "aiservice:cache-invalidation";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String origin;
+
+    @Override
+    public void publishEvict(String cacheName, Object key) {
+        publish(new CacheInvalidationMessage(origin, cacheName, String.valueOf(key)));
+    }
+
+    @Override
+    public void publishClear(String cacheName) {
+        publish(new CacheInvalidationMessage(origin, cacheName, null));
+    }
+
+    // A lost message only delays invalidation until the local entry expires.
+    private void publish(CacheInvalidationMessage message) {
+        try {
+            redisTemplate.convertAndSend(
+                    CACHE_INVALIDATION_CHANNEL,
+                    objectMapper.writeValueAsString(message)
+            );
+        } catch (JsonProcessingException | RuntimeException ex) {
+            log.warn(
+                    "Cache invalidation publishing failed. cache={}, key={}, error={}",
+                    message.cacheName(),
+                    message.key(),
+                    ex.getClass().getSimpleName()
+            );
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.healthcare.aiservice.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class TwoLevelCache implements Cache {
+
+    private final Cache remoteCache;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    public TwoLevelCache(
+            Cache remoteCache,
+            long localMaxSize,
+            Duration localTtl,
+            CacheInvalidationPublisher invalidationPublisher
+    ) {
+        this.remoteCache = remoteCache;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return remoteCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object localValue = localCache.getIfPresent(key);
+
+        if (localValue != null) {
+            return new SimpleValueWrapper(localValue);
+        }
+
+        ValueWrapper remoteValue = remoteCache.get(key);
+
+        if (remoteValue != null && remoteValue.get() != null) {
+            localCache.put(key, remoteValue.get());
+        }
+
+        return remoteValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+
+        if (value == null || value.get() == null) {
+            return null;
+        }
+
+        if (type != null && !type.isInstance(value.get())) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value.get()
+            );
+        }
+
+        return (T) value.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper value = get(key);
+
+        if (value != null) {
+            return (T) value.get();
+        }
+
+        AtomicBoolean loadedByThisCall = new AtomicBoolean();
+
+        T loaded = remoteCache.get(key, () -> {
+            loadedByThisCall.set(true);
+            return valueLoader.call();
+        });
+
+        putLocal(key, loaded);
+
+        if (loadedByThisCall.get()) {
+            invalidationPublisher.publishEvict(getName(), key);
+        }
+
+        return loaded;
+    }
+
+    // Other instances may still hold the previous value locally until they receive the evict.
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+        putLocal(key, value);
+        invalidationPublisher.publishEvict(getName(), key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        evictLocal(key);
+        invalidationPublisher.publishEvict(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remoteCache.evictIfPresent(key);
+        evictLocal(key);
+        invalidationPublisher.publishEvict(getName(), key);
+
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        clearLocal();
+        invalidationPublisher.publishClear(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remoteCache.invalidate();
+        clearLocal();
+        invalidationPublisher.publishClear(getName());
+
+        return invalidated;
+    }
+
+    // Inside a transaction the remote write may still roll back, so the next read fills the local level instead.
+    private void putLocal(Object key, Object value) {
+        if (value != null && !TransactionSynchronizationManager.isSynchronizationActive()) {
+            localCache.put(key, value);
+        }
+    }
+
+    public void evictLocal(Object key) {
+        localCache.invalidate(key);
+    }
+
+    public void clearLocal() {
+        localCache.invalidateAll();
+    }
+}
@@ -0,0 +1,87 @@
+package com.healthcare.aiservice.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final Map<String, TwoLevelCacheSettings> settingsByCacheName;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+            CacheManager remoteCacheManager,
+            Map<String, TwoLevelCacheSettings> settingsByCacheName,
+            CacheInvalidationPublisher invalidationPublisher
+    ) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.settingsByCacheName = Map.copyOf(settingsByCacheName);
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCacheSettings settings = settingsByCacheName.get(name);
+
+        if (settings == null) {
+            return remoteCacheManager.getCache(name);
+        }
+
+        return caches.computeIfAbsent(name, cacheName -> createCache(cacheName, settings));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    public Optional<TwoLevelCache> findTwoLevelCache(String name) {
+        getCache(name);
+
+        return Optional.ofNullable(twoLevelCaches.get(name));
+    }
+
+    // The local level is placed under the transaction-aware decorator so both levels change after commit.
+    private Cache createCache(String name, TwoLevelCacheSettings settings) {
+        Cache remoteCache = remoteCacheManager.getCache(name);
+
+        if (remoteCache == null) {
+            return null;
+        }
+
+        boolean transactionAware = remoteCache instanceof TransactionAwareCacheDecorator;
+
+        Cache targetCache = transactionAware
+                ? ((TransactionAwareCacheDecorator) remoteCache).getTargetCache()
+                : remoteCache;
+
+        TwoLevelCache twoLevelCache = new TwoLevelCache(
+                targetCache,
+                settings.localMaxSize(),
+                settings.localTtl(),
+                invalidationPublisher
+        );
+
+        twoLevelCaches.put(name, twoLevelCache);
+
+        return transactionAware
+                ? new TransactionAwareCacheDecorator(twoLevelCache)
+                : twoLevelCache;
+    }
+
+    public record TwoLevelCacheSettings(
+            long localMaxSize,
+            Duration localTtl
+    ) {
+    }
+}
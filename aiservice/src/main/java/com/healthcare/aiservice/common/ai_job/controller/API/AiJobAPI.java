@@ -0,0 +1,204 @@
+package com.healthcare.aiservice.common.ai_job.controller.API;
+
+import com.healthcare.aiservice.common.ai_job.dto.AiJobResponse;
+import com.healthcare.aiservice.common.ai_job.dto.AiJobSubmitRequest;
+import com.healthcare.aiservice.exception.dto.ErrorResponse;
+import com.healthcare.aiservice.security.dto.UserAuthInfoDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static com.healthcare.aiservice.common.APIPaths.ApiPaths.AI_BASIC_URL;
+import static com.healthcare.aiservice.common.ai_job.controller.API.AiJobApiPaths.JOBS;
+import static com.healthcare.aiservice.common.ai_job.controller.API.AiJobApiPaths.JOB_BY_ID;
+import static com.healthcare.aiservice.common.ai_job.controller.API.AiJobApiPaths.JOB_EVENTS;
+import static com.healthcare.aiservice.common.ai_job.controller.API.AiJobApiPaths.PATH_VARIABLE_JOB_ID;
+
+@RequestMapping(AI_BASIC_URL)
+@Tag(name = "AI job controller", description = "Asynchronous AI processing of medical notes")
+public interface AiJobAPI {
+
+    @Operation(
+            summary = "Submit AI job",
+            description = """
+                    Queues an AI feature run on a medical note and returns immediately.
+                    
+                    Submitting the same feature and note again returns the existing job
+                    while it is queued, running or holding its result, unless a new prompt
+                    has been activated since. A failed job is queued again.
+                    """,
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = AiJobSubmitRequest.class)
+                    )
+            )
+    )
+    @ApiResponses(value = {
+
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "AI job accepted",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = AiJobResponse.class)
+                    )
+            ),
+
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Validation error",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Unexpected internal server error",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping(JOBS)
+    ResponseEntity<AiJobResponse> submit(
+            @Valid
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    description = "Request for asynchronous AI processing",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = AiJobSubmitRequest.class)
+                    )
+            )
+            @org.springframework.web.bind.annotation.RequestBody
+            AiJobSubmitRequest request,
+
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal
+            UserAuthInfoDto user);
+
+    @Operation(
+            summary = "Get AI job",
+            description = """
+                    Returns the state of an AI job submitted by the current user. With the wait parameter the request
+                    is held until the job has finished or the wait runs out (long polling),
+                    and the current state is returned either way.
+                    """
+    )
+    @ApiResponses(value = {
+
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "AI job found",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = AiJobResponse.class)
+                    )
+            ),
+
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "AI job not found, submitted by another user or its result has expired",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Unexpected internal server error",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping(JOB_BY_ID)
+    Mono<AiJobResponse> getJob(
+            @PathVariable(PATH_VARIABLE_JOB_ID)
+            @NotBlank(message = "Job id must not be blank")
+            @Parameter(description = "Unique identifier of the job",
+                    example = "6a462f4da54bd47af37800eb")
+            String jobId,
+
+            @RequestParam(required = false)
+            @Parameter(description = "How long to wait for the job to finish, capped by the server",
+                    example = "PT20S")
+            Duration wait,
+
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal
+            UserAuthInfoDto user
+    );
+
+    @Operation(
+            summary = "Follow AI job as a server-sent event stream",
+            description = """
+                    Streams the state of a job submitted by the current user on every status change.
+                    
+                    Events:
+                    - queued, running: intermediate job state
+                    - succeeded, failed: last event, final job state with result or error
+                    - error: last event, sent when the job cannot be read
+                    """
+    )
+    @ApiResponses(value = {
+
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "AI job stream started",
+                    content = @Content(
+                            mediaType = MediaType.TEXT_EVENT_STREAM_VALUE
+                    )
+            ),
+
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "AI job not found, submitted by another user or its result has expired",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping(
+            value = JOB_EVENTS,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE
+    )
+    Flux<ServerSentEvent<Object>> followJob(
+            @PathVariable(PATH_VARIABLE_JOB_ID)
+            @NotBlank(message = "Job id must not be blank")
+            @Parameter(description = "Unique identifier of the job",
+                    example = "6a462f4da54bd47af37800eb")
+            String jobId,
+
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal
+            UserAuthInfoDto user
+    );
+}
@@ -0,0 +1,36 @@
+package com.healthcare.aiservice.common.ai_job.controller.API;
+
+import static com.healthcare.aiservice.common.APIPaths.ApiPaths.AI_BASIC_URL;
+
+public final class AiJobApiPaths {
+
+    private AiJobApiPaths() {
+    }
+
+    public static final String PATH_VARIABLE_JOB_ID = "jobId";
+
+    /**
+     * POST /jobs
+     */
+    public static final String JOBS = "/jobs";
+
+    /**
+     * GET /jobs/{jobId}
+     */
+    public static final String JOB_BY_ID =
+            "/jobs/{" + PATH_VARIABLE_JOB_ID + "}";
+
+    /**
+     * GET /jobs/{jobId}/events
+     */
+    public static final String JOB_EVENTS =
+            "/jobs/{" + PATH_VARIABLE_JOB_ID + "}/events";
+
+    // Full URLs
+
+    public static final String JOBS_URL = AI_BASIC_URL + JOBS;
+
+    public static final String JOB_BY_ID_URL = AI_BASIC_URL + JOB_BY_ID;
+
+    public static final String JOB_EVENTS_URL = AI_BASIC_URL + JOB_EVENTS;
+}
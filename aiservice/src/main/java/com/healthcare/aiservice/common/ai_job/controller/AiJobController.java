@@ -0,0 +1,68 @@
+package com.healthcare.aiservice.common.ai_job.controller;
+
+import com.healthcare.aiservice.common.ai_job.controller.API.AiJobAPI;
+import com.healthcare.aiservice.common.ai_job.dto.AiJobResponse;
+import com.healthcare.aiservice.common.ai_job.dto.AiJobSubmitRequest;
+import com.healthcare.aiservice.common.ai_job.mapper.AiJobMapper;
+import com.healthcare.aiservice.common.ai_job.service.AiJobService;
+import com.healthcare.aiservice.common.web.sse.AiServerSentEvents;
+import com.healthcare.aiservice.security.dto.UserAuthInfoDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import static com.healthcare.aiservice.common.ai_job.controller.API.AiJobApiPaths.JOB_BY_ID_URL;
+import static com.healthcare.aiservice.common.ai_job.controller.API.AiJobApiPaths.JOB_EVENTS_URL;
+
+@Validated
+@RestController
+@RequiredArgsConstructor
+public class AiJobController implements AiJobAPI {
+
+    private final AiJobService service;
+
+    @Override
+    public ResponseEntity<AiJobResponse> submit(AiJobSubmitRequest request, UserAuthInfoDto user) {
+        AiJobResponse job = AiJobMapper.toResponse(service.submit(request, ownerId(user)));
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(UriComponentsBuilder.fromPath(JOB_BY_ID_URL).build(job.id()))
+                .body(job);
+    }
+
+    @Override
+    public Mono<AiJobResponse> getJob(String jobId, Duration wait, UserAuthInfoDto user) {
+        return service.await(jobId, ownerId(user), wait)
+                .map(AiJobMapper::toResponse);
+    }
+
+    @Override
+    public Flux<ServerSentEvent<Object>> followJob(String jobId, UserAuthInfoDto user) {
+        String ownerId = ownerId(user);
+
+        // Checked before the stream starts, so another user's job is a plain 404 rather than an error event.
+        service.get(jobId, ownerId);
+
+        return service.watch(jobId, ownerId)
+                .map(job -> ServerSentEvent.builder()
+                        .event(job.status().name().toLowerCase(Locale.ROOT))
+                        .data((Object) AiJobMapper.toResponse(job))
+                        .build())
+                .onErrorResume(ex -> Flux.just(
+                        AiServerSentEvents.toErrorEvent(ex, JOB_EVENTS_URL)
+                ));
+    }
+
+    private static String ownerId(UserAuthInfoDto user) {
+        return String.valueOf(user.userId());
+    }
+}
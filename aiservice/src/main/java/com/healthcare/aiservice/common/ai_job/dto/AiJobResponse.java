@@ -0,0 +1,65 @@
+package com.healthcare.aiservice.common.ai_job.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.healthcare.aiservice.common.ai_job.model.AiJobStatus;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.exception.dto.ErrorResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.Instant;
+
+@Schema(
+        name = "AiJobResponse",
+        description = "State of an asynchronous AI job"
+)
+@Builder
+public record AiJobResponse(
+
+        @Schema(
+                description = "Job identifier",
+                example = "6a462f4da54bd47af37800eb"
+        )
+        String id,
+
+        @Schema(
+                description = "AI feature",
+                example = "MEDICAL_SUMMARY"
+        )
+        FeatureName feature,
+
+        @Schema(
+                description = "Job status",
+                example = "SUCCEEDED"
+        )
+        AiJobStatus status,
+
+        @Schema(
+                description = "Feature response, present when status is SUCCEEDED",
+                type = "object"
+        )
+        @JsonRawValue
+        String result,
+
+        @Schema(description = "Error details, present when status is FAILED")
+        ErrorResponse error,
+
+        @Schema(
+                description = "Submission timestamp",
+                example = "2026-06-01T13:45:00Z"
+        )
+        Instant createdAt,
+
+        @Schema(
+                description = "Completion timestamp",
+                example = "2026-06-01T13:45:28Z"
+        )
+        Instant completedAt,
+
+        @Schema(
+                description = "Time after which the finished job and its result are deleted",
+                example = "2026-06-02T13:45:28Z"
+        )
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,40 @@
+package com.healthcare.aiservice.common.ai_job.dto;
+
+import com.healthcare.aiservice.common.dto.NoteBasedRequest;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import static com.healthcare.aiservice.common.dto.SwaggerDescriptions.NOTE_DESCRIPTION;
+
+@Schema(
+        name = "AiJobSubmitRequest",
+        description = "Request for running an AI feature on a medical note asynchronously"
+)
+public record AiJobSubmitRequest(
+
+        @Schema(
+                description = "AI feature to run",
+                example = "MEDICAL_SUMMARY"
+        )
+        @NotNull(message = "Feature must not be null")
+        FeatureName feature,
+
+        @Schema(
+                description = """
+                        Raw medical note text 
+                        """ + NOTE_DESCRIPTION,
+                example = """
+                        Patient complains about headache and nausea.
+                        Takes Ibuprofen daily.
+                        Follow-up recommended in two weeks.
+                        """
+        )
+        @NotBlank(message = "Medical note must not be blank")
+        @Size(max = 200000, message = "Medical note is too long")
+        String note
+
+) implements NoteBasedRequest {
+}
@@ -0,0 +1,28 @@
+package com.healthcare.aiservice.common.ai_job.mapper;
+
+import com.healthcare.aiservice.common.ai_job.dto.AiJobResponse;
+import com.healthcare.aiservice.common.ai_job.model.AiJob;
+
+public final class AiJobMapper {
+
+    private AiJobMapper() {
+    }
+
+    public static AiJobResponse toResponse(AiJob job) {
+
+        if (job == null) {
+            return null;
+        }
+
+        return AiJobResponse.builder()
+                .id(job.id())
+                .feature(job.feature())
+                .status(job.status())
+                .result(job.result())
+                .error(job.error())
+                .createdAt(job.createdAt())
+                .completedAt(job.completedAt())
+                .expiresAt(job.expiresAt())
+                .build();
+    }
+}
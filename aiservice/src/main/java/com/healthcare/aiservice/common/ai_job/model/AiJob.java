@@ -0,0 +1,58 @@
+package com.healthcare.aiservice.common.ai_job.model;
+
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.exception.dto.ErrorResponse;
+import lombok.Builder;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Builder(toBuilder = true)
+@Document(collection = "ai_jobs")
+
+@CompoundIndex(
+        name = "status_created_idx",
+        def = "{'status': 1, 'createdAt': 1}"
+)
+public record AiJob(
+
+        @Id
+        String id,
+
+        FeatureName feature,
+
+        // The submitting user; nobody else can read the job, since it holds the note and its result.
+        String ownerId,
+
+        String note,
+
+        @Indexed(unique = true)
+        String inputHash,
+
+        AiJobStatus status,
+
+        int attempts,
+
+        String result,
+
+        ErrorResponse error,
+
+        Instant createdAt,
+
+        Instant startedAt,
+
+        Instant leaseExpiresAt,
+
+        // Set when a job is returned to the queue after a retryable failure; it is not claimed before then.
+        Instant notBefore,
+
+        Instant completedAt,
+
+        // Set only once the job has finished, so queued and running jobs never expire.
+        @Indexed(expireAfter = "0s")
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,13 @@
+package com.healthcare.aiservice.common.ai_job.model;
+
+public enum AiJobStatus {
+
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED;
+
+    public boolean isTerminal() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
@@ -0,0 +1,56 @@
+package com.healthcare.aiservice.common.ai_job.service;
+
+import com.healthcare.aiservice.common.ai_job.model.AiJob;
+import com.healthcare.aiservice.common.dto.NoteBasedRequest;
+import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionRequest;
+import com.healthcare.aiservice.common.medical_extraction.service.MedicalInfoExtractionService;
+import com.healthcare.aiservice.common.medical_summary.dto.MedicalSummaryRequest;
+import com.healthcare.aiservice.common.medical_summary.service.MedicalSummaryService;
+import com.healthcare.aiservice.common.message_classification.dto.MessageClassificationRequest;
+import com.healthcare.aiservice.common.message_classification.service.MessageClassificationService;
+import com.healthcare.aiservice.common.validation.FeatureRequestValidator;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.exception.rest_exception.FeatureRequestInvalidException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs a job through the same feature service as the synchronous endpoint, so caching, admission control
+ * and {@code @LogAiUsage} accounting apply to every job.
+ */
+@Component
+@RequiredArgsConstructor
+public class AiJobFeatureExecutor {
+
+    private final MedicalSummaryService summaryService;
+    private final MedicalInfoExtractionService extractionService;
+    private final MessageClassificationService classificationService;
+    private final FeatureRequestValidator requestValidator;
+
+    /**
+     * Checks the note against the request constraints of the feature, so a job the feature would reject
+     * is refused on submission instead of being queued.
+     *
+     * @return the validated feature request
+     * @throws FeatureRequestInvalidException when the note violates them
+     */
+    public NoteBasedRequest validate(FeatureName feature, String note) {
+        return requestValidator.validate(feature, request(feature, note));
+    }
+
+    public Object execute(AiJob job) {
+        return switch (job.feature()) {
+            case MEDICAL_SUMMARY -> summaryService.summarize(new MedicalSummaryRequest(job.note()));
+            case MEDICAL_EXTRACTION -> extractionService.extract(new MedicalInfoExtractionRequest(job.note()));
+            case MESSAGE_CLASSIFICATION -> classificationService.classify(new MessageClassificationRequest(job.note()));
+        };
+    }
+
+    private static NoteBasedRequest request(FeatureName feature, String note) {
+        return switch (feature) {
+            case MEDICAL_SUMMARY -> new MedicalSummaryRequest(note);
+            case MEDICAL_EXTRACTION -> new MedicalInfoExtractionRequest(note);
+            case MESSAGE_CLASSIFICATION -> new MessageClassificationRequest(note);
+        };
+    }
+}
@@ -0,0 +1,155 @@
+package com.healthcare.aiservice.common.ai_job.service;
+
+import com.healthcare.aiservice.cache.AiResponseCacheKey;
+import com.healthcare.aiservice.common.ai_job.dto.AiJobSubmitRequest;
+import com.healthcare.aiservice.common.ai_job.model.AiJob;
+import com.healthcare.aiservice.common.ai_job.model.AiJobStatus;
+import com.healthcare.aiservice.common.dto.NoteBasedRequest;
+import com.healthcare.aiservice.common.prompt.model.FeaturePrompts;
+import com.healthcare.aiservice.common.prompt.normalizer.PromptTextNormalizer;
+import com.healthcare.aiservice.common.prompt.service.interfaces.AiPromptFactory;
+import com.healthcare.aiservice.config.propertie.AiJobProperties;
+import com.healthcare.aiservice.exception.rest_exception.AiJobNotFoundException;
+import com.healthcare.aiservice.repository.AiJobQueueRepository;
+import com.healthcare.aiservice.repository.AiJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Accepts AI jobs into the Mongo-backed queue drained by {@link AiJobWorker} and reports their state.
+ * Jobs are deduplicated per owner by feature, normalized note and the active prompt versions, so a retried
+ * submission returns the existing job while a prompt activation queues a new one. The note is checked against
+ * the limits of the requested feature before it is queued. A job is visible to its owner only; anyone else
+ * gets a not-found.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiJobService {
+
+    private static final String HASH_DELIMITER = ":";
+
+    private final AiJobRepository jobRepository;
+    private final AiJobQueueRepository queueRepository;
+    private final AiJobFeatureExecutor featureExecutor;
+    private final AiPromptFactory promptFactory;
+    private final PromptTextNormalizer normalizer;
+    private final AiJobProperties properties;
+
+    public AiJob submit(AiJobSubmitRequest request, String ownerId) {
+        NoteBasedRequest featureRequest = featureExecutor.validate(request.feature(), request.note());
+
+        String inputHash = inputHash(
+                request,
+                ownerId,
+                promptFactory.getPrompts(request.feature(), featureRequest)
+        );
+
+        Optional<AiJob> existing = findReusable(inputHash);
+
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        AiJob job = AiJob.builder()
+                .feature(request.feature())
+                .ownerId(ownerId)
+                .note(request.note())
+                .inputHash(inputHash)
+                .status(AiJobStatus.QUEUED)
+                .createdAt(Instant.now())
+                .build();
+
+        try {
+            AiJob saved = jobRepository.insert(job);
+
+            log.info("AI job queued. jobId={}, feature={}", saved.id(), saved.feature().getValue());
+
+            return saved;
+
+        } catch (DuplicateKeyException ex) {
+            // A concurrent submission of the same input won the insert.
+            return findReusable(inputHash)
+                    .orElseThrow(() -> ex);
+        }
+    }
+
+    public AiJob get(String jobId, String ownerId) {
+        return jobRepository.findById(jobId)
+                .filter(job -> Objects.equals(job.ownerId(), ownerId))
+                .orElseThrow(() -> new AiJobNotFoundException(jobId));
+    }
+
+    // Returns the job once it has finished, or its current state when the wait runs out.
+    public Mono<AiJob> await(String jobId, String ownerId, Duration wait) {
+        Duration timeout = wait == null || wait.isNegative()
+                ? Duration.ZERO
+                : min(wait, properties.maxWait());
+
+        if (timeout.isZero()) {
+            return load(jobId, ownerId);
+        }
+
+        return watch(jobId, ownerId)
+                .filter(job -> job.status().isTerminal())
+                .next()
+                .timeout(timeout, load(jobId, ownerId));
+    }
+
+    // Emits the job on every status change until it has finished.
+    public Flux<AiJob> watch(String jobId, String ownerId) {
+        return load(jobId, ownerId)
+                .repeatWhen(repeats -> repeats.delayElements(properties.pollInterval()))
+                .distinctUntilChanged(AiJob::status)
+                .takeUntil(job -> job.status().isTerminal());
+    }
+
+    private Mono<AiJob> load(String jobId, String ownerId) {
+        return Mono.fromCallable(() -> get(jobId, ownerId))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // A failed job is queued again on resubmission; anything else is returned as is.
+    private Optional<AiJob> findReusable(String inputHash) {
+        Optional<AiJob> existing = jobRepository.findByInputHash(inputHash);
+
+        if (existing.isEmpty() || existing.get().status() != AiJobStatus.FAILED) {
+            return existing;
+        }
+
+        return queueRepository.requeueFailed(inputHash, Instant.now())
+                .or(() -> jobRepository.findByInputHash(inputHash));
+    }
+
+    // The response cache key carries the note hash, the prompt versions, the model and the locale.
+    private String inputHash(AiJobSubmitRequest request, String ownerId, FeaturePrompts prompts) {
+        String promptKey = AiResponseCacheKey.of(
+                normalizer.normalizeContent(request.note()),
+                prompts.systemPrompt(),
+                prompts.userPromptTemplate(),
+                prompts.targetModel().name(),
+                prompts.renderedLocale()
+        );
+
+        return AiResponseCacheKey.sha256(String.join(
+                HASH_DELIMITER,
+                request.feature().getValue(),
+                ownerId,
+                promptKey
+        ));
+    }
+
+    private static Duration min(Duration first, Duration second) {
+        return first.compareTo(second) <= 0 ? first : second;
+    }
+}
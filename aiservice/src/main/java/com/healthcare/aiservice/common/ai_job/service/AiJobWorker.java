@@ -0,0 +1,195 @@
+package com.healthcare.aiservice.common.ai_job.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.aiservice.common.ai_job.model.AiJob;
+import com.healthcare.aiservice.config.propertie.AiJobProperties;
+import com.healthcare.aiservice.exception.ErrorResponseMapper;
+import com.healthcare.aiservice.exception.dto.ErrorResponse;
+import com.healthcare.aiservice.exception.rest_exception.AiCapacityExceededException;
+import com.healthcare.aiservice.repository.AiJobQueueRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.healthcare.aiservice.common.ai_job.controller.API.AiJobApiPaths.JOBS_URL;
+
+/**
+ * Drains the AI job queue with a fixed number of workers, sized to what the model can serve concurrently
+ * rather than to the number of waiting clients. Each worker claims one job at a time under a lease, so a
+ * job held by an instance that dies is picked up again once the lease runs out.
+ */
+@Slf4j
+@Component
+public class AiJobWorker implements DisposableBean {
+
+    private static final String THREAD_NAME_PREFIX = "ai-job-";
+
+    // Capacity and availability failures say nothing about the job itself, so it goes back to the queue.
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            HttpStatus.GATEWAY_TIMEOUT.value()
+    );
+
+    private final AiJobQueueRepository queueRepository;
+    private final AiJobFeatureExecutor featureExecutor;
+    private final ObjectMapper objectMapper;
+    private final AiJobProperties properties;
+    private final ExecutorService executor;
+
+    private volatile boolean running;
+
+    public AiJobWorker(
+            AiJobQueueRepository queueRepository,
+            AiJobFeatureExecutor featureExecutor,
+            ObjectMapper objectMapper,
+            AiJobProperties properties
+    ) {
+        this.queueRepository = queueRepository;
+        this.featureExecutor = featureExecutor;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(properties.workers(), runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        running = true;
+
+        for (int i = 0; i < properties.workers(); i++) {
+            executor.execute(this::drain);
+        }
+
+        log.info("AI job workers started. workers={}", properties.workers());
+    }
+
+    private void drain() {
+        while (running) {
+            boolean processed;
+
+            try {
+                processed = processNext();
+            } catch (RuntimeException ex) {
+                log.warn("AI job worker failed to claim a job. error={}", ex.getClass().getSimpleName());
+                processed = false;
+            }
+
+            if (!processed && !pause()) {
+                return;
+            }
+        }
+    }
+
+    boolean processNext() {
+        Instant now = Instant.now();
+        Optional<AiJob> claimed = queueRepository.claimNext(now, now.plus(properties.lease()));
+
+        claimed.ifPresent(this::process);
+
+        return claimed.isPresent();
+    }
+
+    void process(AiJob job) {
+        if (job.attempts() > properties.maxAttempts()) {
+            fail(job, ErrorResponseMapper.toErrorResponse(
+                    new IllegalStateException("AI job exceeded " + properties.maxAttempts() + " attempts"),
+                    JOBS_URL
+            ));
+            return;
+        }
+
+        try {
+            complete(job, objectMapper.writeValueAsString(featureExecutor.execute(job)));
+
+        } catch (JsonProcessingException | RuntimeException ex) {
+            ErrorResponse error = ErrorResponseMapper.toErrorResponse(ex, JOBS_URL);
+
+            if (RETRYABLE_STATUSES.contains(error.status()) && job.attempts() < properties.maxAttempts()) {
+                log.warn(
+                        "AI job returned to queue. jobId={}, attempt={}, error={}",
+                        job.id(),
+                        job.attempts(),
+                        ex.getClass().getSimpleName()
+                );
+                queueRepository.release(job, Instant.now().plus(retryDelay(job, ex)));
+                return;
+            }
+
+            fail(job, error);
+        }
+    }
+
+    // Backs off exponentially per attempt, but never retries sooner than the provider asked for.
+    private Duration retryDelay(AiJob job, Exception failure) {
+        Duration backoff = properties.retryBackoff().multipliedBy(1L << Math.min(job.attempts() - 1, 16));
+
+        if (failure instanceof AiCapacityExceededException capacityExceeded
+                && capacityExceeded.getRetryAfter() != null
+                && capacityExceeded.getRetryAfter().compareTo(backoff) > 0) {
+            return capacityExceeded.getRetryAfter();
+        }
+
+        return backoff;
+    }
+
+    private void complete(AiJob job, String result) {
+        Instant now = Instant.now();
+
+        if (queueRepository.complete(job, result, now, now.plus(properties.resultTtl()))) {
+            log.info("AI job succeeded. jobId={}, feature={}", job.id(), job.feature().getValue());
+        }
+    }
+
+    private void fail(AiJob job, ErrorResponse error) {
+        Instant now = Instant.now();
+
+        if (queueRepository.fail(job, error, now, now.plus(properties.resultTtl()))) {
+            log.warn(
+                    "AI job failed. jobId={}, feature={}, attempt={}, error={}",
+                    job.id(),
+                    job.feature().getValue(),
+                    job.attempts(),
+                    error.error()
+            );
+        }
+    }
+
+    private boolean pause() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(properties.pollInterval().toMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,6 @@
+package com.healthcare.aiservice.common.dto;
+
+public enum AiResultStatus {
+    SUCCESS,
+    FAILED
+}
@@ -1,5 +1,7 @@
 package com.healthcare.aiservice.common.medical_extraction.controller.API;
 
+import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionBatchItemResponse;
+import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionBatchRequest;
 import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionRequest;
 import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionResponse;
 import com.healthcare.aiservice.common.medical_summary.dto.MedicalSummaryRequest;
@@ -17,9 +19,11 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import reactor.core.publisher.Flux;
 
 import static com.healthcare.aiservice.common.APIPaths.ApiPaths.AI_BASIC_URL;
 import static com.healthcare.aiservice.common.medical_extraction.controller.API.MedicalInfoExtractionApiPaths.EXTRACT_MEDICAL_INFO;
+import static com.healthcare.aiservice.common.medical_extraction.controller.API.MedicalInfoExtractionApiPaths.EXTRACT_MEDICAL_INFO_BATCH;
 
 @RequestMapping(AI_BASIC_URL)
 @Tag(name = "Medical info extraction controller", description = "Controller for extraction medical info from the medical note")
@@ -128,4 +132,82 @@ public interface MedicalInfoExtractionAPI {
             @org.springframework.web.bind.annotation.RequestBody
             MedicalInfoExtractionRequest request
     );
+
+    @Operation(
+            summary = "Extract structured medical information from several notes",
+            description = """
+                    Extracts medical information from every note of the batch with
+                    bounded parallelism and streams one NDJSON line per item as soon
+                    as it is ready, so items arrive in completion order.
+                    
+                    A failed item does not fail the batch: it is returned with
+                    status FAILED and error details, while the rest of the batch
+                    continues.
+                    """,
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = MedicalInfoExtractionBatchRequest.class)
+                    )
+            )
+    )
+    @ApiResponses(value = {
+
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch item results stream started",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = MedicalInfoExtractionBatchItemResponse.class)
+                    )
+            ),
+
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Validation error",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "Error400ValidationMedicalInfoExtraction",
+                                            ref = "#/components/examples/Error400ValidationMedicalInfoExtraction"
+                                    )
+                            }
+                    )
+            ),
+
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Unexpected internal server error",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "Error500InternalServerErrorMedicalInfoExtraction",
+                                            ref = "#/components/examples/Error500InternalServerErrorMedicalInfoExtraction"
+                                    )
+                            }
+                    )
+            )
+    })
+    @PostMapping(
+            value = EXTRACT_MEDICAL_INFO_BATCH,
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    Flux<MedicalInfoExtractionBatchItemResponse> extractBatch(
+            @Valid
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    description = "Medical notes to analyze",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = MedicalInfoExtractionBatchRequest.class)
+                    )
+            )
+            @org.springframework.web.bind.annotation.RequestBody
+            MedicalInfoExtractionBatchRequest request
+    );
 }
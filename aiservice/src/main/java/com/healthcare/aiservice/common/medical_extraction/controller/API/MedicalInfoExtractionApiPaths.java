@@ -8,5 +8,9 @@ public final class MedicalInfoExtractionApiPaths {
 
     public static final String EXTRACT_MEDICAL_INFO = "/extract-medical-info";
 
+    public static final String EXTRACT_MEDICAL_INFO_BATCH = EXTRACT_MEDICAL_INFO + "/batch";
+
     public static final String EXTRACT_MEDICAL_INFO_URL = AI_BASIC_URL+ EXTRACT_MEDICAL_INFO;
+
+    public static final String EXTRACT_MEDICAL_INFO_BATCH_URL = AI_BASIC_URL + EXTRACT_MEDICAL_INFO_BATCH;
 }
@@ -1,13 +1,17 @@
 package com.healthcare.aiservice.common.medical_extraction.controller;
 
 import com.healthcare.aiservice.common.medical_extraction.controller.API.MedicalInfoExtractionAPI;
+import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionBatchItemResponse;
+import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionBatchRequest;
 import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionRequest;
 import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionResponse;
+import com.healthcare.aiservice.common.medical_extraction.service.MedicalInfoExtractionBatchService;
 import com.healthcare.aiservice.common.medical_extraction.service.MedicalInfoExtractionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
 @Validated
 @RestController
@@ -15,9 +19,15 @@ import org.springframework.web.bind.annotation.RestController;
 public class MedicalInfoExtractionController implements MedicalInfoExtractionAPI {
 
     private final MedicalInfoExtractionService service;
+    private final MedicalInfoExtractionBatchService batchService;
 
     @Override
     public ResponseEntity<MedicalInfoExtractionResponse> extract(MedicalInfoExtractionRequest request) {
         return ResponseEntity.ok(service.extract(request));
     }
+
+    @Override
+    public Flux<MedicalInfoExtractionBatchItemResponse> extractBatch(MedicalInfoExtractionBatchRequest request) {
+        return batchService.extractBatch(request);
+    }
 }
@@ -0,0 +1,54 @@
+package com.healthcare.aiservice.common.medical_extraction.dto;
+
+import com.healthcare.aiservice.common.dto.AiResultStatus;
+import com.healthcare.aiservice.exception.dto.ErrorResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(
+        name = "MedicalInfoExtractionBatchItemResponse",
+        description = "Result of a single batch item. Items are returned in completion order"
+)
+@Builder
+public record MedicalInfoExtractionBatchItemResponse(
+
+        @Schema(
+                description = "Zero-based position of the item in the batch request",
+                example = "3"
+        )
+        int index,
+
+        @Schema(
+                description = "Item processing status",
+                example = "SUCCESS"
+        )
+        AiResultStatus status,
+
+        @Schema(description = "Extracted medical information, present when status is SUCCESS")
+        MedicalInfoExtractionResponse result,
+
+        @Schema(description = "Error details, present when status is FAILED")
+        ErrorResponse error
+) {
+    public static MedicalInfoExtractionBatchItemResponse success(
+            int index,
+            MedicalInfoExtractionResponse result
+    ) {
+        return MedicalInfoExtractionBatchItemResponse.builder()
+                .index(index)
+                .status(AiResultStatus.SUCCESS)
+                .result(result)
+                .build();
+    }
+
+    public static MedicalInfoExtractionBatchItemResponse failure(
+            int index,
+            ErrorResponse error
+    ) {
+        return MedicalInfoExtractionBatchItemResponse.builder()
+                .index(index)
+                .status(AiResultStatus.FAILED)
+                .error(error)
+                .build();
+    }
+}
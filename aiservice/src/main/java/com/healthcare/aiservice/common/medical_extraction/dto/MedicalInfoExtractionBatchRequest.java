@@ -0,0 +1,25 @@
+package com.healthcare.aiservice.common.medical_extraction.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(
+        name = "MedicalInfoExtractionBatchRequest",
+        description = "Request for extracting structured medical information from several medical notes"
+)
+public record MedicalInfoExtractionBatchRequest(
+
+        @ArraySchema(
+                schema = @Schema(implementation = MedicalInfoExtractionRequest.class)
+        )
+        @NotEmpty(message = "Batch items must not be empty")
+        @Size(max = 500, message = "Batch must not contain more than 500 items")
+        List<@NotNull(message = "Batch item must not be null") @Valid MedicalInfoExtractionRequest> items
+) {
+}
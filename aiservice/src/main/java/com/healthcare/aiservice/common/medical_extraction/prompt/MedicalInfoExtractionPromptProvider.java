@@ -118,7 +118,7 @@ public class MedicalInfoExtractionPromptProvider implements PromptProvider<Medic
             Return ONLY the JSON object. No markdown. No explanation.
 
             Medical note:
-            "%s"
+            "{{note}}"
             """;
     }
 }
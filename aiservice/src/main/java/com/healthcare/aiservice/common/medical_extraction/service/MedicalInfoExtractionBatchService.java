@@ -0,0 +1,83 @@
+package com.healthcare.aiservice.common.medical_extraction.service;
+
+import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionBatchItemResponse;
+import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionBatchRequest;
+import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionRequest;
+import com.healthcare.aiservice.common.prompt.model.FeaturePrompts;
+import com.healthcare.aiservice.common.prompt.service.interfaces.AiPromptFactory;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.propertie.AiBatchProperties;
+import com.healthcare.aiservice.exception.ErrorResponseMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.healthcare.aiservice.common.medical_extraction.controller.API.MedicalInfoExtractionApiPaths.EXTRACT_MEDICAL_INFO_BATCH_URL;
+import static com.healthcare.aiservice.config.AiBatchSchedulerConfiguration.AI_BATCH_SCHEDULER;
+
+@Slf4j
+@Service
+public class MedicalInfoExtractionBatchService {
+
+    private final MedicalInfoExtractionService extractionService;
+    private final AiPromptFactory promptFactory;
+    private final Scheduler scheduler;
+    private final int maxConcurrency;
+
+    public MedicalInfoExtractionBatchService(
+            MedicalInfoExtractionService extractionService,
+            AiPromptFactory promptFactory,
+            @Qualifier(AI_BATCH_SCHEDULER)
+            Scheduler scheduler,
+            AiBatchProperties properties
+    ) {
+        this.extractionService = extractionService;
+        this.promptFactory = promptFactory;
+        this.scheduler = scheduler;
+        this.maxConcurrency = properties.maxConcurrency();
+    }
+
+    public Flux<MedicalInfoExtractionBatchItemResponse> extractBatch(
+            MedicalInfoExtractionBatchRequest request
+    ) {
+        List<MedicalInfoExtractionRequest> items = request.items();
+
+        List<FeaturePrompts> prompts = promptFactory.getPrompts(FeatureName.MEDICAL_EXTRACTION, items);
+
+        return Flux.fromStream(IntStream.range(0, items.size()).boxed())
+                .flatMap(
+                        index -> extractItem(index, items.get(index), prompts.get(index)),
+                        maxConcurrency
+                );
+    }
+
+    private Mono<MedicalInfoExtractionBatchItemResponse> extractItem(
+            int index,
+            MedicalInfoExtractionRequest item,
+            FeaturePrompts prompts
+    ) {
+        return Mono.fromCallable(() -> MedicalInfoExtractionBatchItemResponse.success(
+                        index,
+                        extractionService.extract(item, prompts)
+                ))
+                .subscribeOn(scheduler)
+                .onErrorResume(ex -> {
+                    log.warn(
+                            "Medical info extraction batch item failed. index={}, error={}",
+                            index,
+                            ex.getClass().getSimpleName()
+                    );
+
+                    return Mono.just(MedicalInfoExtractionBatchItemResponse.failure(
+                            index,
+                            ErrorResponseMapper.toErrorResponse(ex, EXTRACT_MEDICAL_INFO_BATCH_URL)
+                    ));
+                });
+    }
+}
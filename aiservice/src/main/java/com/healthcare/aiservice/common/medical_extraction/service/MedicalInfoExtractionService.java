@@ -1,9 +1,12 @@
 package com.healthcare.aiservice.common.medical_extraction.service;
 
+import com.healthcare.aiservice.cache.AiResponseCache;
 import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionRequest;
 import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionResponse;
+import com.healthcare.aiservice.common.prompt.model.FeaturePrompts;
 import com.healthcare.aiservice.common.prompt.service.interfaces.AiPromptFactory;
 import com.healthcare.aiservice.common.provider.AiClient;
+import com.healthcare.aiservice.common.provider.logging.AiUsageContext;
 import com.healthcare.aiservice.common.provider.logging.annotation.LogAiUsage;
 import com.healthcare.aiservice.config.constant.FeatureName;
 import com.healthcare.aiservice.exception.rest_exception.ai_response_invalid_exception.AiResponseInvalidException;
@@ -21,15 +24,47 @@ public class MedicalInfoExtractionService {
 
     private final AiClient aiClient;
     private final AiPromptFactory promptFactory;
+    private final AiResponseCache responseCache;
 
     @LogAiUsage(feature = FeatureName.MEDICAL_EXTRACTION)
     public MedicalInfoExtractionResponse extract(MedicalInfoExtractionRequest request) {
 
-        MedicalInfoExtractionResponse response = aiClient.call(
-                promptFactory.getSystemPrompt(FeatureName.MEDICAL_EXTRACTION),
-                promptFactory.getUserPrompt(FeatureName.MEDICAL_EXTRACTION, request),
-                MedicalInfoExtractionResponse.class
+        return extractWithPrompts(
+                request,
+                promptFactory.getPrompts(FeatureName.MEDICAL_EXTRACTION, request)
         );
+    }
+
+    @LogAiUsage(feature = FeatureName.MEDICAL_EXTRACTION)
+    public MedicalInfoExtractionResponse extract(
+            MedicalInfoExtractionRequest request,
+            FeaturePrompts prompts
+    ) {
+        return extractWithPrompts(request, prompts);
+    }
+
+    private MedicalInfoExtractionResponse extractWithPrompts(
+            MedicalInfoExtractionRequest request,
+            FeaturePrompts prompts
+    ) {
+        AiUsageContext.recordPrompts(prompts);
+
+        return responseCache.getOrCompute(
+                FeatureName.MEDICAL_EXTRACTION,
+                request.note(),
+                prompts,
+                MedicalInfoExtractionResponse.class,
+                () -> validateAndNormalize(aiClient.call(
+                        FeatureName.MEDICAL_EXTRACTION,
+                        prompts.targetModel(),
+                        prompts.systemPromptContent(),
+                        prompts.userPrompt(),
+                        MedicalInfoExtractionResponse.class
+                ))
+        );
+    }
+
+    private MedicalInfoExtractionResponse validateAndNormalize(MedicalInfoExtractionResponse response) {
 
         if (response == null) {
             throw new AiResponseInvalidException(
@@ -14,11 +14,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import reactor.core.publisher.Flux;
 
 import static com.healthcare.aiservice.common.medical_summary.controller.API.MedicalSummaryApiPaths.MEDICAL_NOTE_BASIC_URL;
 import static com.healthcare.aiservice.common.medical_summary.controller.API.MedicalSummaryApiPaths.SUMMARY;
+import static com.healthcare.aiservice.common.medical_summary.controller.API.MedicalSummaryApiPaths.SUMMARY_STREAM;
 
 
 @RequestMapping(MEDICAL_NOTE_BASIC_URL)
@@ -132,4 +135,84 @@ public interface MedicalSummaryAPI {
             )
             @org.springframework.web.bind.annotation.RequestBody
             MedicalSummaryRequest request);
+
+    @Operation(
+            summary = "Summarize medical note as a server-sent event stream",
+            description = """
+                    Streams the AI-generated summary of a medical note while the model
+                    is still generating it.
+                    
+                    Events:
+                    - token: raw model output fragment
+                    - result: last event, validated medical summary
+                    - error: last event, sent instead of result when generation fails
+                    
+                    Note:
+                    For JSON requests, line breaks inside the note field must
+                    be escaped using \\n.
+                    """,
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = MedicalSummaryRequest.class)
+                    )
+            )
+    )
+    @ApiResponses(value = {
+
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Medical note summary stream started",
+                    content = @Content(
+                            mediaType = MediaType.TEXT_EVENT_STREAM_VALUE
+                    )
+            ),
+
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Validation error",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "Error400ValidationMedicalSummary",
+                                            ref = "#/components/examples/Error400ValidationMedicalSummary"
+                                    )
+                            }
+                    )
+            ),
+
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Unexpected internal server error",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "Error500InternalServerErrorMedicalSummary",
+                                            ref = "#/components/examples/Error500InternalServerErrorMedicalSummary"
+                                    )
+                            }
+                    )
+            )
+    })
+    @PostMapping(
+            value = SUMMARY_STREAM,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE
+    )
+    Flux<ServerSentEvent<Object>> summarizeStream(
+            @Valid
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    description = "Request for medical note summarization",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = MedicalSummaryRequest.class)
+                    )
+            )
+            @org.springframework.web.bind.annotation.RequestBody
+            MedicalSummaryRequest request);
 }
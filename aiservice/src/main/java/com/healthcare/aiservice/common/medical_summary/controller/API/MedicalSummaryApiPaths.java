@@ -11,8 +11,12 @@ public final class MedicalSummaryApiPaths {
 
     public static final String SUMMARY =  "/summary";
 
+    public static final String SUMMARY_STREAM = SUMMARY + "/stream";
+
     public static final String MEDICAL_NOTE_BASIC_URL = AI_BASIC_URL + MEDICAL_NOTE;
 
     public static final String MEDICAL_NOTE_SUMMARY_URL = MEDICAL_NOTE_BASIC_URL+ SUMMARY;
 
+    public static final String MEDICAL_NOTE_SUMMARY_STREAM_URL = MEDICAL_NOTE_BASIC_URL + SUMMARY_STREAM;
+
 }
@@ -5,10 +5,15 @@ import com.healthcare.aiservice.common.medical_summary.controller.API.MedicalSum
 import com.healthcare.aiservice.common.medical_summary.dto.MedicalSummaryRequest;
 import com.healthcare.aiservice.common.medical_summary.dto.MedicalSummaryResponse;
 import com.healthcare.aiservice.common.medical_summary.service.MedicalSummaryService;
+import com.healthcare.aiservice.common.web.sse.AiServerSentEvents;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import static com.healthcare.aiservice.common.medical_summary.controller.API.MedicalSummaryApiPaths.MEDICAL_NOTE_SUMMARY_STREAM_URL;
 
 @Validated
 @RestController
@@ -23,4 +28,15 @@ public class MedicalSummaryController implements MedicalSummaryAPI {
     ) {
         return ResponseEntity.ok(medicalSummaryService.summarize(request));
     }
+
+    @Override
+    public Flux<ServerSentEvent<Object>> summarizeStream(
+            MedicalSummaryRequest request
+    ) {
+        return medicalSummaryService.summarizeStream(request)
+                .map(AiServerSentEvents::toServerSentEvent)
+                .onErrorResume(ex -> Flux.just(
+                        AiServerSentEvents.toErrorEvent(ex, MEDICAL_NOTE_SUMMARY_STREAM_URL)
+                ));
+    }
 }
@@ -21,7 +21,7 @@ public record MedicalSummaryRequest(
                         """
         )
         @NotBlank(message = "Medical note must not be blank")
-        @Size(max = 12000, message = "Medical note is too long")
+        @Size(max = 200000, message = "Medical note is too long")
         String note
 
 ) implements NoteBasedRequest {
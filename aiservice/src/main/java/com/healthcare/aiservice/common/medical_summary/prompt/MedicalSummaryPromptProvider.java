@@ -90,7 +90,43 @@ public class MedicalSummaryPromptProvider implements PromptProvider<MedicalSumma
 
         Medical note:
 
-        %s
+        {{note}}
+
+        Return exactly one valid root JSON object and nothing else.
+        """;
+    }
+
+    @Override
+    public String chunkPromptTemplate() {
+        return """
+        The following text is part {{chunkNumber}} of {{chunkCount}} of one long medical note.
+
+        Summarize only this part and extract the structured medical information it contains.
+        Do not mention other parts of the note.
+
+        Medical note part:
+
+        {{note}}
+
+        Return exactly one valid root JSON object and nothing else.
+        """;
+    }
+
+    @Override
+    public String reducePromptTemplate() {
+        return """
+        The following JSON objects are partial summaries of consecutive parts of one long medical note.
+
+        Merge them into a single summary of the whole note:
+
+        - write one concise summary covering all parts in chronological order
+        - merge diagnoses, medications and recommendations, keeping each item only once
+        - when the same medication appears with different dosages, keep the most recent dosage
+        - do not add information that is not present in the partial summaries
+
+        Partial summaries:
+
+        {{partialSummaries}}
 
         Return exactly one valid root JSON object and nothing else.
         """;
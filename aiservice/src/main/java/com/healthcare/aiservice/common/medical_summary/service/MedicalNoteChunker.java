@@ -0,0 +1,81 @@
+package com.healthcare.aiservice.common.medical_summary.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Splits a long medical note into chunks of at most {@code chunkSize} characters. Paragraphs and sections
+ * are kept together where possible; only a block that is itself too long is split further, first into
+ * lines, then sentences, then words, and as a last resort at the size limit.
+ */
+final class MedicalNoteChunker {
+
+    private static final List<Boundary> BOUNDARIES = List.of(
+            new Boundary(Pattern.compile("\\R\\s*\\R"), "\n\n"),
+            new Boundary(Pattern.compile("\\R"), "\n"),
+            new Boundary(Pattern.compile("(?<=[.!?;])\\s+"), " "),
+            new Boundary(Pattern.compile("\\s+"), " ")
+    );
+
+    private MedicalNoteChunker() {
+    }
+
+    static List<String> split(String note, int chunkSize) {
+        List<String> chunks = new ArrayList<>();
+
+        split(note.strip(), chunkSize, 0, chunks);
+
+        return chunks;
+    }
+
+    private static void split(String text, int chunkSize, int level, List<String> chunks) {
+        if (text.length() <= chunkSize) {
+            if (!text.isEmpty()) {
+                chunks.add(text);
+            }
+            return;
+        }
+
+        if (level == BOUNDARIES.size()) {
+            for (int start = 0; start < text.length(); start += chunkSize) {
+                chunks.add(text.substring(start, Math.min(text.length(), start + chunkSize)));
+            }
+            return;
+        }
+
+        Boundary boundary = BOUNDARIES.get(level);
+        StringBuilder current = new StringBuilder(chunkSize);
+
+        for (String piece : boundary.pattern().split(text)) {
+            String block = piece.strip();
+
+            if (block.isEmpty()) {
+                continue;
+            }
+
+            if (!current.isEmpty() && current.length() + boundary.separator().length() + block.length() > chunkSize) {
+                chunks.add(current.toString());
+                current.setLength(0);
+            }
+
+            if (block.length() > chunkSize) {
+                split(block, chunkSize, level + 1, chunks);
+                continue;
+            }
+
+            if (!current.isEmpty()) {
+                current.append(boundary.separator());
+            }
+
+            current.append(block);
+        }
+
+        if (!current.isEmpty()) {
+            chunks.add(current.toString());
+        }
+    }
+
+    private record Boundary(Pattern pattern, String separator) {
+    }
+}
@@ -1,36 +1,271 @@
 package com.healthcare.aiservice.common.medical_summary.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.aiservice.cache.AiResponseCache;
 import com.healthcare.aiservice.common.medical_summary.dto.MedicalSummaryRequest;
 import com.healthcare.aiservice.common.medical_summary.dto.MedicalSummaryResponse;
 import com.healthcare.aiservice.common.medical_summary.dto.MedicationInfo;
+import com.healthcare.aiservice.common.prompt.model.FeaturePrompts;
 import com.healthcare.aiservice.common.prompt.service.interfaces.AiPromptFactory;
 import com.healthcare.aiservice.common.provider.AiClient;
+import com.healthcare.aiservice.common.provider.logging.AiUsageContext;
+import com.healthcare.aiservice.common.provider.stream.AiStreamEvent;
 import com.healthcare.aiservice.common.provider.logging.annotation.LogAiUsage;
 import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.propertie.AiLongSummaryProperties;
+import com.healthcare.aiservice.exception.dto.ValidationError;
+import com.healthcare.aiservice.exception.rest_exception.FeatureRequestInvalidException;
 import com.healthcare.aiservice.exception.rest_exception.ai_response_invalid_exception.AiResponseInvalidException;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
 
+import static com.healthcare.aiservice.config.AiLongSummarySchedulerConfiguration.AI_LONG_SUMMARY_SCHEDULER;
 import static com.healthcare.aiservice.exception.rest_exception.ai_response_invalid_exception.AiResponseInvalidExceptionMessages.MEDICAL_SUMMARY_EXCEPTION_MESSAGE;
 
 @Service
-@RequiredArgsConstructor
 public class MedicalSummaryService {
 
+    // The single-prompt limit; only notes that can be chunked may go up to the request's own @Size limit.
+    static final int SINGLE_PROMPT_MAX_NOTE_LENGTH = 12000;
+
+    private static final String NOTE_FIELD = "note";
+    private static final String NOTE_TOO_LONG_MESSAGE = "Medical note is too long";
+
     private final AiClient aiClient;
     private final AiPromptFactory promptFactory;
+    private final AiResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+    private final Scheduler scheduler;
+    private final AiLongSummaryProperties longSummaryProperties;
+
+    public MedicalSummaryService(
+            AiClient aiClient,
+            AiPromptFactory promptFactory,
+            AiResponseCache responseCache,
+            ObjectMapper objectMapper,
+            @Qualifier(AI_LONG_SUMMARY_SCHEDULER)
+            Scheduler scheduler,
+            AiLongSummaryProperties longSummaryProperties
+    ) {
+        this.aiClient = aiClient;
+        this.promptFactory = promptFactory;
+        this.responseCache = responseCache;
+        this.objectMapper = objectMapper;
+        this.scheduler = scheduler;
+        this.longSummaryProperties = longSummaryProperties;
+    }
 
     @LogAiUsage(feature = FeatureName.MEDICAL_SUMMARY)
     public MedicalSummaryResponse summarize(MedicalSummaryRequest request) {
 
-        MedicalSummaryResponse response = aiClient.call(
-                promptFactory.getSystemPrompt(FeatureName.MEDICAL_SUMMARY),
-                promptFactory.getUserPrompt(FeatureName.MEDICAL_SUMMARY, request),
-                MedicalSummaryResponse.class);
+        checkLength(request.note());
+
+        List<String> chunks = chunks(request.note());
+
+        if (chunks.size() > 1) {
+            return summarizeLong(request, chunks);
+        }
+
+        FeaturePrompts prompts = promptFactory.getPrompts(FeatureName.MEDICAL_SUMMARY, request);
+        AiUsageContext.recordPrompts(prompts);
+
+        return responseCache.getOrCompute(
+                FeatureName.MEDICAL_SUMMARY,
+                request.note(),
+                prompts,
+                MedicalSummaryResponse.class,
+                () -> validateAndNormalize(aiClient.call(
+                        FeatureName.MEDICAL_SUMMARY,
+                        prompts.targetModel(),
+                        prompts.systemPromptContent(),
+                        prompts.userPrompt(),
+                        MedicalSummaryResponse.class))
+        );
+    }
+
+    @LogAiUsage(feature = FeatureName.MEDICAL_SUMMARY)
+    public Flux<AiStreamEvent<MedicalSummaryResponse>> summarizeStream(MedicalSummaryRequest request) {
+
+        checkLength(request.note());
+
+        List<String> chunks = chunks(request.note());
+
+        if (chunks.size() > 1) {
+            return summarizeLongStream(chunks);
+        }
+
+        FeaturePrompts prompts = promptFactory.getPrompts(FeatureName.MEDICAL_SUMMARY, request);
+        AiUsageContext.recordPrompts(prompts);
+
+        return aiClient.stream(
+                        FeatureName.MEDICAL_SUMMARY,
+                        prompts.targetModel(),
+                        prompts.systemPromptContent(),
+                        prompts.userPrompt(),
+                        MedicalSummaryResponse.class)
+                .map(event -> event.isResult()
+                        ? AiStreamEvent.result(validateAndNormalize(event.result()))
+                        : event);
+    }
+
+    private void checkLength(String note) {
+        if (!longSummaryProperties.enabled() && note != null && note.length() > SINGLE_PROMPT_MAX_NOTE_LENGTH) {
+            throw new FeatureRequestInvalidException(
+                    FeatureName.MEDICAL_SUMMARY,
+                    Set.of(new ValidationError(NOTE_FIELD, NOTE_TOO_LONG_MESSAGE))
+            );
+        }
+    }
+
+    private List<String> chunks(String note) {
+        if (!longSummaryProperties.enabled() || note == null || note.length() <= longSummaryProperties.threshold()) {
+            return List.of();
+        }
+
+        return MedicalNoteChunker.split(note, longSummaryProperties.chunkSize());
+    }
+
+    // Long notes are summarized chunk by chunk in parallel, then merged by a reduce prompt on the same model.
+    private MedicalSummaryResponse summarizeLong(MedicalSummaryRequest request, List<String> chunks) {
+
+        List<FeaturePrompts> chunkPrompts = promptFactory.getChunkPrompts(FeatureName.MEDICAL_SUMMARY, chunks);
+        FeaturePrompts reducePrompts = promptFactory.getReducePrompts(
+                FeatureName.MEDICAL_SUMMARY,
+                chunkPrompts.get(0).targetModel()
+        );
+        AiUsageContext.recordPrompts(chunkPrompts.get(0));
+
+        return responseCache.getOrCompute(
+                FeatureName.MEDICAL_SUMMARY,
+                request.note(),
+                chunkPrompts.get(0),
+                reducePrompts,
+                MedicalSummaryResponse.class,
+                () -> {
+                    FeaturePrompts prompts = withPartialSummaries(reducePrompts, summarizeChunks(chunkPrompts).block());
+
+                    return mergeDuplicates(validateAndNormalize(aiClient.call(
+                            FeatureName.MEDICAL_SUMMARY,
+                            prompts.targetModel(),
+                            prompts.systemPromptContent(),
+                            prompts.userPrompt(),
+                            MedicalSummaryResponse.class)));
+                }
+        );
+    }
+
+    private Flux<AiStreamEvent<MedicalSummaryResponse>> summarizeLongStream(List<String> chunks) {
+
+        List<FeaturePrompts> chunkPrompts = promptFactory.getChunkPrompts(FeatureName.MEDICAL_SUMMARY, chunks);
+        FeaturePrompts reducePrompts = promptFactory.getReducePrompts(
+                FeatureName.MEDICAL_SUMMARY,
+                chunkPrompts.get(0).targetModel()
+        );
+        AiUsageContext.recordPrompts(chunkPrompts.get(0));
+
+        // Only the reduce step is streamed; the chunk summaries are intermediate results.
+        return summarizeChunks(chunkPrompts)
+                .flatMapMany(partials -> {
+                    FeaturePrompts prompts = withPartialSummaries(reducePrompts, partials);
+
+                    return aiClient.stream(
+                            FeatureName.MEDICAL_SUMMARY,
+                            prompts.targetModel(),
+                            prompts.systemPromptContent(),
+                            prompts.userPrompt(),
+                            MedicalSummaryResponse.class);
+                })
+                .map(event -> event.isResult()
+                        ? AiStreamEvent.result(mergeDuplicates(validateAndNormalize(event.result())))
+                        : event);
+    }
+
+    // Chunk calls are bound here, on the caller, so their token usage is counted for the whole request.
+    private Mono<List<MedicalSummaryResponse>> summarizeChunks(List<FeaturePrompts> chunkPrompts) {
+        List<Callable<MedicalSummaryResponse>> calls = chunkPrompts.stream()
+                .map(prompts -> AiUsageContext.bind(() -> normalizePartial(aiClient.call(
+                        FeatureName.MEDICAL_SUMMARY,
+                        prompts.targetModel(),
+                        prompts.systemPromptContent(),
+                        prompts.userPrompt(),
+                        MedicalSummaryResponse.class))))
+                .toList();
+
+        return Flux.fromIterable(calls)
+                .flatMapSequential(
+                        call -> Mono.fromCallable(call).subscribeOn(scheduler),
+                        longSummaryProperties.maxConcurrency()
+                )
+                .collectList();
+    }
+
+    private FeaturePrompts withPartialSummaries(FeaturePrompts reducePrompts, List<MedicalSummaryResponse> partials) {
+        try {
+            return reducePrompts.withVariables(reducePrompts.variables().toBuilder()
+                    .partialSummaries(objectMapper.writeValueAsString(partials))
+                    .build());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize partial medical summaries", ex);
+        }
+    }
+
+    // A chunk may hold no clinical content, so a partial summary is allowed to be empty.
+    private MedicalSummaryResponse normalizePartial(MedicalSummaryResponse response) {
+
+        if (response == null) {
+            throw new AiResponseInvalidException(
+                    MEDICAL_SUMMARY_EXCEPTION_MESSAGE
+            );
+        }
+
+        return normalizeMedicalSummaryResponse(response);
+    }
+
+    // The reduce prompt asks the model to deduplicate; this makes the result independent of how well it did.
+    private MedicalSummaryResponse mergeDuplicates(MedicalSummaryResponse response) {
+        Map<String, MedicationInfo> medications = new LinkedHashMap<>();
+
+        for (MedicationInfo medication : response.medications()) {
+            medications.merge(
+                    medication.name().toLowerCase(Locale.ROOT),
+                    medication,
+                    (first, next) -> first.dosage().isEmpty() ? next : first
+            );
+        }
+
+        return new MedicalSummaryResponse(
+                response.summary(),
+                distinctIgnoringCase(response.diagnoses()),
+                List.copyOf(medications.values()),
+                distinctIgnoringCase(response.recommendations())
+        );
+    }
+
+    private List<String> distinctIgnoringCase(List<String> values) {
+        Set<String> seen = new HashSet<>();
+
+        return values.stream()
+                .filter(Objects::nonNull)
+                .map(String::strip)
+                .filter(value -> !value.isEmpty() && seen.add(value.toLowerCase(Locale.ROOT)))
+                .toList();
+    }
+
+    MedicalSummaryResponse validateAndNormalize(MedicalSummaryResponse response) {
 
         if (response == null || !StringUtils.hasText(response.summary())) {
             throw new AiResponseInvalidException(
@@ -43,7 +278,7 @@ public class MedicalSummaryService {
 
     private MedicalSummaryResponse normalizeMedicalSummaryResponse(MedicalSummaryResponse response) {
         return new MedicalSummaryResponse(
-                response.summary().strip(),
+                response.summary() == null ? "" : response.summary().strip(),
                 response.diagnoses() == null ? List.of() : response.diagnoses(),
                 normalizeMedications(response.medications()),
                 response.recommendations() == null ? List.of() : response.recommendations()
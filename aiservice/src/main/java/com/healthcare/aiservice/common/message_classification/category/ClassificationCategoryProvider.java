@@ -5,20 +5,24 @@ import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Component
 public class ClassificationCategoryProvider {
 
+    private static final List<String> ALLOWED_CATEGORIES = Arrays.stream(MessageCategory.values())
+            .map(Enum::name)
+            .toList();
+
+    private static final String ALLOWED_CATEGORIES_PROMPT_TEXT = ALLOWED_CATEGORIES.stream()
+            .map(category -> "- " + category + System.lineSeparator())
+            .collect(Collectors.joining());
+
     public List<String> getAllowedCategories() {
-        return Arrays.stream(MessageCategory.values())
-                .map(Enum::name)
-                .toList();
+        return ALLOWED_CATEGORIES;
     }
 
     public String getAllowedCategoriesAsPromptText() {
-        return getAllowedCategories()
-                .stream()
-                .map(category -> "- " + category)
-                .reduce("", (left, right) -> left + right + System.lineSeparator());
+        return ALLOWED_CATEGORIES_PROMPT_TEXT;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,22 @@
+package com.healthcare.aiservice.common.message_classification.model;
+
+import lombok.Builder;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Builder
+@Document(collection = "ai_processed_patient_messages")
+public record ProcessedPatientMessage(
+
+        @Id
+        String messageId,
+
+        String outcome,
+
+        @Indexed(expireAfter = "7d")
+        Instant processedAt
+) {
+}
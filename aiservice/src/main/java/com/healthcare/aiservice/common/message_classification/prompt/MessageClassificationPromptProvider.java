@@ -3,6 +3,7 @@ package com.healthcare.aiservice.common.message_classification.prompt;
 import com.healthcare.aiservice.common.message_classification.category.ClassificationCategoryProvider;
 import com.healthcare.aiservice.common.message_classification.dto.MessageClassificationRequest;
 import com.healthcare.aiservice.common.prompt.service.interfaces.PromptProvider;
+import com.healthcare.aiservice.common.prompt.template.PromptVariables;
 import com.healthcare.aiservice.config.constant.FeatureName;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -32,7 +33,7 @@ public class MessageClassificationPromptProvider
             Your task is to classify patient messages into exactly one category.
 
             Allowed categories:
-            %s
+            {{allowedCategories}}
 
             Strict rules:
             - Return only valid JSON.
@@ -51,7 +52,7 @@ public class MessageClassificationPromptProvider
               "category": "APPOINTMENT",
               "reason": "The patient wants to schedule, cancel, or reschedule an appointment."
             }
-            """.formatted(categoryProvider.getAllowedCategoriesAsPromptText());
+            """;
     }
 
     @Override
@@ -60,7 +61,7 @@ public class MessageClassificationPromptProvider
             Classify the following patient message.
 
             Patient message:
-            "%s"
+            "{{note}}"
 
             Return JSON with exactly these fields:
             {
@@ -69,4 +70,9 @@ public class MessageClassificationPromptProvider
             }
             """;
     }
+
+    @Override
+    public PromptVariables.PromptVariablesBuilder variables(PromptVariables.PromptVariablesBuilder variables) {
+        return variables.allowedCategories(categoryProvider.getAllowedCategoriesAsPromptText());
+    }
 }
@@ -1,9 +1,12 @@
 package com.healthcare.aiservice.common.message_classification.service;
 
+import com.healthcare.aiservice.cache.AiResponseCache;
 import com.healthcare.aiservice.common.message_classification.dto.MessageClassificationRequest;
 import com.healthcare.aiservice.common.message_classification.dto.MessageClassificationResponse;
+import com.healthcare.aiservice.common.prompt.model.FeaturePrompts;
 import com.healthcare.aiservice.common.prompt.service.interfaces.AiPromptFactory;
 import com.healthcare.aiservice.common.provider.AiClient;
+import com.healthcare.aiservice.common.provider.logging.AiUsageContext;
 import com.healthcare.aiservice.common.provider.logging.annotation.LogAiUsage;
 import com.healthcare.aiservice.config.constant.FeatureName;
 import com.healthcare.aiservice.exception.rest_exception.ai_response_invalid_exception.AiResponseInvalidException;
@@ -19,15 +22,30 @@ public class MessageClassificationService {
 
     private final AiClient aiClient;
     private final AiPromptFactory promptFactory;
+    private final AiResponseCache responseCache;
 
     @LogAiUsage(feature = FeatureName.MESSAGE_CLASSIFICATION)
     public MessageClassificationResponse classify(MessageClassificationRequest request) {
 
-        MessageClassificationResponse response = aiClient.call(
-                promptFactory.getSystemPrompt(FeatureName.MESSAGE_CLASSIFICATION),
-                promptFactory.getUserPrompt(FeatureName.MESSAGE_CLASSIFICATION, request),
-                MessageClassificationResponse.class
+        FeaturePrompts prompts = promptFactory.getPrompts(FeatureName.MESSAGE_CLASSIFICATION, request);
+        AiUsageContext.recordPrompts(prompts);
+
+        return responseCache.getOrCompute(
+                FeatureName.MESSAGE_CLASSIFICATION,
+                request.note(),
+                prompts,
+                MessageClassificationResponse.class,
+                () -> validateAndNormalize(aiClient.call(
+                        FeatureName.MESSAGE_CLASSIFICATION,
+                        prompts.targetModel(),
+                        prompts.systemPromptContent(),
+                        prompts.userPrompt(),
+                        MessageClassificationResponse.class
+                ))
         );
+    }
+
+    private MessageClassificationResponse validateAndNormalize(MessageClassificationResponse response) {
 
         if (response == null
                 || response.category() == null
@@ -0,0 +1,111 @@
+package com.healthcare.aiservice.common.message_classification.stream;
+
+import com.healthcare.aiservice.common.provider.AiAdmissionController;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.propertie.AiClassificationStreamProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.healthcare.aiservice.config.ClassificationStreamKafkaConfiguration.CLASSIFICATION_STREAM_LISTENER_ID;
+
+/**
+ * Pauses the patient message consumer while the classification admission queue is close to full, so
+ * messages stay in Kafka instead of being rejected by admission control, and resumes it once the queue
+ * has drained. The gap between the two thresholds keeps the consumer from flapping.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+        name = "ai.classification-stream.enabled",
+        havingValue = "true"
+)
+public class ClassificationStreamBackpressure implements DisposableBean {
+
+    static final String PAUSED_METRIC = "ai.classification.stream.paused";
+
+    private static final String THREAD_NAME = "classification-stream-backpressure";
+
+    private final AiAdmissionController admissionController;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final AiClassificationStreamProperties properties;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean paused = new AtomicBoolean();
+
+    public ClassificationStreamBackpressure(
+            AiAdmissionController admissionController,
+            KafkaListenerEndpointRegistry listenerRegistry,
+            AiClassificationStreamProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.admissionController = admissionController;
+        this.listenerRegistry = listenerRegistry;
+        this.properties = properties;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder(PAUSED_METRIC, paused, state -> state.get() ? 1.0 : 0.0)
+                .description("Whether the classification stream consumer is paused by backpressure")
+                .register(meterRegistry);
+    }
+
+    public void afterBatch() {
+        double queueFill = queueFill();
+
+        if (queueFill < properties.pauseAtQueueFill() || !paused.compareAndSet(false, true)) {
+            return;
+        }
+
+        container().pause();
+        log.warn("Classification stream paused. queueFill={}", queueFill);
+
+        scheduleResumeCheck();
+    }
+
+    public boolean isPaused() {
+        return paused.get();
+    }
+
+    void checkResume() {
+        double queueFill = queueFill();
+
+        if (queueFill > properties.resumeAtQueueFill()) {
+            scheduleResumeCheck();
+            return;
+        }
+
+        container().resume();
+        paused.set(false);
+        log.info("Classification stream resumed. queueFill={}", queueFill);
+    }
+
+    private void scheduleResumeCheck() {
+        executor.schedule(this::checkResume, properties.resumeCheckInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private double queueFill() {
+        return admissionController.queueFill(FeatureName.MESSAGE_CLASSIFICATION);
+    }
+
+    private MessageListenerContainer container() {
+        return listenerRegistry.getListenerContainer(CLASSIFICATION_STREAM_LISTENER_ID);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,76 @@
+package com.healthcare.aiservice.common.message_classification.stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stream-level metrics. Offset lag per partition comes from the Kafka consumer metrics bound to the same
+ * registry; the record lag here is the time a message waited between being produced and being classified.
+ */
+@Component
+@ConditionalOnProperty(
+        name = "ai.classification-stream.enabled",
+        havingValue = "true"
+)
+public class ClassificationStreamMetrics {
+
+    static final String BATCH_SIZE_METRIC = "ai.classification.stream.batch.size";
+    static final String RECORD_LAG_METRIC = "ai.classification.stream.record.lag";
+    static final String MESSAGES_METRIC = "ai.classification.stream.messages";
+    static final String OUTCOME_TAG = "outcome";
+
+    static final String CLASSIFIED = "classified";
+    static final String DUPLICATE = "duplicate";
+    static final String INVALID = "invalid";
+    static final String FAILED = "failed";
+    static final String RETRIED = "retried";
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary batchSize;
+    private final Timer recordLag;
+
+    public ClassificationStreamMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        this.batchSize = DistributionSummary.builder(BATCH_SIZE_METRIC)
+                .description("Patient messages per classification micro-batch")
+                .register(meterRegistry);
+
+        this.recordLag = Timer.builder(RECORD_LAG_METRIC)
+                .description("Time from a patient message being produced to its classification starting")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    void recordBatch(List<ConsumerRecord<String, String>> records) {
+        long now = System.currentTimeMillis();
+
+        batchSize.record(records.size());
+
+        for (ConsumerRecord<String, String> record : records) {
+            if (record.timestamp() > 0L) {
+                recordLag.record(Math.max(0L, now - record.timestamp()), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    void recordMessages(String outcome, int count) {
+        if (count == 0) {
+            return;
+        }
+
+        Counter.builder(MESSAGES_METRIC)
+                .description("Patient messages handled by the classification stream")
+                .tag(OUTCOME_TAG, outcome)
+                .register(meterRegistry)
+                .increment(count);
+    }
+}
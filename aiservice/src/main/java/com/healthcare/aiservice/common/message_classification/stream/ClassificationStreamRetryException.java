@@ -0,0 +1,8 @@
+package com.healthcare.aiservice.common.message_classification.stream;
+
+class ClassificationStreamRetryException extends RuntimeException {
+
+    ClassificationStreamRetryException(int messages, Throwable cause) {
+        super("%d patient message(s) hit AI capacity limits and will be retried".formatted(messages), cause);
+    }
+}
@@ -0,0 +1,39 @@
+package com.healthcare.aiservice.common.message_classification.stream;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.healthcare.aiservice.config.ClassificationStreamKafkaConfiguration.CLASSIFICATION_STREAM_CONTAINER_FACTORY;
+import static com.healthcare.aiservice.config.ClassificationStreamKafkaConfiguration.CLASSIFICATION_STREAM_LISTENER_ID;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = "ai.classification-stream.enabled",
+        havingValue = "true"
+)
+public class PatientMessageClassificationListener {
+
+    private final PatientMessageClassificationProcessor processor;
+    private final ClassificationStreamBackpressure backpressure;
+
+    @KafkaListener(
+            id = CLASSIFICATION_STREAM_LISTENER_ID,
+            idIsGroup = false,
+            groupId = "${ai.classification-stream.group-id}",
+            topics = "${ai.classification-stream.input-topic}",
+            containerFactory = CLASSIFICATION_STREAM_CONTAINER_FACTORY
+    )
+    public void onMessages(List<ConsumerRecord<String, String>> records) {
+        try {
+            processor.process(records);
+        } finally {
+            backpressure.afterBatch();
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.healthcare.aiservice.common.message_classification.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.aiservice.common.message_classification.dto.MessageClassificationRequest;
+import com.healthcare.aiservice.common.message_classification.dto.MessageClassificationResponse;
+import com.healthcare.aiservice.common.message_classification.model.ProcessedPatientMessage;
+import com.healthcare.aiservice.common.message_classification.service.MessageClassificationService;
+import com.healthcare.aiservice.common.validation.FeatureRequestValidator;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.propertie.AiClassificationStreamProperties;
+import com.healthcare.aiservice.exception.ErrorCode;
+import com.healthcare.aiservice.exception.ErrorResponseMapper;
+import com.healthcare.aiservice.exception.dto.ErrorResponse;
+import com.healthcare.aiservice.repository.ProcessedPatientMessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static com.healthcare.aiservice.config.AiBatchSchedulerConfiguration.AI_BATCH_SCHEDULER;
+import static com.healthcare.aiservice.config.ClassificationStreamKafkaConfiguration.DLT_SUFFIX;
+
+/**
+ * Classifies one micro-batch of patient messages with bounded parallelism and publishes each result to
+ * the result topic keyed by message id.
+ * <p>
+ * Delivery is at least once: offsets are committed after the batch returns, and a message id is recorded
+ * as processed only once its result or dead letter has been acknowledged, so a redelivered batch skips the
+ * messages that already went through. Unreadable records are recorded by their offset, since they may have
+ * no message id. Messages that cannot be classified, including those over the classification request
+ * limits, go to the input dead-letter topic; capacity failures fail the batch so it is retried.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+        name = "ai.classification-stream.enabled",
+        havingValue = "true"
+)
+public class PatientMessageClassificationProcessor {
+
+    static final String ERROR_HEADER = "ai-error";
+    static final String ERROR_MESSAGE_HEADER = "ai-error-message";
+
+    private static final String PATH = "kafka";
+    private static final String INVALID_MESSAGE = "Patient message must have a message id and text";
+    private static final String INVALID_RECORD_ID_FORMAT = "invalid:%s-%d@%d";
+
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            HttpStatus.GATEWAY_TIMEOUT.value()
+    );
+
+    private final MessageClassificationService classificationService;
+    private final FeatureRequestValidator requestValidator;
+    private final ProcessedPatientMessageRepository processedRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final ClassificationStreamMetrics metrics;
+    private final AiClassificationStreamProperties properties;
+    private final Scheduler scheduler;
+
+    public PatientMessageClassificationProcessor(
+            MessageClassificationService classificationService,
+            FeatureRequestValidator requestValidator,
+            ProcessedPatientMessageRepository processedRepository,
+            KafkaTemplate<String, String> kafkaTemplate,
+            ObjectMapper objectMapper,
+            ClassificationStreamMetrics metrics,
+            AiClassificationStreamProperties properties,
+            @Qualifier(AI_BATCH_SCHEDULER)
+            Scheduler scheduler
+    ) {
+        this.classificationService = classificationService;
+        this.requestValidator = requestValidator;
+        this.processedRepository = processedRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.properties = properties;
+        this.scheduler = scheduler;
+    }
+
+    public void process(List<ConsumerRecord<String, String>> records) {
+        metrics.recordBatch(records);
+
+        Map<String, ConsumerRecord<String, String>> invalid = new LinkedHashMap<>();
+        Map<String, PatientMessageEvent> messages = new LinkedHashMap<>();
+
+        for (ConsumerRecord<String, String> record : records) {
+            PatientMessageEvent event = parse(record);
+
+            if (event == null) {
+                invalid.putIfAbsent(invalidRecordId(record), record);
+            } else {
+                messages.putIfAbsent(event.messageId(), event);
+            }
+        }
+
+        int received = messages.size();
+        Set<String> ids = new HashSet<>(messages.keySet());
+        ids.addAll(invalid.keySet());
+
+        processedRepository.findAllById(ids)
+                .forEach(processed -> {
+                    messages.remove(processed.messageId());
+                    invalid.remove(processed.messageId());
+                });
+        metrics.recordMessages(ClassificationStreamMetrics.DUPLICATE, records.size() - invalid.size() - messages.size());
+
+        List<Outcome> outcomes = Flux.fromIterable(messages.values())
+                .flatMap(this::classify, properties.maxConcurrency())
+                .collectList()
+                .block();
+
+        List<CompletableFuture<?>> sends = new ArrayList<>();
+        List<ProcessedPatientMessage> processed = new ArrayList<>();
+        List<Throwable> retryable = new ArrayList<>();
+
+        invalid.forEach((id, record) -> {
+            sends.add(sendToDeadLetter(record.key(), record.value(), invalidError()));
+            processed.add(processed(id, ClassificationStreamMetrics.INVALID));
+        });
+
+        for (Outcome outcome : outcomes) {
+            if (outcome.response() != null) {
+                sends.add(kafkaTemplate.send(properties.resultTopic(), outcome.event().messageId(), toJson(outcome.response())));
+                processed.add(processed(outcome.event().messageId(), ClassificationStreamMetrics.CLASSIFIED));
+            } else if (RETRYABLE_STATUSES.contains(outcome.error().status())) {
+                retryable.add(outcome.exception());
+            } else {
+                sends.add(sendToDeadLetter(outcome.event().messageId(), toJson(outcome.event()), outcome.error()));
+                processed.add(processed(outcome.event().messageId(), ClassificationStreamMetrics.FAILED));
+            }
+        }
+
+        // A failed send fails the batch before anything is marked processed, so the whole batch is redelivered.
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+        processedRepository.saveAll(processed);
+
+        metrics.recordMessages(ClassificationStreamMetrics.INVALID, invalid.size());
+        metrics.recordMessages(ClassificationStreamMetrics.CLASSIFIED, count(processed, ClassificationStreamMetrics.CLASSIFIED));
+        metrics.recordMessages(ClassificationStreamMetrics.FAILED, count(processed, ClassificationStreamMetrics.FAILED));
+        metrics.recordMessages(ClassificationStreamMetrics.RETRIED, retryable.size());
+
+        log.debug(
+                "Classification stream batch handled. records={}, received={}, classified={}, retried={}, invalid={}",
+                records.size(),
+                received,
+                processed.size() - invalid.size(),
+                retryable.size(),
+                invalid.size()
+        );
+
+        if (!retryable.isEmpty()) {
+            throw new ClassificationStreamRetryException(retryable.size(), retryable.get(0));
+        }
+    }
+
+    private Mono<Outcome> classify(PatientMessageEvent event) {
+        return Mono.fromCallable(() -> Outcome.success(
+                        event,
+                        classificationService.classify(requestValidator.validate(
+                                FeatureName.MESSAGE_CLASSIFICATION,
+                                new MessageClassificationRequest(event.message())
+                        ))
+                ))
+                .subscribeOn(scheduler)
+                .onErrorResume(ex -> {
+                    log.warn(
+                            "Patient message classification failed. messageId={}, error={}",
+                            event.messageId(),
+                            ex.getClass().getSimpleName()
+                    );
+
+                    return Mono.just(Outcome.failure(event, ex, ErrorResponseMapper.toErrorResponse(ex, PATH)));
+                });
+    }
+
+    private PatientMessageEvent parse(ConsumerRecord<String, String> record) {
+        try {
+            PatientMessageEvent event = objectMapper.readValue(record.value(), PatientMessageEvent.class);
+
+            if (event != null && StringUtils.hasText(event.messageId()) && StringUtils.hasText(event.message())) {
+                return event;
+            }
+        } catch (JsonProcessingException | IllegalArgumentException ex) {
+            log.warn(
+                    "Unreadable patient message. topic={}, partition={}, offset={}",
+                    record.topic(),
+                    record.partition(),
+                    record.offset()
+            );
+        }
+
+        return null;
+    }
+
+    private CompletableFuture<?> sendToDeadLetter(String key, String value, ErrorResponse error) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(properties.inputTopic() + DLT_SUFFIX, key, value);
+
+        record.headers().add(ERROR_HEADER, error.error().getBytes(StandardCharsets.UTF_8));
+        record.headers().add(ERROR_MESSAGE_HEADER, String.valueOf(error.message()).getBytes(StandardCharsets.UTF_8));
+
+        return kafkaTemplate.send(record);
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize classification stream payload", ex);
+        }
+    }
+
+    private static ErrorResponse invalidError() {
+        return ErrorResponse.builder()
+                .timestamp(Instant.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error(ErrorCode.INVALID_REQUEST_BODY.name())
+                .message(INVALID_MESSAGE)
+                .path(PATH)
+                .build();
+    }
+
+    // Offsets identify a rejected record even when it has no readable message id.
+    private static String invalidRecordId(ConsumerRecord<String, String> record) {
+        return String.format(INVALID_RECORD_ID_FORMAT, record.topic(), record.partition(), record.offset());
+    }
+
+    private static ProcessedPatientMessage processed(String messageId, String outcome) {
+        return ProcessedPatientMessage.builder()
+                .messageId(messageId)
+                .outcome(outcome)
+                .processedAt(Instant.now())
+                .build();
+    }
+
+    private static int count(List<ProcessedPatientMessage> processed, String outcome) {
+        return (int) processed.stream()
+                .filter(message -> outcome.equals(message.outcome()))
+                .count();
+    }
+
+    private record Outcome(
+            PatientMessageEvent event,
+            MessageClassificationResponse response,
+            Throwable exception,
+            ErrorResponse error
+    ) {
+        private static Outcome success(PatientMessageEvent event, MessageClassificationResponse response) {
+            return new Outcome(event, response, null, null);
+        }
+
+        private static Outcome failure(PatientMessageEvent event, Throwable exception, ErrorResponse error) {
+            return new Outcome(event, null, exception, error);
+        }
+    }
+}
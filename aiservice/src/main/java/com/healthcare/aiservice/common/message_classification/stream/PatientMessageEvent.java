@@ -0,0 +1,9 @@
+package com.healthcare.aiservice.common.message_classification.stream;
+
+public record PatientMessageEvent(
+
+        String messageId,
+
+        String message
+) {
+}
@@ -0,0 +1,86 @@
+package com.healthcare.aiservice.common.note_analysis.controller.API;
+
+import com.healthcare.aiservice.common.note_analysis.dto.NoteAnalysisRequest;
+import com.healthcare.aiservice.common.note_analysis.dto.NoteAnalysisResponse;
+import com.healthcare.aiservice.exception.dto.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import static com.healthcare.aiservice.common.APIPaths.ApiPaths.AI_BASIC_URL;
+import static com.healthcare.aiservice.common.note_analysis.controller.API.NoteAnalysisApiPaths.ANALYZE_NOTE;
+
+@RequestMapping(AI_BASIC_URL)
+@Tag(name = "Note analysis controller", description = "Controller for running several AI features on one medical note")
+public interface NoteAnalysisAPI {
+
+    @Operation(
+            summary = "Run several AI features on one medical note",
+            description = """
+                    Runs the requested features (summary, extraction, classification)
+                    on the same note concurrently and returns their results together,
+                    so the call takes about as long as the slowest feature.
+                    
+                    A failed feature does not fail the analysis: it is returned with
+                    status FAILED and error details, next to the other results.
+                    """,
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = NoteAnalysisRequest.class)
+                    )
+            )
+    )
+    @ApiResponses(value = {
+
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Analysis finished; check the status of every feature",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = NoteAnalysisResponse.class)
+                    )
+            ),
+
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Validation error",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Unexpected internal server error",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping(ANALYZE_NOTE)
+    ResponseEntity<NoteAnalysisResponse> analyze(
+            @Valid
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    description = "Medical note and the features to run on it",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = NoteAnalysisRequest.class)
+                    )
+            )
+            @org.springframework.web.bind.annotation.RequestBody
+            NoteAnalysisRequest request
+    );
+}
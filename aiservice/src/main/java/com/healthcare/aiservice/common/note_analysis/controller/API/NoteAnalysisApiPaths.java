@@ -0,0 +1,13 @@
+package com.healthcare.aiservice.common.note_analysis.controller.API;
+
+import static com.healthcare.aiservice.common.APIPaths.ApiPaths.AI_BASIC_URL;
+
+public final class NoteAnalysisApiPaths {
+
+    private NoteAnalysisApiPaths() {
+    }
+
+    public static final String ANALYZE_NOTE = "/analyze-note";
+
+    public static final String ANALYZE_NOTE_URL = AI_BASIC_URL + ANALYZE_NOTE;
+}
@@ -0,0 +1,23 @@
+package com.healthcare.aiservice.common.note_analysis.controller;
+
+import com.healthcare.aiservice.common.note_analysis.controller.API.NoteAnalysisAPI;
+import com.healthcare.aiservice.common.note_analysis.dto.NoteAnalysisRequest;
+import com.healthcare.aiservice.common.note_analysis.dto.NoteAnalysisResponse;
+import com.healthcare.aiservice.common.note_analysis.service.NoteAnalysisService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RestController;
+
+@Validated
+@RestController
+@RequiredArgsConstructor
+public class NoteAnalysisController implements NoteAnalysisAPI {
+
+    private final NoteAnalysisService service;
+
+    @Override
+    public ResponseEntity<NoteAnalysisResponse> analyze(NoteAnalysisRequest request) {
+        return ResponseEntity.ok(service.analyze(request));
+    }
+}
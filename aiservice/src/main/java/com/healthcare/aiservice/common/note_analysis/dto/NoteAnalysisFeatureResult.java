@@ -0,0 +1,38 @@
+package com.healthcare.aiservice.common.note_analysis.dto;
+
+import com.healthcare.aiservice.common.dto.AiResultStatus;
+import com.healthcare.aiservice.exception.dto.ErrorResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(
+        name = "NoteAnalysisFeatureResult",
+        description = "Result of a single feature of a note analysis"
+)
+public record NoteAnalysisFeatureResult<T>(
+
+        @Schema(
+                description = "Feature processing status",
+                example = "SUCCESS"
+        )
+        AiResultStatus status,
+
+        @Schema(
+                description = "Time the feature took, in milliseconds",
+                example = "1840"
+        )
+        long durationMs,
+
+        @Schema(description = "Feature response, present when status is SUCCESS")
+        T result,
+
+        @Schema(description = "Error details, present when status is FAILED")
+        ErrorResponse error
+) {
+    public static <T> NoteAnalysisFeatureResult<T> success(long durationMs, T result) {
+        return new NoteAnalysisFeatureResult<>(AiResultStatus.SUCCESS, durationMs, result, null);
+    }
+
+    public static <T> NoteAnalysisFeatureResult<T> failure(long durationMs, ErrorResponse error) {
+        return new NoteAnalysisFeatureResult<>(AiResultStatus.FAILED, durationMs, null, error);
+    }
+}
@@ -0,0 +1,47 @@
+package com.healthcare.aiservice.common.note_analysis.dto;
+
+import com.healthcare.aiservice.common.dto.NoteBasedRequest;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Set;
+
+import static com.healthcare.aiservice.common.dto.SwaggerDescriptions.NOTE_DESCRIPTION;
+
+@Schema(
+        name = "NoteAnalysisRequest",
+        description = "Request for running several AI features on the same medical note"
+)
+public record NoteAnalysisRequest(
+
+        @Schema(
+                description = """
+                        Raw medical note text 
+                        """ + NOTE_DESCRIPTION,
+                example = """
+                        Patient complains about headache and nausea.
+                        Takes Ibuprofen daily.
+                        Follow-up recommended in two weeks.
+                        """
+        )
+        @NotBlank(message = "Medical note must not be blank")
+        @Size(max = 200000, message = "Medical note is too long")
+        String note,
+
+        @ArraySchema(
+                schema = @Schema(implementation = FeatureName.class),
+                arraySchema = @Schema(
+                        description = "Features to run on the note",
+                        example = "[\"MEDICAL_SUMMARY\", \"MEDICAL_EXTRACTION\", \"MESSAGE_CLASSIFICATION\"]"
+                )
+        )
+        @NotEmpty(message = "Features must not be empty")
+        Set<@NotNull(message = "Feature must not be null") FeatureName> features
+
+) implements NoteBasedRequest {
+}
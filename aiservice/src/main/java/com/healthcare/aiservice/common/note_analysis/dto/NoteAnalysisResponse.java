@@ -0,0 +1,31 @@
+package com.healthcare.aiservice.common.note_analysis.dto;
+
+import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionResponse;
+import com.healthcare.aiservice.common.medical_summary.dto.MedicalSummaryResponse;
+import com.healthcare.aiservice.common.message_classification.dto.MessageClassificationResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(
+        name = "NoteAnalysisResponse",
+        description = "Combined result of the requested features. Features that were not requested are null"
+)
+@Builder
+public record NoteAnalysisResponse(
+
+        @Schema(description = "Medical summary result")
+        NoteAnalysisFeatureResult<MedicalSummaryResponse> summary,
+
+        @Schema(description = "Medical info extraction result")
+        NoteAnalysisFeatureResult<MedicalInfoExtractionResponse> extraction,
+
+        @Schema(description = "Message classification result")
+        NoteAnalysisFeatureResult<MessageClassificationResponse> classification,
+
+        @Schema(
+                description = "Wall-clock time of the whole analysis, in milliseconds",
+                example = "2150"
+        )
+        long durationMs
+) {
+}
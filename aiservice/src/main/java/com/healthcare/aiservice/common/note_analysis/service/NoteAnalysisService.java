@@ -0,0 +1,152 @@
+package com.healthcare.aiservice.common.note_analysis.service;
+
+import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionRequest;
+import com.healthcare.aiservice.common.medical_extraction.service.MedicalInfoExtractionService;
+import com.healthcare.aiservice.common.medical_summary.dto.MedicalSummaryRequest;
+import com.healthcare.aiservice.common.medical_summary.service.MedicalSummaryService;
+import com.healthcare.aiservice.common.message_classification.dto.MessageClassificationRequest;
+import com.healthcare.aiservice.common.message_classification.service.MessageClassificationService;
+import com.healthcare.aiservice.common.note_analysis.dto.NoteAnalysisFeatureResult;
+import com.healthcare.aiservice.common.note_analysis.dto.NoteAnalysisRequest;
+import com.healthcare.aiservice.common.note_analysis.dto.NoteAnalysisResponse;
+import com.healthcare.aiservice.common.validation.FeatureRequestValidator;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.exception.ErrorResponseMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.healthcare.aiservice.common.note_analysis.controller.API.NoteAnalysisApiPaths.ANALYZE_NOTE_URL;
+import static com.healthcare.aiservice.config.AiAnalysisSchedulerConfiguration.AI_ANALYSIS_SCHEDULER;
+
+/**
+ * Runs the requested features on one note concurrently, so the analysis takes as long as the slowest
+ * feature instead of the sum of all of them. A failed feature does not fail the others. Each feature request
+ * is validated against that feature's own constraints, and a violation fails only that feature.
+ */
+@Slf4j
+@Service
+public class NoteAnalysisService {
+
+    private final MedicalSummaryService summaryService;
+    private final MedicalInfoExtractionService extractionService;
+    private final MessageClassificationService classificationService;
+    private final FeatureRequestValidator requestValidator;
+    private final Scheduler scheduler;
+
+    public NoteAnalysisService(
+            MedicalSummaryService summaryService,
+            MedicalInfoExtractionService extractionService,
+            MessageClassificationService classificationService,
+            FeatureRequestValidator requestValidator,
+            @Qualifier(AI_ANALYSIS_SCHEDULER)
+            Scheduler scheduler
+    ) {
+        this.summaryService = summaryService;
+        this.extractionService = extractionService;
+        this.classificationService = classificationService;
+        this.requestValidator = requestValidator;
+        this.scheduler = scheduler;
+    }
+
+    public NoteAnalysisResponse analyze(NoteAnalysisRequest request) {
+        long startNanos = System.nanoTime();
+        CallerContext context = CallerContext.capture();
+
+        return Mono.zip(
+                        run(request, FeatureName.MEDICAL_SUMMARY, context, () ->
+                                summaryService.summarize(requestValidator.validate(
+                                        FeatureName.MEDICAL_SUMMARY,
+                                        new MedicalSummaryRequest(request.note())))),
+                        run(request, FeatureName.MEDICAL_EXTRACTION, context, () ->
+                                extractionService.extract(requestValidator.validate(
+                                        FeatureName.MEDICAL_EXTRACTION,
+                                        new MedicalInfoExtractionRequest(request.note())))),
+                        run(request, FeatureName.MESSAGE_CLASSIFICATION, context, () ->
+                                classificationService.classify(requestValidator.validate(
+                                        FeatureName.MESSAGE_CLASSIFICATION,
+                                        new MessageClassificationRequest(request.note()))))
+                )
+                .map(results -> NoteAnalysisResponse.builder()
+                        .summary(results.getT1().orElse(null))
+                        .extraction(results.getT2().orElse(null))
+                        .classification(results.getT3().orElse(null))
+                        .durationMs(elapsedMillis(startNanos))
+                        .build())
+                .block();
+    }
+
+    private <T> Mono<Optional<NoteAnalysisFeatureResult<T>>> run(
+            NoteAnalysisRequest request,
+            FeatureName feature,
+            CallerContext context,
+            Supplier<T> task
+    ) {
+        if (!request.features().contains(feature)) {
+            return Mono.just(Optional.empty());
+        }
+
+        return Mono.fromCallable(() -> Optional.of(execute(feature, context, task)))
+                .subscribeOn(scheduler);
+    }
+
+    private <T> NoteAnalysisFeatureResult<T> execute(FeatureName feature, CallerContext context, Supplier<T> task) {
+        long startNanos = System.nanoTime();
+        context.apply();
+
+        try {
+            T result = task.get();
+
+            return NoteAnalysisFeatureResult.success(elapsedMillis(startNanos), result);
+
+        } catch (RuntimeException ex) {
+            log.warn(
+                    "Note analysis feature failed. feature={}, error={}",
+                    feature.getValue(),
+                    ex.getClass().getSimpleName()
+            );
+
+            return NoteAnalysisFeatureResult.failure(
+                    elapsedMillis(startNanos),
+                    ErrorResponseMapper.toErrorResponse(ex, ANALYZE_NOTE_URL)
+            );
+        } finally {
+            CallerContext.reset();
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    // Model override headers and the request locale are read from thread-bound holders, so workers inherit them.
+    private record CallerContext(RequestAttributes requestAttributes, LocaleContext localeContext) {
+
+        private static CallerContext capture() {
+            return new CallerContext(
+                    RequestContextHolder.getRequestAttributes(),
+                    LocaleContextHolder.getLocaleContext()
+            );
+        }
+
+        private void apply() {
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            LocaleContextHolder.setLocaleContext(localeContext);
+        }
+
+        private static void reset() {
+            RequestContextHolder.resetRequestAttributes();
+            LocaleContextHolder.resetLocaleContext();
+        }
+    }
+}
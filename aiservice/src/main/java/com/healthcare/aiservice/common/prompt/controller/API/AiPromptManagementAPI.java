@@ -17,8 +17,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -37,6 +40,9 @@ import static com.healthcare.aiservice.common.prompt.controller.API.AiPromptApiP
 @Validated
 public interface AiPromptManagementAPI {
 
+    String DEFAULT_VERSION_PAGE_SIZE = "50";
+    int MAX_VERSION_PAGE_SIZE = 200;
+
     @Operation(
             summary = "Create AI prompt",
             description = "Creates a new inactive prompt version.",
@@ -230,7 +236,9 @@ public interface AiPromptManagementAPI {
 
     @Operation(
             summary = "Get prompt versions",
-            description = "Returns all prompt versions for the specified feature, prompt type and target model ordered by version descending."
+            description = "Returns one page of prompt versions for the specified feature, prompt type and target model "
+                    + "ordered by version descending. Pass the last returned version as beforeVersion to get the next "
+                    + "page; prompt content is only included when includeContent is true."
     )
     @ApiResponses({
             @ApiResponse(
@@ -301,7 +309,22 @@ public interface AiPromptManagementAPI {
             @RequestParam
             @NotNull(message = "Target AI model must not be null")
             @Parameter(description = "AI model", example = "LLAMA_3")
-            AiProviderModel targetModel
+            AiProviderModel targetModel,
+
+            @RequestParam(required = false)
+            @Positive(message = "Before version must be greater than zero")
+            @Parameter(description = "Return only versions lower than this one", example = "42")
+            Long beforeVersion,
+
+            @RequestParam(defaultValue = DEFAULT_VERSION_PAGE_SIZE)
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = MAX_VERSION_PAGE_SIZE, message = "Limit must be at most " + MAX_VERSION_PAGE_SIZE)
+            @Parameter(description = "Maximum number of versions to return", example = "50")
+            int limit,
+
+            @RequestParam(defaultValue = "false")
+            @Parameter(description = "Whether to include the prompt content of every version", example = "false")
+            boolean includeContent
     );
 
 
@@ -53,11 +53,18 @@ public class AiPromptAdminController implements AiPromptManagementAPI {
     public ResponseEntity<List<AiPromptResponse>> getPromptVersions(
             FeatureName feature,
             PromptType type,
-            AiProviderModel targetModel
+            AiProviderModel targetModel,
+            Long beforeVersion,
+            int limit,
+            boolean includeContent
     ) {
         return ResponseEntity.ok(
-                service.getPromptVersions(buildPromptKey(feature, type, targetModel)));
-
+                service.getPromptVersions(
+                        buildPromptKey(feature, type, targetModel),
+                        beforeVersion,
+                        limit,
+                        includeContent
+                ));
     }
 
     @Override
@@ -3,6 +3,7 @@ package com.healthcare.aiservice.common.prompt.dto;
 import com.healthcare.aiservice.config.constant.AiProviderModel;
 import com.healthcare.aiservice.config.constant.PromptType;
 import com.healthcare.aiservice.config.constant.FeatureName;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.Instant;
@@ -65,6 +66,13 @@ public record AiPromptResponse(
                 description = "Last update timestamp",
                 example = "2026-07-03T14:20:10Z"
         )
-        Instant updatedAt
+        Instant updatedAt,
+
+        @Schema(
+                description = "Prompt content, only present when requested with includeContent",
+                example = "You are a medical assistant."
+        )
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String content
 ) {
 }
\ No newline at end of file
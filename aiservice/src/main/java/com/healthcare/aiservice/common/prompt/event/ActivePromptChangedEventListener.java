@@ -1,6 +1,8 @@
 package com.healthcare.aiservice.common.prompt.event;
 
+import com.healthcare.aiservice.cache.AiResponseCache;
 import com.healthcare.aiservice.common.prompt.service.PromptCacheEvictionService;
+import com.healthcare.aiservice.common.prompt.template.PromptTemplateCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
@@ -11,11 +13,15 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class ActivePromptChangedEventListener {
 
     private final PromptCacheEvictionService cacheEvictionService;
+    private final AiResponseCache aiResponseCache;
+    private final PromptTemplateCache templateCache;
 
     @TransactionalEventListener(
             phase = TransactionPhase.AFTER_COMMIT
     )
     public void handle(ActivePromptChangedEvent event) {
         cacheEvictionService.evictIfPresent(event.key());
+        aiResponseCache.evict(event.key().feature());
+        templateCache.evict(event.key());
     }
 }
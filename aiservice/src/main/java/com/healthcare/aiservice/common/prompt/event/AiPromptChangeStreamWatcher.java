@@ -0,0 +1,293 @@
+package com.healthcare.aiservice.common.prompt.event;
+
+import com.healthcare.aiservice.cache.AiResponseCache;
+import com.healthcare.aiservice.common.prompt.mapper.AiPromptMapper;
+import com.healthcare.aiservice.common.prompt.model.AiPrompt;
+import com.healthcare.aiservice.common.prompt.model.AiPromptKey;
+import com.healthcare.aiservice.common.prompt.model.ChangeStreamCheckpoint;
+import com.healthcare.aiservice.common.prompt.service.PromptCacheEvictionService;
+import com.healthcare.aiservice.common.prompt.template.PromptTemplateCache;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.propertie.AiPromptChangeStreamProperties;
+import com.healthcare.aiservice.repository.ChangeStreamCheckpointRepository;
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Follows the change stream of the prompt collection and invalidates the cached active prompt on every
+ * activation or deactivation, including writes made directly in Mongo that never publish an
+ * {@link ActivePromptChangedEvent}. The resume token is checkpointed, so a restart continues after the last
+ * handled change; when the token can no longer be resumed from, all prompt caches are cleared instead.
+ */
+@Slf4j
+@Component
+public class AiPromptChangeStreamWatcher implements DisposableBean {
+
+    private static final String THREAD_NAME = "ai-prompt-change-stream";
+
+    private static final String ACTIVE_FIELD = "active";
+    private static final String CONTENT_FIELD = "content";
+
+    // ChangeStreamFatalError and ChangeStreamHistoryLost: the stored token is older than the oplog.
+    private static final Set<Integer> HISTORY_LOST_CODES = Set.of(280, 286);
+
+    private static final List<Bson> PIPELINE = List.of(Aggregates.match(Filters.or(
+            Filters.nin("operationType", "update"),
+            Filters.exists("updateDescription.updatedFields." + ACTIVE_FIELD),
+            Filters.exists("updateDescription.updatedFields." + CONTENT_FIELD)
+    )));
+
+    private final MongoTemplate mongoTemplate;
+    private final ChangeStreamCheckpointRepository checkpointRepository;
+    private final PromptCacheEvictionService cacheEvictionService;
+    private final AiResponseCache aiResponseCache;
+    private final PromptTemplateCache templateCache;
+    private final AiPromptChangeStreamProperties properties;
+    private final String collectionName;
+    private final ExecutorService executor;
+
+    private volatile boolean running;
+
+    private boolean restartFresh;
+    private BsonDocument lastCheckpointToken;
+    private long lastCheckpointNanos;
+
+    public AiPromptChangeStreamWatcher(
+            MongoTemplate mongoTemplate,
+            ChangeStreamCheckpointRepository checkpointRepository,
+            PromptCacheEvictionService cacheEvictionService,
+            AiResponseCache aiResponseCache,
+            PromptTemplateCache templateCache,
+            AiPromptChangeStreamProperties properties
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.checkpointRepository = checkpointRepository;
+        this.cacheEvictionService = cacheEvictionService;
+        this.aiResponseCache = aiResponseCache;
+        this.templateCache = templateCache;
+        this.properties = properties;
+        this.collectionName = mongoTemplate.getCollectionName(AiPrompt.class);
+
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        running = true;
+        executor.execute(this::follow);
+    }
+
+    private void follow() {
+        while (running) {
+            try {
+                watch();
+            } catch (RuntimeException ex) {
+                if (!running) {
+                    return;
+                }
+
+                if (ex instanceof MongoException mongoException
+                        && HISTORY_LOST_CODES.contains(mongoException.getCode())) {
+                    restartFresh = true;
+                }
+
+                log.warn(
+                        "Prompt change stream failed. restartFresh={}, error={}",
+                        restartFresh,
+                        ex.getClass().getSimpleName()
+                );
+
+                if (!pause()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void watch() {
+        BsonDocument resumeToken = restartFresh ? null : loadCheckpoint();
+
+        ChangeStreamIterable<Document> changeStream = mongoTemplate.getCollection(collectionName)
+                .watch(PIPELINE)
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .maxAwaitTime(properties.maxAwaitTime().toMillis(), TimeUnit.MILLISECONDS);
+
+        if (resumeToken != null) {
+            changeStream = changeStream.resumeAfter(resumeToken);
+        }
+
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = changeStream.cursor()) {
+
+            // The stream is opened before clearing, so nothing written in between can be missed.
+            if (restartFresh) {
+                invalidateAll();
+                checkpoint(cursor.getResumeToken());
+                restartFresh = false;
+            }
+
+            log.info("Prompt change stream opened. resumed={}", resumeToken != null);
+
+            while (running) {
+                ChangeStreamDocument<Document> change = cursor.tryNext();
+
+                if (change == null) {
+                    checkpointIfDue(cursor.getResumeToken());
+                    continue;
+                }
+
+                if (!handle(change)) {
+                    restartFresh = true;
+                    return;
+                }
+
+                checkpoint(change.getResumeToken());
+            }
+        }
+    }
+
+    /**
+     * Invalidates what the change affects and returns {@code false} when the stream was invalidated and has
+     * to be reopened.
+     */
+    boolean handle(ChangeStreamDocument<Document> change) {
+        switch (change.getOperationType()) {
+            case INSERT -> {
+                if (isActive(change.getFullDocument())) {
+                    invalidate(change.getFullDocument());
+                }
+            }
+            case UPDATE -> {
+                if (change.getFullDocument() == null) {
+                    invalidateAll();
+                } else if (activeChanged(change.getUpdateDescription()) || isActive(change.getFullDocument())) {
+                    invalidate(change.getFullDocument());
+                }
+            }
+            case REPLACE -> invalidate(change.getFullDocument());
+            // Without pre-images a deleted prompt's key is unknown.
+            case DELETE, DROP, RENAME, DROP_DATABASE -> invalidateAll();
+            case INVALIDATE -> {
+                return false;
+            }
+            default -> {
+            }
+        }
+
+        return true;
+    }
+
+    private void invalidate(Document document) {
+        AiPromptKey key = AiPromptMapper.toKey(mongoTemplate.getConverter().read(AiPrompt.class, document));
+
+        cacheEvictionService.evictIfPresent(key);
+        aiResponseCache.evict(key.feature());
+        templateCache.evict(key);
+
+        log.info(
+                "Active prompt cache invalidated from change stream. feature={}, type={}, targetModel={}",
+                key.feature(),
+                key.type(),
+                key.targetModel()
+        );
+    }
+
+    private void invalidateAll() {
+        cacheEvictionService.evictAll();
+
+        for (FeatureName feature : FeatureName.values()) {
+            aiResponseCache.evict(feature);
+        }
+
+        templateCache.clear();
+
+        log.info("All prompt caches invalidated from change stream.");
+    }
+
+    private BsonDocument loadCheckpoint() {
+        return checkpointRepository.findById(collectionName)
+                .map(checkpoint -> BsonDocument.parse(checkpoint.resumeToken()))
+                .orElse(null);
+    }
+
+    // Idle streams still advance their token; saving it now and then keeps it inside the oplog window.
+    private void checkpointIfDue(BsonDocument resumeToken) {
+        long elapsedNanos = System.nanoTime() - lastCheckpointNanos;
+
+        if (elapsedNanos >= properties.checkpointInterval().toNanos()
+                && resumeToken != null
+                && !resumeToken.equals(lastCheckpointToken)) {
+            checkpoint(resumeToken);
+        }
+    }
+
+    private void checkpoint(BsonDocument resumeToken) {
+        if (resumeToken == null) {
+            return;
+        }
+
+        checkpointRepository.save(ChangeStreamCheckpoint.builder()
+                .id(collectionName)
+                .resumeToken(resumeToken.toJson())
+                .updatedAt(Instant.now())
+                .build());
+
+        lastCheckpointToken = resumeToken;
+        lastCheckpointNanos = System.nanoTime();
+    }
+
+    private static boolean isActive(Document document) {
+        return document != null && Boolean.TRUE.equals(document.getBoolean(ACTIVE_FIELD));
+    }
+
+    private static boolean activeChanged(UpdateDescription updateDescription) {
+        return updateDescription != null
+                && updateDescription.getUpdatedFields() != null
+                && updateDescription.getUpdatedFields().containsKey(ACTIVE_FIELD);
+    }
+
+    private boolean pause() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(properties.retryDelay().toMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        executor.shutdownNow();
+    }
+}
@@ -28,7 +28,8 @@ public final class AiPromptMapper {
                 prompt.active(),
                 prompt.createdByUsername(),
                 prompt.createdAt(),
-                prompt.updatedAt()
+                prompt.updatedAt(),
+                prompt.content()
         );
     }
 
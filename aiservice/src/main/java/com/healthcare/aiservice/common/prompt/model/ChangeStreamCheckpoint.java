@@ -0,0 +1,23 @@
+package com.healthcare.aiservice.common.prompt.model;
+
+import lombok.Builder;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Last resume token handled by a change stream watcher, stored as the token's extended JSON.
+ */
+@Builder
+@Document(collection = "change_stream_checkpoints")
+public record ChangeStreamCheckpoint(
+
+        @Id
+        String id,
+
+        String resumeToken,
+
+        Instant updatedAt
+) {
+}
@@ -0,0 +1,63 @@
+package com.healthcare.aiservice.common.prompt.model;
+
+import com.healthcare.aiservice.common.prompt.template.PromptPlaceholder;
+import com.healthcare.aiservice.common.prompt.template.PromptVariables;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.PromptSource;
+
+import java.util.Locale;
+
+public record FeaturePrompts(
+
+        ResolvedPrompt systemPrompt,
+
+        ResolvedPrompt userPromptTemplate,
+
+        PromptVariables variables,
+
+        AiProviderModel targetModel
+) {
+    private static final String VERSION_DELIMITER = "/";
+    private static final String VERSION_PREFIX = "v";
+    private static final String FALLBACK_VERSION = "fallback";
+    private static final String MIXED_SOURCE = "mixed";
+
+    // Prompts are rendered on demand, so a response cache hit never builds the user prompt.
+    public String systemPromptContent() {
+        return systemPrompt.render(variables);
+    }
+
+    public String userPrompt() {
+        return userPromptTemplate.render(variables);
+    }
+
+    public FeaturePrompts withVariables(PromptVariables variables) {
+        return new FeaturePrompts(systemPrompt, userPromptTemplate, variables, targetModel);
+    }
+
+    public String version() {
+        return versionOf(systemPrompt) + VERSION_DELIMITER + versionOf(userPromptTemplate);
+    }
+
+    public String source() {
+        PromptSource systemSource = systemPrompt.source();
+
+        return systemSource == userPromptTemplate.source()
+                ? systemSource.name().toLowerCase(Locale.ROOT)
+                : MIXED_SOURCE;
+    }
+
+    // The locale changes the rendered prompt only when one of the templates actually uses it.
+    public String renderedLocale() {
+        return systemPrompt.template().uses(PromptPlaceholder.LOCALE)
+                || userPromptTemplate.template().uses(PromptPlaceholder.LOCALE)
+                ? variables.locale()
+                : null;
+    }
+
+    private static String versionOf(ResolvedPrompt prompt) {
+        return prompt != null && prompt.source() == PromptSource.DATABASE && prompt.version() != null
+                ? VERSION_PREFIX + prompt.version()
+                : FALLBACK_VERSION;
+    }
+}
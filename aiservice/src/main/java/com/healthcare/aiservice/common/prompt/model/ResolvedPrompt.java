@@ -1,6 +1,9 @@
 package com.healthcare.aiservice.common.prompt.model;
 
+import com.healthcare.aiservice.common.prompt.template.PromptTemplate;
+import com.healthcare.aiservice.common.prompt.template.PromptVariables;
 import com.healthcare.aiservice.config.constant.PromptSource;
+import com.healthcare.aiservice.config.constant.PromptType;
 
 public record ResolvedPrompt(
         AiPromptKey key,
@@ -9,7 +12,23 @@ public record ResolvedPrompt(
 
         Long version,
 
-        String content
+        String content,
+
+        PromptTemplate template
 
 ) {
+    public ResolvedPrompt(AiPromptKey key, PromptSource source, Long version, String content) {
+        this(key, source, version, content, compile(key, content));
+    }
+
+    public String render(PromptVariables variables) {
+        return template.render(variables);
+    }
+
+    // Only user templates were ever rendered with String.formatted, so only they keep the %s note placeholder.
+    public static PromptTemplate compile(AiPromptKey key, String content) {
+        return key == null || key.type() == PromptType.USER
+                ? PromptTemplate.compileWithPositionalNote(content)
+                : PromptTemplate.compile(content);
+    }
 }
@@ -2,58 +2,190 @@ package com.healthcare.aiservice.common.prompt.service;
 
 import com.healthcare.aiservice.common.dto.NoteBasedRequest;
 import com.healthcare.aiservice.common.prompt.model.AiPromptKey;
+import com.healthcare.aiservice.common.prompt.model.FeaturePrompts;
+import com.healthcare.aiservice.common.prompt.model.ResolvedPrompt;
 import com.healthcare.aiservice.config.constant.AiProviderModel;
 import com.healthcare.aiservice.config.constant.PromptType;
 import com.healthcare.aiservice.common.prompt.service.interfaces.AiPromptFactory;
 import com.healthcare.aiservice.common.prompt.service.interfaces.AiPromptResolver;
 import com.healthcare.aiservice.common.prompt.service.interfaces.PromptProvider;
+import com.healthcare.aiservice.common.prompt.template.PromptVariables;
+import com.healthcare.aiservice.common.provider.AiModelRouter;
+import com.healthcare.aiservice.common.provider.logging.AiRequestMetrics;
 import com.healthcare.aiservice.config.constant.FeatureName;
 import com.healthcare.aiservice.exception.rest_exception.AiPromptProviderNotFoundException;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 
 @Service
 public class DefaultAiPromptFactory implements AiPromptFactory {
 
-    private static final AiProviderModel DEFAULT_MODEL = AiProviderModel.LLAMA_3;
-
     private final Map<FeatureName, PromptProvider<? extends NoteBasedRequest>> providersByFeature;
     private final AiPromptResolver promptResolver;
+    private final AiModelRouter modelRouter;
+    private final AiRequestMetrics requestMetrics;
 
     public DefaultAiPromptFactory(
             List<PromptProvider<? extends NoteBasedRequest>> providers,
-            AiPromptResolver promptResolver
+            AiPromptResolver promptResolver,
+            AiModelRouter modelRouter,
+            AiRequestMetrics requestMetrics
     ) {
         this.providersByFeature = providers.stream()
                 .collect(Collectors.toMap(PromptProvider::feature, Function.identity()));
         this.promptResolver = promptResolver;
+        this.modelRouter = modelRouter;
+        this.requestMetrics = requestMetrics;
     }
 
     @Override
     public String getSystemPrompt(FeatureName feature) {
+        return resolveSystemPrompt(feature, modelRouter.route(feature))
+                .render(featureVariables(feature).build());
+    }
+
+    @Override
+    public String getUserPrompt(FeatureName feature, NoteBasedRequest request) {
+        return resolveUserPromptTemplate(feature, modelRouter.route(feature))
+                .render(featureVariables(feature).note(request.note()).build());
+    }
+
+    @Override
+    public FeaturePrompts getPrompts(FeatureName feature, NoteBasedRequest request) {
+        long startNanos = System.nanoTime();
+        AiProviderModel targetModel = modelRouter.route(feature);
+
+        FeaturePrompts prompts = new FeaturePrompts(
+                resolveSystemPrompt(feature, targetModel),
+                resolveUserPromptTemplate(feature, targetModel),
+                featureVariables(feature).note(request.note()).build(),
+                targetModel
+        );
+
+        recordResolution(feature, targetModel, startNanos);
+
+        return prompts;
+    }
+
+    @Override
+    public List<FeaturePrompts> getPrompts(FeatureName feature, List<? extends NoteBasedRequest> requests) {
+        long startNanos = System.nanoTime();
+        AiProviderModel targetModel = modelRouter.route(feature);
+        ResolvedPrompt systemPrompt = resolveSystemPrompt(feature, targetModel);
+        ResolvedPrompt userPromptTemplate = resolveUserPromptTemplate(feature, targetModel);
+        PromptVariables variables = featureVariables(feature).build();
+
+        recordResolution(feature, targetModel, startNanos);
+
+        return requests.stream()
+                .map(request -> new FeaturePrompts(
+                        systemPrompt,
+                        userPromptTemplate,
+                        variables.toBuilder().note(request.note()).build(),
+                        targetModel
+                ))
+                .toList();
+    }
+
+    @Override
+    public List<FeaturePrompts> getChunkPrompts(FeatureName feature, List<String> chunks) {
+        long startNanos = System.nanoTime();
+        AiProviderModel targetModel = modelRouter.route(feature);
+        ResolvedPrompt systemPrompt = resolveSystemPrompt(feature, targetModel);
+        ResolvedPrompt chunkPromptTemplate = resolveStagePromptTemplate(feature, PromptType.CHUNK, targetModel);
+        PromptVariables variables = featureVariables(feature)
+                .chunkCount(String.valueOf(chunks.size()))
+                .build();
+
+        recordResolution(feature, targetModel, startNanos);
+
+        return IntStream.range(0, chunks.size())
+                .mapToObj(index -> new FeaturePrompts(
+                        systemPrompt,
+                        chunkPromptTemplate,
+                        variables.toBuilder()
+                                .note(chunks.get(index))
+                                .chunkNumber(String.valueOf(index + 1))
+                                .build(),
+                        targetModel
+                ))
+                .toList();
+    }
+
+    // The reduce step must run on the model that summarized the chunks, so it is not routed again.
+    @Override
+    public FeaturePrompts getReducePrompts(FeatureName feature, AiProviderModel targetModel) {
+        return new FeaturePrompts(
+                resolveSystemPrompt(feature, targetModel),
+                resolveStagePromptTemplate(feature, PromptType.REDUCE, targetModel),
+                featureVariables(feature).build(),
+                targetModel
+        );
+    }
+
+    private void recordResolution(FeatureName feature, AiProviderModel targetModel, long startNanos) {
+        requestMetrics.recordStage(
+                feature,
+                modelRouter.modelName(targetModel),
+                AiRequestMetrics.Stage.PROMPT_RESOLUTION,
+                System.nanoTime() - startNanos
+        );
+    }
+
+    private PromptVariables.PromptVariablesBuilder featureVariables(FeatureName feature) {
+        return getProvider(feature).variables(PromptVariables.builder()
+                .locale(LocaleContextHolder.getLocale().toLanguageTag()));
+    }
+
+    private ResolvedPrompt resolveSystemPrompt(FeatureName feature, AiProviderModel targetModel) {
         PromptProvider<? extends NoteBasedRequest> provider = getProvider(feature);
 
         return promptResolver.resolvePrompt(
-                buildKey(feature, PromptType.SYSTEM),
+                buildKey(feature, PromptType.SYSTEM, targetModel),
                 provider::systemPrompt
-        ).content();
+        );
     }
 
-    @Override
-    public String getUserPrompt(FeatureName feature, NoteBasedRequest request) {
+    private ResolvedPrompt resolveUserPromptTemplate(FeatureName feature, AiProviderModel targetModel) {
         PromptProvider<? extends NoteBasedRequest> provider = getProvider(feature);
 
         return promptResolver.resolvePrompt(
-                        buildKey(feature, PromptType.USER),
-                        provider::userPromptTemplate
+                buildKey(feature, PromptType.USER, targetModel),
+                provider::userPromptTemplate
+        );
+    }
+
+    private ResolvedPrompt resolveStagePromptTemplate(
+            FeatureName feature,
+            PromptType type,
+            AiProviderModel targetModel
+    ) {
+        PromptProvider<? extends NoteBasedRequest> provider = getProvider(feature);
+
+        return promptResolver.resolvePrompt(
+                buildKey(feature, type, targetModel),
+                () -> requireTemplate(
+                        feature,
+                        type,
+                        type == PromptType.CHUNK ? provider.chunkPromptTemplate() : provider.reducePromptTemplate()
                 )
-                .content()
-                .formatted(request.note());
+        );
+    }
+
+    private String requireTemplate(FeatureName feature, PromptType type, String template) {
+        if (template == null) {
+            throw new IllegalStateException(
+                    "No %s prompt template is defined for feature '%s'".formatted(type, feature.getValue()));
+        }
+
+        return template;
     }
 
     private PromptProvider<? extends NoteBasedRequest> getProvider(FeatureName feature) {
@@ -66,11 +198,11 @@ public class DefaultAiPromptFactory implements AiPromptFactory {
         return provider;
     }
 
-    private AiPromptKey buildKey(FeatureName feature, PromptType type) {
+    private AiPromptKey buildKey(FeatureName feature, PromptType type, AiProviderModel targetModel) {
         return AiPromptKey.builder()
                 .feature(feature)
                 .type(type)
-                .targetModel(DEFAULT_MODEL)
+                .targetModel(targetModel)
                 .build();
     }
 }
\ No newline at end of file
@@ -13,6 +13,7 @@ import com.healthcare.aiservice.exception.rest_exception.AiPromptNotFoundExcepti
 import com.healthcare.aiservice.exception.rest_exception.AiPromptStateInvalidException;
 import com.healthcare.aiservice.exception.rest_exception.AiPromptVersionConflictException;
 import com.healthcare.aiservice.repository.AiPromptRepository;
+import com.healthcare.aiservice.repository.AiPromptVersionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
@@ -29,6 +30,7 @@ public class DefaultAiPromptManagementService implements AiPromptManagementServi
     private static final String SYSTEM_USERNAME = "system";
 
     private final AiPromptRepository repository;
+    private final AiPromptVersionRepository versionRepository;
     private final PromptTextNormalizer normalizer;
     private final PromptActivationRetryExecutor activationRetryExecutor;
 
@@ -84,11 +86,15 @@ public class DefaultAiPromptManagementService implements AiPromptManagementServi
     }
 
     @Override
-    public List<AiPromptResponse> getPromptVersions(AiPromptKey aiPromptKey) {
-
-        return findPromptVersions(aiPromptKey).stream()
-                .map(AiPromptMapper::toResponse)
-                .toList();
+    public List<AiPromptResponse> getPromptVersions(
+            AiPromptKey aiPromptKey,
+            Long beforeVersion,
+            int limit,
+            boolean includeContent
+    ) {
+        return AiPromptMapper.toResponseList(
+                versionRepository.findVersions(aiPromptKey, beforeVersion, limit, includeContent)
+        );
     }
 
     private Optional<AiPrompt> findLatestPrompt(AiPromptKey key) {
@@ -99,14 +105,6 @@ public class DefaultAiPromptManagementService implements AiPromptManagementServi
         );
     }
 
-    private List<AiPrompt> findPromptVersions(AiPromptKey key) {
-        return repository.findByFeatureAndTypeAndTargetModelOrderByVersionDesc(
-                key.feature(),
-                key.type(),
-                key.targetModel()
-        );
-    }
-
     private List<AiPrompt> findActivePrompts(AiPromptKey key) {
         return repository.findAllByFeatureAndTypeAndTargetModelAndActiveTrue(
                 key.feature(),
@@ -5,6 +5,7 @@ import com.healthcare.aiservice.common.prompt.model.AiPromptKey;
 import com.healthcare.aiservice.config.constant.PromptSource;
 import com.healthcare.aiservice.common.prompt.model.ResolvedPrompt;
 import com.healthcare.aiservice.common.prompt.service.interfaces.AiPromptResolver;
+import com.healthcare.aiservice.common.prompt.template.PromptTemplateCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -16,6 +17,7 @@ import java.util.function.Supplier;
 public class DefaultAiPromptResolver implements AiPromptResolver {
 
     private final CachedActivePromptService activePromptService;
+    private final PromptTemplateCache templateCache;
 
     @Override
     public ResolvedPrompt resolvePrompt(
@@ -30,15 +32,19 @@ public class DefaultAiPromptResolver implements AiPromptResolver {
                     key,
                     PromptSource.DATABASE,
                     activePrompt.version(),
-                    activePrompt.content()
+                    activePrompt.content(),
+                    templateCache.get(key, activePrompt.content())
             );
         }
 
+        String fallbackPrompt = fallbackPromptSupplier.get();
+
         return new ResolvedPrompt(
                 key,
                 PromptSource.FALLBACK,
                 null,
-                fallbackPromptSupplier.get()
+                fallbackPrompt,
+                templateCache.get(key, fallbackPrompt)
         );
     }
 
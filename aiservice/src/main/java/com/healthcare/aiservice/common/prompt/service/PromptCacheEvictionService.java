@@ -29,4 +29,12 @@ public class PromptCacheEvictionService {
 
        return cache.evictIfPresent(PromptCacheKey.of(key));
     }
+
+    public void evictAll() {
+        Cache cache = cacheManager.getCache(CacheNames.ACTIVE_PROMPTS);
+
+        if (cache != null) {
+            cache.clear();
+        }
+    }
 }
\ No newline at end of file
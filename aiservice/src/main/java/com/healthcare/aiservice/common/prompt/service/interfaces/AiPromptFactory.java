@@ -1,11 +1,23 @@
 package com.healthcare.aiservice.common.prompt.service.interfaces;
 
 import com.healthcare.aiservice.common.dto.NoteBasedRequest;
+import com.healthcare.aiservice.common.prompt.model.FeaturePrompts;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
 import com.healthcare.aiservice.config.constant.FeatureName;
 
+import java.util.List;
+
 public interface AiPromptFactory {
 
     String getSystemPrompt(FeatureName feature);
 
     String getUserPrompt(FeatureName feature, NoteBasedRequest request);
+
+    FeaturePrompts getPrompts(FeatureName feature, NoteBasedRequest request);
+
+    List<FeaturePrompts> getPrompts(FeatureName feature, List<? extends NoteBasedRequest> requests);
+
+    List<FeaturePrompts> getChunkPrompts(FeatureName feature, List<String> chunks);
+
+    FeaturePrompts getReducePrompts(FeatureName feature, AiProviderModel targetModel);
 }
@@ -17,5 +17,10 @@ public interface AiPromptManagementService {
 
     AiPromptDetailsResponse getActivePrompt(AiPromptKey aiPromptKey);
 
-    List<AiPromptResponse> getPromptVersions(AiPromptKey aiPromptKey);
+    List<AiPromptResponse> getPromptVersions(
+            AiPromptKey aiPromptKey,
+            Long beforeVersion,
+            int limit,
+            boolean includeContent
+    );
 }
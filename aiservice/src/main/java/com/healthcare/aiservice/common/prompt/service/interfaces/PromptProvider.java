@@ -1,6 +1,7 @@
 package com.healthcare.aiservice.common.prompt.service.interfaces;
 
 import com.healthcare.aiservice.common.dto.NoteBasedRequest;
+import com.healthcare.aiservice.common.prompt.template.PromptVariables;
 import com.healthcare.aiservice.config.constant.FeatureName;
 
 public interface PromptProvider<T extends NoteBasedRequest> {
@@ -12,4 +13,17 @@ public interface PromptProvider<T extends NoteBasedRequest> {
     String systemPrompt();
 
     String userPromptTemplate();
+
+    // Only features with a long-document mode have chunk and reduce templates.
+    default String chunkPromptTemplate() {
+        return null;
+    }
+
+    default String reducePromptTemplate() {
+        return null;
+    }
+
+    default PromptVariables.PromptVariablesBuilder variables(PromptVariables.PromptVariablesBuilder variables) {
+        return variables;
+    }
 }
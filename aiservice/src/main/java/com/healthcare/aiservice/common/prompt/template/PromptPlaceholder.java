@@ -0,0 +1,30 @@
+package com.healthcare.aiservice.common.prompt.template;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Getter
+@RequiredArgsConstructor
+public enum PromptPlaceholder {
+
+    NOTE("note"),
+    ALLOWED_CATEGORIES("allowedCategories"),
+    LOCALE("locale"),
+    CHUNK_NUMBER("chunkNumber"),
+    CHUNK_COUNT("chunkCount"),
+    PARTIAL_SUMMARIES("partialSummaries");
+
+    private static final Map<String, PromptPlaceholder> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(PromptPlaceholder::getName, Function.identity()));
+
+    private final String name;
+
+    static PromptPlaceholder fromName(String name) {
+        return BY_NAME.get(name);
+    }
+}
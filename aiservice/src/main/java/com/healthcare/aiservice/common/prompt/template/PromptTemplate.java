@@ -0,0 +1,183 @@
+package com.healthcare.aiservice.common.prompt.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A prompt template split once into literal segments and named placeholders such as {@code {{note}}}.
+ * Literal segments are kept as offsets into the source text and rendering appends them into a builder
+ * sized for the final prompt, so neither compiling nor rendering copies the template more than once.
+ * <p>
+ * User prompt templates may also use the legacy {@code %s} note placeholder and {@code %%} escape that
+ * were rendered with {@link String#formatted} before.
+ */
+public final class PromptTemplate {
+
+    private static final String PLACEHOLDER_OPEN = "{{";
+    private static final String PLACEHOLDER_CLOSE = "}}";
+    private static final char FORMAT_MARKER = '%';
+    private static final char FORMAT_STRING = 's';
+    private static final int NO_PLACEHOLDER = -1;
+
+    private final String source;
+    private final int[] segmentStarts;
+    private final int[] segmentEnds;
+    private final PromptPlaceholder[] segmentPlaceholders;
+    private final int literalLength;
+    private final boolean literalOnly;
+
+    private PromptTemplate(String source, List<Segment> segments) {
+        this.source = source;
+        this.segmentStarts = new int[segments.size()];
+        this.segmentEnds = new int[segments.size()];
+        this.segmentPlaceholders = new PromptPlaceholder[segments.size()];
+
+        int length = 0;
+        boolean hasPlaceholder = false;
+
+        for (int i = 0; i < segments.size(); i++) {
+            Segment segment = segments.get(i);
+            segmentStarts[i] = segment.start();
+            segmentEnds[i] = segment.end();
+            segmentPlaceholders[i] = segment.placeholder();
+
+            if (segment.placeholder() == null) {
+                length += segment.end() - segment.start();
+            } else {
+                hasPlaceholder = true;
+            }
+        }
+
+        this.literalLength = length;
+        // An escaped %% drops a character, so such a template is rendered even without placeholders.
+        this.literalOnly = !hasPlaceholder && length == source.length();
+    }
+
+    public static PromptTemplate compile(String template) {
+        return compile(template, false);
+    }
+
+    public static PromptTemplate compileWithPositionalNote(String template) {
+        return compile(template, true);
+    }
+
+    public String render(PromptVariables variables) {
+        if (literalOnly) {
+            return source;
+        }
+
+        int capacity = literalLength;
+
+        for (PromptPlaceholder placeholder : segmentPlaceholders) {
+            if (placeholder != null) {
+                capacity += variables.valueOf(placeholder).length();
+            }
+        }
+
+        StringBuilder prompt = new StringBuilder(capacity);
+
+        for (int i = 0; i < segmentPlaceholders.length; i++) {
+            PromptPlaceholder placeholder = segmentPlaceholders[i];
+
+            if (placeholder == null) {
+                prompt.append(source, segmentStarts[i], segmentEnds[i]);
+            } else {
+                prompt.append(variables.valueOf(placeholder));
+            }
+        }
+
+        return prompt.toString();
+    }
+
+    public boolean uses(PromptPlaceholder placeholder) {
+        for (PromptPlaceholder segmentPlaceholder : segmentPlaceholders) {
+            if (segmentPlaceholder == placeholder) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public String source() {
+        return source;
+    }
+
+    private static PromptTemplate compile(String template, boolean positionalNote) {
+        String source = Objects.requireNonNullElse(template, "");
+        List<Segment> segments = new ArrayList<>();
+
+        int literalStart = 0;
+        int index = 0;
+
+        while (index < source.length()) {
+            char current = source.charAt(index);
+
+            if (current == '{' && source.startsWith(PLACEHOLDER_OPEN, index)) {
+                int close = source.indexOf(PLACEHOLDER_CLOSE, index + PLACEHOLDER_OPEN.length());
+                PromptPlaceholder placeholder = close == NO_PLACEHOLDER
+                        ? null
+                        : PromptPlaceholder.fromName(source.substring(index + PLACEHOLDER_OPEN.length(), close).strip());
+
+                if (placeholder != null) {
+                    addLiteral(segments, literalStart, index);
+                    segments.add(new Segment(index, close + PLACEHOLDER_CLOSE.length(), placeholder));
+                    index = close + PLACEHOLDER_CLOSE.length();
+                    literalStart = index;
+                    continue;
+                }
+            }
+
+            if (positionalNote && current == FORMAT_MARKER && index + 1 < source.length()) {
+                char next = source.charAt(index + 1);
+
+                if (next == FORMAT_STRING) {
+                    addLiteral(segments, literalStart, index);
+                    segments.add(new Segment(index, index + 2, PromptPlaceholder.NOTE));
+                    index += 2;
+                    literalStart = index;
+                    continue;
+                }
+
+                if (next == FORMAT_MARKER) {
+                    addLiteral(segments, literalStart, index + 1);
+                    index += 2;
+                    literalStart = index;
+                    continue;
+                }
+            }
+
+            index++;
+        }
+
+        addLiteral(segments, literalStart, source.length());
+
+        return new PromptTemplate(source, segments);
+    }
+
+    private static void addLiteral(List<Segment> segments, int start, int end) {
+        if (start < end) {
+            segments.add(new Segment(start, end, null));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other
+                || other instanceof PromptTemplate template && source.equals(template.source);
+    }
+
+    @Override
+    public int hashCode() {
+        return source.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    private record Segment(int start, int end, PromptPlaceholder placeholder) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.healthcare.aiservice.common.prompt.template;
+
+import com.healthcare.aiservice.common.prompt.model.AiPromptKey;
+import com.healthcare.aiservice.common.prompt.model.ResolvedPrompt;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the compiled template of every active prompt, so a prompt is parsed once per activation instead
+ * of once per request. A cached template whose source no longer matches the resolved content is rebuilt,
+ * which also covers activations made by other instances.
+ */
+@Component
+public class PromptTemplateCache {
+
+    private final Map<AiPromptKey, PromptTemplate> templates = new ConcurrentHashMap<>();
+
+    public PromptTemplate get(AiPromptKey key, String content) {
+        PromptTemplate cached = templates.get(key);
+
+        if (cached != null && matches(cached, content)) {
+            return cached;
+        }
+
+        PromptTemplate compiled = ResolvedPrompt.compile(key, content);
+        templates.put(key, compiled);
+
+        return compiled;
+    }
+
+    public void evict(AiPromptKey key) {
+        templates.remove(key);
+    }
+
+    public void clear() {
+        templates.clear();
+    }
+
+    // Content read from the same cached prompt is the same instance, so the full comparison is rarely needed.
+    private static boolean matches(PromptTemplate template, String content) {
+        String source = template.source();
+        return source == content || source.equals(content);
+    }
+}
@@ -0,0 +1,41 @@
+package com.healthcare.aiservice.common.prompt.template;
+
+import lombok.Builder;
+
+@Builder(toBuilder = true)
+public record PromptVariables(
+
+        String note,
+
+        String allowedCategories,
+
+        String locale,
+
+        String chunkNumber,
+
+        String chunkCount,
+
+        String partialSummaries
+) {
+    private static final String EMPTY = "";
+
+    public static PromptVariables ofNote(String note) {
+        return PromptVariables.builder()
+                .note(note)
+                .build();
+    }
+
+    // A placeholder without a value renders as empty text, so a prompt edit cannot break a feature.
+    String valueOf(PromptPlaceholder placeholder) {
+        String value = switch (placeholder) {
+            case NOTE -> note;
+            case ALLOWED_CATEGORIES -> allowedCategories;
+            case LOCALE -> locale;
+            case CHUNK_NUMBER -> chunkNumber;
+            case CHUNK_COUNT -> chunkCount;
+            case PARTIAL_SUMMARIES -> partialSummaries;
+        };
+
+        return value == null ? EMPTY : value;
+    }
+}
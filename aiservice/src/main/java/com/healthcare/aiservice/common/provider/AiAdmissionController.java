@@ -0,0 +1,271 @@
+package com.healthcare.aiservice.common.provider;
+
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.propertie.AiAdmissionProperties;
+import com.healthcare.aiservice.exception.rest_exception.AiCapacityExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits how many AI provider calls run at once. Callers that cannot start immediately wait in a bounded
+ * per-feature queue; freed slots are handed to the queues by smooth weighted round-robin, so heavier
+ * features (classification) are served first without starving lighter ones (summaries).
+ */
+@Slf4j
+@Component
+public class AiAdmissionController {
+
+    static final String QUEUE_WAIT_METRIC = "ai.admission.queue.wait";
+    static final String REJECTED_METRIC = "ai.admission.rejected";
+    static final String QUEUE_DEPTH_METRIC = "ai.admission.queue.depth";
+    static final String ACTIVE_METRIC = "ai.admission.active";
+    static final String FEATURE_TAG = "feature";
+    static final String REASON_TAG = "reason";
+    static final String QUEUE_FULL_REASON = "queue-full";
+    static final String QUEUE_TIMEOUT_REASON = "queue-timeout";
+    static final String INTERRUPTED_REASON = "interrupted";
+
+    private final AiAdmissionProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<FeatureName, Deque<Ticket>> queues = new EnumMap<>(FeatureName.class);
+    private final Map<FeatureName, Integer> currentWeights = new EnumMap<>(FeatureName.class);
+    private final Map<FeatureName, Timer> queueWaitTimers = new EnumMap<>(FeatureName.class);
+    private int active;
+
+    public AiAdmissionController(AiAdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        for (FeatureName feature : FeatureName.values()) {
+            if (!properties.features().containsKey(feature)) {
+                throw new IllegalStateException(
+                        "AI admission queue is not configured for feature '%s'".formatted(feature.getValue()));
+            }
+
+            queues.put(feature, new ArrayDeque<>());
+            currentWeights.put(feature, 0);
+
+            queueWaitTimers.put(feature, Timer.builder(QUEUE_WAIT_METRIC)
+                    .description("Time AI requests spent waiting for a provider slot")
+                    .tag(FEATURE_TAG, feature.getValue())
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+
+            Gauge.builder(QUEUE_DEPTH_METRIC, this, controller -> controller.queueDepth(feature))
+                    .description("AI requests waiting for a provider slot")
+                    .tag(FEATURE_TAG, feature.getValue())
+                    .register(meterRegistry);
+        }
+
+        Gauge.builder(ACTIVE_METRIC, this, AiAdmissionController::activeCount)
+                .description("AI provider calls currently running")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Blocks until a provider slot is available for the feature. The returned permit must be closed
+     * once the provider call finishes.
+     *
+     * @throws AiCapacityExceededException when the feature queue is full or the queue deadline passes
+     */
+    public Permit acquire(FeatureName feature) {
+        long startNanos = System.nanoTime();
+        AiAdmissionProperties.FeatureQueue config = properties.features().get(feature);
+        Deque<Ticket> queue = queues.get(feature);
+
+        lock.lock();
+        try {
+            if (active < properties.maxConcurrency() && allQueuesEmpty()) {
+                active++;
+                return admitted(feature, startNanos);
+            }
+
+            if (queue.size() >= config.capacity()) {
+                throw rejected(feature, QUEUE_FULL_REASON, "queue is full");
+            }
+
+            Ticket ticket = new Ticket(lock.newCondition());
+            queue.addLast(ticket);
+
+            long remainingNanos = config.maxQueueTime().toNanos();
+
+            try {
+                while (!ticket.admitted) {
+                    if (remainingNanos <= 0L) {
+                        queue.remove(ticket);
+                        throw rejected(feature, QUEUE_TIMEOUT_REASON, "queue deadline of %s exceeded"
+                                .formatted(config.maxQueueTime()));
+                    }
+
+                    remainingNanos = ticket.condition.awaitNanos(remainingNanos);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+
+                if (ticket.admitted) {
+                    handOffOrFree();
+                } else {
+                    queue.remove(ticket);
+                }
+
+                throw rejected(feature, INTERRUPTED_REASON, "interrupted while queued");
+            }
+
+            return admitted(feature, startNanos);
+
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Share of the feature queue in use, from 0 (empty) to 1 (full). Lets callers that can hold work back,
+     * such as stream consumers, stop pulling it before their requests start being rejected.
+     */
+    public double queueFill(FeatureName feature) {
+        int capacity = properties.features().get(feature).capacity();
+
+        if (capacity == 0) {
+            return activeCount() >= properties.maxConcurrency() ? 1.0 : 0.0;
+        }
+
+        return Math.min(1.0, (double) queueDepth(feature) / capacity);
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            handOffOrFree();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // The slot passes straight to the next waiter, so a newly arriving caller can never jump the queues.
+    private void handOffOrFree() {
+        Ticket next = nextTicket();
+
+        if (next == null) {
+            active--;
+            return;
+        }
+
+        next.admitted = true;
+        next.condition.signal();
+    }
+
+    private Ticket nextTicket() {
+        FeatureName selected = null;
+        int totalWeight = 0;
+
+        for (Map.Entry<FeatureName, Deque<Ticket>> entry : queues.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
+
+            FeatureName feature = entry.getKey();
+            int weight = properties.features().get(feature).weight();
+            int current = currentWeights.merge(feature, weight, Integer::sum);
+            totalWeight += weight;
+
+            if (selected == null || current > currentWeights.get(selected)) {
+                selected = feature;
+            }
+        }
+
+        if (selected == null) {
+            return null;
+        }
+
+        currentWeights.merge(selected, -totalWeight, Integer::sum);
+        return queues.get(selected).pollFirst();
+    }
+
+    private boolean allQueuesEmpty() {
+        for (Deque<Ticket> queue : queues.values()) {
+            if (!queue.isEmpty()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private Permit admitted(FeatureName feature, long startNanos) {
+        queueWaitTimers.get(feature).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        return new Permit(this);
+    }
+
+    private AiCapacityExceededException rejected(FeatureName feature, String reason, String message) {
+        Counter.builder(REJECTED_METRIC)
+                .description("AI requests rejected by admission control")
+                .tag(FEATURE_TAG, feature.getValue())
+                .tag(REASON_TAG, reason)
+                .register(meterRegistry)
+                .increment();
+
+        log.warn("AI request rejected by admission control. feature={}, reason={}", feature.getValue(), reason);
+
+        return new AiCapacityExceededException(feature, message, properties.retryAfter());
+    }
+
+    private int queueDepth(FeatureName feature) {
+        lock.lock();
+        try {
+            return queues.get(feature).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int activeCount() {
+        lock.lock();
+        try {
+            return active;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public static final class Permit implements AutoCloseable {
+
+        private final AiAdmissionController controller;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(AiAdmissionController controller) {
+            this.controller = controller;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                controller.release();
+            }
+        }
+    }
+
+    private static final class Ticket {
+
+        private final Condition condition;
+        private boolean admitted;
+
+        private Ticket(Condition condition) {
+            this.condition = condition;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.healthcare.aiservice.common.provider;
+
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import org.springframework.ai.chat.client.ChatClient;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+public class AiChatClients {
+
+    private final Map<AiProviderModel, ChatClient> clients;
+
+    public AiChatClients(Map<AiProviderModel, ChatClient> clients) {
+        this.clients = new EnumMap<>(clients);
+    }
+
+    public ChatClient get(AiProviderModel model) {
+        ChatClient client = clients.get(model);
+
+        if (client == null) {
+            throw new IllegalStateException("No chat client is configured for AI model '%s'".formatted(model));
+        }
+
+        return client;
+    }
+
+    public Set<AiProviderModel> models() {
+        return clients.keySet();
+    }
+}
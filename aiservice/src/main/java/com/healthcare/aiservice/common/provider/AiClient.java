@@ -1,7 +1,26 @@
 package com.healthcare.aiservice.common.provider;
 
 
+import com.healthcare.aiservice.common.provider.stream.AiStreamEvent;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import reactor.core.publisher.Flux;
+
 public interface AiClient {
 
-    <T> T call(String systemPrompt, String userPrompt, Class<T> responseType);
+    <T> T call(
+            FeatureName feature,
+            AiProviderModel model,
+            String systemPrompt,
+            String userPrompt,
+            Class<T> responseType
+    );
+
+    <T> Flux<AiStreamEvent<T>> stream(
+            FeatureName feature,
+            AiProviderModel model,
+            String systemPrompt,
+            String userPrompt,
+            Class<T> responseType
+    );
 }
@@ -0,0 +1,225 @@
+package com.healthcare.aiservice.common.provider;
+
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.propertie.AiRoutingProperties;
+import com.healthcare.aiservice.exception.rest_exception.InvalidAiModelOverrideException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Picks the model for each AI call. Every feature lists its candidate models in order of preference; the
+ * first candidate whose exponentially weighted latency and error rate are within the feature targets wins.
+ * A small share of calls is sent to a random candidate so that a model that recovered is noticed again.
+ */
+@Slf4j
+@Component
+public class AiModelRouter {
+
+    public static final String MODEL_OVERRIDE_HEADER = "X-AI-Model";
+
+    static final String SELECTED_METRIC = "ai.routing.selected";
+    static final String LATENCY_METRIC = "ai.routing.latency.ewma";
+    static final String ERROR_RATE_METRIC = "ai.routing.error.rate.ewma";
+    static final String FEATURE_TAG = "feature";
+    static final String MODEL_TAG = "model";
+    static final String REASON_TAG = "reason";
+    static final String PREFERRED_REASON = "preferred";
+    static final String FALLBACK_REASON = "fallback";
+    static final String DEGRADED_REASON = "degraded";
+    static final String EXPLORATION_REASON = "exploration";
+    static final String OVERRIDE_REASON = "override";
+
+    private final AiRoutingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<FeatureName, Map<AiProviderModel, ModelHealth>> health = new EnumMap<>(FeatureName.class);
+
+    public AiModelRouter(AiRoutingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        for (FeatureName feature : FeatureName.values()) {
+            AiRoutingProperties.FeatureRoute route = properties.features().get(feature);
+
+            if (route == null) {
+                throw new IllegalStateException(
+                        "AI routing is not configured for feature '%s'".formatted(feature.getValue()));
+            }
+
+            for (AiProviderModel model : route.models()) {
+                if (!properties.models().containsKey(model)) {
+                    throw new IllegalStateException("AI routing for feature '%s' refers to unconfigured model '%s'"
+                            .formatted(feature.getValue(), model));
+                }
+            }
+
+            // Every configured model is tracked, so that calls forced through the override header are measured too.
+            Map<AiProviderModel, ModelHealth> featureHealth = new EnumMap<>(AiProviderModel.class);
+
+            for (AiProviderModel model : properties.models().keySet()) {
+                ModelHealth modelHealth = new ModelHealth();
+                featureHealth.put(model, modelHealth);
+                registerGauges(feature, model, modelHealth);
+            }
+
+            health.put(feature, featureHealth);
+        }
+    }
+
+    public AiProviderModel route(FeatureName feature) {
+        AiProviderModel override = requestedOverride();
+
+        if (override != null) {
+            return selected(feature, override, OVERRIDE_REASON);
+        }
+
+        AiRoutingProperties.FeatureRoute route = properties.features().get(feature);
+        List<AiProviderModel> candidates = route.models();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        if (candidates.size() > 1 && random.nextDouble() < properties.explorationRate()) {
+            return selected(feature, candidates.get(random.nextInt(candidates.size())), EXPLORATION_REASON);
+        }
+
+        for (AiProviderModel model : candidates) {
+            if (health(feature, model).withinTarget(route.latencyTarget(), properties.maxErrorRate())) {
+                return selected(feature, model, model == candidates.get(0) ? PREFERRED_REASON : FALLBACK_REASON);
+            }
+        }
+
+        AiProviderModel fastest = candidates.get(0);
+
+        for (AiProviderModel model : candidates) {
+            if (health(feature, model).expectedLatencyMs() < health(feature, fastest).expectedLatencyMs()) {
+                fastest = model;
+            }
+        }
+
+        return selected(feature, fastest, DEGRADED_REASON);
+    }
+
+    public void recordSuccess(FeatureName feature, AiProviderModel model, long durationNanos) {
+        health(feature, model).record(properties.ewmaAlpha(), TimeUnit.NANOSECONDS.toMillis(durationNanos), true);
+    }
+
+    public void recordFailure(FeatureName feature, AiProviderModel model) {
+        health(feature, model).record(properties.ewmaAlpha(), 0L, false);
+    }
+
+    public String modelName(AiProviderModel model) {
+        AiRoutingProperties.ModelEndpoint endpoint = properties.models().get(model);
+
+        return endpoint == null
+                ? model.name()
+                : endpoint.name();
+    }
+
+    private ModelHealth health(FeatureName feature, AiProviderModel model) {
+        return health.get(feature).get(model);
+    }
+
+    private AiProviderModel requestedOverride() {
+        if (!properties.overrideEnabled()
+                || !(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+
+        String value = attributes.getRequest().getHeader(MODEL_OVERRIDE_HEADER);
+
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+
+        try {
+            AiProviderModel model = AiProviderModel.valueOf(value.strip().replace('-', '_').toUpperCase(Locale.ROOT));
+
+            if (properties.models().containsKey(model)) {
+                return model;
+            }
+        } catch (IllegalArgumentException ignored) {
+            // reported below together with the configured models
+        }
+
+        throw new InvalidAiModelOverrideException(MODEL_OVERRIDE_HEADER, value, properties.models().keySet());
+    }
+
+    private AiProviderModel selected(FeatureName feature, AiProviderModel model, String reason) {
+        Counter.builder(SELECTED_METRIC)
+                .description("AI model routing decisions")
+                .tag(FEATURE_TAG, feature.getValue())
+                .tag(MODEL_TAG, model.name())
+                .tag(REASON_TAG, reason)
+                .register(meterRegistry)
+                .increment();
+
+        log.debug("AI model selected. feature={}, model={}, reason={}", feature.getValue(), model, reason);
+
+        return model;
+    }
+
+    private void registerGauges(FeatureName feature, AiProviderModel model, ModelHealth modelHealth) {
+        Gauge.builder(LATENCY_METRIC, modelHealth, ModelHealth::latencyMs)
+                .description("Exponentially weighted AI call latency in milliseconds")
+                .tag(FEATURE_TAG, feature.getValue())
+                .tag(MODEL_TAG, model.name())
+                .register(meterRegistry);
+
+        Gauge.builder(ERROR_RATE_METRIC, modelHealth, ModelHealth::errorRate)
+                .description("Exponentially weighted AI call error rate")
+                .tag(FEATURE_TAG, feature.getValue())
+                .tag(MODEL_TAG, model.name())
+                .register(meterRegistry);
+    }
+
+    static final class ModelHealth {
+
+        private static final double MIN_SUCCESS_RATE = 0.01;
+
+        private double latencyMs = Double.NaN;
+        private double errorRate;
+
+        synchronized void record(double alpha, long durationMs, boolean success) {
+            errorRate += alpha * ((success ? 0.0 : 1.0) - errorRate);
+
+            if (success) {
+                latencyMs = Double.isNaN(latencyMs)
+                        ? durationMs
+                        : latencyMs + alpha * (durationMs - latencyMs);
+            }
+        }
+
+        synchronized boolean withinTarget(Duration latencyTarget, double maxErrorRate) {
+            return errorRate <= maxErrorRate
+                    && (Double.isNaN(latencyMs) || latencyMs <= latencyTarget.toMillis());
+        }
+
+        // Latency per successful call; a model without samples yet is tried first.
+        synchronized double expectedLatencyMs() {
+            double latency = Double.isNaN(latencyMs) ? 0.0 : latencyMs;
+
+            return latency / Math.max(1.0 - errorRate, MIN_SUCCESS_RATE);
+        }
+
+        synchronized double latencyMs() {
+            return latencyMs;
+        }
+
+        synchronized double errorRate() {
+            return errorRate;
+        }
+    }
+}
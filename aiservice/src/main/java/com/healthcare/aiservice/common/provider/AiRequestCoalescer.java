@@ -0,0 +1,124 @@
+package com.healthcare.aiservice.common.provider;
+
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.propertie.AiAdmissionProperties;
+import com.healthcare.aiservice.exception.rest_exception.AiCapacityExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Component
+public class AiRequestCoalescer {
+
+    static final String COALESCED_METRIC = "ai.request.coalesced";
+    static final String IN_FLIGHT_METRIC = "ai.request.coalescer.in.flight";
+    static final String FEATURE_TAG = "feature";
+
+    private static final String KEY_DELIMITER = ":";
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AiAdmissionProperties admissionProperties;
+    private final MeterRegistry meterRegistry;
+
+    public AiRequestCoalescer(AiAdmissionProperties admissionProperties, MeterRegistry meterRegistry) {
+        this.admissionProperties = admissionProperties;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder(IN_FLIGHT_METRIC, inFlight, ConcurrentMap::size)
+                .description("Distinct AI requests currently in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the loader once per key at a time. Callers arriving while the same request is in flight
+     * wait for it and receive the same result or the same exception.
+     *
+     * @throws AiCapacityExceededException when a waiting caller outlasts the feature's queue deadline plus
+     *                                     the call timeout, so a hung call does not hold its followers forever
+     */
+    public <T> T execute(FeatureName feature, String key, Class<T> responseType, Supplier<T> loader) {
+        String flightKey = feature.name() + KEY_DELIMITER + key;
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(flightKey, flight);
+
+        if (leader != null) {
+            coalesced(feature).increment();
+            return responseType.cast(await(feature, leader));
+        }
+
+        try {
+            T response = loader.get();
+            flight.complete(response);
+            return response;
+
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private Object await(FeatureName feature, CompletableFuture<Object> flight) {
+        Duration maxWait = maxWait(feature);
+
+        try {
+            return flight.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+
+            throw new CompletionException(ex.getCause());
+
+        } catch (TimeoutException ex) {
+            throw new AiCapacityExceededException(
+                    feature,
+                    "identical request still in flight after %s".formatted(maxWait),
+                    admissionProperties.retryAfter()
+            );
+
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+
+            throw new AiCapacityExceededException(
+                    feature,
+                    "interrupted while waiting for an identical request",
+                    admissionProperties.retryAfter()
+            );
+        }
+    }
+
+    private Duration maxWait(FeatureName feature) {
+        AiAdmissionProperties.FeatureQueue queue = admissionProperties.features().get(feature);
+
+        return queue == null
+                ? admissionProperties.callTimeout()
+                : queue.maxQueueTime().plus(admissionProperties.callTimeout());
+    }
+
+    private Counter coalesced(FeatureName feature) {
+        return Counter.builder(COALESCED_METRIC)
+                .description("AI requests served by an identical request already in flight")
+                .tag(FEATURE_TAG, feature.getValue())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,111 @@
+package com.healthcare.aiservice.common.provider;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.aiservice.config.propertie.AiStructuredOutputProperties;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.converter.BeanOutputConverter;
+import org.springframework.ai.ollama.api.OllamaOptions;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Derives a JSON schema from each response record and hands it to the provider as its output format, so
+ * the model can only produce JSON of that shape. Also sets the budget for repairing output that still
+ * cannot be read.
+ */
+@Component
+public class AiStructuredOutput {
+
+    private final AiStructuredOutputProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ResponseSchema> schemas = new ConcurrentHashMap<>();
+
+    public AiStructuredOutput(AiStructuredOutputProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the per-call options that constrain decoding to the schema of the response type, or
+     * {@code null} when structured output is off and the client's default options apply.
+     */
+    public ChatOptions chatOptions(String modelName, Class<?> responseType) {
+        if (!properties.enabled()) {
+            return null;
+        }
+
+        // Per-call options replace the client defaults, so the routed model name is set again.
+        return OllamaOptions.builder()
+                .model(modelName)
+                .format(schema(responseType).map())
+                .build();
+    }
+
+    public String schemaJson(Class<?> responseType) {
+        return schema(responseType).json();
+    }
+
+    public int maxFragmentLength() {
+        return properties.repair().maxFragmentLength();
+    }
+
+    /**
+     * Starts the repair budget of one call, or returns {@code null} when repair is disabled.
+     */
+    public RepairBudget repairBudget() {
+        AiStructuredOutputProperties.Repair repair = properties.repair();
+
+        return repair.maxAttempts() == 0
+                ? null
+                : new RepairBudget(repair.maxAttempts(), repair.maxTokens(), repair.timeout().toNanos());
+    }
+
+    private ResponseSchema schema(Class<?> responseType) {
+        return schemas.computeIfAbsent(responseType, type -> {
+            BeanOutputConverter<?> converter = new BeanOutputConverter<>(type, objectMapper);
+            return new ResponseSchema(converter.getJsonSchemaMap(), converter.getJsonSchema());
+        });
+    }
+
+    private record ResponseSchema(Map<String, Object> map, String json) {
+    }
+
+    /**
+     * Attempts, tokens and time left for repairing one response. Not thread-safe; a budget belongs to a
+     * single call.
+     */
+    public static final class RepairBudget {
+
+        private final int maxAttempts;
+        private final long maxTokens;
+        private final long deadlineNanos;
+
+        private int attempts;
+        private long tokens;
+
+        RepairBudget(int maxAttempts, long maxTokens, long timeoutNanos) {
+            this.maxAttempts = maxAttempts;
+            this.maxTokens = maxTokens;
+            this.deadlineNanos = System.nanoTime() + timeoutNanos;
+        }
+
+        public boolean tryStartAttempt() {
+            if (attempts >= maxAttempts || tokens >= maxTokens || System.nanoTime() - deadlineNanos >= 0L) {
+                return false;
+            }
+
+            attempts++;
+            return true;
+        }
+
+        public void spend(long spentTokens) {
+            tokens += spentTokens;
+        }
+
+        public int attempts() {
+            return attempts;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.healthcare.aiservice.common.provider;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the instance as out of service until AI warm-up has finished. With
+ * {@code eureka.client.healthcheck.enabled} the status is sent to the registry, so the gateway does not
+ * route to an instance whose prompts and models are still cold.
+ */
+@Component
+@RequiredArgsConstructor
+public class AiWarmupHealthIndicator implements HealthIndicator {
+
+    private static final String WARMUP_DETAIL = "warmup";
+
+    private final AiWarmupRunner warmupRunner;
+
+    @Override
+    public Health health() {
+        return warmupRunner.isWarmedUp()
+                ? Health.up().withDetail(WARMUP_DETAIL, "finished").build()
+                : Health.outOfService().withDetail(WARMUP_DETAIL, "in progress").build();
+    }
+}
@@ -0,0 +1,202 @@
+package com.healthcare.aiservice.common.provider;
+
+import com.healthcare.aiservice.common.prompt.model.AiPromptKey;
+import com.healthcare.aiservice.common.prompt.service.CachedActivePromptService;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.constant.PromptType;
+import com.healthcare.aiservice.config.propertie.AiRoutingProperties;
+import com.healthcare.aiservice.config.propertie.AiWarmupProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.ollama.api.OllamaOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads active prompts into the cache and the configured models into Ollama memory before the service
+ * takes traffic, then keeps the models resident with periodic pings.
+ * <p>
+ * Spring Boot reports readiness as accepting traffic only after all {@link ApplicationReadyEvent}
+ * listeners return, so warming up inside the listener keeps the readiness probe down until it completes.
+ * The instance registers with Eureka before that, so {@link AiWarmupHealthIndicator} also reports it as
+ * out of service until warm-up has finished, and the Eureka health check carries that to the registry.
+ */
+@Slf4j
+@Component
+public class AiWarmupRunner implements DisposableBean {
+
+    private static final String THREAD_NAME = "ai-warmup";
+    private static final String WARMUP_THREAD_NAME_PREFIX = "ai-warmup-";
+    private static final int WARMUP_TOKENS = 1;
+
+    private final AiChatClients chatClients;
+    private final AiRoutingProperties routingProperties;
+    private final AiWarmupProperties properties;
+    private final CachedActivePromptService activePromptService;
+    private final ScheduledExecutorService executor;
+
+    private volatile boolean warmedUp;
+
+    public AiWarmupRunner(
+            AiChatClients chatClients,
+            AiRoutingProperties routingProperties,
+            AiWarmupProperties properties,
+            CachedActivePromptService activePromptService
+    ) {
+        this.chatClients = chatClients;
+        this.routingProperties = routingProperties;
+        this.properties = properties;
+        this.activePromptService = activePromptService;
+        this.warmedUp = !properties.enabled();
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        warmUp();
+
+        long intervalMs = properties.keepAliveInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::keepAlive, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isWarmedUp() {
+        return warmedUp;
+    }
+
+    // Models load in parallel, so a slow or hung model does not use up the deadline of the others.
+    void warmUp() {
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + properties.timeout().toNanos();
+
+        int prompts = loadActivePrompts();
+        Set<AiProviderModel> models = chatClients.models();
+        Map<AiProviderModel, Future<?>> warmups = new EnumMap<>(AiProviderModel.class);
+        ExecutorService warmupExecutor = warmupExecutor(models.size());
+
+        try {
+            for (AiProviderModel model : models) {
+                warmups.put(model, warmupExecutor.submit(() -> generate(model)));
+            }
+
+            warmups.forEach((model, warmup) -> await(model, warmup, deadlineNanos));
+        } finally {
+            warmupExecutor.shutdownNow();
+        }
+
+        warmedUp = true;
+
+        log.info("AI warm-up finished. prompts={}, models={}, durationMs={}",
+                prompts,
+                warmups.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    void keepAlive() {
+        for (AiProviderModel model : chatClients.models()) {
+            try {
+                generate(model);
+            } catch (RuntimeException ex) {
+                log.warn("AI model keep-alive failed. model={}, error={}", model, ex.getClass().getSimpleName());
+            }
+        }
+    }
+
+    // Only prompts of models a feature can be routed to are loaded, matching what requests will look up.
+    private int loadActivePrompts() {
+        int loaded = 0;
+
+        for (FeatureName feature : FeatureName.values()) {
+            AiRoutingProperties.FeatureRoute route = routingProperties.features().get(feature);
+
+            if (route == null) {
+                continue;
+            }
+
+            for (AiProviderModel model : route.models()) {
+                for (PromptType type : PromptType.values()) {
+                    AiPromptKey key = AiPromptKey.builder()
+                            .feature(feature)
+                            .type(type)
+                            .targetModel(model)
+                            .build();
+
+                    try {
+                        if (activePromptService.findActivePrompt(key) != null) {
+                            loaded++;
+                        }
+                    } catch (RuntimeException ex) {
+                        log.warn("Active prompt warm-up failed. key={}, error={}", key, ex.getClass().getSimpleName());
+                    }
+                }
+            }
+        }
+
+        return loaded;
+    }
+
+    private void generate(AiProviderModel model) {
+        OllamaOptions options = OllamaOptions.builder()
+                .model(routingProperties.models().get(model).name())
+                .numPredict(WARMUP_TOKENS)
+                .keepAlive(properties.keepAlive().toSeconds() + "s")
+                .build();
+
+        chatClients.get(model).prompt()
+                .user(properties.prompt())
+                .options(options)
+                .call()
+                .content();
+    }
+
+    // A model that is still cold at the deadline does not block readiness; its first request pays the load.
+    private void await(AiProviderModel model, Future<?> warmup, long deadlineNanos) {
+        try {
+            warmup.get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            warmup.cancel(true);
+            log.warn("AI model warm-up timed out. model={}, timeout={}", model, properties.timeout());
+        } catch (ExecutionException ex) {
+            log.warn("AI model warm-up failed. model={}, error={}", model, ex.getCause().getClass().getSimpleName());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            warmup.cancel(true);
+        }
+    }
+
+    private static ExecutorService warmupExecutor(int models) {
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        return Executors.newFixedThreadPool(Math.max(1, models), runnable -> {
+            Thread thread = new Thread(runnable, WARMUP_THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -1,26 +1,176 @@
 package com.healthcare.aiservice.common.provider;
 
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.aiservice.exception.AiResponseParsingException;
 import com.healthcare.aiservice.exception.rest_exception.JsonExtractorException;
 import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.io.Reader;
+
 public final class JsonExtractor {
 
+    private static final int NOT_FOUND = -1;
+    private static final int MAX_PARSE_ATTEMPTS = 16;
+
     private JsonExtractor() {
     }
 
     public static String extractObject(String text) {
+        requireText(text);
+
+        int start = indexOfObjectStart(text, 0);
+
+        while (start != NOT_FOUND) {
+            int end = findObjectEnd(text, start);
+
+            if (end != NOT_FOUND) {
+                return text.substring(start, end);
+            }
+
+            start = indexOfObjectStart(text, start + 1);
+        }
+
+        throw new JsonExtractorException("JSON object not found in AI response");
+    }
+
+    /**
+     * Binds the first root JSON object in the text directly to the target type, without copying it out
+     * of the response first. Jackson stops at the end of the root object, so trailing prose is never read.
+     * Candidates that are not valid JSON, such as braces in the surrounding prose, are skipped.
+     */
+    public static <T> T parseObject(CharSequence text, ObjectMapper objectMapper, Class<T> type) {
+        requireText(text);
+
+        int start = indexOfObjectStart(text, 0);
+
+        if (start == NOT_FOUND) {
+            throw new JsonExtractorException("JSON object not found in AI response");
+        }
+
+        StreamReadException syntaxError = null;
+        int syntaxErrorStart = start;
+
+        for (int attempt = 0; start != NOT_FOUND && attempt < MAX_PARSE_ATTEMPTS; attempt++) {
+            try (JsonParser parser = objectMapper.createParser(new CharSequenceReader(text, start, text.length()))) {
+                return objectMapper.readValue(parser, type);
+            } catch (StreamReadException ex) {
+                if (syntaxError == null) {
+                    syntaxError = ex;
+                    syntaxErrorStart = start;
+                }
+            } catch (IOException ex) {
+                throw parsingException(text, start, type, ex);
+            }
+
+            int end = findObjectEnd(text, start);
+            start = indexOfObjectStart(text, end == NOT_FOUND ? start + 1 : end);
+        }
+
+        throw parsingException(text, syntaxErrorStart, type, syntaxError);
+    }
+
+    private static void requireText(CharSequence text) {
         if (!StringUtils.hasText(text)) {
             throw new JsonExtractorException("AI response is empty");
         }
+    }
 
-        int start = text.indexOf('{');
-        int end = text.lastIndexOf('}');
+    private static int indexOfObjectStart(CharSequence text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            if (text.charAt(i) == '{') {
+                return i;
+            }
+        }
 
-        if (start < 0 || end < 0 || start > end) {
-            throw new JsonExtractorException("JSON object not found in AI response");
+        return NOT_FOUND;
+    }
+
+    // Returns the exclusive end of the object opened at start, ignoring braces inside JSON strings.
+    private static int findObjectEnd(CharSequence text, int start) {
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+
+        for (int i = start; i < text.length(); i++) {
+            char current = text.charAt(i);
+
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (current == '\\') {
+                    escaped = true;
+                } else if (current == '"') {
+                    inString = false;
+                }
+            } else if (current == '"') {
+                inString = true;
+            } else if (current == '{') {
+                depth++;
+            } else if (current == '}' && --depth == 0) {
+                return i + 1;
+            }
         }
 
-        return text.substring(start, end + 1);
+        return NOT_FOUND;
+    }
+
+    private static AiResponseParsingException parsingException(
+            CharSequence text,
+            int start,
+            Class<?> type,
+            IOException cause
+    ) {
+        String rawResponse = text.toString();
+        int end = findObjectEnd(text, start);
+
+        return new AiResponseParsingException(
+                "Failed to parse AI response to " + type.getSimpleName(),
+                rawResponse,
+                rawResponse.substring(start, end == NOT_FOUND ? rawResponse.length() : end),
+                cause
+        );
+    }
+
+    private static final class CharSequenceReader extends Reader {
+
+        private final CharSequence text;
+        private final int end;
+        private int position;
+
+        private CharSequenceReader(CharSequence text, int start, int end) {
+            this.text = text;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (position >= end) {
+                return NOT_FOUND;
+            }
+
+            int count = Math.min(length, end - position);
+
+            if (text instanceof String string) {
+                string.getChars(position, position + count, buffer, offset);
+            } else if (text instanceof StringBuilder builder) {
+                builder.getChars(position, position + count, buffer, offset);
+            } else {
+                for (int i = 0; i < count; i++) {
+                    buffer[offset + i] = text.charAt(position + i);
+                }
+            }
+
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
     }
 }
@@ -1,42 +1,450 @@
 package com.healthcare.aiservice.common.provider;
 
 
+import com.fasterxml.jackson.core.JsonLocation;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.aiservice.common.provider.logging.AiRequestMetrics;
+import com.healthcare.aiservice.common.provider.logging.AiTokenUsage;
+import com.healthcare.aiservice.common.provider.logging.AiUsageContext;
+import com.healthcare.aiservice.common.provider.stream.AiStreamEvent;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.FeatureName;
 import com.healthcare.aiservice.exception.AiResponseParsingException;
+import com.healthcare.aiservice.exception.rest_exception.JsonExtractorException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.ChatOptions;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class SpringAiClient implements AiClient {
 
-    private final ChatClient chatClient;
+    // Ollama reports the time spent generating completion tokens under this metadata key.
+    static final String EVAL_DURATION_METADATA = "eval-duration";
+
+    private static final String REPAIR_SYSTEM_PROMPT = """
+            You correct JSON documents. Reply with only the corrected JSON object and no other text.
+            The object must match this JSON schema:
+            %s""";
+
+    private static final String REPAIR_USER_PROMPT = """
+            This JSON could not be read: %s
+
+            %s""";
+
+    private final AiChatClients chatClients;
     private final ObjectMapper objectMapper;
+    private final AiAdmissionController admissionController;
+    private final AiModelRouter modelRouter;
+    private final AiRequestMetrics requestMetrics;
+    private final AiStructuredOutput structuredOutput;
 
+    // Unparseable output counts as a failure of the model, so that routing also reacts to poor answers.
     @Override
-    public <T> T call(String systemPrompt, String userPrompt, Class<T> responseType) {
+    public <T> T call(
+            FeatureName feature,
+            AiProviderModel model,
+            String systemPrompt,
+            String userPrompt,
+            Class<T> responseType
+    ) {
+
+        ChatResponse chatResponse;
+        long callNanos;
+
+        // The permit covers the model call only; each repair call is admitted on its own.
+        try (AiAdmissionController.Permit ignored = admissionController.acquire(feature)) {
+            long startNanos = System.nanoTime();
+
+            try {
+                chatResponse = request(model, systemPrompt, userPrompt, responseType)
+                        .call()
+                        .chatResponse();
+            } catch (RuntimeException ex) {
+                modelRouter.recordFailure(feature, model);
+                throw ex;
+            }
+
+            callNanos = System.nanoTime() - startNanos;
+        }
+
+        try {
+            requestMetrics.recordStage(feature, modelRouter.modelName(model), AiRequestMetrics.Stage.MODEL_CALL, callNanos);
+            recordTokenUsage(feature, model, metadata(chatResponse), callNanos, AiUsageContext::recordTokenUsage);
+
+            String promptVersion = AiUsageContext.promptVersion();
+            String rawResponse = text(chatResponse);
+            T response;
+
+            try {
+                response = read(feature, model, promptVersion, rawResponse, responseType);
+            } catch (AiResponseParsingException | JsonExtractorException ex) {
+                response = repair(
+                        feature,
+                        model,
+                        promptVersion,
+                        responseType,
+                        ex,
+                        rawResponse,
+                        AiUsageContext::recordTokenUsage
+                );
+            }
+
+            modelRouter.recordSuccess(feature, model, callNanos);
+
+            return response;
+
+        } catch (RuntimeException ex) {
+            modelRouter.recordFailure(feature, model);
+            throw ex;
+        }
+    }
+
+    @Override
+    public <T> Flux<AiStreamEvent<T>> stream(
+            FeatureName feature,
+            AiProviderModel model,
+            String systemPrompt,
+            String userPrompt,
+            Class<T> responseType
+    ) {
+
+        return Flux.deferContextual(context -> {
+            Consumer<AiTokenUsage> usageRecorder = AiUsageContext.tokenUsageRecorder(context);
+            String promptVersion = AiUsageContext.promptVersion(context);
+            StringBuilder rawResponse = new StringBuilder();
+            AtomicLong startNanos = new AtomicLong();
+            AtomicLong firstTokenNanos = new AtomicLong();
+            AtomicReference<ChatResponseMetadata> lastMetadata = new AtomicReference<>();
+
+            // The slot is held until the provider stream terminates or the client cancels it; repair calls
+            // run after that and are admitted on their own.
+            return Flux.using(
+                            () -> admissionController.acquire(feature),
+                            permit -> {
+                                startNanos.set(System.nanoTime());
 
-        String rawResponse = chatClient.prompt()
+                                return request(model, systemPrompt, userPrompt, responseType)
+                                        .stream()
+                                        .chatResponse();
+                            },
+                            AiAdmissionController.Permit::close
+                    )
+                    .doOnNext(chunk -> {
+                        // Usage arrives with the final chunk; earlier chunks carry empty usage.
+                        ChatResponseMetadata metadata = metadata(chunk);
+
+                        if (hasTokens(metadata)) {
+                            lastMetadata.set(metadata);
+                        }
+                    })
+                    .map(SpringAiClient::text)
+                    .filter(StringUtils::hasLength)
+                    .doOnNext(token -> {
+                        if (firstTokenNanos.compareAndSet(0L, System.nanoTime())) {
+                            requestMetrics.recordTimeToFirstToken(
+                                    feature,
+                                    modelRouter.modelName(model),
+                                    firstTokenNanos.get() - startNanos.get()
+                            );
+                        }
+
+                        rawResponse.append(token);
+                    })
+                    .doOnComplete(() -> {
+                        long endNanos = System.nanoTime();
+
+                        requestMetrics.recordStage(
+                                feature,
+                                modelRouter.modelName(model),
+                                AiRequestMetrics.Stage.MODEL_CALL,
+                                endNanos - startNanos.get()
+                        );
+                        recordTokenUsage(
+                                feature,
+                                model,
+                                lastMetadata.get(),
+                                endNanos - (firstTokenNanos.get() == 0L ? startNanos.get() : firstTokenNanos.get()),
+                                usageRecorder
+                        );
+                    })
+                    .map(AiStreamEvent::<T>token)
+                    .concatWith(Mono.fromCallable(() -> read(feature, model, promptVersion, rawResponse, responseType))
+                            // Repair makes blocking calls, so it must not run on the provider's stream thread.
+                            .onErrorResume(SpringAiClient::isUnreadable, ex -> Mono.fromCallable(() -> repair(
+                                            feature,
+                                            model,
+                                            promptVersion,
+                                            responseType,
+                                            (RuntimeException) ex,
+                                            rawResponse,
+                                            usageRecorder
+                                    ))
+                                    .subscribeOn(Schedulers.boundedElastic()))
+                            .map(AiStreamEvent::<T>result))
+                    .doOnComplete(() -> modelRouter.recordSuccess(feature, model, System.nanoTime() - startNanos.get()))
+                    .doOnError(ex -> {
+                        // Not started means admission control rejected the call before the model was reached.
+                        if (startNanos.get() != 0L) {
+                            modelRouter.recordFailure(feature, model);
+                        }
+                    });
+        });
+    }
+
+    private ChatClient.ChatClientRequestSpec request(
+            AiProviderModel model,
+            String systemPrompt,
+            String userPrompt,
+            Class<?> responseType
+    ) {
+        ChatClient.ChatClientRequestSpec request = chatClients.get(model).prompt()
                 .system(systemPrompt)
-                .user(userPrompt)
-                .call()
-                .content();
+                .user(userPrompt);
+
+        ChatOptions options = structuredOutput.chatOptions(modelRouter.modelName(model), responseType);
+
+        return options == null
+                ? request
+                : request.options(options);
+    }
+
+    private <T> T read(
+            FeatureName feature,
+            AiProviderModel model,
+            String promptVersion,
+            CharSequence rawResponse,
+            Class<T> responseType
+    ) {
+        T response = parse(feature, model, rawResponse, responseType);
+
+        requestMetrics.recordResponseParse(
+                feature,
+                modelRouter.modelName(model),
+                promptVersion,
+                AiRequestMetrics.ParseOutcome.PARSED
+        );
+
+        return response;
+    }
+
+    /**
+     * Asks the model to correct a response that could not be read, within the attempt, token and time budget
+     * of one call. Only the unreadable fragment and the parse error are sent, not the note or the feature
+     * prompts. Every repair call takes its own admission permit. A fragment longer than the configured limit
+     * is not repaired, since the model would only see part of it and could drop or invent data. When the
+     * fragment is too long, the budget runs out, admission is refused or the provider fails, the original
+     * parse failure is thrown.
+     */
+    private <T> T repair(
+            FeatureName feature,
+            AiProviderModel model,
+            String promptVersion,
+            Class<T> responseType,
+            RuntimeException failure,
+            CharSequence rawResponse,
+            Consumer<AiTokenUsage> usageRecorder
+    ) {
+        String modelName = modelRouter.modelName(model);
+        AiStructuredOutput.RepairBudget budget = structuredOutput.repairBudget();
+        long startNanos = System.nanoTime();
+
+        RuntimeException lastFailure = failure;
+        String fragment = fragment(failure, rawResponse);
+
+        if (fragment == null) {
+            log.warn("AI response too long to repair. feature={}", feature.getValue());
+        }
+
+        while (budget != null && fragment != null && budget.tryStartAttempt()) {
+            long attemptStartNanos = System.nanoTime();
+            ChatResponse chatResponse;
+
+            try (AiAdmissionController.Permit ignored = admissionController.acquire(feature)) {
+                chatResponse = request(
+                        model,
+                        REPAIR_SYSTEM_PROMPT.formatted(structuredOutput.schemaJson(responseType)),
+                        REPAIR_USER_PROMPT.formatted(describe(lastFailure), fragment),
+                        responseType
+                )
+                        .call()
+                        .chatResponse();
+
+            } catch (RuntimeException ex) {
+                log.warn(
+                        "AI response repair call failed. feature={}, error={}",
+                        feature.getValue(),
+                        ex.getClass().getSimpleName()
+                );
+                break;
+            }
+
+            ChatResponseMetadata metadata = metadata(chatResponse);
+            recordTokenUsage(feature, model, metadata, System.nanoTime() - attemptStartNanos, usageRecorder);
+            budget.spend(totalTokens(metadata));
+
+            String repairedResponse = text(chatResponse);
+
+            try {
+                T response = parse(feature, model, repairedResponse, responseType);
+
+                recordRepairTime(feature, modelName, startNanos);
+                requestMetrics.recordResponseParse(
+                        feature,
+                        modelName,
+                        promptVersion,
+                        AiRequestMetrics.ParseOutcome.REPAIRED
+                );
+                log.info("AI response repaired. feature={}, attempts={}", feature.getValue(), budget.attempts());
+
+                return response;
+
+            } catch (AiResponseParsingException | JsonExtractorException ex) {
+                lastFailure = ex;
+                fragment = fragment(ex, repairedResponse);
+            }
+        }
+
+        if (budget != null && budget.attempts() > 0) {
+            recordRepairTime(feature, modelName, startNanos);
+        }
+
+        requestMetrics.recordResponseParse(feature, modelName, promptVersion, AiRequestMetrics.ParseOutcome.FAILED);
+
+        throw failure;
+    }
+
+    private void recordRepairTime(FeatureName feature, String modelName, long startNanos) {
+        requestMetrics.recordStage(feature, modelName, AiRequestMetrics.Stage.REPAIR, System.nanoTime() - startNanos);
+    }
+
+    // Returns null when the fragment is too long to be shown to the model in full.
+    private String fragment(RuntimeException failure, CharSequence rawResponse) {
+        String fragment = failure instanceof AiResponseParsingException parsingException
+                && parsingException.getExtractedJson() != null
+                ? parsingException.getExtractedJson()
+                : String.valueOf(rawResponse);
+
+        int maxLength = structuredOutput.maxFragmentLength();
+
+        return fragment.length() > maxLength
+                ? null
+                : fragment;
+    }
+
+    // Jackson's location is relative to the start of the fragment, which is what the model is shown.
+    private static String describe(RuntimeException failure) {
+        if (failure.getCause() instanceof JsonProcessingException cause) {
+            JsonLocation location = cause.getLocation();
+
+            return location == null
+                    ? cause.getOriginalMessage()
+                    : "%s (line %d, column %d)".formatted(
+                            cause.getOriginalMessage(),
+                            location.getLineNr(),
+                            location.getColumnNr()
+                    );
+        }
+
+        return failure.getMessage();
+    }
+
+    private static boolean isUnreadable(Throwable throwable) {
+        return throwable instanceof AiResponseParsingException || throwable instanceof JsonExtractorException;
+    }
+
+    private static long totalTokens(ChatResponseMetadata metadata) {
+        if (!hasTokens(metadata)) {
+            return 0L;
+        }
+
+        Usage usage = metadata.getUsage();
+
+        return valueOrZero(usage.getPromptTokens()) + valueOrZero(usage.getCompletionTokens());
+    }
+
+    // The provider's own generation time is preferred; otherwise the measured time stands in for it.
+    private void recordTokenUsage(
+            FeatureName feature,
+            AiProviderModel model,
+            ChatResponseMetadata metadata,
+            long measuredNanos,
+            Consumer<AiTokenUsage> usageRecorder
+    ) {
+        if (!hasTokens(metadata)) {
+            return;
+        }
+
+        Usage usage = metadata.getUsage();
+        long generationNanos = metadata.get(EVAL_DURATION_METADATA) instanceof Duration evalDuration
+                ? evalDuration.toNanos()
+                : measuredNanos;
+
+        AiTokenUsage tokenUsage = new AiTokenUsage(
+                valueOrZero(usage.getPromptTokens()),
+                valueOrZero(usage.getCompletionTokens()),
+                generationNanos
+        );
+
+        requestMetrics.recordTokenUsage(feature, modelRouter.modelName(model), tokenUsage);
+        usageRecorder.accept(tokenUsage);
+    }
+
+    private static ChatResponseMetadata metadata(ChatResponse response) {
+        return response == null ? null : response.getMetadata();
+    }
+
+    private static boolean hasTokens(ChatResponseMetadata metadata) {
+        if (metadata == null || metadata.getUsage() == null) {
+            return false;
+        }
+
+        Usage usage = metadata.getUsage();
+
+        return valueOrZero(usage.getPromptTokens()) > 0L || valueOrZero(usage.getCompletionTokens()) > 0L;
+    }
+
+    private static long valueOrZero(Integer value) {
+        return value == null ? 0L : value;
+    }
+
+    private static String text(ChatResponse response) {
+        if (response == null || response.getResult() == null || response.getResult().getOutput() == null) {
+            return null;
+        }
+
+        return response.getResult().getOutput().getText();
+    }
 
-        String json = JsonExtractor.extractObject(rawResponse);
+    // JSON extraction is part of the single-pass parse, so both are timed as one parsing stage.
+    private <T> T parse(FeatureName feature, AiProviderModel model, CharSequence rawResponse, Class<T> responseType) {
+        long startNanos = System.nanoTime();
 
         try {
-            return objectMapper.readValue(json, responseType);
-        } catch (JsonProcessingException ex) {
-            throw new AiResponseParsingException(
-                    "Failed to parse AI response to " + responseType.getSimpleName(),
-                    rawResponse,
-                    json,
-                    ex
+            return JsonExtractor.parseObject(rawResponse, objectMapper, responseType);
+        } finally {
+            requestMetrics.recordStage(
+                    feature,
+                    modelRouter.modelName(model),
+                    AiRequestMetrics.Stage.PARSING,
+                    System.nanoTime() - startNanos
             );
         }
     }
-}
\ No newline at end of file
+}
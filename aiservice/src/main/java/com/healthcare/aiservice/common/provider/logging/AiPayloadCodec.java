@@ -0,0 +1,73 @@
+package com.healthcare.aiservice.common.provider.logging;
+
+import com.github.luben.zstd.Zstd;
+import com.healthcare.aiservice.config.constant.AiPayloadCompression;
+import org.bson.types.Binary;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes request log payloads as compressed BSON binaries. Decoding is left to the readers that need the
+ * payload, so statistics and listings never pay for decompression.
+ */
+public final class AiPayloadCodec {
+
+    private static final int ZSTD_LEVEL = 3;
+
+    private AiPayloadCodec() {
+    }
+
+    public static Binary encode(String payload, AiPayloadCompression compression) {
+        if (payload == null) {
+            return null;
+        }
+
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+
+        return new Binary(switch (compression) {
+            case NONE -> bytes;
+            case GZIP -> gzip(bytes);
+            case ZSTD -> Zstd.compress(bytes, ZSTD_LEVEL);
+        });
+    }
+
+    public static String decode(Binary payload, AiPayloadCompression compression) {
+        if (payload == null) {
+            return null;
+        }
+
+        byte[] bytes = payload.getData();
+
+        return new String(switch (compression) {
+            case NONE -> bytes;
+            case GZIP -> gunzip(bytes);
+            case ZSTD -> Zstd.decompress(bytes, Math.toIntExact(Zstd.getFrameContentSize(bytes)));
+        }, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 4 + 64);
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(bytes);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return output.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] bytes) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return gzip.readAllBytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
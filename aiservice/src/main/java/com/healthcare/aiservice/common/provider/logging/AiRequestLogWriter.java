@@ -0,0 +1,15 @@
+package com.healthcare.aiservice.common.provider.logging;
+
+import com.healthcare.aiservice.common.provider.logging.model.AiRequestLog;
+
+import java.util.function.Supplier;
+
+public interface AiRequestLogWriter {
+
+    /**
+     * @param metadata    the entry without payloads; it is counted in the statistics for every call, even when
+     *                    the full entry is not written
+     * @param logSupplier builds the entry that is written to the request log
+     */
+    void submit(AiRequestLog metadata, Supplier<AiRequestLog> logSupplier);
+}
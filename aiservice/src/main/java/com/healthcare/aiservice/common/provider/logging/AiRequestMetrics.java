@@ -0,0 +1,180 @@
+package com.healthcare.aiservice.common.provider.logging;
+
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.propertie.AiMetricsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publishes AI request latency, the time spent in each request stage, the number of requests in flight,
+ * token counts, generation throughput, time to first token and how often responses could be read per prompt
+ * version.
+ */
+@Component
+public class AiRequestMetrics {
+
+    static final String REQUEST_METRIC = "ai.request.duration";
+    static final String STAGE_METRIC = "ai.request.stage.duration";
+    static final String IN_FLIGHT_METRIC = "ai.request.in.flight";
+    static final String TOKENS_METRIC = "ai.request.tokens";
+    static final String THROUGHPUT_METRIC = "ai.generation.throughput";
+    static final String TIME_TO_FIRST_TOKEN_METRIC = "ai.request.time.to.first.token";
+    static final String RESPONSE_PARSE_METRIC = "ai.response.parse";
+    static final String FEATURE_TAG = "feature";
+    static final String MODEL_TAG = "model";
+    static final String PROMPT_SOURCE_TAG = "prompt.source";
+    static final String PROMPT_VERSION_TAG = "prompt.version";
+    static final String OUTCOME_TAG = "outcome";
+    static final String STAGE_TAG = "stage";
+    static final String TOKEN_TYPE_TAG = "type";
+
+    static final String PROMPT_TOKENS = "prompt";
+    static final String COMPLETION_TOKENS = "completion";
+
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+    public static final String CANCELLED = "cancelled";
+
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final double[] percentiles;
+    private final Duration[] slos;
+    private final Map<FeatureName, AtomicInteger> inFlight = new EnumMap<>(FeatureName.class);
+
+    public AiRequestMetrics(AiMetricsProperties properties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.percentiles = properties.percentiles().stream()
+                .mapToDouble(Double::doubleValue)
+                .toArray();
+        this.slos = properties.slos().toArray(Duration[]::new);
+
+        for (FeatureName feature : FeatureName.values()) {
+            AtomicInteger counter = new AtomicInteger();
+            inFlight.put(feature, counter);
+
+            Gauge.builder(IN_FLIGHT_METRIC, counter, AtomicInteger::get)
+                    .description("AI requests currently in flight")
+                    .tag(FEATURE_TAG, feature.getValue())
+                    .register(meterRegistry);
+        }
+    }
+
+    public void requestStarted(FeatureName feature) {
+        inFlight.get(feature).incrementAndGet();
+    }
+
+    public void requestFinished(FeatureName feature) {
+        inFlight.get(feature).decrementAndGet();
+    }
+
+    public void recordRequest(FeatureName feature, String model, String promptSource, String outcome, long nanos) {
+        timer(REQUEST_METRIC, "End-to-end AI request latency")
+                .tag(FEATURE_TAG, feature.getValue())
+                .tag(MODEL_TAG, valueOrUnknown(model))
+                .tag(PROMPT_SOURCE_TAG, valueOrUnknown(promptSource))
+                .tag(OUTCOME_TAG, outcome)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordStage(FeatureName feature, String model, Stage stage, long nanos) {
+        timer(STAGE_METRIC, "Time spent in one stage of an AI request")
+                .tag(FEATURE_TAG, feature.getValue())
+                .tag(MODEL_TAG, valueOrUnknown(model))
+                .tag(STAGE_TAG, stage.getValue())
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordTokenUsage(FeatureName feature, String model, AiTokenUsage usage) {
+        tokens(feature, model, PROMPT_TOKENS).increment(usage.promptTokens());
+        tokens(feature, model, COMPLETION_TOKENS).increment(usage.completionTokens());
+
+        if (usage.completionTokens() > 0L && usage.generationNanos() > 0L) {
+            DistributionSummary.builder(THROUGHPUT_METRIC)
+                    .description("Completion tokens generated per second of generation time")
+                    .baseUnit("tokens/s")
+                    .publishPercentiles(percentiles)
+                    .tag(FEATURE_TAG, feature.getValue())
+                    .tag(MODEL_TAG, valueOrUnknown(model))
+                    .register(meterRegistry)
+                    .record(usage.tokensPerSecond());
+        }
+    }
+
+    public void recordTimeToFirstToken(FeatureName feature, String model, long nanos) {
+        timer(TIME_TO_FIRST_TOKEN_METRIC, "Time from sending a streamed AI request to its first token")
+                .tag(FEATURE_TAG, feature.getValue())
+                .tag(MODEL_TAG, valueOrUnknown(model))
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordResponseParse(FeatureName feature, String model, String promptVersion, ParseOutcome outcome) {
+        Counter.builder(RESPONSE_PARSE_METRIC)
+                .description("Model responses by whether they could be read as the response type")
+                .tag(FEATURE_TAG, feature.getValue())
+                .tag(MODEL_TAG, valueOrUnknown(model))
+                .tag(PROMPT_VERSION_TAG, valueOrUnknown(promptVersion))
+                .tag(OUTCOME_TAG, outcome.getValue())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Counter tokens(FeatureName feature, String model, String type) {
+        return Counter.builder(TOKENS_METRIC)
+                .description("Tokens processed by the model")
+                .baseUnit("tokens")
+                .tag(FEATURE_TAG, feature.getValue())
+                .tag(MODEL_TAG, valueOrUnknown(model))
+                .tag(TOKEN_TYPE_TAG, type)
+                .register(meterRegistry);
+    }
+
+    private Timer.Builder timer(String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentiles(percentiles)
+                .serviceLevelObjectives(slos);
+    }
+
+    private static String valueOrUnknown(String value) {
+        return value == null ? UNKNOWN : value;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Stage {
+
+        PROMPT_RESOLUTION("prompt-resolution"),
+        MODEL_CALL("model-call"),
+        PARSING("parsing"),
+        REPAIR("repair");
+
+        private final String value;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum ParseOutcome {
+
+        PARSED("parsed"),
+        REPAIRED("repaired"),
+        FAILED("failed");
+
+        private final String value;
+    }
+}
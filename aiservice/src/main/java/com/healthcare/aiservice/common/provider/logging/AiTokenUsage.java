@@ -0,0 +1,32 @@
+package com.healthcare.aiservice.common.provider.logging;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prompt and completion tokens reported by the model for one or more calls, together with the time
+ * spent generating the completion tokens.
+ */
+public record AiTokenUsage(long promptTokens, long completionTokens, long generationNanos) {
+
+    public AiTokenUsage plus(AiTokenUsage other) {
+        if (other == null) {
+            return this;
+        }
+
+        return new AiTokenUsage(
+                promptTokens + other.promptTokens,
+                completionTokens + other.completionTokens,
+                generationNanos + other.generationNanos
+        );
+    }
+
+    public long generationMs() {
+        return TimeUnit.NANOSECONDS.toMillis(generationNanos);
+    }
+
+    public double tokensPerSecond() {
+        return generationNanos <= 0L
+                ? 0.0
+                : completionTokens * 1e9 / generationNanos;
+    }
+}
@@ -0,0 +1,148 @@
+package com.healthcare.aiservice.common.provider.logging;
+
+import com.healthcare.aiservice.common.prompt.model.FeaturePrompts;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import reactor.util.context.ContextView;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+/**
+ * Carries per-call details that are only known inside a {@code @LogAiUsage} method,
+ * such as the resolved prompt version, prompt source, routed model and token usage, back to {@link AiUsageLoggingAspect}.
+ */
+public final class AiUsageContext {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private AiUsageContext() {
+    }
+
+    public static void recordPrompts(FeaturePrompts prompts) {
+        Scope scope = CURRENT.get();
+
+        if (scope != null) {
+            scope.promptVersion = prompts.version();
+            scope.promptSource = prompts.source();
+            scope.model = prompts.targetModel();
+        }
+    }
+
+    public static void recordPromptVersion(String promptVersion) {
+        Scope scope = CURRENT.get();
+
+        if (scope != null) {
+            scope.promptVersion = promptVersion;
+        }
+    }
+
+    public static void recordModel(AiProviderModel model) {
+        Scope scope = CURRENT.get();
+
+        if (scope != null) {
+            scope.model = model;
+        }
+    }
+
+    public static void recordTokenUsage(AiTokenUsage usage) {
+        Scope scope = CURRENT.get();
+
+        if (scope != null) {
+            scope.addTokenUsage(usage);
+        }
+    }
+
+    public static String promptVersion() {
+        Scope scope = CURRENT.get();
+
+        return scope == null ? null : scope.promptVersion;
+    }
+
+    public static String promptVersion(ContextView context) {
+        Scope scope = context.getOrDefault(Scope.class, CURRENT.get());
+
+        return scope == null ? null : scope.promptVersion;
+    }
+
+    // Work handed to another thread keeps reporting into the scope that was current when it was bound.
+    public static <T> Callable<T> bind(Callable<T> task) {
+        Scope scope = CURRENT.get();
+
+        if (scope == null) {
+            return task;
+        }
+
+        return () -> {
+            Scope previous = CURRENT.get();
+            CURRENT.set(scope);
+
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    // Streams complete on provider threads, so they find their scope in the Reactor context instead.
+    public static Consumer<AiTokenUsage> tokenUsageRecorder(ContextView context) {
+        Scope scope = context.getOrDefault(Scope.class, CURRENT.get());
+
+        return scope == null
+                ? usage -> {
+                }
+                : scope::addTokenUsage;
+    }
+
+    static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private String promptVersion;
+        private String promptSource;
+        private AiProviderModel model;
+        private AiTokenUsage tokenUsage;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        String promptVersion() {
+            return promptVersion;
+        }
+
+        String promptSource() {
+            return promptSource;
+        }
+
+        AiProviderModel model() {
+            return model;
+        }
+
+        synchronized AiTokenUsage tokenUsage() {
+            return tokenUsage;
+        }
+
+        private synchronized void addTokenUsage(AiTokenUsage usage) {
+            tokenUsage = tokenUsage == null ? usage : tokenUsage.plus(usage);
+        }
+
+        @Override
+        public void close() {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+}
@@ -9,17 +9,23 @@ public interface AiUsageLogger {
             FeatureName feature,
             String provider,
             String model,
+            String promptVersion,
             Object request,
             Object response,
-            long durationMs
+            long durationMs,
+            Long timeToFirstTokenMs,
+            AiTokenUsage tokenUsage
     );
 
     void logFailure(
             FeatureName feature,
             String provider,
             String model,
+            String promptVersion,
             Object request,
             Throwable exception,
-            long durationMs
+            long durationMs,
+            Long timeToFirstTokenMs,
+            AiTokenUsage tokenUsage
     );
 }
@@ -1,6 +1,9 @@
 package com.healthcare.aiservice.common.provider.logging;
 
+import com.healthcare.aiservice.common.provider.AiModelRouter;
 import com.healthcare.aiservice.common.provider.logging.annotation.LogAiUsage;
+import com.healthcare.aiservice.common.provider.stream.AiStreamEvent;
+import com.healthcare.aiservice.config.constant.FeatureName;
 import com.healthcare.aiservice.config.propertie.AiProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,6 +11,13 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.util.context.Context;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Aspect
@@ -15,8 +25,12 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class AiUsageLoggingAspect {
 
+    private static final long NO_FIRST_TOKEN = -1L;
+
     private final AiProperties aiProperties;
     private final AiUsageLogger aiUsageLogger;
+    private final AiModelRouter modelRouter;
+    private final AiRequestMetrics requestMetrics;
 
     @Around("@annotation(logAiUsage)")
     public Object logAiUsage(
@@ -24,63 +38,205 @@ public class AiUsageLoggingAspect {
             LogAiUsage logAiUsage
     ) throws Throwable {
 
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         var feature = logAiUsage.feature();
         String provider = aiProperties.provider();
-        String model = aiProperties.model();
 
         Object request = extractRequest(joinPoint);
 
+        AiUsageContext.Scope context = AiUsageContext.open();
+        requestMetrics.requestStarted(feature);
+
         try {
             Object response = joinPoint.proceed();
-            long durationMs = System.currentTimeMillis() - startTime;
-
-            aiUsageLogger.logSuccess(
-                    feature,
-                    provider,
-                    model,
-                    request,
-                    response,
-                    durationMs
-            );
-
-            log.info(
-                    "AI request completed successfully. feature={}, provider={}, model={}, durationMs={}",
-                    feature.getValue(),
-                    provider,
-                    model,
-                    durationMs
-            );
+            RequestTags tags = tags(context);
+
+            if (response instanceof Flux<?> stream) {
+                return logStream(stream, feature, provider, tags, context, request, startTime);
+            }
+
+            logSuccess(feature, provider, tags, context, request, response, startTime, null);
 
             return response;
 
         } catch (Exception ex) {
-            long durationMs = System.currentTimeMillis() - startTime;
-
-            aiUsageLogger.logFailure(
-                    feature,
-                    provider,
-                    model,
-                    request,
-                    ex,
-                    durationMs
-            );
-
-            log.error(
-                    "AI request failed. feature={}, provider={}, model={}, durationMs={}, error={}",
-                    feature.getValue(),
-                    provider,
-                    model,
-                    durationMs,
-                    ex.getClass().getSimpleName(),
-                    ex
-            );
+            logFailure(feature, provider, tags(context), context, request, ex, AiRequestMetrics.ERROR, startTime, null);
 
             throw ex;
+        } finally {
+            requestMetrics.requestFinished(feature);
+            context.close();
         }
     }
 
+    private Flux<?> logStream(
+            Flux<?> stream,
+            FeatureName feature,
+            String provider,
+            RequestTags tags,
+            AiUsageContext.Scope context,
+            Object request,
+            long startTime
+    ) {
+        // A stream counts as in flight again from subscription until it terminates or is cancelled.
+        return Flux.defer(() -> {
+            AtomicLong firstTokenTime = new AtomicLong(NO_FIRST_TOKEN);
+            AtomicReference<Object> lastEvent = new AtomicReference<>();
+            requestMetrics.requestStarted(feature);
+
+            return stream
+                    .doOnNext(event -> {
+                        firstTokenTime.compareAndSet(NO_FIRST_TOKEN, System.nanoTime());
+                        lastEvent.set(event);
+                    })
+                    .doOnComplete(() -> logSuccess(
+                            feature,
+                            provider,
+                            tags,
+                            context,
+                            request,
+                            extractStreamResult(lastEvent.get()),
+                            startTime,
+                            resolveTimeToFirstToken(firstTokenTime, startTime)
+                    ))
+                    .doOnError(ex -> logFailure(
+                            feature,
+                            provider,
+                            tags,
+                            context,
+                            request,
+                            ex,
+                            AiRequestMetrics.ERROR,
+                            startTime,
+                            resolveTimeToFirstToken(firstTokenTime, startTime)
+                    ))
+                    .doOnCancel(() -> logFailure(
+                            feature,
+                            provider,
+                            tags,
+                            context,
+                            request,
+                            new CancellationException("AI response stream was cancelled by the client"),
+                            AiRequestMetrics.CANCELLED,
+                            startTime,
+                            resolveTimeToFirstToken(firstTokenTime, startTime)
+                    ))
+                    .doFinally(signal -> requestMetrics.requestFinished(feature))
+                    .contextWrite(Context.of(AiUsageContext.Scope.class, context));
+        });
+    }
+
+    private void logSuccess(
+            FeatureName feature,
+            String provider,
+            RequestTags tags,
+            AiUsageContext.Scope context,
+            Object request,
+            Object response,
+            long startTime,
+            Long timeToFirstTokenMs
+    ) {
+        long durationNanos = System.nanoTime() - startTime;
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        String model = tags.model();
+        String promptVersion = tags.promptVersion();
+        AiTokenUsage tokenUsage = context.tokenUsage();
+
+        requestMetrics.recordRequest(feature, model, tags.promptSource(), AiRequestMetrics.SUCCESS, durationNanos);
+
+        aiUsageLogger.logSuccess(
+                feature,
+                provider,
+                model,
+                promptVersion,
+                request,
+                response,
+                durationMs,
+                timeToFirstTokenMs,
+                tokenUsage
+        );
+
+        log.info(
+                "AI request completed successfully. feature={}, provider={}, model={}, promptVersion={}, durationMs={}, timeToFirstTokenMs={}, tokenUsage={}",
+                feature.getValue(),
+                provider,
+                model,
+                promptVersion,
+                durationMs,
+                timeToFirstTokenMs,
+                tokenUsage
+        );
+    }
+
+    private void logFailure(
+            FeatureName feature,
+            String provider,
+            RequestTags tags,
+            AiUsageContext.Scope context,
+            Object request,
+            Throwable ex,
+            String outcome,
+            long startTime,
+            Long timeToFirstTokenMs
+    ) {
+        long durationNanos = System.nanoTime() - startTime;
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        String model = tags.model();
+        String promptVersion = tags.promptVersion();
+        AiTokenUsage tokenUsage = context.tokenUsage();
+
+        requestMetrics.recordRequest(feature, model, tags.promptSource(), outcome, durationNanos);
+
+        aiUsageLogger.logFailure(
+                feature,
+                provider,
+                model,
+                promptVersion,
+                request,
+                ex,
+                durationMs,
+                timeToFirstTokenMs,
+                tokenUsage
+        );
+
+        log.error(
+                "AI request failed. feature={}, provider={}, model={}, promptVersion={}, durationMs={}, timeToFirstTokenMs={}, error={}",
+                feature.getValue(),
+                provider,
+                model,
+                promptVersion,
+                durationMs,
+                timeToFirstTokenMs,
+                ex.getClass().getSimpleName(),
+                ex
+        );
+    }
+
+    private RequestTags tags(AiUsageContext.Scope context) {
+        return new RequestTags(resolveModel(context), context.promptVersion(), context.promptSource());
+    }
+
+    private String resolveModel(AiUsageContext.Scope context) {
+        return context.model() == null
+                ? aiProperties.model()
+                : modelRouter.modelName(context.model());
+    }
+
+    private Long resolveTimeToFirstToken(AtomicLong firstTokenTime, long startTime) {
+        long firstToken = firstTokenTime.get();
+
+        return firstToken == NO_FIRST_TOKEN
+                ? null
+                : TimeUnit.NANOSECONDS.toMillis(firstToken - startTime);
+    }
+
+    private Object extractStreamResult(Object lastEvent) {
+        return lastEvent instanceof AiStreamEvent<?> event && event.isResult()
+                ? event.result()
+                : lastEvent;
+    }
+
     private Object extractRequest(ProceedingJoinPoint joinPoint) {
         Object[] args = joinPoint.getArgs();
 
@@ -90,4 +246,7 @@ public class AiUsageLoggingAspect {
 
         return args[0];
     }
-}
\ No newline at end of file
+
+    private record RequestTags(String model, String promptVersion, String promptSource) {
+    }
+}
@@ -0,0 +1,298 @@
+package com.healthcare.aiservice.common.provider.logging;
+
+import com.healthcare.aiservice.common.provider.logging.model.AiRequestLog;
+import com.healthcare.aiservice.config.propertie.AiRequestLogProperties;
+import com.healthcare.aiservice.repository.AiRequestLogRepository;
+import com.healthcare.aiservice.repository.AiStatisticsRollupRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class AsyncAiRequestLogWriter implements AiRequestLogWriter, DisposableBean {
+
+    static final String QUEUE_DEPTH_METRIC = "ai.request.log.queue.depth";
+    static final String DROPPED_METRIC = "ai.request.log.dropped";
+    static final String ROLLUP_QUEUE_DEPTH_METRIC = "ai.statistics.rollup.queue.depth";
+    static final String ROLLUP_DROPPED_METRIC = "ai.statistics.rollup.dropped";
+    static final String REASON_TAG = "reason";
+
+    static final String OVERFLOW = "overflow";
+    static final String SAMPLED = "sampled";
+    static final String SHUTDOWN = "shutdown";
+    static final String WRITE_ERROR = "write-error";
+    static final String BUILD_ERROR = "build-error";
+
+    private static final String THREAD_NAME = "ai-request-log-writer";
+    private static final double SAMPLING_THRESHOLD = 0.5;
+
+    private final AiRequestLogRepository repository;
+    private final AiStatisticsRollupRepository rollupRepository;
+    private final AiRequestLogProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // Entries are built on the writer thread, so request and response JSON is not serialized on the caller.
+    private final Queue<Supplier<AiRequestLog>> queue = new ConcurrentLinkedQueue<>();
+    // Statistics are fed from metadata of every call, so dropped or failed log writes do not skew them.
+    private final BlockingQueue<AiRequestLog> rollupQueue;
+    // A batch the rollup repository rejected; it is retried before anything newer. Writer thread only.
+    private List<AiRequestLog> failedRollup = List.of();
+    private final Semaphore freeSlots;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final AtomicBoolean shuttingDown = new AtomicBoolean();
+    private final ScheduledExecutorService executor;
+
+    public AsyncAiRequestLogWriter(
+            AiRequestLogRepository repository,
+            AiStatisticsRollupRepository rollupRepository,
+            AiRequestLogProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.repository = repository;
+        this.rollupRepository = rollupRepository;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.freeSlots = new Semaphore(properties.capacity());
+        this.rollupQueue = new LinkedBlockingQueue<>(properties.rollupCapacity());
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder(QUEUE_DEPTH_METRIC, this, AsyncAiRequestLogWriter::queueDepth)
+                .description("AI request log entries waiting to be written")
+                .register(meterRegistry);
+
+        Gauge.builder(ROLLUP_QUEUE_DEPTH_METRIC, rollupQueue, BlockingQueue::size)
+                .description("AI statistics rollup entries waiting to be recorded")
+                .register(meterRegistry);
+
+        long flushIntervalMs = properties.flushInterval().toMillis();
+
+        executor.scheduleWithFixedDelay(
+                this::flushSafely,
+                flushIntervalMs,
+                flushIntervalMs,
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    @Override
+    public void submit(AiRequestLog metadata, Supplier<AiRequestLog> logSupplier) {
+
+        if (shuttingDown.get()) {
+            drop(SHUTDOWN, 1);
+            dropRollup(SHUTDOWN, 1);
+            return;
+        }
+
+        if (!rollupQueue.offer(metadata)) {
+            dropRollup(OVERFLOW, 1);
+        }
+
+        if (!reserveSlot(metadata.status())) {
+            return;
+        }
+
+        queue.offer(logSupplier);
+
+        if (queueDepth() >= properties.batchSize() && flushRequested.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                flushRequested.set(false);
+                flushSafely();
+            });
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        shuttingDown.set(true);
+        executor.shutdown();
+
+        if (!executor.awaitTermination(properties.shutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("AI request log writer did not stop in time. pending={}", queueDepth());
+            executor.shutdownNow();
+        }
+
+        flushSafely();
+
+        int unrecorded = failedRollup.size() + rollupQueue.size();
+
+        if (unrecorded > 0) {
+            log.warn("AI statistics rollup not recorded before shutdown. pending={}", unrecorded);
+            dropRollup(SHUTDOWN, unrecorded);
+        }
+    }
+
+    int queueDepth() {
+        return properties.capacity() - freeSlots.availablePermits();
+    }
+
+    private boolean reserveSlot(AiRequestStatus status) {
+        return switch (properties.overflowPolicy()) {
+            case DROP -> tryReserveSlot();
+            case SAMPLE -> shouldSample(status) && tryReserveSlot();
+            case BLOCK -> reserveSlotWithTimeout();
+        };
+    }
+
+    private boolean tryReserveSlot() {
+        if (freeSlots.tryAcquire()) {
+            return true;
+        }
+
+        drop(OVERFLOW, 1);
+        return false;
+    }
+
+    // Under pressure only a sample of successful requests is kept, failures are always attempted.
+    private boolean shouldSample(AiRequestStatus status) {
+        if (status == AiRequestStatus.FAILED
+                || queueDepth() < properties.capacity() * SAMPLING_THRESHOLD
+                || ThreadLocalRandom.current().nextDouble() < properties.sampleRate()) {
+            return true;
+        }
+
+        drop(SAMPLED, 1);
+        return false;
+    }
+
+    private boolean reserveSlotWithTimeout() {
+        try {
+            if (freeSlots.tryAcquire(properties.blockTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        drop(OVERFLOW, 1);
+        return false;
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.error("AI request log flush failed. error={}", ex.getClass().getSimpleName(), ex);
+        }
+    }
+
+    private void flush() {
+        flushLogs();
+        flushRollup();
+    }
+
+    private void flushLogs() {
+        List<AiRequestLog> batch = new ArrayList<>(properties.batchSize());
+        Supplier<AiRequestLog> logSupplier;
+
+        while ((logSupplier = queue.poll()) != null) {
+            freeSlots.release();
+
+            try {
+                batch.add(logSupplier.get());
+            } catch (RuntimeException ex) {
+                drop(BUILD_ERROR, 1);
+                log.error("AI request log entry could not be built. error={}", ex.getClass().getSimpleName(), ex);
+                continue;
+            }
+
+            if (batch.size() >= properties.batchSize()) {
+                insert(batch);
+                batch = new ArrayList<>(properties.batchSize());
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            insert(batch);
+        }
+    }
+
+    private void insert(List<AiRequestLog> batch) {
+        try {
+            repository.insert(batch);
+        } catch (RuntimeException ex) {
+            drop(WRITE_ERROR, batch.size());
+
+            log.error(
+                    "AI request log batch insert failed. size={}, error={}",
+                    batch.size(),
+                    ex.getClass().getSimpleName(),
+                    ex
+            );
+        }
+    }
+
+    // Stops at the first failure and keeps the batch, so nothing is lost while Mongo is unavailable; new
+    // entries wait in the bounded queue meanwhile.
+    private void flushRollup() {
+        if (!failedRollup.isEmpty() && !record(failedRollup)) {
+            return;
+        }
+
+        failedRollup = List.of();
+
+        List<AiRequestLog> batch = new ArrayList<>(properties.batchSize());
+
+        while (rollupQueue.drainTo(batch, properties.batchSize()) > 0) {
+            if (!record(batch)) {
+                failedRollup = batch;
+                return;
+            }
+
+            batch = new ArrayList<>(properties.batchSize());
+        }
+    }
+
+    private boolean record(List<AiRequestLog> batch) {
+        try {
+            rollupRepository.record(batch);
+            return true;
+
+        } catch (RuntimeException ex) {
+            log.error(
+                    "AI statistics rollup update failed, will retry. size={}, error={}",
+                    batch.size(),
+                    ex.getClass().getSimpleName(),
+                    ex
+            );
+            return false;
+        }
+    }
+
+    private void dropRollup(String reason, int count) {
+        Counter.builder(ROLLUP_DROPPED_METRIC)
+                .description("AI statistics rollup entries that were not recorded")
+                .tag(REASON_TAG, reason)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    private void drop(String reason, int count) {
+        Counter.builder(DROPPED_METRIC)
+                .description("AI request log entries that were not written")
+                .tag(REASON_TAG, reason)
+                .register(meterRegistry)
+                .increment(count);
+    }
+}
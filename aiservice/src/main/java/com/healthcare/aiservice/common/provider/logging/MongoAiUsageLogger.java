@@ -5,40 +5,59 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.healthcare.aiservice.config.constant.FeatureName;
 
 import com.healthcare.aiservice.common.provider.logging.model.AiRequestLog;
-import com.healthcare.aiservice.repository.AiRequestLogRepository;
+import com.healthcare.aiservice.config.propertie.AiRequestLogProperties;
 import lombok.RequiredArgsConstructor;
+import org.bson.types.Binary;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 @RequiredArgsConstructor
 public class MongoAiUsageLogger implements AiUsageLogger {
 
-    private static final int MAX_LOG_LENGTH = 10000;
-
-    private final AiRequestLogRepository repository;
+    private final AiRequestLogWriter writer;
     private final ObjectMapper objectMapper;
+    private final AiRequestLogProperties properties;
 
     @Override
     public void logSuccess(
             FeatureName feature,
             String provider,
             String model,
+            String promptVersion,
             Object request,
             Object response,
-            long durationMs
+            long durationMs,
+            Long timeToFirstTokenMs,
+            AiTokenUsage tokenUsage
     ) {
-        repository.save(AiRequestLog.builder()
+        Instant createdAt = Instant.now();
+        boolean keepPayload = ThreadLocalRandom.current().nextDouble() < properties.payloadSampleRate();
+
+        AiRequestLog metadata = AiRequestLog.builder()
                 .feature(feature)
                 .provider(provider)
                 .model(model)
-                .request(truncate(toJson(request)))
-                .response(truncate(toJson(response)))
+                .promptVersion(promptVersion)
                 .status(AiRequestStatus.SUCCESS)
                 .durationMs(durationMs)
-                .createdAt(Instant.now())
-                .build());
+                .timeToFirstTokenMs(timeToFirstTokenMs)
+                .promptTokens(tokenUsage == null ? null : tokenUsage.promptTokens())
+                .completionTokens(tokenUsage == null ? null : tokenUsage.completionTokens())
+                .generationMs(tokenUsage == null ? null : tokenUsage.generationMs())
+                .createdAt(createdAt)
+                .build();
+
+        // Statistics count the metadata of every call; payloads are kept only for the sampled share.
+        writer.submit(metadata, () -> keepPayload
+                ? metadata.toBuilder()
+                .payloadCompression(properties.payloadCompression())
+                .requestPayload(encode(request))
+                .responsePayload(encode(response))
+                .build()
+                : metadata);
     }
 
     @Override
@@ -46,23 +65,41 @@ public class MongoAiUsageLogger implements AiUsageLogger {
             FeatureName feature,
             String provider,
             String model,
+            String promptVersion,
             Object request,
             Throwable exception,
-            long durationMs
+            long durationMs,
+            Long timeToFirstTokenMs,
+            AiTokenUsage tokenUsage
     ) {
-        repository.save(AiRequestLog.builder()
+        Instant createdAt = Instant.now();
+
+        AiRequestLog metadata = AiRequestLog.builder()
                 .feature(feature)
                 .provider(provider)
                 .model(model)
-                .request(truncate(toJson(request)))
+                .promptVersion(promptVersion)
                 .status(AiRequestStatus.FAILED)
                 .errorType(exception.getClass().getSimpleName())
                 .errorMessage(exception.getMessage())
                 .durationMs(durationMs)
-                .createdAt(Instant.now())
+                .timeToFirstTokenMs(timeToFirstTokenMs)
+                .promptTokens(tokenUsage == null ? null : tokenUsage.promptTokens())
+                .completionTokens(tokenUsage == null ? null : tokenUsage.completionTokens())
+                .generationMs(tokenUsage == null ? null : tokenUsage.generationMs())
+                .createdAt(createdAt)
+                .build();
+
+        writer.submit(metadata, () -> metadata.toBuilder()
+                .payloadCompression(properties.payloadCompression())
+                .requestPayload(encode(request))
                 .build());
     }
 
+    private Binary encode(Object value) {
+        return AiPayloadCodec.encode(truncate(toJson(value)), properties.payloadCompression());
+    }
+
     private String toJson(Object value) {
 
         if (value == null) {
@@ -82,8 +119,8 @@ public class MongoAiUsageLogger implements AiUsageLogger {
             return null;
         }
 
-        return value.length() <= MAX_LOG_LENGTH
+        return value.length() <= properties.payloadMaxLength()
                 ? value
-                : value.substring(0, MAX_LOG_LENGTH);
+                : value.substring(0, properties.payloadMaxLength());
     }
 }
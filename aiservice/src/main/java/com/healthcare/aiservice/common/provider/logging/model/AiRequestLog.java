@@ -2,8 +2,10 @@ package com.healthcare.aiservice.common.provider.logging.model;
 
 
 import com.healthcare.aiservice.common.provider.logging.AiRequestStatus;
+import com.healthcare.aiservice.config.constant.AiPayloadCompression;
 import com.healthcare.aiservice.config.constant.FeatureName;
 import lombok.Builder;
+import org.bson.types.Binary;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
@@ -11,7 +13,7 @@ import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
 
-@Builder
+@Builder(toBuilder = true)
 @Document(collection = "ai_request_logs")
 
 @CompoundIndex(
@@ -29,14 +31,26 @@ public record AiRequestLog(
 
         String model,
 
-        String request,
+        String promptVersion,
 
-        String response,
+        AiPayloadCompression payloadCompression,
+
+        Binary requestPayload,
+
+        Binary responsePayload,
 
         AiRequestStatus status,
 
         Long durationMs,
 
+        Long timeToFirstTokenMs,
+
+        Long promptTokens,
+
+        Long completionTokens,
+
+        Long generationMs,
+
         String errorType,
 
         String errorMessage,
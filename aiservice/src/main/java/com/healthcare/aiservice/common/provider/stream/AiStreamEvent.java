@@ -0,0 +1,37 @@
+package com.healthcare.aiservice.common.provider.stream;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(
+        name = "AiStreamEvent",
+        description = "Single event of a streamed AI response"
+)
+public record AiStreamEvent<T>(
+
+        @Schema(
+                description = "Event type. TOKEN events carry raw model output, the last RESULT event carries the validated response",
+                example = "TOKEN"
+        )
+        AiStreamEventType type,
+
+        @Schema(
+                description = "Raw model output fragment",
+                example = "{\"summary\": \"Patient"
+        )
+        String token,
+
+        @Schema(description = "Validated AI response")
+        T result
+) {
+    public static <T> AiStreamEvent<T> token(String token) {
+        return new AiStreamEvent<>(AiStreamEventType.TOKEN, token, null);
+    }
+
+    public static <T> AiStreamEvent<T> result(T result) {
+        return new AiStreamEvent<>(AiStreamEventType.RESULT, null, result);
+    }
+
+    public boolean isResult() {
+        return type == AiStreamEventType.RESULT;
+    }
+}
@@ -0,0 +1,6 @@
+package com.healthcare.aiservice.common.provider.stream;
+
+public enum AiStreamEventType {
+    TOKEN,
+    RESULT
+}
@@ -0,0 +1,67 @@
+package com.healthcare.aiservice.common.request_log.controller.API;
+
+import com.healthcare.aiservice.common.request_log.dto.AiRequestLogResponse;
+import com.healthcare.aiservice.exception.dto.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import static com.healthcare.aiservice.common.APIPaths.ApiPaths.AI_BASIC_ADMIN_URL;
+import static com.healthcare.aiservice.common.request_log.controller.API.AiRequestLogApiPaths.PATH_VARIABLE_REQUEST_LOG_ID;
+import static com.healthcare.aiservice.common.request_log.controller.API.AiRequestLogApiPaths.REQUEST_LOG_BY_ID;
+
+@RequestMapping(AI_BASIC_ADMIN_URL)
+@Tag(
+        name = "AI Admin Request Log Controller",
+        description = "Controller for reading individual AI request log entries"
+)
+public interface AiRequestLogAPI {
+
+    @Operation(
+            summary = "Get AI request log entry",
+            description = """
+                    Returns a single AI request log entry.
+
+                    Request and response payloads are stored compressed and are decompressed only here.
+                    Failed requests always keep their request payload; successful requests keep payloads
+                    only for the configured sample, so they may be absent.
+                    """
+    )
+    @ApiResponses(value = {
+
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "AI request log entry retrieved successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = AiRequestLogResponse.class)
+                    )
+            ),
+
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "AI request log entry not found",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping(REQUEST_LOG_BY_ID)
+    ResponseEntity<AiRequestLogResponse> getRequestLog(
+            @PathVariable(PATH_VARIABLE_REQUEST_LOG_ID)
+            @NotBlank
+            @Parameter(description = "Request log entry identifier", example = "6a462f4da54bd47af37800eb")
+            String requestLogId
+    );
+}
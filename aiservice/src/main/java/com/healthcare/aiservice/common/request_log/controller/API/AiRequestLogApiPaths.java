@@ -0,0 +1,21 @@
+package com.healthcare.aiservice.common.request_log.controller.API;
+
+import static com.healthcare.aiservice.common.APIPaths.ApiPaths.AI_BASIC_ADMIN_URL;
+
+public final class AiRequestLogApiPaths {
+
+    private AiRequestLogApiPaths() {
+    }
+
+    public static final String PATH_VARIABLE_REQUEST_LOG_ID = "requestLogId";
+
+    /**
+     * GET /request-logs/{requestLogId}
+     */
+    public static final String REQUEST_LOG_BY_ID =
+            "/request-logs/{" + PATH_VARIABLE_REQUEST_LOG_ID + "}";
+
+    // Full URLs
+
+    public static final String REQUEST_LOG_BY_ID_ADMIN_URL = AI_BASIC_ADMIN_URL + REQUEST_LOG_BY_ID;
+}
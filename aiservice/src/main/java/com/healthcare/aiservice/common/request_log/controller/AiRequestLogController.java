@@ -0,0 +1,23 @@
+package com.healthcare.aiservice.common.request_log.controller;
+
+import com.healthcare.aiservice.common.request_log.controller.API.AiRequestLogAPI;
+import com.healthcare.aiservice.common.request_log.dto.AiRequestLogResponse;
+import com.healthcare.aiservice.common.request_log.mapper.AiRequestLogMapper;
+import com.healthcare.aiservice.common.request_log.service.AiRequestLogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RestController;
+
+@Validated
+@RestController
+@RequiredArgsConstructor
+public class AiRequestLogController implements AiRequestLogAPI {
+
+    private final AiRequestLogService service;
+
+    @Override
+    public ResponseEntity<AiRequestLogResponse> getRequestLog(String requestLogId) {
+        return ResponseEntity.ok(AiRequestLogMapper.toResponse(service.get(requestLogId)));
+    }
+}
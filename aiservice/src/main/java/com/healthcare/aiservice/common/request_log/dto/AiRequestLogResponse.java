@@ -0,0 +1,86 @@
+package com.healthcare.aiservice.common.request_log.dto;
+
+import com.healthcare.aiservice.common.provider.logging.AiRequestStatus;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.Instant;
+
+@Schema(
+        name = "AiRequestLogResponse",
+        description = "Single AI request log entry with its decompressed payloads"
+)
+@Builder
+public record AiRequestLogResponse(
+
+        @Schema(
+                description = "Request log entry identifier",
+                example = "6a462f4da54bd47af37800eb"
+        )
+        String id,
+
+        @Schema(
+                description = "AI feature",
+                example = "MEDICAL_SUMMARY"
+        )
+        FeatureName feature,
+
+        @Schema(
+                description = "AI provider",
+                example = "ollama"
+        )
+        String provider,
+
+        @Schema(
+                description = "Model that served the request",
+                example = "llama3"
+        )
+        String model,
+
+        @Schema(
+                description = "Prompt version used for the request",
+                example = "v3"
+        )
+        String promptVersion,
+
+        @Schema(
+                description = "Request status",
+                example = "SUCCESS"
+        )
+        AiRequestStatus status,
+
+        @Schema(
+                description = "Request duration in milliseconds",
+                example = "1840"
+        )
+        Long durationMs,
+
+        @Schema(
+                description = "Time to the first streamed token in milliseconds, present for streamed requests",
+                example = "220"
+        )
+        Long timeToFirstTokenMs,
+
+        @Schema(
+                description = "Exception type, present when status is FAILED",
+                example = "AiTimeoutException"
+        )
+        String errorType,
+
+        @Schema(description = "Exception message, present when status is FAILED")
+        String errorMessage,
+
+        @Schema(description = "Request JSON, absent when the payload was not sampled; may be truncated")
+        String request,
+
+        @Schema(description = "Response JSON, absent for failures and when the payload was not sampled; may be truncated")
+        String response,
+
+        @Schema(
+                description = "Request timestamp",
+                example = "2026-06-01T13:45:00Z"
+        )
+        Instant createdAt
+) {
+}
@@ -0,0 +1,34 @@
+package com.healthcare.aiservice.common.request_log.mapper;
+
+import com.healthcare.aiservice.common.provider.logging.AiPayloadCodec;
+import com.healthcare.aiservice.common.provider.logging.model.AiRequestLog;
+import com.healthcare.aiservice.common.request_log.dto.AiRequestLogResponse;
+
+public final class AiRequestLogMapper {
+
+    private AiRequestLogMapper() {
+    }
+
+    public static AiRequestLogResponse toResponse(AiRequestLog log) {
+
+        if (log == null) {
+            return null;
+        }
+
+        return AiRequestLogResponse.builder()
+                .id(log.id())
+                .feature(log.feature())
+                .provider(log.provider())
+                .model(log.model())
+                .promptVersion(log.promptVersion())
+                .status(log.status())
+                .durationMs(log.durationMs())
+                .timeToFirstTokenMs(log.timeToFirstTokenMs())
+                .errorType(log.errorType())
+                .errorMessage(log.errorMessage())
+                .request(AiPayloadCodec.decode(log.requestPayload(), log.payloadCompression()))
+                .response(AiPayloadCodec.decode(log.responsePayload(), log.payloadCompression()))
+                .createdAt(log.createdAt())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.healthcare.aiservice.common.request_log.service;
+
+import com.healthcare.aiservice.common.provider.logging.model.AiRequestLog;
+import com.healthcare.aiservice.exception.rest_exception.AiRequestLogNotFoundException;
+import com.healthcare.aiservice.repository.AiRequestLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class AiRequestLogService {
+
+    private final AiRequestLogRepository repository;
+
+    public AiRequestLog get(String requestLogId) {
+        return repository.findById(requestLogId)
+                .orElseThrow(() -> new AiRequestLogNotFoundException(requestLogId));
+    }
+}
@@ -4,18 +4,42 @@ public final class AiStatisticsAggregationConstants {
     private AiStatisticsAggregationConstants() {
     }
     public static final String COLLECTION_NAME = "ai_request_logs";
+    public static final String ROLLUP_COLLECTION_NAME = "ai_request_stats";
 
     public static final String FIELD_STATUS = "status";
     public static final String FIELD_FEATURE = "feature";
     public static final String FIELD_DURATION_MS = "durationMs";
+    public static final String FIELD_MODEL = "model";
+    public static final String FIELD_PROMPT_VERSION = "promptVersion";
+    public static final String FIELD_GRANULARITY = "granularity";
+    public static final String FIELD_BUCKET_START = "bucketStart";
+    public static final String FIELD_COUNT = "count";
+    public static final String FIELD_DURATION_SUM_MS = "durationSumMs";
+    public static final String FIELD_DURATION_MIN_MS = "durationMinMs";
+    public static final String FIELD_DURATION_MAX_MS = "durationMaxMs";
+    public static final String FIELD_LATENCY_HISTOGRAM = "latencyHistogram";
+    public static final String FIELD_EXPIRE_AT = "expireAt";
+    public static final String FIELD_PROMPT_TOKENS = "promptTokens";
+    public static final String FIELD_COMPLETION_TOKENS = "completionTokens";
+    public static final String FIELD_GENERATION_MS = "generationMs";
 
     public static final String FACET_TOTAL = "total";
     public static final String FACET_SUCCESSFUL = "successful";
     public static final String FACET_FAILED = "failed";
     public static final String FACET_AVERAGE = "average";
     public static final String FACET_BY_FEATURE = "byFeature";
+    public static final String FACET_LATENCY = "latency";
+    public static final String FACET_TOKENS = "tokens";
 
     public static final String KEY_COUNT = "count";
     public static final String KEY_ID = "_id";
     public static final String KEY_AVERAGE_DURATION_MS = "averageDurationMs";
+    public static final String KEY_MIN_DURATION_MS = "minDurationMs";
+    public static final String KEY_MAX_DURATION_MS = "maxDurationMs";
+    public static final String KEY_DURATION_SUM_MS = "durationSumMs";
+    public static final String KEY_BUCKET = "bucket";
+    public static final String KEY_BUCKETS = "buckets";
+    public static final String KEY_PROMPT_TOKENS = "promptTokens";
+    public static final String KEY_COMPLETION_TOKENS = "completionTokens";
+    public static final String KEY_GENERATION_MS = "generationMs";
 }
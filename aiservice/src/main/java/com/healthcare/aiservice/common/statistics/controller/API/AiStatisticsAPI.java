@@ -3,16 +3,21 @@ package com.healthcare.aiservice.common.statistics.controller.API;
 import com.healthcare.aiservice.common.statistics.dto.AiStatisticsResponse;
 import com.healthcare.aiservice.exception.dto.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.time.Instant;
 
 import static com.healthcare.aiservice.common.APIPaths.ApiPaths.AI_BASIC_ADMIN_URL;
 import static com.healthcare.aiservice.common.statistics.controller.API.AiStatisticsApiPaths.STATISTICS;
@@ -28,15 +33,19 @@ public interface AiStatisticsAPI {
     @Operation(
             summary = "Get AI service statistics",
             description = """
-                    Returns aggregated AI service statistics.
+                    Returns aggregated AI service statistics for the time window [from, to).
+
+                    Statistics are read from minute and hour rollups maintained when request logs are written.
+                    When the window is omitted, the configured default window ending now is used.
 
                     The response contains:
 
                     - total number of AI requests
                     - successful requests
                     - failed requests
-                    - average request duration
+                    - average, minimum and maximum request duration
                     - number of requests grouped by AI feature
+                    - prompt and completion token totals with generation throughput, overall and per time bucket
 
                     This endpoint is intended for monitoring and administration purposes.
                     """
@@ -52,6 +61,15 @@ public interface AiStatisticsAPI {
                     )
             ),
 
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid statistics time window",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+
             @ApiResponse(
                     responseCode = "500",
                     description = "Unexpected internal server error",
@@ -68,5 +86,15 @@ public interface AiStatisticsAPI {
             )
     })
     @GetMapping(STATISTICS)
-    ResponseEntity<AiStatisticsResponse> getStatistics();
+    ResponseEntity<AiStatisticsResponse> getStatistics(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "Start of the window (inclusive), ISO-8601", example = "2025-01-01T00:00:00Z")
+            Instant from,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "End of the window (exclusive), ISO-8601", example = "2025-01-31T00:00:00Z")
+            Instant to
+    );
 }
\ No newline at end of file
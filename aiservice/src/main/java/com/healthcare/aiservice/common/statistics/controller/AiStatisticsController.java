@@ -8,6 +8,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Instant;
+
 @Validated
 @RestController
 @RequiredArgsConstructor
@@ -16,7 +18,7 @@ public class AiStatisticsController implements AiStatisticsAPI {
     private final AiStatisticService service;
 
     @Override
-    public ResponseEntity<AiStatisticsResponse> getStatistics() {
-        return ResponseEntity.ok(service.getStatistic());
+    public ResponseEntity<AiStatisticsResponse> getStatistics(Instant from, Instant to) {
+        return ResponseEntity.ok(service.getStatistic(from, to));
     }
 }
@@ -6,6 +6,7 @@ import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 
+import java.time.Instant;
 import java.util.List;
 
 @Schema(
@@ -15,6 +16,12 @@ import java.util.List;
 @Builder
 public record AiStatisticsResponse(
 
+        @Schema(description = "Start of the statistics window (inclusive)", example = "2025-01-01T00:00:00Z")
+        Instant from,
+
+        @Schema(description = "End of the statistics window (exclusive)", example = "2025-01-31T00:00:00Z")
+        Instant to,
+
         @Schema(example = "125")
         long totalRequests,
 
@@ -27,19 +34,51 @@ public record AiStatisticsResponse(
         @Schema(example = "843")
         long averageDurationMs,
 
+        @Schema(example = "112")
+        long minDurationMs,
+
+        @Schema(example = "4210")
+        long maxDurationMs,
+
         @Schema(description = "Number of AI requests grouped by feature")
         @ArraySchema(
                 schema = @Schema(implementation = FeatureStatistics.class)
         )
-        List<FeatureStatistics> requestsByFeature
+        List<FeatureStatistics> requestsByFeature,
+
+        @Schema(description = "Latency percentiles of successful AI requests in the window")
+        LatencyPercentiles latency,
+
+        @Schema(description = "Latency percentiles of successful AI requests grouped by feature, model and prompt version")
+        @ArraySchema(
+                schema = @Schema(implementation = LatencyStatistics.class)
+        )
+        List<LatencyStatistics> latencyBreakdown,
+
+        @Schema(description = "Token totals and generation throughput of all AI requests in the window")
+        TokenUsageStatistics tokenUsage,
+
+        @Schema(description = "Token totals and generation throughput per rollup time bucket, oldest first")
+        @ArraySchema(
+                schema = @Schema(implementation = TokenUsageBucketStatistics.class)
+        )
+        List<TokenUsageBucketStatistics> tokenUsageByBucket
 ) {
-    public static AiStatisticsResponse empty() {
+    public static AiStatisticsResponse empty(Instant from, Instant to) {
         return AiStatisticsResponse.builder()
+                .from(from)
+                .to(to)
                 .totalRequests(0L)
                 .successfulRequests(0L)
                 .failedRequests(0L)
                 .averageDurationMs(0L)
+                .minDurationMs(0L)
+                .maxDurationMs(0L)
                 .requestsByFeature(FeatureStatisticsMapper.empty())
+                .latency(LatencyPercentiles.empty())
+                .latencyBreakdown(List.of())
+                .tokenUsage(TokenUsageStatistics.empty())
+                .tokenUsageByBucket(List.of())
                 .build();
     }
 }
@@ -0,0 +1,26 @@
+package com.healthcare.aiservice.common.statistics.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(description = "Request latency percentiles")
+@Builder
+public record LatencyPercentiles(
+
+        @Schema(description = "Median latency in milliseconds", example = "640")
+        long p50Ms,
+
+        @Schema(description = "95th percentile latency in milliseconds", example = "2150")
+        long p95Ms,
+
+        @Schema(description = "99th percentile latency in milliseconds", example = "3900")
+        long p99Ms
+) {
+    public static LatencyPercentiles empty() {
+        return LatencyPercentiles.builder()
+                .p50Ms(0L)
+                .p95Ms(0L)
+                .p99Ms(0L)
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.healthcare.aiservice.common.statistics.dto;
+
+import com.healthcare.aiservice.config.constant.FeatureName;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(description = "Latency statistics of successful requests by feature, model and prompt version")
+@Builder
+public record LatencyStatistics(
+
+        @Schema(description = "Name of feature", example = "MEDICAL_SUMMARY")
+        FeatureName feature,
+
+        @Schema(description = "AI model", example = "llama3:latest")
+        String model,
+
+        @Schema(description = "System and user prompt versions", example = "v3/v5")
+        String promptVersion,
+
+        @Schema(description = "Count of successful requests", example = "29")
+        long requests,
+
+        LatencyPercentiles latency
+) {
+}
@@ -0,0 +1,21 @@
+package com.healthcare.aiservice.common.statistics.dto;
+
+import com.healthcare.aiservice.common.statistics.model.StatsGranularity;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.Instant;
+
+@Schema(description = "Token usage of one rollup time bucket")
+@Builder
+public record TokenUsageBucketStatistics(
+
+        @Schema(description = "Start of the time bucket", example = "2025-01-01T13:00:00Z")
+        Instant bucketStart,
+
+        @Schema(description = "Length of the time bucket", example = "HOUR")
+        StatsGranularity granularity,
+
+        TokenUsageStatistics tokenUsage
+) {
+}
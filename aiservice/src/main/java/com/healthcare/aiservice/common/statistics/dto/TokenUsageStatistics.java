@@ -0,0 +1,26 @@
+package com.healthcare.aiservice.common.statistics.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(description = "Token totals and generation throughput")
+@Builder
+public record TokenUsageStatistics(
+
+        @Schema(description = "Prompt tokens read by the model", example = "182400")
+        long promptTokens,
+
+        @Schema(description = "Completion tokens generated by the model", example = "40210")
+        long completionTokens,
+
+        @Schema(description = "Completion tokens generated per second of generation time", example = "41.7")
+        double tokensPerSecond
+) {
+    public static TokenUsageStatistics empty() {
+        return TokenUsageStatistics.builder()
+                .promptTokens(0L)
+                .completionTokens(0L)
+                .tokensPerSecond(0.0)
+                .build();
+    }
+}
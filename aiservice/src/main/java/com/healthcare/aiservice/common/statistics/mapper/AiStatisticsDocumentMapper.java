@@ -2,9 +2,13 @@ package com.healthcare.aiservice.common.statistics.mapper;
 
 import com.healthcare.aiservice.common.statistics.dto.AiStatisticsResponse;
 import com.healthcare.aiservice.common.statistics.dto.FeatureStatistics;
+import com.healthcare.aiservice.common.statistics.dto.LatencyStatistics;
+import com.healthcare.aiservice.common.statistics.model.LatencyHistograms;
 import com.healthcare.aiservice.config.constant.FeatureName;
+import org.HdrHistogram.Histogram;
 import org.bson.Document;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -12,20 +16,35 @@ import java.util.Optional;
 import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.*;
 import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.FACET_AVERAGE;
 import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.FACET_BY_FEATURE;
-import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.KEY_AVERAGE_DURATION_MS;
 import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.KEY_COUNT;
 import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.KEY_ID;
 
 public final class AiStatisticsDocumentMapper {
     private AiStatisticsDocumentMapper() {}
 
-    public static AiStatisticsResponse mapToResponse(Document result) {
+    public static AiStatisticsResponse mapToResponse(Document result, Instant from, Instant to) {
+        Histogram totalLatency = LatencyHistograms.newHistogram();
+        List<LatencyStatistics> latencyBreakdown = LatencyStatisticsMapper.toLatencyStatisticsList(
+                resolveDocumentsFromFacet(result, FACET_LATENCY),
+                totalLatency
+        );
+
         return AiStatisticsResponse.builder()
+                .from(from)
+                .to(to)
                 .totalRequests(readCountFromFacet(result, FACET_TOTAL))
                 .successfulRequests(readCountFromFacet(result, FACET_SUCCESSFUL))
                 .failedRequests(readCountFromFacet(result, FACET_FAILED))
                 .averageDurationMs(readAverageDuration(result))
+                .minDurationMs(readDuration(result, KEY_MIN_DURATION_MS))
+                .maxDurationMs(readDuration(result, KEY_MAX_DURATION_MS))
                 .requestsByFeature(readRequestsByFeature(result))
+                .latency(LatencyStatisticsMapper.toPercentiles(totalLatency))
+                .latencyBreakdown(latencyBreakdown)
+                .tokenUsage(TokenUsageStatisticsMapper.toTokenUsage(
+                        resolveFirstDocumentFromFacet(result, FACET_AVERAGE).orElse(null)))
+                .tokenUsageByBucket(TokenUsageStatisticsMapper.toTokenUsageBuckets(
+                        resolveDocumentsFromFacet(result, FACET_TOKENS)))
                 .build();
     }
 
@@ -38,12 +57,26 @@ public final class AiStatisticsDocumentMapper {
 
     private static long readAverageDuration(Document result) {
         return resolveFirstDocumentFromFacet(result, FACET_AVERAGE)
-                .map(document -> document.get(KEY_AVERAGE_DURATION_MS, Number.class))
-                .map(Number::doubleValue)
+                .filter(document -> document.get(KEY_COUNT, Number.class) != null)
+                .filter(document -> document.get(KEY_COUNT, Number.class).longValue() > 0)
+                .map(document -> (double) readLong(document, KEY_DURATION_SUM_MS)
+                        / document.get(KEY_COUNT, Number.class).longValue())
                 .map(Math::round)
                 .orElse(0L);
     }
 
+    private static long readDuration(Document result, String key) {
+        return resolveFirstDocumentFromFacet(result, FACET_AVERAGE)
+                .map(document -> readLong(document, key))
+                .orElse(0L);
+    }
+
+    private static long readLong(Document document, String key) {
+        Number value = document.get(key, Number.class);
+
+        return value == null ? 0L : value.longValue();
+    }
+
     private  static List<FeatureStatistics> readRequestsByFeature(Document result) {
         List<Document> documents = resolveDocumentsFromFacet(result, FACET_BY_FEATURE);
 
@@ -0,0 +1,111 @@
+package com.healthcare.aiservice.common.statistics.mapper;
+
+import com.healthcare.aiservice.common.statistics.dto.LatencyPercentiles;
+import com.healthcare.aiservice.common.statistics.dto.LatencyStatistics;
+import com.healthcare.aiservice.common.statistics.model.LatencyHistograms;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import org.HdrHistogram.Histogram;
+import org.bson.Document;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.FIELD_FEATURE;
+import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.FIELD_MODEL;
+import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.FIELD_PROMPT_VERSION;
+import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.KEY_BUCKET;
+import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.KEY_BUCKETS;
+import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.KEY_COUNT;
+import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.KEY_ID;
+
+public final class LatencyStatisticsMapper {
+
+    private static final double P50 = 50.0;
+    private static final double P95 = 95.0;
+    private static final double P99 = 99.0;
+
+    private static final Comparator<LatencyStatistics> ORDER = Comparator
+            .comparing(LatencyStatistics::feature)
+            .thenComparing(LatencyStatistics::model, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(LatencyStatistics::promptVersion, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private LatencyStatisticsMapper() {
+    }
+
+    public static List<LatencyStatistics> toLatencyStatisticsList(
+            List<Document> documents,
+            Histogram total
+    ) {
+        return documents.stream()
+                .map(document -> toLatencyStatistics(document, total))
+                .flatMap(Optional::stream)
+                .sorted(ORDER)
+                .toList();
+    }
+
+    public static LatencyPercentiles toPercentiles(Histogram histogram) {
+        if (histogram.getTotalCount() == 0) {
+            return LatencyPercentiles.empty();
+        }
+
+        return LatencyPercentiles.builder()
+                .p50Ms(histogram.getValueAtPercentile(P50))
+                .p95Ms(histogram.getValueAtPercentile(P95))
+                .p99Ms(histogram.getValueAtPercentile(P99))
+                .build();
+    }
+
+    private static Optional<LatencyStatistics> toLatencyStatistics(Document document, Histogram total) {
+        Document dimensions = document.get(KEY_ID, Document.class);
+        List<Document> buckets = document.getList(KEY_BUCKETS, Document.class);
+
+        if (dimensions == null || buckets == null) {
+            return Optional.empty();
+        }
+
+        Optional<FeatureName> feature = resolveFeature(dimensions.getString(FIELD_FEATURE));
+
+        if (feature.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Histogram histogram = LatencyHistograms.newHistogram();
+
+        buckets.stream()
+                .filter(Objects::nonNull)
+                .forEach(bucket -> LatencyHistograms.record(
+                        histogram,
+                        bucket.getString(KEY_BUCKET),
+                        bucket.get(KEY_COUNT, Number.class)
+                ));
+
+        if (histogram.getTotalCount() == 0) {
+            return Optional.empty();
+        }
+
+        total.add(histogram);
+
+        return Optional.of(LatencyStatistics.builder()
+                .feature(feature.get())
+                .model(dimensions.getString(FIELD_MODEL))
+                .promptVersion(dimensions.getString(FIELD_PROMPT_VERSION))
+                .requests(histogram.getTotalCount())
+                .latency(toPercentiles(histogram))
+                .build());
+    }
+
+    private static Optional<FeatureName> resolveFeature(String featureName) {
+        if (featureName == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(FeatureName.valueOf(featureName));
+        } catch (IllegalArgumentException ignored) {
+            // Ignore unknown feature names stored in MongoDB
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.healthcare.aiservice.common.statistics.mapper;
+
+import com.healthcare.aiservice.common.statistics.dto.TokenUsageBucketStatistics;
+import com.healthcare.aiservice.common.statistics.dto.TokenUsageStatistics;
+import com.healthcare.aiservice.common.statistics.model.StatsGranularity;
+import org.bson.Document;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.FIELD_BUCKET_START;
+import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.FIELD_GRANULARITY;
+import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.KEY_COMPLETION_TOKENS;
+import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.KEY_GENERATION_MS;
+import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.KEY_ID;
+import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.KEY_PROMPT_TOKENS;
+
+public final class TokenUsageStatisticsMapper {
+
+    private TokenUsageStatisticsMapper() {
+    }
+
+    public static TokenUsageStatistics toTokenUsage(Document document) {
+        if (document == null) {
+            return TokenUsageStatistics.empty();
+        }
+
+        long completionTokens = readLong(document, KEY_COMPLETION_TOKENS);
+        long generationMs = readLong(document, KEY_GENERATION_MS);
+
+        return TokenUsageStatistics.builder()
+                .promptTokens(readLong(document, KEY_PROMPT_TOKENS))
+                .completionTokens(completionTokens)
+                .tokensPerSecond(generationMs == 0L ? 0.0 : completionTokens * 1000.0 / generationMs)
+                .build();
+    }
+
+    public static List<TokenUsageBucketStatistics> toTokenUsageBuckets(List<Document> documents) {
+        return documents.stream()
+                .map(TokenUsageStatisticsMapper::toTokenUsageBucket)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    private static Optional<TokenUsageBucketStatistics> toTokenUsageBucket(Document document) {
+        Document id = document.get(KEY_ID, Document.class);
+
+        if (id == null || id.getDate(FIELD_BUCKET_START) == null || id.getString(FIELD_GRANULARITY) == null) {
+            return Optional.empty();
+        }
+
+        Date bucketStart = id.getDate(FIELD_BUCKET_START);
+
+        try {
+            return Optional.of(TokenUsageBucketStatistics.builder()
+                    .bucketStart(Instant.ofEpochMilli(bucketStart.getTime()))
+                    .granularity(StatsGranularity.valueOf(id.getString(FIELD_GRANULARITY)))
+                    .tokenUsage(toTokenUsage(document))
+                    .build());
+        } catch (IllegalArgumentException ignored) {
+            // Ignore unknown granularities stored in MongoDB
+            return Optional.empty();
+        }
+    }
+
+    private static long readLong(Document document, String key) {
+        Number value = document.get(key, Number.class);
+
+        return value == null ? 0L : value.longValue();
+    }
+}
@@ -0,0 +1,56 @@
+package com.healthcare.aiservice.common.statistics.model;
+
+import com.healthcare.aiservice.common.provider.logging.AiRequestStatus;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import lombok.Builder;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Builder
+@Document(collection = "ai_request_stats")
+@CompoundIndex(
+        name = "granularity_bucket_start_idx",
+        def = "{'granularity': 1, 'bucketStart': 1}"
+)
+public record AiRequestStatsBucket(
+
+        @Id
+        String id,
+
+        StatsGranularity granularity,
+
+        Instant bucketStart,
+
+        FeatureName feature,
+
+        AiRequestStatus status,
+
+        String model,
+
+        String promptVersion,
+
+        long count,
+
+        long durationSumMs,
+
+        Long durationMinMs,
+
+        Long durationMaxMs,
+
+        Map<String, Long> latencyHistogram,
+
+        long promptTokens,
+
+        long completionTokens,
+
+        long generationMs,
+
+        @Indexed(expireAfter = "0s")
+        Instant expireAt
+) {
+}
@@ -0,0 +1,43 @@
+package com.healthcare.aiservice.common.statistics.model;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+
+/**
+ * Latency histograms are stored as sparse maps from an HDR bucket value to a count, so buckets can be
+ * merged atomically with {@code $inc} and rebuilt into an {@link Histogram} when percentiles are read.
+ */
+public final class LatencyHistograms {
+
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private static final Histogram LAYOUT = new Histogram(SIGNIFICANT_DIGITS);
+
+    private LatencyHistograms() {
+    }
+
+    public static String bucketOf(long durationMs) {
+        return String.valueOf(LAYOUT.lowestEquivalentValue(Math.max(durationMs, 0L)));
+    }
+
+    public static Histogram newHistogram() {
+        return new Histogram(SIGNIFICANT_DIGITS);
+    }
+
+    public static void record(Histogram histogram, Map<String, ? extends Number> buckets) {
+        buckets.forEach((bucket, count) -> record(histogram, bucket, count));
+    }
+
+    public static void record(Histogram histogram, String bucket, Number count) {
+        if (bucket == null || count == null || count.longValue() <= 0) {
+            return;
+        }
+
+        try {
+            histogram.recordValueWithCount(Long.parseLong(bucket), count.longValue());
+        } catch (NumberFormatException ignored) {
+            // Ignore malformed histogram buckets stored in MongoDB
+        }
+    }
+}
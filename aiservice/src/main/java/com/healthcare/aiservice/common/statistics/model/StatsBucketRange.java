@@ -0,0 +1,68 @@
+package com.healthcare.aiservice.common.statistics.model;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+public record StatsBucketRange(
+
+        StatsGranularity granularity,
+
+        Instant from,
+
+        Instant to
+) {
+
+    /**
+     * Covers [from, to) with as few buckets as possible: hour buckets for whole hours and minute
+     * buckets for the partial hours at the edges. Edges older than the minute retention boundary
+     * are widened to whole hours, because their minute buckets have already expired.
+     */
+    public static List<StatsBucketRange> plan(
+            Instant from,
+            Instant to,
+            Instant minuteRetentionBoundary
+    ) {
+        Instant start = from.isBefore(minuteRetentionBoundary)
+                ? StatsGranularity.HOUR.floor(from)
+                : StatsGranularity.MINUTE.floor(from);
+
+        Instant end = to.isBefore(minuteRetentionBoundary)
+                ? StatsGranularity.HOUR.ceil(to)
+                : StatsGranularity.MINUTE.ceil(to);
+
+        if (!start.isBefore(end)) {
+            return List.of();
+        }
+
+        Instant hoursStart = min(StatsGranularity.HOUR.ceil(start), end);
+        Instant hoursEnd = max(StatsGranularity.HOUR.floor(end), hoursStart);
+
+        List<StatsBucketRange> ranges = new ArrayList<>(3);
+
+        addIfNotEmpty(ranges, StatsGranularity.MINUTE, start, hoursStart);
+        addIfNotEmpty(ranges, StatsGranularity.HOUR, hoursStart, hoursEnd);
+        addIfNotEmpty(ranges, StatsGranularity.MINUTE, hoursEnd, end);
+
+        return List.copyOf(ranges);
+    }
+
+    private static void addIfNotEmpty(
+            List<StatsBucketRange> ranges,
+            StatsGranularity granularity,
+            Instant from,
+            Instant to
+    ) {
+        if (from.isBefore(to)) {
+            ranges.add(new StatsBucketRange(granularity, from, to));
+        }
+    }
+
+    private static Instant min(Instant first, Instant second) {
+        return first.isBefore(second) ? first : second;
+    }
+
+    private static Instant max(Instant first, Instant second) {
+        return first.isAfter(second) ? first : second;
+    }
+}
@@ -0,0 +1,30 @@
+package com.healthcare.aiservice.common.statistics.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+@Getter
+@RequiredArgsConstructor
+public enum StatsGranularity {
+
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS);
+
+    private final ChronoUnit unit;
+
+    public Instant floor(Instant instant) {
+        return instant.truncatedTo(unit);
+    }
+
+    public Instant ceil(Instant instant) {
+        Instant floor = floor(instant);
+
+        return floor.equals(instant)
+                ? floor
+                : floor.plus(Duration.of(1, unit));
+    }
+}
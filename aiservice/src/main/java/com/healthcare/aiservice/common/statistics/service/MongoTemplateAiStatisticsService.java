@@ -3,11 +3,15 @@ package com.healthcare.aiservice.common.statistics.service;
 
 import com.healthcare.aiservice.common.statistics.dto.AiStatisticsResponse;
 import com.healthcare.aiservice.common.statistics.service.interfaces.AiStatisticService;
+import com.healthcare.aiservice.config.propertie.AiStatisticsProperties;
+import com.healthcare.aiservice.exception.rest_exception.InvalidStatisticsRangeException;
 import com.healthcare.aiservice.repository.AiStatisticsRepository;
 import lombok.RequiredArgsConstructor;
 import org.bson.Document;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+
 import static com.healthcare.aiservice.common.statistics.mapper.AiStatisticsDocumentMapper.mapToResponse;
 
 @Service
@@ -15,14 +19,24 @@ import static com.healthcare.aiservice.common.statistics.mapper.AiStatisticsDocu
 public class MongoTemplateAiStatisticsService implements AiStatisticService {
 
     private final AiStatisticsRepository repository;
+    private final AiStatisticsProperties properties;
 
     @Override
-    public AiStatisticsResponse getStatistic() {
+    public AiStatisticsResponse getStatistic(Instant from, Instant to) {
+
+        Instant resolvedTo = to == null ? Instant.now() : to;
+        Instant resolvedFrom = from == null
+                ? resolvedTo.minus(properties.defaultWindow())
+                : from;
+
+        if (!resolvedFrom.isBefore(resolvedTo)) {
+            throw new InvalidStatisticsRangeException(resolvedFrom, resolvedTo);
+        }
 
-        Document statistics = repository.getAiStatistics();
+        Document statistics = repository.getAiStatistics(resolvedFrom, resolvedTo);
 
         return statistics == null
-                ? AiStatisticsResponse.empty()
-                : mapToResponse(statistics);
+                ? AiStatisticsResponse.empty(resolvedFrom, resolvedTo)
+                : mapToResponse(statistics, resolvedFrom, resolvedTo);
     }
-}
\ No newline at end of file
+}
@@ -2,7 +2,9 @@ package com.healthcare.aiservice.common.statistics.service.interfaces;
 
 import com.healthcare.aiservice.common.statistics.dto.AiStatisticsResponse;
 
+import java.time.Instant;
+
 public interface AiStatisticService {
 
-    AiStatisticsResponse getStatistic();
+    AiStatisticsResponse getStatistic(Instant from, Instant to);
 }
@@ -0,0 +1,45 @@
+package com.healthcare.aiservice.common.validation;
+
+import com.healthcare.aiservice.common.dto.NoteBasedRequest;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.exception.dto.ValidationError;
+import com.healthcare.aiservice.exception.rest_exception.FeatureRequestInvalidException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Applies the bean validation constraints of a feature request that is built in code rather than bound from
+ * a request body, so endpoints that fan a note out to several features keep each feature's own limits.
+ */
+@Component
+@RequiredArgsConstructor
+public class FeatureRequestValidator {
+
+    private final Validator validator;
+
+    /**
+     * @throws FeatureRequestInvalidException when the request violates a constraint of its feature
+     */
+    public <T extends NoteBasedRequest> T validate(FeatureName feature, T request) {
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+
+        if (!violations.isEmpty()) {
+            throw new FeatureRequestInvalidException(
+                    feature,
+                    violations.stream()
+                            .map(violation -> new ValidationError(
+                                    violation.getPropertyPath().toString(),
+                                    violation.getMessage()
+                            ))
+                            .collect(Collectors.toSet())
+            );
+        }
+
+        return request;
+    }
+}
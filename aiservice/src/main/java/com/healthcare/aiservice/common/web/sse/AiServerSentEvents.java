@@ -0,0 +1,29 @@
+package com.healthcare.aiservice.common.web.sse;
+
+import com.healthcare.aiservice.common.provider.stream.AiStreamEvent;
+import com.healthcare.aiservice.exception.ErrorResponseMapper;
+import org.springframework.http.codec.ServerSentEvent;
+
+import java.util.Locale;
+
+public final class AiServerSentEvents {
+
+    public static final String ERROR_EVENT = "error";
+
+    private AiServerSentEvents() {
+    }
+
+    public static ServerSentEvent<Object> toServerSentEvent(AiStreamEvent<?> event) {
+        return ServerSentEvent.builder()
+                .event(event.type().name().toLowerCase(Locale.ROOT))
+                .data(event.isResult() ? event.result() : event.token())
+                .build();
+    }
+
+    public static ServerSentEvent<Object> toErrorEvent(Throwable exception, String path) {
+        return ServerSentEvent.builder()
+                .event(ERROR_EVENT)
+                .data(ErrorResponseMapper.toErrorResponse(exception, path))
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.healthcare.aiservice.config;
+
+import com.healthcare.aiservice.config.propertie.AiAnalysisProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+// Kept apart from the batch scheduler, so interactive analyses never queue behind large batches.
+@Configuration
+public class AiAnalysisSchedulerConfiguration {
+
+    public static final String AI_ANALYSIS_SCHEDULER = "aiAnalysisScheduler";
+
+    private static final String THREAD_NAME_PREFIX = "ai-analysis";
+    private static final int QUEUED_TASK_CAP = Integer.MAX_VALUE;
+
+    @Bean(name = AI_ANALYSIS_SCHEDULER, destroyMethod = "dispose")
+    public Scheduler aiAnalysisScheduler(
+            AiAnalysisProperties properties
+    ) {
+        return Schedulers.newBoundedElastic(
+                properties.maxConcurrency(),
+                QUEUED_TASK_CAP,
+                THREAD_NAME_PREFIX
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package com.healthcare.aiservice.config;
+
+import com.healthcare.aiservice.config.propertie.AiBatchProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class AiBatchSchedulerConfiguration {
+
+    public static final String AI_BATCH_SCHEDULER = "aiBatchScheduler";
+
+    private static final String THREAD_NAME_PREFIX = "ai-batch";
+    private static final int QUEUED_TASK_CAP = Integer.MAX_VALUE;
+
+    @Bean(name = AI_BATCH_SCHEDULER, destroyMethod = "dispose")
+    public Scheduler aiBatchScheduler(
+            AiBatchProperties properties
+    ) {
+        return Schedulers.newBoundedElastic(
+                properties.maxConcurrency(),
+                QUEUED_TASK_CAP,
+                THREAD_NAME_PREFIX
+        );
+    }
+}
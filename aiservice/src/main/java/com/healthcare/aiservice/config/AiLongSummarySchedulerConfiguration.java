@@ -0,0 +1,28 @@
+package com.healthcare.aiservice.config;
+
+import com.healthcare.aiservice.config.propertie.AiLongSummaryProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+// Chunk calls block on their own threads, so they neither queue behind batches nor starve note analyses that wait on them.
+@Configuration
+public class AiLongSummarySchedulerConfiguration {
+
+    public static final String AI_LONG_SUMMARY_SCHEDULER = "aiLongSummaryScheduler";
+
+    private static final String THREAD_NAME_PREFIX = "ai-long-summary";
+    private static final int QUEUED_TASK_CAP = Integer.MAX_VALUE;
+
+    @Bean(name = AI_LONG_SUMMARY_SCHEDULER, destroyMethod = "dispose")
+    public Scheduler aiLongSummaryScheduler(
+            AiLongSummaryProperties properties
+    ) {
+        return Schedulers.newBoundedElastic(
+                properties.schedulerMaxConcurrency(),
+                QUEUED_TASK_CAP,
+                THREAD_NAME_PREFIX
+        );
+    }
+}
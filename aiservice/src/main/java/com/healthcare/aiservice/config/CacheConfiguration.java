@@ -4,48 +4,97 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 
+import com.healthcare.aiservice.cache.CacheInvalidationMessageListener;
 import com.healthcare.aiservice.cache.CacheNames;
+import com.healthcare.aiservice.cache.RedisCacheInvalidationPublisher;
+import com.healthcare.aiservice.cache.TwoLevelCacheManager;
+import com.healthcare.aiservice.cache.TwoLevelCacheManager.TwoLevelCacheSettings;
+import com.healthcare.aiservice.config.constant.FeatureName;
 import com.healthcare.aiservice.config.propertie.cache_propertie.CacheProperties;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @Configuration
 @EnableCaching
 @RequiredArgsConstructor
 public class CacheConfiguration {
 
+    private static final int CLEAR_SCAN_BATCH_SIZE = 1000;
+
     private final CacheProperties properties;
 
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Bean
+    public RedisCacheInvalidationPublisher cacheInvalidationPublisher(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper
+    ) {
+        return new RedisCacheInvalidationPublisher(
+                redisTemplate,
+                objectMapper,
+                instanceId
+        );
+    }
+
     @Bean
-    public CacheManager cacheManager(
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
             RedisConnectionFactory connectionFactory,
+            TwoLevelCacheManager cacheManager,
             ObjectMapper objectMapper
     ) {
-        ObjectMapper cacheObjectMapper =
-                objectMapper.copy();
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                new CacheInvalidationMessageListener(cacheManager, objectMapper, instanceId),
+                new ChannelTopic(RedisCacheInvalidationPublisher.CACHE_INVALIDATION_CHANNEL)
+        );
+        return container;
+    }
 
-        cacheObjectMapper.activateDefaultTyping(
-                LaissezFaireSubTypeValidator.instance,
-                ObjectMapper.DefaultTyping.EVERYTHING,
-                JsonTypeInfo.As.PROPERTY
+    @Bean
+    public TwoLevelCacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            ObjectMapper objectMapper,
+            RedisCacheInvalidationPublisher invalidationPublisher
+    ) {
+        return new TwoLevelCacheManager(
+                redisCacheManager(connectionFactory, objectMapper),
+                Map.of(
+                        CacheNames.ACTIVE_PROMPTS,
+                        new TwoLevelCacheSettings(
+                                properties.activePrompt().localMaxSize(),
+                                properties.activePrompt().localTtl()
+                        )
+                ),
+                invalidationPublisher
         );
+    }
 
+    private RedisCacheManager redisCacheManager(
+            RedisConnectionFactory connectionFactory,
+            ObjectMapper objectMapper
+    ) {
         GenericJackson2JsonRedisSerializer valueSerializer =
-                new GenericJackson2JsonRedisSerializer(
-                        cacheObjectMapper
-                );
+                cacheValueSerializer(objectMapper);
 
         RedisCacheConfiguration defaultConfiguration =
                 createCacheConfiguration(
@@ -65,19 +114,55 @@ public class CacheConfiguration {
                         valueSerializer
                 );
 
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(defaultConfiguration)
-                .withInitialCacheConfigurations(
-                        Map.of(
-                                CacheNames.ACTIVE_PROMPTS,
-                                activePromptsConfiguration,
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>(
+                Map.of(
+                        CacheNames.ACTIVE_PROMPTS,
+                        activePromptsConfiguration,
 
-                                CacheNames.USER_AUTH_INFO,
-                                userAuthInfoConfiguration
-                        )
+                        CacheNames.USER_AUTH_INFO,
+                        userAuthInfoConfiguration
                 )
+        );
+
+        for (FeatureName feature : FeatureName.values()) {
+            properties.aiResponse().ttlFor(feature).ifPresent(ttl ->
+                    cacheConfigurations.put(
+                            CacheNames.aiResponses(feature),
+                            createCacheConfiguration(ttl, valueSerializer)
+                    )
+            );
+        }
+
+        // Clearing a cache scans its keys in batches; the default KEYS strategy blocks the shared Redis.
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+                connectionFactory,
+                BatchStrategies.scan(CLEAR_SCAN_BATCH_SIZE)
+        );
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(cacheWriter)
+                .cacheDefaults(defaultConfiguration)
+                .withInitialCacheConfigurations(cacheConfigurations)
                 .transactionAware()
                 .build();
+
+        redisCacheManager.initializeCaches();
+
+        return redisCacheManager;
+    }
+
+    public static GenericJackson2JsonRedisSerializer cacheValueSerializer(ObjectMapper objectMapper) {
+        ObjectMapper cacheObjectMapper =
+                objectMapper.copy();
+
+        cacheObjectMapper.activateDefaultTyping(
+                LaissezFaireSubTypeValidator.instance,
+                ObjectMapper.DefaultTyping.EVERYTHING,
+                JsonTypeInfo.As.PROPERTY
+        );
+
+        return new GenericJackson2JsonRedisSerializer(
+                cacheObjectMapper
+        );
     }
 
     private RedisCacheConfiguration createCacheConfiguration(
@@ -1,15 +1,49 @@
 package com.healthcare.aiservice.config;
 
 
+import com.healthcare.aiservice.common.provider.AiChatClients;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.propertie.AiRoutingProperties;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.ollama.OllamaChatModel;
+import org.springframework.ai.ollama.api.OllamaApi;
+import org.springframework.ai.ollama.api.OllamaOptions;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.util.EnumMap;
+import java.util.Map;
 
 @Configuration
 public class ChatClientConfig {
 
     @Bean
-    public ChatClient chatClient(ChatClient.Builder builder) {
-        return builder.build();
+    public AiChatClients aiChatClients(ChatClient.Builder builder, AiRoutingProperties routingProperties) {
+        Map<AiProviderModel, ChatClient> clients = new EnumMap<>(AiProviderModel.class);
+
+        routingProperties.models().forEach((model, endpoint) -> clients.put(model, chatClient(builder, endpoint)));
+
+        return new AiChatClients(clients);
+    }
+
+    // Models served by the default Ollama endpoint share its chat model and only override the model name.
+    private ChatClient chatClient(ChatClient.Builder builder, AiRoutingProperties.ModelEndpoint endpoint) {
+        OllamaOptions options = OllamaOptions.builder()
+                .model(endpoint.name())
+                .build();
+
+        if (!StringUtils.hasText(endpoint.baseUrl())) {
+            return builder.clone()
+                    .defaultOptions(options)
+                    .build();
+        }
+
+        OllamaChatModel chatModel = OllamaChatModel.builder()
+                .ollamaApi(new OllamaApi(endpoint.baseUrl()))
+                .defaultOptions(options)
+                .build();
+
+        return ChatClient.builder(chatModel).build();
     }
 }
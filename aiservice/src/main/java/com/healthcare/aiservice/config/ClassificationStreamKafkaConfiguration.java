@@ -0,0 +1,92 @@
+package com.healthcare.aiservice.config;
+
+import com.healthcare.aiservice.config.propertie.AiClassificationStreamProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.Map;
+
+@EnableKafka
+@Configuration
+@ConditionalOnProperty(
+        name = "ai.classification-stream.enabled",
+        havingValue = "true"
+)
+public class ClassificationStreamKafkaConfiguration {
+
+    public static final String CLASSIFICATION_STREAM_CONTAINER_FACTORY = "classificationStreamContainerFactory";
+    public static final String CLASSIFICATION_STREAM_LISTENER_ID = "patient-message-classification";
+    public static final String DLT_SUFFIX = ".DLT";
+
+    @Bean
+    public NewTopic classificationInputTopic(AiClassificationStreamProperties properties) {
+        return buildTopic(properties.inputTopic(), properties);
+    }
+
+    @Bean
+    public NewTopic classificationResultTopic(AiClassificationStreamProperties properties) {
+        return buildTopic(properties.resultTopic(), properties);
+    }
+
+    @Bean
+    public NewTopic classificationInputDltTopic(AiClassificationStreamProperties properties) {
+        return buildTopic(properties.inputTopic() + DLT_SUFFIX, properties);
+    }
+
+    // A poll returns at most batch-size records, and the broker holds a fetch until it has batch-min-bytes
+    // or the batch window has passed, so batches fill up under load and stay small and prompt when quiet.
+    @Bean(name = CLASSIFICATION_STREAM_CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, String> classificationStreamContainerFactory(
+            KafkaProperties kafkaProperties,
+            AiClassificationStreamProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        Map<String, Object> config = kafkaProperties.buildConsumerProperties(null);
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.batchSize());
+        config.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, properties.batchMinBytes());
+        config.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, (int) properties.batchWindow().toMillis());
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        DefaultKafkaConsumerFactory<String, String> consumerFactory = new DefaultKafkaConsumerFactory<>(
+                config,
+                new StringDeserializer(),
+                new StringDeserializer()
+        );
+        consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+
+        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+
+        // Only capacity failures reach the error handler; the batch is retried until the model has room.
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+                new FixedBackOff(properties.retryBackoff().toMillis(), FixedBackOff.UNLIMITED_ATTEMPTS)
+        ));
+
+        return factory;
+    }
+
+    private NewTopic buildTopic(String name, AiClassificationStreamProperties properties) {
+        return TopicBuilder.name(name)
+                .partitions(properties.partitions())
+                .replicas(properties.replicas())
+                .build();
+    }
+}
@@ -0,0 +1,8 @@
+package com.healthcare.aiservice.config.constant;
+
+public enum AiPayloadCompression {
+
+    NONE,
+    GZIP,
+    ZSTD
+}
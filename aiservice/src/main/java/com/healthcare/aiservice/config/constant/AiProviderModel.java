@@ -3,6 +3,7 @@ package com.healthcare.aiservice.config.constant;
 public enum AiProviderModel {
     GPT_5,
     LLAMA_3,
+    LLAMA_3_2,
     GEMINI,
     CLAUDE
 }
@@ -2,5 +2,7 @@ package com.healthcare.aiservice.config.constant;
 
 public enum PromptType {
     SYSTEM,
-    USER
+    USER,
+    CHUNK,
+    REDUCE
 }
@@ -0,0 +1,65 @@
+package com.healthcare.aiservice.config.propertie;
+
+import com.healthcare.aiservice.config.constant.FeatureName;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Validated
+@ConfigurationProperties(prefix = "ai.admission")
+public record AiAdmissionProperties(
+
+        @Min(
+                value = 1,
+                message = "AI admission max concurrency must be at least 1"
+        )
+        int maxConcurrency,
+
+        @NotNull(message = "AI admission retry after must not be null.")
+        @DurationMin(
+                seconds = 1,
+                message = "AI admission retry after must be at least 1s."
+        )
+        Duration retryAfter,
+
+        // Upper bound of one provider call; with the queue deadline it bounds how long a coalesced caller waits.
+        @NotNull(message = "AI admission call timeout must not be null.")
+        @DurationMin(
+                seconds = 1,
+                message = "AI admission call timeout must be at least 1s."
+        )
+        Duration callTimeout,
+
+        @NotEmpty(message = "AI admission features must not be empty.")
+        Map<FeatureName,
+                @NotNull(message = "AI admission feature queue must not be null.")
+                @Valid
+                        FeatureQueue> features
+) {
+
+    public record FeatureQueue(
+
+            @Min(
+                    value = 0,
+                    message = "AI admission queue capacity must not be negative"
+            )
+            int capacity,
+
+            @Min(
+                    value = 1,
+                    message = "AI admission queue weight must be at least 1"
+            )
+            int weight,
+
+            @NotNull(message = "AI admission max queue time must not be null.")
+            Duration maxQueueTime
+    ) {
+    }
+}
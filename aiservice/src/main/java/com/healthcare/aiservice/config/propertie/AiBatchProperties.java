@@ -0,0 +1,17 @@
+package com.healthcare.aiservice.config.propertie;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "ai.batch")
+public record AiBatchProperties(
+
+        @Min(
+                value = 1,
+                message = "AI batch max concurrency must be at least 1"
+        )
+        int maxConcurrency
+) {
+}
@@ -0,0 +1,101 @@
+package com.healthcare.aiservice.config.propertie;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "ai.classification-stream")
+public record AiClassificationStreamProperties(
+
+        boolean enabled,
+
+        @NotBlank(message = "Classification stream input topic must not be blank.")
+        String inputTopic,
+
+        @NotBlank(message = "Classification stream result topic must not be blank.")
+        String resultTopic,
+
+        @NotBlank(message = "Classification stream group id must not be blank.")
+        String groupId,
+
+        @Min(
+                value = 1,
+                message = "Classification stream partitions must be at least 1"
+        )
+        int partitions,
+
+        @Min(
+                value = 1,
+                message = "Classification stream replicas must be at least 1"
+        )
+        short replicas,
+
+        @Min(
+                value = 1,
+                message = "Classification stream batch size must be at least 1"
+        )
+        int batchSize,
+
+        @NotNull(message = "Classification stream batch window must not be null.")
+        @DurationMin(
+                millis = 1,
+                message = "Classification stream batch window must be at least 1 ms"
+        )
+        Duration batchWindow,
+
+        @Min(
+                value = 1,
+                message = "Classification stream batch min bytes must be at least 1"
+        )
+        int batchMinBytes,
+
+        @Min(
+                value = 1,
+                message = "Classification stream max concurrency must be at least 1"
+        )
+        int maxConcurrency,
+
+        @NotNull(message = "Classification stream retry backoff must not be null.")
+        @DurationMin(
+                millis = 1,
+                message = "Classification stream retry backoff must be at least 1 ms"
+        )
+        Duration retryBackoff,
+
+        @DecimalMin(
+                value = "0.0",
+                inclusive = false,
+                message = "Classification stream pause threshold must be above 0"
+        )
+        @DecimalMax(
+                value = "1.0",
+                message = "Classification stream pause threshold must be at most 1"
+        )
+        double pauseAtQueueFill,
+
+        @DecimalMin(
+                value = "0.0",
+                message = "Classification stream resume threshold must not be negative"
+        )
+        @DecimalMax(
+                value = "1.0",
+                message = "Classification stream resume threshold must be at most 1"
+        )
+        double resumeAtQueueFill,
+
+        @NotNull(message = "Classification stream resume check interval must not be null.")
+        @DurationMin(
+                millis = 10,
+                message = "Classification stream resume check interval must be at least 10 ms"
+        )
+        Duration resumeCheckInterval
+) {
+}
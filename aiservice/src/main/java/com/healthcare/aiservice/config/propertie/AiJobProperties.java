@@ -0,0 +1,60 @@
+package com.healthcare.aiservice.config.propertie;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "ai.jobs")
+public record AiJobProperties(
+
+        boolean enabled,
+
+        @Min(
+                value = 1,
+                message = "AI job workers must be at least 1"
+        )
+        int workers,
+
+        @NotNull(message = "AI job poll interval must not be null.")
+        @DurationMin(
+                millis = 10,
+                message = "AI job poll interval must be at least 10 ms"
+        )
+        Duration pollInterval,
+
+        @NotNull(message = "AI job lease must not be null.")
+        @DurationMin(
+                seconds = 1,
+                message = "AI job lease must be at least 1 s"
+        )
+        Duration lease,
+
+        @Min(
+                value = 1,
+                message = "AI job max attempts must be at least 1"
+        )
+        int maxAttempts,
+
+        @NotNull(message = "AI job retry backoff must not be null.")
+        @DurationMin(
+                millis = 1,
+                message = "AI job retry backoff must be at least 1 ms"
+        )
+        Duration retryBackoff,
+
+        @NotNull(message = "AI job result TTL must not be null.")
+        @DurationMin(
+                seconds = 1,
+                message = "AI job result TTL must be at least 1 s"
+        )
+        Duration resultTtl,
+
+        @NotNull(message = "AI job max wait must not be null.")
+        Duration maxWait
+) {
+}
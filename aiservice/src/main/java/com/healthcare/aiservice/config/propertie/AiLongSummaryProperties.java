@@ -0,0 +1,37 @@
+package com.healthcare.aiservice.config.propertie;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "ai.long-summary")
+public record AiLongSummaryProperties(
+
+        boolean enabled,
+
+        @Min(
+                value = 1,
+                message = "AI long summary threshold must be at least 1"
+        )
+        int threshold,
+
+        @Min(
+                value = 1,
+                message = "AI long summary chunk size must be at least 1"
+        )
+        int chunkSize,
+
+        @Min(
+                value = 1,
+                message = "AI long summary max concurrency must be at least 1"
+        )
+        int maxConcurrency,
+
+        @Min(
+                value = 1,
+                message = "AI long summary scheduler max concurrency must be at least 1"
+        )
+        int schedulerMaxConcurrency
+) {
+}
@@ -0,0 +1,20 @@
+package com.healthcare.aiservice.config.propertie;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.List;
+
+@Validated
+@ConfigurationProperties(prefix = "ai.metrics")
+public record AiMetricsProperties(
+
+        @NotNull(message = "AI metrics percentiles must not be null.")
+        List<Double> percentiles,
+
+        @NotNull(message = "AI metrics SLO buckets must not be null.")
+        List<Duration> slos
+) {
+}
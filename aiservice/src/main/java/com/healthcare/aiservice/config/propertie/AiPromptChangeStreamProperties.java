@@ -0,0 +1,37 @@
+package com.healthcare.aiservice.config.propertie;
+
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "ai.prompt-change-stream")
+public record AiPromptChangeStreamProperties(
+
+        boolean enabled,
+
+        @NotNull(message = "Prompt change stream max await time must not be null.")
+        @DurationMin(
+                millis = 10,
+                message = "Prompt change stream max await time must be at least 10 ms"
+        )
+        Duration maxAwaitTime,
+
+        @NotNull(message = "Prompt change stream checkpoint interval must not be null.")
+        @DurationMin(
+                seconds = 1,
+                message = "Prompt change stream checkpoint interval must be at least 1 s"
+        )
+        Duration checkpointInterval,
+
+        @NotNull(message = "Prompt change stream retry delay must not be null.")
+        @DurationMin(
+                millis = 10,
+                message = "Prompt change stream retry delay must be at least 10 ms"
+        )
+        Duration retryDelay
+) {
+}
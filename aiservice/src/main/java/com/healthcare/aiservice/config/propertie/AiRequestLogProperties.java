@@ -0,0 +1,82 @@
+package com.healthcare.aiservice.config.propertie;
+
+import com.healthcare.aiservice.config.constant.AiPayloadCompression;
+import com.healthcare.aiservice.config.constant.AiRequestLogOverflowPolicy;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "ai.request-log")
+public record AiRequestLogProperties(
+
+        @Min(
+                value = 1,
+                message = "AI request log queue capacity must be at least 1"
+        )
+        int capacity,
+
+        @Min(
+                value = 1,
+                message = "AI request log batch size must be at least 1"
+        )
+        int batchSize,
+
+        @NotNull(message = "AI request log flush interval must not be null.")
+        @DurationMin(
+                millis = 1,
+                message = "AI request log flush interval must be at least 1 ms"
+        )
+        Duration flushInterval,
+
+        @NotNull(message = "AI request log overflow policy must not be null.")
+        AiRequestLogOverflowPolicy overflowPolicy,
+
+        @DecimalMin(
+                value = "0.0",
+                message = "AI request log sample rate must be at least 0.0"
+        )
+        @DecimalMax(
+                value = "1.0",
+                message = "AI request log sample rate must be at most 1.0"
+        )
+        double sampleRate,
+
+        @NotNull(message = "AI request log block timeout must not be null.")
+        Duration blockTimeout,
+
+        @NotNull(message = "AI request log shutdown timeout must not be null.")
+        Duration shutdownTimeout,
+
+        @DecimalMin(
+                value = "0.0",
+                message = "AI request log payload sample rate must be at least 0.0"
+        )
+        @DecimalMax(
+                value = "1.0",
+                message = "AI request log payload sample rate must be at most 1.0"
+        )
+        double payloadSampleRate,
+
+        @NotNull(message = "AI request log payload compression must not be null.")
+        AiPayloadCompression payloadCompression,
+
+        @Min(
+                value = 1,
+                message = "AI request log payload max length must be at least 1"
+        )
+        int payloadMaxLength,
+
+        @Min(
+                value = 1,
+                message = "AI statistics rollup queue capacity must be at least 1"
+        )
+        int rollupCapacity
+) {
+}
@@ -0,0 +1,86 @@
+package com.healthcare.aiservice.config.propertie;
+
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@Validated
+@ConfigurationProperties(prefix = "ai.routing")
+public record AiRoutingProperties(
+
+        boolean overrideEnabled,
+
+        @DecimalMin(
+                value = "0.0",
+                inclusive = false,
+                message = "AI routing EWMA alpha must be greater than 0.0"
+        )
+        @DecimalMax(
+                value = "1.0",
+                message = "AI routing EWMA alpha must be at most 1.0"
+        )
+        double ewmaAlpha,
+
+        @DecimalMin(
+                value = "0.0",
+                message = "AI routing exploration rate must be at least 0.0"
+        )
+        @DecimalMax(
+                value = "1.0",
+                message = "AI routing exploration rate must be at most 1.0"
+        )
+        double explorationRate,
+
+        @DecimalMin(
+                value = "0.0",
+                message = "AI routing max error rate must be at least 0.0"
+        )
+        @DecimalMax(
+                value = "1.0",
+                message = "AI routing max error rate must be at most 1.0"
+        )
+        double maxErrorRate,
+
+        @NotEmpty(message = "AI routing models must not be empty.")
+        Map<AiProviderModel,
+                @NotNull(message = "AI routing model endpoint must not be null.")
+                @Valid
+                        ModelEndpoint> models,
+
+        @NotEmpty(message = "AI routing features must not be empty.")
+        Map<FeatureName,
+                @NotNull(message = "AI routing feature route must not be null.")
+                @Valid
+                        FeatureRoute> features
+) {
+
+    public record ModelEndpoint(
+
+            @NotBlank(message = "AI routing model name must not be blank.")
+            String name,
+
+            String baseUrl
+    ) {
+    }
+
+    public record FeatureRoute(
+
+            @NotEmpty(message = "AI routing feature models must not be empty.")
+            List<@NotNull(message = "AI routing feature model must not be null.") AiProviderModel> models,
+
+            @NotNull(message = "AI routing latency target must not be null.")
+            Duration latencyTarget
+    ) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.healthcare.aiservice.config.propertie;
+
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "ai.statistics")
+public record AiStatisticsProperties(
+
+        @NotNull(message = "AI statistics default window must not be null.")
+        @DurationMin(
+                minutes = 1,
+                message = "AI statistics default window must be at least 1 minute"
+        )
+        Duration defaultWindow,
+
+        @NotNull(message = "AI statistics minute bucket retention must not be null.")
+        @DurationMin(
+                hours = 1,
+                message = "AI statistics minute bucket retention must be at least 1 hour"
+        )
+        Duration minuteRetention,
+
+        @NotNull(message = "AI statistics hour bucket retention must not be null.")
+        @DurationMin(
+                hours = 1,
+                message = "AI statistics hour bucket retention must be at least 1 hour"
+        )
+        Duration hourRetention
+) {
+}
@@ -0,0 +1,51 @@
+package com.healthcare.aiservice.config.propertie;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "ai.structured-output")
+public record AiStructuredOutputProperties(
+
+        boolean enabled,
+
+        @Valid
+        @NotNull(message = "AI structured output repair must not be null.")
+        Repair repair
+) {
+
+    public record Repair(
+
+            @Min(
+                    value = 0,
+                    message = "AI response repair max attempts must not be negative"
+            )
+            int maxAttempts,
+
+            @Min(
+                    value = 1,
+                    message = "AI response repair max tokens must be at least 1"
+            )
+            long maxTokens,
+
+            @NotNull(message = "AI response repair timeout must not be null.")
+            @DurationMin(
+                    millis = 1,
+                    message = "AI response repair timeout must be at least 1 ms"
+            )
+            Duration timeout,
+
+            @Min(
+                    value = 1,
+                    message = "AI response repair max fragment length must be at least 1"
+            )
+            int maxFragmentLength
+    ) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.healthcare.aiservice.config.propertie;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "ai.warmup")
+public record AiWarmupProperties(
+
+        boolean enabled,
+
+        @NotBlank(message = "AI warm-up prompt must not be blank.")
+        String prompt,
+
+        @NotNull(message = "AI warm-up timeout must not be null.")
+        @DurationMin(
+                seconds = 1,
+                message = "AI warm-up timeout must be at least 1 s"
+        )
+        Duration timeout,
+
+        @NotNull(message = "AI model keep-alive must not be null.")
+        @DurationMin(
+                seconds = 1,
+                message = "AI model keep-alive must be at least 1 s"
+        )
+        Duration keepAlive,
+
+        @NotNull(message = "AI model keep-alive interval must not be null.")
+        @DurationMin(
+                seconds = 1,
+                message = "AI model keep-alive interval must be at least 1 s"
+        )
+        Duration keepAliveInterval
+) {
+}
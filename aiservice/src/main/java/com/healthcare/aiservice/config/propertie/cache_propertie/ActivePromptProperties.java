@@ -1,5 +1,6 @@
 package com.healthcare.aiservice.config.propertie.cache_propertie;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import org.hibernate.validator.constraints.time.DurationMin;
 
@@ -11,6 +12,17 @@ public record ActivePromptProperties(
         @DurationMin(
                 seconds = 1,
                 message = "Active prompt cache ttl must be at least 1s.")
-        Duration ttl
+        Duration ttl,
+
+        @NotNull(message = "Active prompt local cache ttl must not be null.")
+        @DurationMin(
+                seconds = 1,
+                message = "Active prompt local cache ttl must be at least 1s.")
+        Duration localTtl,
+
+        @Min(
+                value = 1,
+                message = "Active prompt local cache max size must be at least 1.")
+        long localMaxSize
 ) {
 }
@@ -0,0 +1,28 @@
+package com.healthcare.aiservice.config.propertie.cache_propertie;
+
+import com.healthcare.aiservice.config.constant.FeatureName;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.constraints.time.DurationMin;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+public record AiResponseCacheProperties(
+
+        boolean enabled,
+
+        @NotNull(message = "AI response cache ttl must not be null.")
+        Map<FeatureName,
+                @NotNull(message = "AI response cache feature ttl must not be null.")
+                @DurationMin(
+                        seconds = 1,
+                        message = "AI response cache feature ttl must be at least 1s.")
+                        Duration> ttl
+) {
+    public Optional<Duration> ttlFor(FeatureName feature) {
+        return enabled
+                ? Optional.ofNullable(ttl.get(feature))
+                : Optional.empty();
+    }
+}
@@ -20,6 +20,10 @@ public record CacheProperties(
         @NotNull(message = "User auth info must not be null.")
         UserAuthInfoCacheProperties userAuthInfo,
 
+        @Valid
+        @NotNull(message = "AI response cache must not be null.")
+        AiResponseCacheProperties aiResponse,
+
         @NotNull(message = "Cache default ttl must not be null.")
         @DurationMin(
                 seconds = 1,
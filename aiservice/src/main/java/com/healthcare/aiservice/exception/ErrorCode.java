@@ -18,6 +18,7 @@ public enum ErrorCode {
     AI_PROVIDER_ERROR("AI provider failed to process the request"),
     AI_PROVIDER_TIMEOUT("AI provider timeout"),
     AI_PROVIDER_NOT_FOUND("AI provider not found"),
+    AI_PROVIDER_OVERLOADED("AI provider is at capacity"),
 
     // AI Response
     AI_RESPONSE_PARSING_ERROR("AI provider returned invalid response format"),
@@ -29,6 +30,12 @@ public enum ErrorCode {
     AI_PROMPT_VERSION_CONFLICT("Prompt version conflict"),
     AI_PROMPT_STATE_INVALID("Invalid prompt state"),
 
+    // AI Jobs
+    AI_JOB_NOT_FOUND("AI job not found"),
+
+    // AI Request Logs
+    AI_REQUEST_LOG_NOT_FOUND("AI request log not found"),
+
     // Common
     INTERNAL_SERVER_ERROR("Unexpected internal server error"),
     SERVICE_UNAVAILABLE("Service unavailable");
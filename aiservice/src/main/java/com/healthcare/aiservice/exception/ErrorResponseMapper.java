@@ -0,0 +1,74 @@
+package com.healthcare.aiservice.exception;
+
+import com.healthcare.aiservice.exception.dto.ErrorResponse;
+import com.healthcare.aiservice.exception.dto.ValidationError;
+import com.healthcare.aiservice.exception.rest_exception.RestException;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.http.HttpStatus;
+
+import java.time.Instant;
+import java.util.Set;
+
+public final class ErrorResponseMapper {
+
+    private ErrorResponseMapper() {
+    }
+
+    public static ErrorResponse toErrorResponse(Throwable exception, String path) {
+        if (exception instanceof RestException restException) {
+            ErrorResponse response = restException.getResponse();
+
+            return buildErrorResponse(
+                    restException.getStatus(),
+                    response.error(),
+                    response.message(),
+                    path,
+                    response.validationErrors()
+            );
+        }
+
+        if (exception instanceof AiResponseParsingException) {
+            return buildErrorResponse(HttpStatus.BAD_GATEWAY, ErrorCode.AI_RESPONSE_PARSING_ERROR, path);
+        }
+
+        if (exception instanceof NonTransientAiException) {
+            return buildErrorResponse(HttpStatus.BAD_GATEWAY, ErrorCode.AI_PROVIDER_ERROR, path);
+        }
+
+        return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_SERVER_ERROR, path);
+    }
+
+    private static ErrorResponse buildErrorResponse(
+            HttpStatus status,
+            ErrorCode errorCode,
+            String path
+    ) {
+        return buildErrorResponse(status, errorCode.name(), errorCode.getDefaultMessage(), path);
+    }
+
+    private static ErrorResponse buildErrorResponse(
+            HttpStatus status,
+            String error,
+            String message,
+            String path
+    ) {
+        return buildErrorResponse(status, error, message, path, Set.of());
+    }
+
+    private static ErrorResponse buildErrorResponse(
+            HttpStatus status,
+            String error,
+            String message,
+            String path,
+            Set<ValidationError> validationErrors
+    ) {
+        return ErrorResponse.builder()
+                .timestamp(Instant.now())
+                .status(status.value())
+                .error(error)
+                .message(message)
+                .path(path)
+                .validationErrors(validationErrors == null ? Set.of() : validationErrors)
+                .build();
+    }
+}
@@ -5,12 +5,14 @@ import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.healthcare.aiservice.exception.dto.ErrorResponse;
 import com.healthcare.aiservice.exception.dto.ValidationError;
+import com.healthcare.aiservice.exception.rest_exception.AiCapacityExceededException;
 import com.healthcare.aiservice.exception.rest_exception.RestException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -21,6 +23,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Set;
@@ -30,6 +33,8 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final long MIN_RETRY_AFTER_SECONDS = 1;
+
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<ErrorResponse> handleConstraintViolationException(
             ConstraintViolationException ex,
@@ -214,6 +219,32 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(AiCapacityExceededException.class)
+    public ResponseEntity<ErrorResponse> handleAiCapacityExceededException(
+            AiCapacityExceededException ex,
+            HttpServletRequest request
+    ) {
+        ErrorResponse response = ex.getResponse();
+
+        log.warn(
+                "AI provider at capacity. path={}, message={}",
+                request.getRequestURI(),
+                response.message()
+        );
+
+        ResponseEntity<ErrorResponse> errorResponse = buildErrorResponse(
+                ex.getStatus(),
+                response.error(),
+                response.message(),
+                request
+        );
+
+        return ResponseEntity
+                .status(errorResponse.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(ex.getRetryAfter()))
+                .body(errorResponse.getBody());
+    }
+
     @ExceptionHandler(RestException.class)
     public ResponseEntity<ErrorResponse> handleException(RestException ex, HttpServletRequest request) {
 
@@ -253,6 +284,13 @@ public class GlobalExceptionHandler {
         );
     }
 
+    // Retry-After takes whole seconds; rounding down would tell clients to retry a sub-second wait at once.
+    private String retryAfterSeconds(Duration retryAfter) {
+        long seconds = retryAfter.toSeconds() + (retryAfter.toNanosPart() > 0 ? 1 : 0);
+
+        return String.valueOf(Math.max(MIN_RETRY_AFTER_SECONDS, seconds));
+    }
+
     private ValidationError toValidationError(
             ConstraintViolation<?> violation
     ) {
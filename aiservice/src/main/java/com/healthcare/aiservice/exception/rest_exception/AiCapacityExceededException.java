@@ -0,0 +1,23 @@
+package com.healthcare.aiservice.exception.rest_exception;
+
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.exception.ErrorCode;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+@Getter
+public class AiCapacityExceededException extends RestException {
+
+    private static final HttpStatus STATUS = HttpStatus.TOO_MANY_REQUESTS;
+
+    private final Duration retryAfter;
+
+    public AiCapacityExceededException(FeatureName feature, String reason, Duration retryAfter) {
+        super(STATUS,
+                String.format("AI provider is at capacity for feature '%s': %s", feature.getValue(), reason),
+                ErrorCode.AI_PROVIDER_OVERLOADED);
+        this.retryAfter = retryAfter;
+    }
+}
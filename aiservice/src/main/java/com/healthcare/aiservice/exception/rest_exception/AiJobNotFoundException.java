@@ -0,0 +1,16 @@
+package com.healthcare.aiservice.exception.rest_exception;
+
+import com.healthcare.aiservice.exception.ErrorCode;
+import org.springframework.http.HttpStatus;
+
+public class AiJobNotFoundException extends RestException {
+
+    private static final HttpStatus STATUS = HttpStatus.NOT_FOUND;
+
+    public AiJobNotFoundException(String jobId) {
+
+        super(STATUS,
+                String.format("AI job with id: '%s' not found", jobId),
+                ErrorCode.AI_JOB_NOT_FOUND);
+    }
+}
@@ -0,0 +1,16 @@
+package com.healthcare.aiservice.exception.rest_exception;
+
+import com.healthcare.aiservice.exception.ErrorCode;
+import org.springframework.http.HttpStatus;
+
+public class AiRequestLogNotFoundException extends RestException {
+
+    private static final HttpStatus STATUS = HttpStatus.NOT_FOUND;
+
+    public AiRequestLogNotFoundException(String requestLogId) {
+
+        super(STATUS,
+                String.format("AI request log with id: '%s' not found", requestLogId),
+                ErrorCode.AI_REQUEST_LOG_NOT_FOUND);
+    }
+}
@@ -0,0 +1,20 @@
+package com.healthcare.aiservice.exception.rest_exception;
+
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.exception.ErrorCode;
+import com.healthcare.aiservice.exception.dto.ValidationError;
+import org.springframework.http.HttpStatus;
+
+import java.util.Set;
+
+public class FeatureRequestInvalidException extends RestException {
+
+    private static final HttpStatus STATUS = HttpStatus.BAD_REQUEST;
+
+    public FeatureRequestInvalidException(FeatureName feature, Set<ValidationError> errors) {
+        super(STATUS,
+                String.format("Invalid request for feature '%s'", feature.name()),
+                ErrorCode.VALIDATION_ERROR,
+                errors);
+    }
+}
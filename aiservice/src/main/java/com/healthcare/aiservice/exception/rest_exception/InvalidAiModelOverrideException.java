@@ -0,0 +1,18 @@
+package com.healthcare.aiservice.exception.rest_exception;
+
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.exception.ErrorCode;
+import org.springframework.http.HttpStatus;
+
+import java.util.Set;
+
+public class InvalidAiModelOverrideException extends RestException {
+
+    private static final HttpStatus STATUS = HttpStatus.BAD_REQUEST;
+
+    public InvalidAiModelOverrideException(String header, String value, Set<AiProviderModel> configuredModels) {
+        super(STATUS,
+                String.format("Invalid value '%s' for header '%s'. Configured models: %s", value, header, configuredModels),
+                ErrorCode.INVALID_REQUEST_PARAMETER);
+    }
+}
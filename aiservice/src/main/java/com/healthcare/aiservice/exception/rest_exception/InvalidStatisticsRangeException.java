@@ -0,0 +1,17 @@
+package com.healthcare.aiservice.exception.rest_exception;
+
+import com.healthcare.aiservice.exception.ErrorCode;
+import org.springframework.http.HttpStatus;
+
+import java.time.Instant;
+
+public class InvalidStatisticsRangeException extends RestException {
+
+    private static final HttpStatus STATUS = HttpStatus.BAD_REQUEST;
+
+    public InvalidStatisticsRangeException(Instant from, Instant to) {
+        super(STATUS,
+                String.format("Statistics range start '%s' must be before its end '%s'", from, to),
+                ErrorCode.INVALID_REQUEST_PARAMETER);
+    }
+}
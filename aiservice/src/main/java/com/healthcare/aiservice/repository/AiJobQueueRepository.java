@@ -0,0 +1,20 @@
+package com.healthcare.aiservice.repository;
+
+import com.healthcare.aiservice.common.ai_job.model.AiJob;
+import com.healthcare.aiservice.exception.dto.ErrorResponse;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface AiJobQueueRepository {
+
+    Optional<AiJob> claimNext(Instant now, Instant leaseExpiresAt);
+
+    boolean complete(AiJob job, String result, Instant completedAt, Instant expiresAt);
+
+    boolean fail(AiJob job, ErrorResponse error, Instant completedAt, Instant expiresAt);
+
+    boolean release(AiJob job, Instant notBefore);
+
+    Optional<AiJob> requeueFailed(String inputHash, Instant now);
+}
@@ -0,0 +1,11 @@
+package com.healthcare.aiservice.repository;
+
+import com.healthcare.aiservice.common.ai_job.model.AiJob;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.Optional;
+
+public interface AiJobRepository extends MongoRepository<AiJob, String> {
+
+    Optional<AiJob> findByInputHash(String inputHash);
+}
@@ -0,0 +1,11 @@
+package com.healthcare.aiservice.repository;
+
+import com.healthcare.aiservice.common.prompt.model.AiPrompt;
+import com.healthcare.aiservice.common.prompt.model.AiPromptKey;
+
+import java.util.List;
+
+public interface AiPromptVersionRepository {
+
+    List<AiPrompt> findVersions(AiPromptKey key, Long beforeVersion, int limit, boolean includeContent);
+}
@@ -2,7 +2,9 @@ package com.healthcare.aiservice.repository;
 
 import org.bson.Document;
 
+import java.time.Instant;
+
 public interface AiStatisticsRepository {
 
-     Document getAiStatistics();
+     Document getAiStatistics(Instant from, Instant to);
 }
@@ -0,0 +1,10 @@
+package com.healthcare.aiservice.repository;
+
+import com.healthcare.aiservice.common.provider.logging.model.AiRequestLog;
+
+import java.util.List;
+
+public interface AiStatisticsRollupRepository {
+
+    void record(List<AiRequestLog> logs);
+}
@@ -0,0 +1,7 @@
+package com.healthcare.aiservice.repository;
+
+import com.healthcare.aiservice.common.prompt.model.ChangeStreamCheckpoint;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface ChangeStreamCheckpointRepository extends MongoRepository<ChangeStreamCheckpoint, String> {
+}
@@ -0,0 +1,124 @@
+package com.healthcare.aiservice.repository;
+
+import com.healthcare.aiservice.common.ai_job.model.AiJob;
+import com.healthcare.aiservice.common.ai_job.model.AiJobStatus;
+import com.healthcare.aiservice.exception.dto.ErrorResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class MongoTemplateAiJobQueueRepository implements AiJobQueueRepository {
+
+    private static final String FIELD_ID = "_id";
+    private static final String FIELD_INPUT_HASH = "inputHash";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_ATTEMPTS = "attempts";
+    private static final String FIELD_RESULT = "result";
+    private static final String FIELD_ERROR = "error";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    private static final String FIELD_STARTED_AT = "startedAt";
+    private static final String FIELD_LEASE_EXPIRES_AT = "leaseExpiresAt";
+    private static final String FIELD_NOT_BEFORE = "notBefore";
+    private static final String FIELD_COMPLETED_AT = "completedAt";
+    private static final String FIELD_EXPIRES_AT = "expiresAt";
+
+    private final MongoTemplate mongoTemplate;
+
+    // A running job whose lease has lapsed belongs to a worker that died, so it is handed out again.
+    // A released job waits until its retry time, so a retry does not hit the same full queue at once.
+    @Override
+    public Optional<AiJob> claimNext(Instant now, Instant leaseExpiresAt) {
+        Query query = Query.query(new Criteria().orOperator(
+                        Criteria.where(FIELD_STATUS).is(AiJobStatus.QUEUED).orOperator(
+                                Criteria.where(FIELD_NOT_BEFORE).is(null),
+                                Criteria.where(FIELD_NOT_BEFORE).lte(now)
+                        ),
+                        Criteria.where(FIELD_STATUS).is(AiJobStatus.RUNNING).and(FIELD_LEASE_EXPIRES_AT).lt(now)
+                ))
+                .with(Sort.by(Sort.Direction.ASC, FIELD_CREATED_AT));
+
+        Update update = new Update()
+                .set(FIELD_STATUS, AiJobStatus.RUNNING)
+                .set(FIELD_STARTED_AT, now)
+                .set(FIELD_LEASE_EXPIRES_AT, leaseExpiresAt)
+                .unset(FIELD_NOT_BEFORE)
+                .inc(FIELD_ATTEMPTS, 1);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query,
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                AiJob.class
+        ));
+    }
+
+    @Override
+    public boolean complete(AiJob job, String result, Instant completedAt, Instant expiresAt) {
+        return finish(job, finishUpdate(AiJobStatus.SUCCEEDED, completedAt, expiresAt).set(FIELD_RESULT, result));
+    }
+
+    @Override
+    public boolean fail(AiJob job, ErrorResponse error, Instant completedAt, Instant expiresAt) {
+        return finish(job, finishUpdate(AiJobStatus.FAILED, completedAt, expiresAt).set(FIELD_ERROR, error));
+    }
+
+    @Override
+    public boolean release(AiJob job, Instant notBefore) {
+        return finish(job, new Update()
+                .set(FIELD_STATUS, AiJobStatus.QUEUED)
+                .set(FIELD_NOT_BEFORE, notBefore)
+                .unset(FIELD_LEASE_EXPIRES_AT));
+    }
+
+    @Override
+    public Optional<AiJob> requeueFailed(String inputHash, Instant now) {
+        Query query = Query.query(Criteria.where(FIELD_INPUT_HASH).is(inputHash)
+                .and(FIELD_STATUS).is(AiJobStatus.FAILED));
+
+        Update update = new Update()
+                .set(FIELD_STATUS, AiJobStatus.QUEUED)
+                .set(FIELD_ATTEMPTS, 0)
+                .set(FIELD_CREATED_AT, now)
+                .unset(FIELD_RESULT)
+                .unset(FIELD_ERROR)
+                .unset(FIELD_STARTED_AT)
+                .unset(FIELD_LEASE_EXPIRES_AT)
+                .unset(FIELD_NOT_BEFORE)
+                .unset(FIELD_COMPLETED_AT)
+                .unset(FIELD_EXPIRES_AT);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query,
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                AiJob.class
+        ));
+    }
+
+    // Matching on the attempt keeps a worker whose lease was taken over from overwriting the new run.
+    private boolean finish(AiJob job, Update update) {
+        Query query = Query.query(Criteria.where(FIELD_ID).is(job.id())
+                .and(FIELD_STATUS).is(AiJobStatus.RUNNING)
+                .and(FIELD_ATTEMPTS).is(job.attempts()));
+
+        return mongoTemplate.updateFirst(query, update, AiJob.class).getModifiedCount() > 0;
+    }
+
+    private Update finishUpdate(AiJobStatus status, Instant completedAt, Instant expiresAt) {
+        return new Update()
+                .set(FIELD_STATUS, status)
+                .set(FIELD_COMPLETED_AT, completedAt)
+                .set(FIELD_EXPIRES_AT, expiresAt)
+                .unset(FIELD_LEASE_EXPIRES_AT);
+    }
+}
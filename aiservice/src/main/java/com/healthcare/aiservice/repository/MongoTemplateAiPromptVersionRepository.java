@@ -0,0 +1,51 @@
+package com.healthcare.aiservice.repository;
+
+import com.healthcare.aiservice.common.prompt.model.AiPrompt;
+import com.healthcare.aiservice.common.prompt.model.AiPromptKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Lists prompt versions a page at a time, newest first. Pages are keyed by version rather than skipped by
+ * offset, so every page is a bounded range scan of the unique (feature, type, targetModel, version) index.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MongoTemplateAiPromptVersionRepository implements AiPromptVersionRepository {
+
+    private static final String FIELD_FEATURE = "feature";
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_TARGET_MODEL = "targetModel";
+    private static final String FIELD_VERSION = "version";
+    private static final String FIELD_CONTENT = "content";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<AiPrompt> findVersions(AiPromptKey key, Long beforeVersion, int limit, boolean includeContent) {
+        Criteria criteria = Criteria.where(FIELD_FEATURE).is(key.feature())
+                .and(FIELD_TYPE).is(key.type())
+                .and(FIELD_TARGET_MODEL).is(key.targetModel());
+
+        if (beforeVersion != null) {
+            criteria = criteria.and(FIELD_VERSION).lt(beforeVersion);
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, FIELD_VERSION))
+                .limit(limit);
+
+        // Content is by far the largest field and the version list does not show it.
+        if (!includeContent) {
+            query.fields().exclude(FIELD_CONTENT);
+        }
+
+        return mongoTemplate.find(query, AiPrompt.class);
+    }
+}
@@ -1,6 +1,8 @@
 package com.healthcare.aiservice.repository;
 
 import com.healthcare.aiservice.common.provider.logging.AiRequestStatus;
+import com.healthcare.aiservice.common.statistics.model.StatsBucketRange;
+import com.healthcare.aiservice.config.propertie.AiStatisticsProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
@@ -9,10 +11,12 @@ import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Repository;
 import org.bson.Document;
 
+import java.time.Instant;
+import java.util.List;
+
 import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.*;
 
 import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
-import static org.springframework.data.mongodb.core.aggregation.Aggregation.count;
 import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
 import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
 
@@ -21,36 +25,103 @@ import static org.springframework.data.mongodb.core.aggregation.Aggregation.matc
 public class MongoTemplateAiStatisticsRepository implements AiStatisticsRepository {
 
     private final MongoTemplate mongoTemplate;
+    private final AiStatisticsProperties properties;
 
     @Override
-    public Document getAiStatistics() {
-        Aggregation aggregation = Aggregation.newAggregation(buildStatisticsFacet());
+    public Document getAiStatistics(Instant from, Instant to) {
+        List<StatsBucketRange> ranges = StatsBucketRange.plan(
+                from,
+                to,
+                Instant.now().minus(properties.minuteRetention())
+        );
+
+        if (ranges.isEmpty()) {
+            return null;
+        }
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                match(buildRangeCriteria(ranges)),
+                buildStatisticsFacet()
+        );
 
         return mongoTemplate.aggregate(
                 aggregation,
-                COLLECTION_NAME,
+                ROLLUP_COLLECTION_NAME,
                 Document.class
         ).getUniqueMappedResult();
     }
 
+    private Criteria buildRangeCriteria(List<StatsBucketRange> ranges) {
+        return new Criteria().orOperator(ranges.stream()
+                .map(range -> Criteria.where(FIELD_GRANULARITY).is(range.granularity())
+                        .and(FIELD_BUCKET_START).gte(range.from()).lt(range.to()))
+                .toList());
+    }
+
     private FacetOperation buildStatisticsFacet() {
-        return facet(count().as(KEY_COUNT)).as(FACET_TOTAL)
+        return facet(group().sum(FIELD_COUNT).as(KEY_COUNT)).as(FACET_TOTAL)
                 .and(
                         match(Criteria.where(FIELD_STATUS).is(AiRequestStatus.SUCCESS)),
-                        count().as(KEY_COUNT)
+                        group().sum(FIELD_COUNT).as(KEY_COUNT)
                 ).as(FACET_SUCCESSFUL)
                 .and(
                         match(Criteria.where(FIELD_STATUS).is(AiRequestStatus.FAILED)),
-                        count().as(KEY_COUNT)
+                        group().sum(FIELD_COUNT).as(KEY_COUNT)
                 ).as(FACET_FAILED)
                 .and(
-                        group().avg(FIELD_DURATION_MS).as(KEY_AVERAGE_DURATION_MS)
+                        group()
+                                .sum(FIELD_COUNT).as(KEY_COUNT)
+                                .sum(FIELD_DURATION_SUM_MS).as(KEY_DURATION_SUM_MS)
+                                .min(FIELD_DURATION_MIN_MS).as(KEY_MIN_DURATION_MS)
+                                .max(FIELD_DURATION_MAX_MS).as(KEY_MAX_DURATION_MS)
+                                .sum(FIELD_PROMPT_TOKENS).as(KEY_PROMPT_TOKENS)
+                                .sum(FIELD_COMPLETION_TOKENS).as(KEY_COMPLETION_TOKENS)
+                                .sum(FIELD_GENERATION_MS).as(KEY_GENERATION_MS)
                 ).as(FACET_AVERAGE)
                 .and(
                         context -> new Document("$group",
                                 new Document(KEY_ID, "$" + FIELD_FEATURE)
-                                        .append(KEY_COUNT, new Document("$sum", 1))
+                                        .append(KEY_COUNT, new Document("$sum", "$" + FIELD_COUNT))
+                        )
+                ).as(FACET_BY_FEATURE)
+                // Failures include near-instant admission rejections and timeouts, which would skew the percentiles.
+                .and(
+                        match(Criteria.where(FIELD_STATUS).is(AiRequestStatus.SUCCESS)),
+                        context -> new Document("$project",
+                                new Document(FIELD_FEATURE, 1)
+                                        .append(FIELD_MODEL, 1)
+                                        .append(FIELD_PROMPT_VERSION, 1)
+                                        .append(KEY_BUCKETS, new Document("$objectToArray",
+                                                new Document("$ifNull", List.of("$" + FIELD_LATENCY_HISTOGRAM, new Document()))))
+                        ),
+                        context -> new Document("$unwind", "$" + KEY_BUCKETS),
+                        context -> new Document("$group",
+                                new Document(KEY_ID, latencyDimensions("$")
+                                        .append(KEY_BUCKET, "$" + KEY_BUCKETS + ".k"))
+                                        .append(KEY_COUNT, new Document("$sum", "$" + KEY_BUCKETS + ".v"))
+                        ),
+                        context -> new Document("$group",
+                                new Document(KEY_ID, latencyDimensions("$" + KEY_ID + "."))
+                                        .append(KEY_BUCKETS, new Document("$push",
+                                                new Document(KEY_BUCKET, "$" + KEY_ID + "." + KEY_BUCKET)
+                                                        .append(KEY_COUNT, "$" + KEY_COUNT)))
                         )
-                ).as(FACET_BY_FEATURE);
+                ).as(FACET_LATENCY)
+                .and(
+                        context -> new Document("$group",
+                                new Document(KEY_ID, new Document(FIELD_GRANULARITY, "$" + FIELD_GRANULARITY)
+                                        .append(FIELD_BUCKET_START, "$" + FIELD_BUCKET_START))
+                                        .append(KEY_PROMPT_TOKENS, new Document("$sum", "$" + FIELD_PROMPT_TOKENS))
+                                        .append(KEY_COMPLETION_TOKENS, new Document("$sum", "$" + FIELD_COMPLETION_TOKENS))
+                                        .append(KEY_GENERATION_MS, new Document("$sum", "$" + FIELD_GENERATION_MS))
+                        ),
+                        context -> new Document("$sort", new Document(KEY_ID + "." + FIELD_BUCKET_START, 1))
+                ).as(FACET_TOKENS);
+    }
+
+    private Document latencyDimensions(String prefix) {
+        return new Document(FIELD_FEATURE, prefix + FIELD_FEATURE)
+                .append(FIELD_MODEL, prefix + FIELD_MODEL)
+                .append(FIELD_PROMPT_VERSION, prefix + FIELD_PROMPT_VERSION);
     }
 }
@@ -0,0 +1,167 @@
+package com.healthcare.aiservice.repository;
+
+import com.healthcare.aiservice.common.provider.logging.model.AiRequestLog;
+import com.healthcare.aiservice.common.statistics.model.AiRequestStatsBucket;
+import com.healthcare.aiservice.common.statistics.model.LatencyHistograms;
+import com.healthcare.aiservice.common.statistics.model.StatsGranularity;
+import com.healthcare.aiservice.config.propertie.AiStatisticsProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.*;
+
+@Repository
+@RequiredArgsConstructor
+public class MongoTemplateAiStatisticsRollupRepository implements AiStatisticsRollupRepository {
+
+    private static final String ID_SEPARATOR = "|";
+    private static final String FIELD_ID = "_id";
+
+    private final MongoTemplate mongoTemplate;
+    private final AiStatisticsProperties properties;
+
+    @Override
+    public void record(List<AiRequestLog> logs) {
+        if (logs == null || logs.isEmpty()) {
+            return;
+        }
+
+        Map<String, AiRequestStatsBucket> buckets = new LinkedHashMap<>();
+
+        for (AiRequestLog log : logs) {
+            if (log.feature() == null || log.status() == null || log.createdAt() == null) {
+                continue;
+            }
+
+            for (StatsGranularity granularity : StatsGranularity.values()) {
+                AiRequestStatsBucket bucket = toBucket(granularity, log);
+                buckets.merge(bucket.id(), bucket, this::merge);
+            }
+        }
+
+        if (buckets.isEmpty()) {
+            return;
+        }
+
+        BulkOperations operations = mongoTemplate.bulkOps(
+                BulkOperations.BulkMode.UNORDERED,
+                AiRequestStatsBucket.class
+        );
+
+        buckets.values().forEach(bucket -> operations.upsert(
+                Query.query(Criteria.where(FIELD_ID).is(bucket.id())),
+                toUpdate(bucket)
+        ));
+
+        operations.execute();
+    }
+
+    private AiRequestStatsBucket toBucket(StatsGranularity granularity, AiRequestLog log) {
+        Instant bucketStart = granularity.floor(log.createdAt());
+        long durationMs = log.durationMs() == null ? 0L : log.durationMs();
+
+        return AiRequestStatsBucket.builder()
+                .id(buildId(granularity, bucketStart, log))
+                .granularity(granularity)
+                .bucketStart(bucketStart)
+                .feature(log.feature())
+                .status(log.status())
+                .model(log.model())
+                .promptVersion(log.promptVersion())
+                .count(1L)
+                .durationSumMs(durationMs)
+                .durationMinMs(durationMs)
+                .durationMaxMs(durationMs)
+                .latencyHistogram(Map.of(LatencyHistograms.bucketOf(durationMs), 1L))
+                .promptTokens(valueOrZero(log.promptTokens()))
+                .completionTokens(valueOrZero(log.completionTokens()))
+                .generationMs(valueOrZero(log.generationMs()))
+                .expireAt(bucketStart.plus(retentionOf(granularity)))
+                .build();
+    }
+
+    private AiRequestStatsBucket merge(AiRequestStatsBucket first, AiRequestStatsBucket second) {
+        return AiRequestStatsBucket.builder()
+                .id(first.id())
+                .granularity(first.granularity())
+                .bucketStart(first.bucketStart())
+                .feature(first.feature())
+                .status(first.status())
+                .model(first.model())
+                .promptVersion(first.promptVersion())
+                .count(first.count() + second.count())
+                .durationSumMs(first.durationSumMs() + second.durationSumMs())
+                .durationMinMs(Math.min(first.durationMinMs(), second.durationMinMs()))
+                .durationMaxMs(Math.max(first.durationMaxMs(), second.durationMaxMs()))
+                .latencyHistogram(mergeHistograms(first.latencyHistogram(), second.latencyHistogram()))
+                .promptTokens(first.promptTokens() + second.promptTokens())
+                .completionTokens(first.completionTokens() + second.completionTokens())
+                .generationMs(first.generationMs() + second.generationMs())
+                .expireAt(first.expireAt())
+                .build();
+    }
+
+    private Map<String, Long> mergeHistograms(Map<String, Long> first, Map<String, Long> second) {
+        Map<String, Long> merged = new HashMap<>(first);
+        second.forEach((bucket, count) -> merged.merge(bucket, count, Long::sum));
+        return merged;
+    }
+
+    private Update toUpdate(AiRequestStatsBucket bucket) {
+        Update update = new Update()
+                .setOnInsert(FIELD_GRANULARITY, bucket.granularity())
+                .setOnInsert(FIELD_BUCKET_START, bucket.bucketStart())
+                .setOnInsert(FIELD_FEATURE, bucket.feature())
+                .setOnInsert(FIELD_STATUS, bucket.status())
+                .setOnInsert(FIELD_MODEL, bucket.model())
+                .setOnInsert(FIELD_PROMPT_VERSION, bucket.promptVersion())
+                .setOnInsert(FIELD_EXPIRE_AT, bucket.expireAt())
+                .inc(FIELD_COUNT, bucket.count())
+                .inc(FIELD_DURATION_SUM_MS, bucket.durationSumMs())
+                .min(FIELD_DURATION_MIN_MS, bucket.durationMinMs())
+                .max(FIELD_DURATION_MAX_MS, bucket.durationMaxMs())
+                .inc(FIELD_PROMPT_TOKENS, bucket.promptTokens())
+                .inc(FIELD_COMPLETION_TOKENS, bucket.completionTokens())
+                .inc(FIELD_GENERATION_MS, bucket.generationMs());
+
+        bucket.latencyHistogram().forEach((histogramBucket, count) ->
+                update.inc(FIELD_LATENCY_HISTOGRAM + "." + histogramBucket, count));
+
+        return update;
+    }
+
+    private static long valueOrZero(Long value) {
+        return value == null ? 0L : value;
+    }
+
+    private Duration retentionOf(StatsGranularity granularity) {
+        return switch (granularity) {
+            case MINUTE -> properties.minuteRetention();
+            case HOUR -> properties.hourRetention();
+        };
+    }
+
+    private String buildId(StatsGranularity granularity, Instant bucketStart, AiRequestLog log) {
+        return String.join(
+                ID_SEPARATOR,
+                granularity.name(),
+                String.valueOf(bucketStart.toEpochMilli()),
+                log.feature().name(),
+                log.status().name(),
+                String.valueOf(log.model()),
+                String.valueOf(log.promptVersion())
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package com.healthcare.aiservice.repository;
+
+import com.healthcare.aiservice.common.message_classification.model.ProcessedPatientMessage;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface ProcessedPatientMessageRepository extends MongoRepository<ProcessedPatientMessage, String> {
+}
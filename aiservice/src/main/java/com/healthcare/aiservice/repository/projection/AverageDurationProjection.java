@@ -1,7 +0,0 @@
-package com.healthcare.aiservice.repository.projection;
-
-
-public interface AverageDurationProjection {
-
-    Double getAverageDurationMs();
-}
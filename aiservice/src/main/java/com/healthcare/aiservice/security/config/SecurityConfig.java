@@ -21,10 +21,17 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import static com.healthcare.aiservice.common.ai_job.controller.API.AiJobApiPaths.JOBS_URL;
+import static com.healthcare.aiservice.common.ai_job.controller.API.AiJobApiPaths.JOB_BY_ID_URL;
+import static com.healthcare.aiservice.common.ai_job.controller.API.AiJobApiPaths.JOB_EVENTS_URL;
+import static com.healthcare.aiservice.common.medical_extraction.controller.API.MedicalInfoExtractionApiPaths.EXTRACT_MEDICAL_INFO_BATCH_URL;
 import static com.healthcare.aiservice.common.medical_extraction.controller.API.MedicalInfoExtractionApiPaths.EXTRACT_MEDICAL_INFO_URL;
+import static com.healthcare.aiservice.common.medical_summary.controller.API.MedicalSummaryApiPaths.MEDICAL_NOTE_SUMMARY_STREAM_URL;
 import static com.healthcare.aiservice.common.medical_summary.controller.API.MedicalSummaryApiPaths.MEDICAL_NOTE_SUMMARY_URL;
 import static com.healthcare.aiservice.common.message_classification.controller.API.MessageClassificationApiPaths.CLASSIFY_MESSAGE_URL;
+import static com.healthcare.aiservice.common.note_analysis.controller.API.NoteAnalysisApiPaths.ANALYZE_NOTE_URL;
 import static com.healthcare.aiservice.common.prompt.controller.API.AiPromptApiPaths.*;
+import static com.healthcare.aiservice.common.request_log.controller.API.AiRequestLogApiPaths.REQUEST_LOG_BY_ID_ADMIN_URL;
 import static com.healthcare.aiservice.common.statistics.controller.API.AiStatisticsApiPaths.STATISTICS_ADMIN_URL;
 import static org.springframework.security.config.Customizer.withDefaults;
 
@@ -63,14 +70,25 @@ public class SecurityConfig {
                         .requestMatchers(
                                 HttpMethod.POST,
                                 MEDICAL_NOTE_SUMMARY_URL,
+                                MEDICAL_NOTE_SUMMARY_STREAM_URL,
                                 CLASSIFY_MESSAGE_URL,
-                                EXTRACT_MEDICAL_INFO_URL
+                                EXTRACT_MEDICAL_INFO_URL,
+                                EXTRACT_MEDICAL_INFO_BATCH_URL,
+                                ANALYZE_NOTE_URL,
+                                JOBS_URL
+                        ).authenticated()
+
+                        .requestMatchers(
+                                HttpMethod.GET,
+                                JOB_BY_ID_URL,
+                                JOB_EVENTS_URL
                         ).authenticated()
 
                         // Admin endpoints
                         .requestMatchers(
                                 HttpMethod.GET,
                                 STATISTICS_ADMIN_URL,
+                                REQUEST_LOG_BY_ID_ADMIN_URL,
                                 PROMPTS_URL,
                                 PROMPT_BY_ID_URL,
                                 CURRENT_PROMPT_URL
@@ -0,0 +1,188 @@
+package com.healthcare.aiservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.aiservice.common.message_classification.category.MessageCategory;
+import com.healthcare.aiservice.common.message_classification.dto.MessageClassificationResponse;
+import com.healthcare.aiservice.common.prompt.model.FeaturePrompts;
+import com.healthcare.aiservice.common.prompt.model.ResolvedPrompt;
+import com.healthcare.aiservice.common.prompt.template.PromptVariables;
+import com.healthcare.aiservice.common.prompt.normalizer.PromptTextNormalizer;
+import com.healthcare.aiservice.common.provider.AiRequestCoalescer;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.constant.PromptSource;
+import com.healthcare.aiservice.config.propertie.AiAdmissionProperties;
+import com.healthcare.aiservice.config.propertie.cache_propertie.ActivePromptProperties;
+import com.healthcare.aiservice.config.propertie.cache_propertie.AiResponseCacheProperties;
+import com.healthcare.aiservice.config.propertie.cache_propertie.CacheProperties;
+import com.healthcare.aiservice.config.propertie.cache_propertie.UserAuthInfoCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("AI response cache tests: ")
+class AiResponseCacheTest {
+
+    private static final FeatureName FEATURE = FeatureName.MESSAGE_CLASSIFICATION;
+
+    private static final MessageClassificationResponse RESPONSE =
+            new MessageClassificationResponse(
+                    MessageCategory.APPOINTMENT,
+                    "Patient wants to reschedule an appointment."
+            );
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AiResponseCache cache;
+
+    private final AtomicInteger loaderCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        cache = createCache(Map.of(FEATURE, Duration.ofMinutes(10)));
+    }
+
+    @Test
+    void getOrCompute_ShouldCallLoaderOnce_WhenSameNormalizedNoteIsRequestedTwice() {
+        MessageClassificationResponse first =
+                getOrCompute("Reschedule my visit, please.", prompts(1L, 1L));
+
+        MessageClassificationResponse second =
+                getOrCompute("\uFEFF  Reschedule my visit, please.   \r\n", prompts(1L, 1L));
+
+        assertThat(first).isEqualTo(RESPONSE);
+        assertThat(second).isEqualTo(RESPONSE);
+        assertThat(loaderCalls).hasValue(1);
+        assertThat(count(AiResponseCache.HIT)).isEqualTo(1);
+        assertThat(count(AiResponseCache.MISS)).isEqualTo(1);
+    }
+
+    @Test
+    void getOrCompute_ShouldCallLoaderAgain_WhenPromptVersionChanges() {
+        getOrCompute("note", prompts(1L, 1L));
+        getOrCompute("note", prompts(1L, 2L));
+
+        assertThat(loaderCalls).hasValue(2);
+        assertThat(count(AiResponseCache.MISS)).isEqualTo(2);
+    }
+
+    @Test
+    void getOrCompute_ShouldCallLoaderAgain_WhenReducePromptVersionChanges() {
+        getOrCompute("note", prompts(1L, 1L), prompts(1L, 1L));
+        getOrCompute("note", prompts(1L, 1L), prompts(1L, 1L));
+        getOrCompute("note", prompts(1L, 1L), prompts(1L, 2L));
+
+        assertThat(loaderCalls).hasValue(2);
+        assertThat(count(AiResponseCache.HIT)).isEqualTo(1);
+        assertThat(count(AiResponseCache.MISS)).isEqualTo(2);
+    }
+
+    @Test
+    void getOrCompute_ShouldBypassCache_WhenFeatureHasNoTtl() {
+        cache = createCache(Map.of());
+
+        getOrCompute("note", prompts(1L, 1L));
+        getOrCompute("note", prompts(1L, 1L));
+
+        assertThat(loaderCalls).hasValue(2);
+        assertThat(meterRegistry.find(AiResponseCache.CACHE_METRIC).counters()).isEmpty();
+    }
+
+    @Test
+    void evict_ShouldRemoveCachedResponsesOfFeature() {
+        getOrCompute("note", prompts(1L, 1L));
+
+        cache.evict(FEATURE);
+
+        getOrCompute("note", prompts(1L, 1L));
+
+        assertThat(loaderCalls).hasValue(2);
+    }
+
+    private MessageClassificationResponse getOrCompute(String note, FeaturePrompts prompts) {
+        return cache.getOrCompute(
+                FEATURE,
+                note,
+                prompts,
+                MessageClassificationResponse.class,
+                () -> {
+                    loaderCalls.incrementAndGet();
+                    return RESPONSE;
+                }
+        );
+    }
+
+    private MessageClassificationResponse getOrCompute(
+            String note,
+            FeaturePrompts prompts,
+            FeaturePrompts reducePrompts
+    ) {
+        return cache.getOrCompute(
+                FEATURE,
+                note,
+                prompts,
+                reducePrompts,
+                MessageClassificationResponse.class,
+                () -> {
+                    loaderCalls.incrementAndGet();
+                    return RESPONSE;
+                }
+        );
+    }
+
+    private double count(String result) {
+        return meterRegistry.get(AiResponseCache.CACHE_METRIC)
+                .tag(AiResponseCache.FEATURE_TAG, FEATURE.getValue())
+                .tag(AiResponseCache.RESULT_TAG, result)
+                .counter()
+                .count();
+    }
+
+    private FeaturePrompts prompts(Long systemVersion, Long userVersion) {
+        return new FeaturePrompts(
+                new ResolvedPrompt(null, PromptSource.DATABASE, systemVersion, "system"),
+                new ResolvedPrompt(null, PromptSource.DATABASE, userVersion, "%s"),
+                PromptVariables.ofNote("user"),
+                AiProviderModel.LLAMA_3
+        );
+    }
+
+    private AiResponseCache createCache(Map<FeatureName, Duration> ttl) {
+        CacheProperties cacheProperties = new CacheProperties(
+                new ActivePromptProperties(Duration.ofMinutes(10), Duration.ofMinutes(1), 256),
+                new UserAuthInfoCacheProperties(Duration.ofSeconds(10)),
+                new AiResponseCacheProperties(true, ttl),
+                Duration.ofMinutes(5)
+        );
+
+        return new AiResponseCache(
+                new ConcurrentMapCacheManager(),
+                cacheProperties,
+                new PromptTextNormalizer(),
+                new ObjectMapper(),
+                new AiRequestCoalescer(
+                        new AiAdmissionProperties(
+                                1,
+                                Duration.ofSeconds(1),
+                                Duration.ofMinutes(1),
+                                Map.of(FEATURE, new AiAdmissionProperties.FeatureQueue(1, 1, Duration.ofSeconds(1)))
+                        ),
+                        meterRegistry
+                ),
+                meterRegistry
+        );
+    }
+}
@@ -0,0 +1,78 @@
+package com.healthcare.aiservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("Cache invalidation message listener tests: ")
+class CacheInvalidationMessageListenerTest {
+
+    private static final String LOCAL_ORIGIN = "local-instance";
+    private static final String REMOTE_ORIGIN = "remote-instance";
+    private static final String KEY = "MEDICAL_SUMMARY:SYSTEM:llama_3";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private TwoLevelCacheManager cacheManager;
+
+    @Mock
+    private TwoLevelCache cache;
+
+    private CacheInvalidationMessageListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new CacheInvalidationMessageListener(cacheManager, objectMapper, LOCAL_ORIGIN);
+    }
+
+    @Test
+    void onMessage_ShouldEvictLocalEntry_WhenMessageComesFromAnotherInstance() throws Exception {
+        when(cacheManager.findTwoLevelCache(CacheNames.ACTIVE_PROMPTS))
+                .thenReturn(Optional.of(cache));
+
+        listener.onMessage(message(new CacheInvalidationMessage(REMOTE_ORIGIN, CacheNames.ACTIVE_PROMPTS, KEY)), null);
+
+        verify(cache).evictLocal(KEY);
+    }
+
+    @Test
+    void onMessage_ShouldClearLocalLevel_WhenMessageHasNoKey() throws Exception {
+        when(cacheManager.findTwoLevelCache(CacheNames.ACTIVE_PROMPTS))
+                .thenReturn(Optional.of(cache));
+
+        listener.onMessage(message(new CacheInvalidationMessage(REMOTE_ORIGIN, CacheNames.ACTIVE_PROMPTS, null)), null);
+
+        verify(cache).clearLocal();
+    }
+
+    @Test
+    void onMessage_ShouldIgnoreMessage_WhenItWasPublishedByThisInstance() throws Exception {
+        listener.onMessage(message(new CacheInvalidationMessage(LOCAL_ORIGIN, CacheNames.ACTIVE_PROMPTS, KEY)), null);
+
+        verifyNoInteractions(cacheManager);
+    }
+
+    private DefaultMessage message(CacheInvalidationMessage invalidation) throws Exception {
+        return new DefaultMessage(
+                RedisCacheInvalidationPublisher.CACHE_INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                objectMapper.writeValueAsBytes(invalidation)
+        );
+    }
+}
@@ -0,0 +1,178 @@
+package com.healthcare.aiservice.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("Two-level cache tests: ")
+class TwoLevelCacheTest {
+
+    private static final String CACHE_NAME = CacheNames.ACTIVE_PROMPTS;
+    private static final String KEY = "MEDICAL_SUMMARY:SYSTEM:llama_3";
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private ConcurrentMapCache remoteCache;
+
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remoteCache = new ConcurrentMapCache(CACHE_NAME);
+
+        cache = new TwoLevelCache(
+                remoteCache,
+                16,
+                Duration.ofMinutes(1),
+                invalidationPublisher
+        );
+    }
+
+    @Test
+    void get_ShouldServeValueFromLocalLevel_WhenRemoteEntryWasRemovedDirectly() {
+        cache.put(KEY, "prompt");
+
+        remoteCache.evict(KEY);
+
+        assertThat(cache.get(KEY, String.class)).isEqualTo("prompt");
+    }
+
+    @Test
+    void get_ShouldPopulateLocalLevel_WhenValueIsReadFromRemoteLevel() {
+        remoteCache.put(KEY, "prompt");
+
+        assertThat(cache.get(KEY, String.class)).isEqualTo("prompt");
+
+        remoteCache.evict(KEY);
+
+        assertThat(cache.get(KEY, String.class)).isEqualTo("prompt");
+        verifyNoInteractions(invalidationPublisher);
+    }
+
+    @Test
+    void put_ShouldPublishEvict_SoOtherInstancesDropTheirLocalValue() {
+        cache.put(KEY, "prompt");
+
+        assertThat(remoteCache.get(KEY, String.class)).isEqualTo("prompt");
+
+        verify(invalidationPublisher).publishEvict(CACHE_NAME, KEY);
+    }
+
+    @Test
+    void put_ShouldSkipLocalLevel_WhenTransactionIsActive() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            cache.put(KEY, "prompt");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        remoteCache.evict(KEY);
+
+        assertThat(cache.get(KEY)).isNull();
+    }
+
+    @Test
+    void get_ShouldPopulateLocalLevelAndPublishEvict_WhenValueIsLoaded() {
+        assertThat(cache.get(KEY, () -> "prompt")).isEqualTo("prompt");
+
+        remoteCache.evict(KEY);
+
+        assertThat(cache.get(KEY, String.class)).isEqualTo("prompt");
+        verify(invalidationPublisher).publishEvict(CACHE_NAME, KEY);
+    }
+
+    @Test
+    void get_ShouldNotPublishEvict_WhenLoaderValueIsAlreadyInRemoteLevel() {
+        remoteCache.put(KEY, "prompt");
+
+        assertThat(cache.get(KEY, () -> "other prompt")).isEqualTo("prompt");
+
+        verify(invalidationPublisher, never()).publishEvict(CACHE_NAME, KEY);
+    }
+
+    @Test
+    void evictIfPresent_ShouldEvictBothLevelsAndPublishInvalidation() {
+        cache.put(KEY, "prompt");
+        clearInvocations(invalidationPublisher);
+
+        boolean evicted = cache.evictIfPresent(KEY);
+
+        assertThat(evicted).isTrue();
+        assertThat(cache.get(KEY)).isNull();
+        assertThat(remoteCache.get(KEY)).isNull();
+
+        verify(invalidationPublisher).publishEvict(CACHE_NAME, KEY);
+    }
+
+    @Test
+    void clear_ShouldClearBothLevelsAndPublishInvalidation() {
+        cache.put(KEY, "prompt");
+
+        cache.clear();
+
+        assertThat(cache.get(KEY)).isNull();
+
+        verify(invalidationPublisher).publishClear(CACHE_NAME);
+    }
+
+    @Test
+    void evictLocal_ShouldExposeRemoteValue_WithoutPublishingInvalidation() {
+        cache.put(KEY, "old prompt");
+        remoteCache.put(KEY, "new prompt");
+        clearInvocations(invalidationPublisher);
+
+        cache.evictLocal(KEY);
+
+        assertThat(cache.get(KEY, String.class)).isEqualTo("new prompt");
+        verifyNoInteractions(invalidationPublisher);
+    }
+
+    @Test
+    void cacheManager_ShouldKeepTransactionAwareness_WhenRemoteCacheIsTransactionAware() {
+        ConcurrentMapCacheManager remoteCacheManager = new ConcurrentMapCacheManager() {
+            @Override
+            public Cache getCache(String name) {
+                return new TransactionAwareCacheDecorator(super.getCache(name));
+            }
+        };
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+                remoteCacheManager,
+                Map.of(CACHE_NAME, new TwoLevelCacheManager.TwoLevelCacheSettings(16, Duration.ofMinutes(1))),
+                invalidationPublisher
+        );
+
+        Cache activePrompts = cacheManager.getCache(CACHE_NAME);
+
+        assertThat(activePrompts).isInstanceOf(TransactionAwareCacheDecorator.class);
+        assertThat(((TransactionAwareCacheDecorator) activePrompts).getTargetCache())
+                .isInstanceOf(TwoLevelCache.class);
+        assertThat(cacheManager.findTwoLevelCache(CACHE_NAME)).isPresent();
+        assertThat(cacheManager.getCache(CacheNames.USER_AUTH_INFO))
+                .isNotInstanceOf(TwoLevelCache.class);
+    }
+}
@@ -0,0 +1,170 @@
+package com.healthcare.aiservice.common.ai_job.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.aiservice.common.ai_job.dto.AiJobSubmitRequest;
+import com.healthcare.aiservice.common.ai_job.model.AiJob;
+import com.healthcare.aiservice.common.ai_job.model.AiJobStatus;
+import com.healthcare.aiservice.common.ai_job.service.AiJobService;
+import com.healthcare.aiservice.common.web.converter.NormalizedStringToEnumConverterFactory;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.exception.rest_exception.AiJobNotFoundException;
+import com.healthcare.aiservice.security.constant.Role;
+import com.healthcare.aiservice.security.dto.UserAuthInfoDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static com.healthcare.aiservice.common.ai_job.controller.API.AiJobApiPaths.JOBS_URL;
+import static com.healthcare.aiservice.common.ai_job.controller.API.AiJobApiPaths.JOB_BY_ID_URL;
+import static com.healthcare.aiservice.common.ai_job.controller.API.AiJobApiPaths.JOB_EVENTS_URL;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(
+        controllers = AiJobController.class,
+        properties = {
+                "auth-filter.enabled=false",
+                "request-id-filter.enabled=false",
+                "user-context-filter.enabled=false"
+        }
+)
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("AI job controller tests: ")
+class AiJobControllerTest {
+
+    private static final String JOB_ID = "6a462f4da54bd47af37800eb";
+    private static final String OWNER_ID = "42";
+
+    private static final UsernamePasswordAuthenticationToken USER = new UsernamePasswordAuthenticationToken(
+            new UserAuthInfoDto(42L, Set.of(Role.ROLE_DOCTOR)),
+            null,
+            List.of()
+    );
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private AiJobService aiJobService;
+
+    @MockitoBean
+    private ChatClient.Builder chatClientBuilder;
+
+    @MockitoBean
+    private NormalizedStringToEnumConverterFactory converterFactory;
+
+    // Filters are off, so the authenticated user is put in place of the auth filter.
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(USER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void submit_ShouldReturnAcceptedWithJobLocation() throws Exception {
+        AiJobSubmitRequest request = new AiJobSubmitRequest(FeatureName.MEDICAL_SUMMARY, "Headache for two days.");
+        when(aiJobService.submit(any(AiJobSubmitRequest.class), eq(OWNER_ID))).thenReturn(job(AiJobStatus.QUEUED, null));
+
+        mockMvc.perform(post(JOBS_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/v1/ai/jobs/" + JOB_ID))
+                .andExpect(jsonPath("$.id").value(JOB_ID))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    void submit_ShouldReturnBadRequest_WhenFeatureIsMissing() throws Exception {
+        mockMvc.perform(post(JOBS_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"note\": \"Headache for two days.\"}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(aiJobService);
+    }
+
+    @Test
+    void getJob_ShouldReturnResultAsJson_WhenJobHasSucceeded() throws Exception {
+        when(aiJobService.await(JOB_ID, OWNER_ID, Duration.ofSeconds(20)))
+                .thenReturn(Mono.just(job(AiJobStatus.SUCCEEDED, "{\"summary\":\"Stable.\"}")));
+
+        MvcResult result = mockMvc.perform(get(JOB_BY_ID_URL, JOB_ID).param("wait", "PT20S"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.result.summary").value("Stable."));
+    }
+
+    @Test
+    void getJob_ShouldReturnNotFound_WhenJobDoesNotExist() throws Exception {
+        when(aiJobService.await(JOB_ID, OWNER_ID, null)).thenReturn(Mono.error(new AiJobNotFoundException(JOB_ID)));
+
+        MvcResult result = mockMvc.perform(get(JOB_BY_ID_URL, JOB_ID))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("AI_JOB_NOT_FOUND"));
+    }
+
+    @Test
+    void followJob_ShouldReturnNotFound_WhenJobBelongsToAnotherUser() throws Exception {
+        when(aiJobService.get(JOB_ID, OWNER_ID)).thenThrow(new AiJobNotFoundException(JOB_ID));
+
+        mockMvc.perform(get(JOB_EVENTS_URL, JOB_ID))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("AI_JOB_NOT_FOUND"));
+
+        verify(aiJobService, never()).watch(JOB_ID, OWNER_ID);
+    }
+
+    private static AiJob job(AiJobStatus status, String result) {
+        return AiJob.builder()
+                .id(JOB_ID)
+                .feature(FeatureName.MEDICAL_SUMMARY)
+                .status(status)
+                .result(result)
+                .build();
+    }
+}
@@ -0,0 +1,251 @@
+package com.healthcare.aiservice.common.ai_job.service;
+
+import com.healthcare.aiservice.common.ai_job.dto.AiJobSubmitRequest;
+import com.healthcare.aiservice.common.ai_job.model.AiJob;
+import com.healthcare.aiservice.common.ai_job.model.AiJobStatus;
+import com.healthcare.aiservice.common.medical_summary.dto.MedicalSummaryRequest;
+import com.healthcare.aiservice.common.prompt.model.FeaturePrompts;
+import com.healthcare.aiservice.common.prompt.model.ResolvedPrompt;
+import com.healthcare.aiservice.common.prompt.normalizer.PromptTextNormalizer;
+import com.healthcare.aiservice.common.prompt.service.interfaces.AiPromptFactory;
+import com.healthcare.aiservice.common.prompt.template.PromptVariables;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.constant.PromptSource;
+import com.healthcare.aiservice.config.propertie.AiJobProperties;
+import com.healthcare.aiservice.exception.dto.ValidationError;
+import com.healthcare.aiservice.exception.rest_exception.AiJobNotFoundException;
+import com.healthcare.aiservice.exception.rest_exception.FeatureRequestInvalidException;
+import com.healthcare.aiservice.repository.AiJobQueueRepository;
+import com.healthcare.aiservice.repository.AiJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("AI job service tests: ")
+class AiJobServiceTest {
+
+    private static final String JOB_ID = "job-1";
+    private static final String OWNER_ID = "42";
+    private static final AiJobSubmitRequest REQUEST =
+            new AiJobSubmitRequest(FeatureName.MEDICAL_SUMMARY, "Patient reports headache.");
+
+    @Mock
+    private AiJobRepository jobRepository;
+
+    @Mock
+    private AiJobQueueRepository queueRepository;
+
+    @Mock
+    private AiJobFeatureExecutor featureExecutor;
+
+    @Mock
+    private AiPromptFactory promptFactory;
+
+    private AiJobService service;
+
+    @BeforeEach
+    void setUp() {
+        AiJobProperties properties = new AiJobProperties(
+                true, 1, Duration.ofMillis(10), Duration.ofMinutes(5), 3, Duration.ofSeconds(2), Duration.ofDays(1),
+                Duration.ofSeconds(5)
+        );
+
+        service = new AiJobService(
+                jobRepository,
+                queueRepository,
+                featureExecutor,
+                promptFactory,
+                new PromptTextNormalizer(),
+                properties
+        );
+    }
+
+    @Test
+    void submit_ShouldQueueNewJob_WhenInputIsNew() {
+        mockPrompts(1L);
+        when(jobRepository.findByInputHash(anyString())).thenReturn(Optional.empty());
+        when(jobRepository.insert(any(AiJob.class))).thenAnswer(invocation ->
+                invocation.<AiJob>getArgument(0).toBuilder().id(JOB_ID).build());
+
+        AiJob job = service.submit(REQUEST, OWNER_ID);
+
+        assertThat(job.id()).isEqualTo(JOB_ID);
+        assertThat(job.ownerId()).isEqualTo(OWNER_ID);
+        assertThat(job.status()).isEqualTo(AiJobStatus.QUEUED);
+        assertThat(job.inputHash()).hasSize(64);
+    }
+
+    @Test
+    void submit_ShouldNotReuseJob_WhenPromptVersionOrOwnerDiffers() {
+        ArgumentCaptor<AiJob> inserted = ArgumentCaptor.forClass(AiJob.class);
+        when(jobRepository.findByInputHash(anyString())).thenReturn(Optional.empty());
+        when(jobRepository.insert(inserted.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        mockPrompts(1L);
+        service.submit(REQUEST, OWNER_ID);
+        service.submit(REQUEST, "43");
+
+        mockPrompts(2L);
+        service.submit(REQUEST, OWNER_ID);
+
+        assertThat(inserted.getAllValues())
+                .extracting(AiJob::inputHash)
+                .doesNotHaveDuplicates()
+                .hasSize(3);
+    }
+
+    @Test
+    void submit_ShouldNotQueueJob_WhenNoteViolatesFeatureConstraints() {
+        FeatureRequestInvalidException exception = new FeatureRequestInvalidException(
+                FeatureName.MEDICAL_SUMMARY,
+                Set.of(new ValidationError("note", "Medical note is too long"))
+        );
+        doThrow(exception).when(featureExecutor).validate(FeatureName.MEDICAL_SUMMARY, REQUEST.note());
+
+        assertThatThrownBy(() -> service.submit(REQUEST, OWNER_ID)).isSameAs(exception);
+
+        verifyNoInteractions(jobRepository, queueRepository, promptFactory);
+    }
+
+    @Test
+    void submit_ShouldReturnExistingJob_WhenSameInputWasSubmitted() {
+        mockPrompts(1L);
+        ArgumentCaptor<AiJob> inserted = ArgumentCaptor.forClass(AiJob.class);
+        when(jobRepository.findByInputHash(anyString())).thenReturn(Optional.empty());
+        when(jobRepository.insert(inserted.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.submit(REQUEST, OWNER_ID);
+
+        AiJob running = job(AiJobStatus.RUNNING);
+        when(jobRepository.findByInputHash(inserted.getValue().inputHash())).thenReturn(Optional.of(running));
+
+        assertThat(service.submit(new AiJobSubmitRequest(FeatureName.MEDICAL_SUMMARY, "  Patient reports headache.  "), OWNER_ID))
+                .isSameAs(running);
+        verify(queueRepository, never()).requeueFailed(anyString(), any(Instant.class));
+    }
+
+    @Test
+    void submit_ShouldRequeueJob_WhenPreviousRunFailed() {
+        mockPrompts(1L);
+        AiJob requeued = job(AiJobStatus.QUEUED);
+        when(jobRepository.findByInputHash(anyString())).thenReturn(Optional.of(job(AiJobStatus.FAILED)));
+        when(queueRepository.requeueFailed(anyString(), any(Instant.class))).thenReturn(Optional.of(requeued));
+
+        assertThat(service.submit(REQUEST, OWNER_ID)).isSameAs(requeued);
+        verify(jobRepository, never()).insert(any(AiJob.class));
+    }
+
+    @Test
+    void submit_ShouldReturnConcurrentJob_WhenInsertLosesRace() {
+        mockPrompts(1L);
+        AiJob concurrent = job(AiJobStatus.QUEUED);
+        when(jobRepository.findByInputHash(anyString()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(concurrent));
+        when(jobRepository.insert(any(AiJob.class))).thenThrow(new DuplicateKeyException("duplicate"));
+
+        assertThat(service.submit(REQUEST, OWNER_ID)).isSameAs(concurrent);
+    }
+
+    @Test
+    void await_ShouldReturnJob_WhenItFinishesWithinWait() {
+        when(jobRepository.findById(JOB_ID)).thenReturn(
+                Optional.of(job(AiJobStatus.QUEUED)),
+                Optional.of(job(AiJobStatus.RUNNING)),
+                Optional.of(job(AiJobStatus.SUCCEEDED))
+        );
+
+        assertThat(service.await(JOB_ID, OWNER_ID, Duration.ofSeconds(2)).block(Duration.ofSeconds(5)).status())
+                .isEqualTo(AiJobStatus.SUCCEEDED);
+    }
+
+    @Test
+    void await_ShouldReturnCurrentState_WhenWaitRunsOut() {
+        when(jobRepository.findById(JOB_ID)).thenReturn(Optional.of(job(AiJobStatus.RUNNING)));
+
+        assertThat(service.await(JOB_ID, OWNER_ID, Duration.ofMillis(100)).block(Duration.ofSeconds(5)).status())
+                .isEqualTo(AiJobStatus.RUNNING);
+    }
+
+    @Test
+    void watch_ShouldEmitEachStatusOnce_UntilJobHasFinished() {
+        when(jobRepository.findById(JOB_ID)).thenReturn(
+                Optional.of(job(AiJobStatus.QUEUED)),
+                Optional.of(job(AiJobStatus.QUEUED)),
+                Optional.of(job(AiJobStatus.RUNNING)),
+                Optional.of(job(AiJobStatus.FAILED))
+        );
+
+        List<AiJobStatus> statuses = service.watch(JOB_ID, OWNER_ID)
+                .map(AiJob::status)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(statuses).containsExactly(AiJobStatus.QUEUED, AiJobStatus.RUNNING, AiJobStatus.FAILED);
+    }
+
+    @Test
+    void get_ShouldThrowNotFound_WhenJobDoesNotExist() {
+        when(jobRepository.findById(eq(JOB_ID))).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.get(JOB_ID, OWNER_ID))
+                .isInstanceOf(AiJobNotFoundException.class);
+    }
+
+    @Test
+    void get_ShouldThrowNotFound_WhenJobBelongsToAnotherUser() {
+        when(jobRepository.findById(JOB_ID)).thenReturn(Optional.of(job(AiJobStatus.SUCCEEDED)));
+
+        assertThatThrownBy(() -> service.get(JOB_ID, "43"))
+                .isInstanceOf(AiJobNotFoundException.class);
+    }
+
+    private void mockPrompts(Long userPromptVersion) {
+        when(featureExecutor.validate(eq(FeatureName.MEDICAL_SUMMARY), anyString()))
+                .thenAnswer(invocation -> new MedicalSummaryRequest(invocation.getArgument(1)));
+        when(promptFactory.getPrompts(eq(FeatureName.MEDICAL_SUMMARY), any(MedicalSummaryRequest.class)))
+                .thenReturn(new FeaturePrompts(
+                        new ResolvedPrompt(null, PromptSource.DATABASE, 1L, "system"),
+                        new ResolvedPrompt(null, PromptSource.DATABASE, userPromptVersion, "%s"),
+                        PromptVariables.ofNote("note"),
+                        AiProviderModel.LLAMA_3
+                ));
+    }
+
+    private static AiJob job(AiJobStatus status) {
+        return AiJob.builder()
+                .id(JOB_ID)
+                .feature(FeatureName.MEDICAL_SUMMARY)
+                .ownerId(OWNER_ID)
+                .inputHash("hash")
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,161 @@
+package com.healthcare.aiservice.common.ai_job.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.aiservice.common.ai_job.model.AiJob;
+import com.healthcare.aiservice.common.ai_job.model.AiJobStatus;
+import com.healthcare.aiservice.common.message_classification.category.MessageCategory;
+import com.healthcare.aiservice.common.message_classification.dto.MessageClassificationResponse;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.propertie.AiJobProperties;
+import com.healthcare.aiservice.exception.dto.ErrorResponse;
+import com.healthcare.aiservice.exception.rest_exception.AiCapacityExceededException;
+import com.healthcare.aiservice.repository.AiJobQueueRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("AI job worker tests: ")
+class AiJobWorkerTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(2);
+
+    @Mock
+    private AiJobQueueRepository queueRepository;
+
+    @Mock
+    private AiJobFeatureExecutor featureExecutor;
+
+    private AiJobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        AiJobProperties properties = new AiJobProperties(
+                false, 1, Duration.ofMillis(10), Duration.ofMinutes(5), MAX_ATTEMPTS, RETRY_BACKOFF,
+                Duration.ofDays(1), Duration.ofSeconds(5)
+        );
+
+        worker = new AiJobWorker(queueRepository, featureExecutor, new ObjectMapper(), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.destroy();
+    }
+
+    @Test
+    void processNext_ShouldStoreSerializedResult_WhenFeatureSucceeds() {
+        AiJob job = job(1);
+        when(queueRepository.claimNext(any(Instant.class), any(Instant.class))).thenReturn(Optional.of(job));
+        when(featureExecutor.execute(job))
+                .thenReturn(new MessageClassificationResponse(MessageCategory.APPOINTMENT, "Reschedule."));
+        when(queueRepository.complete(eq(job), any(), any(Instant.class), any(Instant.class))).thenReturn(true);
+
+        assertThat(worker.processNext()).isTrue();
+
+        verify(queueRepository).complete(
+                eq(job),
+                eq("{\"category\":\"APPOINTMENT\",\"reason\":\"Reschedule.\"}"),
+                any(Instant.class),
+                any(Instant.class)
+        );
+    }
+
+    @Test
+    void processNext_ShouldReturnFalse_WhenQueueIsEmpty() {
+        when(queueRepository.claimNext(any(Instant.class), any(Instant.class))).thenReturn(Optional.empty());
+
+        assertThat(worker.processNext()).isFalse();
+        verifyNoInteractions(featureExecutor);
+    }
+
+    @Test
+    void process_ShouldReturnJobToQueueAfterRetryAfter_WhenProviderIsAtCapacity() {
+        AiJob job = job(1);
+        ArgumentCaptor<Instant> notBefore = ArgumentCaptor.forClass(Instant.class);
+        when(featureExecutor.execute(job)).thenThrow(capacityExceeded());
+
+        Instant before = Instant.now();
+        worker.process(job);
+
+        verify(queueRepository).release(eq(job), notBefore.capture());
+        verify(queueRepository, never()).fail(any(), any(), any(), any());
+        assertThat(notBefore.getValue()).isAfterOrEqualTo(before.plusSeconds(5));
+    }
+
+    @Test
+    void process_ShouldBackOffExponentially_WhenRetryableErrorRepeats() {
+        AiJob job = job(2);
+        ArgumentCaptor<Instant> notBefore = ArgumentCaptor.forClass(Instant.class);
+        when(featureExecutor.execute(job)).thenThrow(new AiCapacityExceededException(
+                FeatureName.MESSAGE_CLASSIFICATION,
+                "queue is full",
+                Duration.ofMillis(100)
+        ));
+
+        Instant before = Instant.now();
+        worker.process(job);
+
+        verify(queueRepository).release(eq(job), notBefore.capture());
+        assertThat(notBefore.getValue()).isAfterOrEqualTo(before.plus(RETRY_BACKOFF.multipliedBy(2)));
+    }
+
+    @Test
+    void process_ShouldFailJob_WhenRetryableErrorHitsLastAttempt() {
+        AiJob job = job(MAX_ATTEMPTS);
+        when(featureExecutor.execute(job)).thenThrow(capacityExceeded());
+
+        worker.process(job);
+
+        verify(queueRepository, never()).release(eq(job), any(Instant.class));
+        verify(queueRepository).fail(eq(job), any(ErrorResponse.class), any(Instant.class), any(Instant.class));
+    }
+
+    @Test
+    void process_ShouldFailJobWithoutRunningIt_WhenAttemptsAreExhausted() {
+        AiJob job = job(MAX_ATTEMPTS + 1);
+        ArgumentCaptor<ErrorResponse> error = ArgumentCaptor.forClass(ErrorResponse.class);
+
+        worker.process(job);
+
+        verifyNoInteractions(featureExecutor);
+        verify(queueRepository).fail(eq(job), error.capture(), any(Instant.class), any(Instant.class));
+        assertThat(error.getValue().status()).isEqualTo(500);
+    }
+
+    private static AiCapacityExceededException capacityExceeded() {
+        return new AiCapacityExceededException(FeatureName.MESSAGE_CLASSIFICATION, "queue is full", Duration.ofSeconds(5));
+    }
+
+    private static AiJob job(int attempts) {
+        return AiJob.builder()
+                .id("job-1")
+                .feature(FeatureName.MESSAGE_CLASSIFICATION)
+                .note("I need to reschedule my appointment.")
+                .inputHash("hash")
+                .status(AiJobStatus.RUNNING)
+                .attempts(attempts)
+                .build();
+    }
+}
@@ -2,8 +2,11 @@ package com.healthcare.aiservice.common.medical_extraction.controller;
 
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionBatchItemResponse;
+import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionBatchRequest;
 import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionRequest;
 import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionResponse;
+import com.healthcare.aiservice.common.medical_extraction.service.MedicalInfoExtractionBatchService;
 import com.healthcare.aiservice.common.medical_extraction.service.MedicalInfoExtractionService;
 import com.healthcare.aiservice.common.web.converter.NormalizedStringToEnumConverterFactory;
 import com.healthcare.aiservice.security.config.SecurityConfig;
@@ -21,14 +24,20 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
+import static com.healthcare.aiservice.common.medical_extraction.controller.API.MedicalInfoExtractionApiPaths.EXTRACT_MEDICAL_INFO_BATCH_URL;
 import static com.healthcare.aiservice.common.medical_extraction.controller.API.MedicalInfoExtractionApiPaths.EXTRACT_MEDICAL_INFO_URL;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -55,6 +64,9 @@ class MedicalInfoExtractionControllerTest {
     @MockitoBean
     private MedicalInfoExtractionService medicalInfoExtractionService;
 
+    @MockitoBean
+    private MedicalInfoExtractionBatchService medicalInfoExtractionBatchService;
+
     @MockitoBean
     private ChatClient.Builder chatClientBuilder;
 
@@ -117,4 +129,58 @@ class MedicalInfoExtractionControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.status").value(400));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should stream batch item results as NDJSON")
+    void shouldStreamBatchItemResultsAsNdjson() throws Exception {
+        MedicalInfoExtractionBatchRequest request = new MedicalInfoExtractionBatchRequest(List.of(
+                new MedicalInfoExtractionRequest("Patient reports fever."),
+                new MedicalInfoExtractionRequest("Patient reports headache.")
+        ));
+
+        MedicalInfoExtractionResponse response = new MedicalInfoExtractionResponse(
+                List.of("Headache"),
+                List.of(),
+                List.of(),
+                List.of(),
+                List.of(),
+                List.of()
+        );
+
+        when(medicalInfoExtractionBatchService.extractBatch(any(MedicalInfoExtractionBatchRequest.class)))
+                .thenReturn(Flux.just(
+                        MedicalInfoExtractionBatchItemResponse.success(1, response),
+                        MedicalInfoExtractionBatchItemResponse.success(0, response)
+                ));
+
+        MvcResult result = mockMvc.perform(post(EXTRACT_MEDICAL_INFO_BATCH_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(body.lines().toList())
+                .hasSize(2)
+                .allSatisfy(line -> assertThat(line).contains("\"status\":\"SUCCESS\""));
+        assertThat(body.lines().findFirst().orElseThrow()).contains("\"index\":1");
+    }
+
+    @Test
+    @DisplayName("Should return 400 when batch is empty")
+    void shouldReturnBadRequestWhenBatchIsEmpty() throws Exception {
+        MedicalInfoExtractionBatchRequest request = new MedicalInfoExtractionBatchRequest(List.of());
+
+        mockMvc.perform(post(EXTRACT_MEDICAL_INFO_BATCH_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+}
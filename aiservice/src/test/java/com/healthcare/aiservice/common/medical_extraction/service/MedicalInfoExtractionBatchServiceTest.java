@@ -0,0 +1,193 @@
+package com.healthcare.aiservice.common.medical_extraction.service;
+
+import com.healthcare.aiservice.common.dto.AiResultStatus;
+import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionBatchItemResponse;
+import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionBatchRequest;
+import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionRequest;
+import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionResponse;
+import com.healthcare.aiservice.common.prompt.model.FeaturePrompts;
+import com.healthcare.aiservice.common.prompt.model.ResolvedPrompt;
+import com.healthcare.aiservice.common.prompt.template.PromptVariables;
+import com.healthcare.aiservice.common.prompt.service.interfaces.AiPromptFactory;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.PromptSource;
+import com.healthcare.aiservice.config.propertie.AiBatchProperties;
+import com.healthcare.aiservice.exception.AiResponseParsingException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.healthcare.aiservice.config.constant.FeatureName.MEDICAL_EXTRACTION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MedicalInfoExtractionBatchServiceTest {
+
+    private static final String SYSTEM_PROMPT = "system";
+    private static final int MAX_CONCURRENCY = 2;
+
+    @Mock
+    private MedicalInfoExtractionService extractionService;
+
+    @Mock
+    private AiPromptFactory promptFactory;
+
+    private Scheduler scheduler;
+
+    private MedicalInfoExtractionBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Schedulers.newBoundedElastic(MAX_CONCURRENCY, Integer.MAX_VALUE, "ai-batch-test");
+
+        service = new MedicalInfoExtractionBatchService(
+                extractionService,
+                promptFactory,
+                scheduler,
+                new AiBatchProperties(MAX_CONCURRENCY)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Test
+    void extractBatch_ShouldReturnResultForEveryItem_WhenAllItemsSucceed() {
+        List<MedicalInfoExtractionRequest> items = List.of(
+                new MedicalInfoExtractionRequest("note-0"),
+                new MedicalInfoExtractionRequest("note-1"),
+                new MedicalInfoExtractionRequest("note-2")
+        );
+
+        mockPrompts(items);
+
+        for (int i = 0; i < items.size(); i++) {
+            when(extractionService.extract(items.get(i), prompts(i)))
+                    .thenReturn(response("symptom-" + i));
+        }
+
+        List<MedicalInfoExtractionBatchItemResponse> result = service
+                .extractBatch(new MedicalInfoExtractionBatchRequest(items))
+                .collectList()
+                .block();
+
+        assertThat(result).hasSize(3);
+        assertThat(result)
+                .allSatisfy(item -> {
+                    assertThat(item.status()).isEqualTo(AiResultStatus.SUCCESS);
+                    assertThat(item.error()).isNull();
+                    assertThat(item.result().symptoms())
+                            .containsExactly("symptom-" + item.index());
+                });
+        assertThat(result)
+                .extracting(MedicalInfoExtractionBatchItemResponse::index)
+                .containsExactlyInAnyOrder(0, 1, 2);
+
+        verify(promptFactory).getPrompts(MEDICAL_EXTRACTION, items);
+    }
+
+    @Test
+    void extractBatch_ShouldReturnFailedItem_WhenSingleItemFails() {
+        List<MedicalInfoExtractionRequest> items = List.of(
+                new MedicalInfoExtractionRequest("note-0"),
+                new MedicalInfoExtractionRequest("note-1")
+        );
+
+        mockPrompts(items);
+
+        when(extractionService.extract(items.get(0), prompts(0)))
+                .thenReturn(response("symptom-0"));
+        when(extractionService.extract(items.get(1), prompts(1)))
+                .thenThrow(new AiResponseParsingException("Invalid JSON", "raw", "json", null));
+
+        List<MedicalInfoExtractionBatchItemResponse> result = service
+                .extractBatch(new MedicalInfoExtractionBatchRequest(items))
+                .collectList()
+                .block();
+
+        assertThat(result).hasSize(2);
+
+        MedicalInfoExtractionBatchItemResponse failed = result.stream()
+                .filter(item -> item.index() == 1)
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(failed.status()).isEqualTo(AiResultStatus.FAILED);
+        assertThat(failed.result()).isNull();
+        assertThat(failed.error().status()).isEqualTo(502);
+    }
+
+    @Test
+    void extractBatch_ShouldNotExceedMaxConcurrency_WhenBatchIsLargerThanLimit() {
+        List<MedicalInfoExtractionRequest> items = List.of(
+                new MedicalInfoExtractionRequest("note-0"),
+                new MedicalInfoExtractionRequest("note-1"),
+                new MedicalInfoExtractionRequest("note-2"),
+                new MedicalInfoExtractionRequest("note-3"),
+                new MedicalInfoExtractionRequest("note-4")
+        );
+
+        mockPrompts(items);
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        when(extractionService.extract(any(), any(FeaturePrompts.class)))
+                .thenAnswer(invocation -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    Thread.sleep(50);
+                    inFlight.decrementAndGet();
+
+                    return response("symptom");
+                });
+
+        List<MedicalInfoExtractionBatchItemResponse> result = service
+                .extractBatch(new MedicalInfoExtractionBatchRequest(items))
+                .collectList()
+                .block();
+
+        assertThat(result).hasSize(5);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(MAX_CONCURRENCY);
+    }
+
+    private void mockPrompts(List<MedicalInfoExtractionRequest> items) {
+        when(promptFactory.getPrompts(MEDICAL_EXTRACTION, items))
+                .thenReturn(IntStream.range(0, items.size())
+                        .mapToObj(this::prompts)
+                        .toList());
+    }
+
+    private FeaturePrompts prompts(int index) {
+        return new FeaturePrompts(
+                new ResolvedPrompt(null, PromptSource.FALLBACK, null, SYSTEM_PROMPT),
+                new ResolvedPrompt(null, PromptSource.FALLBACK, null, "%s"),
+                PromptVariables.ofNote("user-" + index),
+                AiProviderModel.LLAMA_3
+        );
+    }
+
+    private MedicalInfoExtractionResponse response(String symptom) {
+        return new MedicalInfoExtractionResponse(
+                List.of(symptom),
+                List.of(),
+                List.of(),
+                List.of(),
+                List.of(),
+                List.of()
+        );
+    }
+}
@@ -1,9 +1,16 @@
 package com.healthcare.aiservice.common.medical_extraction.service;
 
+import com.healthcare.aiservice.cache.AiResponseCache;
 import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionRequest;
 import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionResponse;
+import com.healthcare.aiservice.common.prompt.model.FeaturePrompts;
+import com.healthcare.aiservice.common.prompt.model.ResolvedPrompt;
+import com.healthcare.aiservice.common.prompt.template.PromptVariables;
 import com.healthcare.aiservice.common.prompt.service.interfaces.AiPromptFactory;
 import com.healthcare.aiservice.common.provider.AiClient;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.constant.PromptSource;
 import com.healthcare.aiservice.exception.rest_exception.ai_response_invalid_exception.AiResponseInvalidException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,10 +20,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 
+import java.util.function.Supplier;
+
 import static com.healthcare.aiservice.config.constant.FeatureName.MEDICAL_EXTRACTION;
 import static com.healthcare.aiservice.exception.rest_exception.ai_response_invalid_exception.AiResponseInvalidExceptionMessages.MEDICAL_INFORMATION_EXTRACTION_EXCEPTION_MESSAGE;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,12 +36,22 @@ class MedicalInfoExtractionServiceTest {
     private static final String SYSTEM_PROMPT = "system";
     private static final String USER_PROMPT = "user";
 
+    private static final FeaturePrompts PROMPTS = new FeaturePrompts(
+            new ResolvedPrompt(null, PromptSource.FALLBACK, null, SYSTEM_PROMPT),
+            new ResolvedPrompt(null, PromptSource.FALLBACK, null, "%s"),
+            PromptVariables.ofNote(USER_PROMPT),
+            AiProviderModel.LLAMA_3
+    );
+
     @Mock
     private AiClient aiClient;
 
     @Mock
     private AiPromptFactory promptFactory;
 
+    @Mock
+    private AiResponseCache responseCache;
+
     @InjectMocks
     private MedicalInfoExtractionService service;
 
@@ -42,6 +63,8 @@ class MedicalInfoExtractionServiceTest {
         mockPrompts(request);
 
         when(aiClient.call(
+                FeatureName.MEDICAL_EXTRACTION,
+                AiProviderModel.LLAMA_3,
                 SYSTEM_PROMPT,
                 USER_PROMPT,
                 MedicalInfoExtractionResponse.class
@@ -93,6 +116,8 @@ class MedicalInfoExtractionServiceTest {
         mockPrompts(request);
 
         when(aiClient.call(
+                FeatureName.MEDICAL_EXTRACTION,
+                AiProviderModel.LLAMA_3,
                 SYSTEM_PROMPT,
                 USER_PROMPT,
                 MedicalInfoExtractionResponse.class
@@ -120,12 +145,10 @@ class MedicalInfoExtractionServiceTest {
     }
 
     private void mockPrompts(MedicalInfoExtractionRequest request) {
-        when(promptFactory.getSystemPrompt(MEDICAL_EXTRACTION))
-                .thenReturn(SYSTEM_PROMPT);
+        when(promptFactory.getPrompts(MEDICAL_EXTRACTION, request))
+                .thenReturn(PROMPTS);
 
-        when(promptFactory.getUserPrompt(
-                MEDICAL_EXTRACTION,
-                request
-        )).thenReturn(USER_PROMPT);
+        lenient().when(responseCache.getOrCompute(any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.healthcare.aiservice.common.medical_extraction.controller.MedicalInfo
 import com.healthcare.aiservice.common.medical_summary.dto.MedicalSummaryRequest;
 import com.healthcare.aiservice.common.medical_summary.dto.MedicalSummaryResponse;
 import com.healthcare.aiservice.common.medical_summary.service.MedicalSummaryService;
+import com.healthcare.aiservice.common.provider.stream.AiStreamEvent;
 import com.healthcare.aiservice.common.web.converter.NormalizedStringToEnumConverterFactory;
 import com.healthcare.aiservice.exception.GlobalExceptionHandler;
 import org.junit.jupiter.api.DisplayName;
@@ -21,13 +22,19 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
+import static com.healthcare.aiservice.common.medical_summary.controller.API.MedicalSummaryApiPaths.MEDICAL_NOTE_SUMMARY_STREAM_URL;
 import static com.healthcare.aiservice.common.medical_summary.controller.API.MedicalSummaryApiPaths.MEDICAL_NOTE_SUMMARY_URL;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -129,4 +136,77 @@ class MedicalSummaryControllerTest {
                 .andExpect(jsonPath("$.path")
                         .value(MEDICAL_NOTE_SUMMARY_URL));
     }
-}
\ No newline at end of file
+
+    @Test
+    void summarizeStream_ShouldStreamTokensAndResultEvents() throws Exception {
+
+        MedicalSummaryRequest request =
+                new MedicalSummaryRequest("Patient complains about headache.");
+
+        MedicalSummaryResponse response =
+                new MedicalSummaryResponse(
+                        "Headache reported",
+                        List.of(),
+                        List.of(),
+                        List.of()
+                );
+
+        when(medicalSummaryService.summarizeStream(any()))
+                .thenReturn(Flux.just(
+                        AiStreamEvent.token("{\"summary\""),
+                        AiStreamEvent.result(response)
+                ));
+
+        MvcResult result = mockMvc.perform(
+                        post(MEDICAL_NOTE_SUMMARY_STREAM_URL)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.TEXT_EVENT_STREAM)
+                                .content(objectMapper.writeValueAsString(request))
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(body)
+                .contains("event:token")
+                .contains("event:result")
+                .contains("\"summary\":\"Headache reported\"");
+    }
+
+    @Test
+    void summarizeStream_ShouldSendErrorEvent_WhenAiProviderFailsMidStream() throws Exception {
+
+        MedicalSummaryRequest request =
+                new MedicalSummaryRequest("Patient complains about headache.");
+
+        when(medicalSummaryService.summarizeStream(any()))
+                .thenReturn(Flux.concat(
+                        Flux.just(AiStreamEvent.<MedicalSummaryResponse>token("{")),
+                        Flux.error(new NonTransientAiException("AI provider failed"))
+                ));
+
+        MvcResult result = mockMvc.perform(
+                        post(MEDICAL_NOTE_SUMMARY_STREAM_URL)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.TEXT_EVENT_STREAM)
+                                .content(objectMapper.writeValueAsString(request))
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(body)
+                .contains("event:error")
+                .contains("AI_PROVIDER_ERROR");
+    }
+}
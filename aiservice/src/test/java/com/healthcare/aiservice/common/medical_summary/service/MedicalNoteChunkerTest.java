@@ -0,0 +1,57 @@
+package com.healthcare.aiservice.common.medical_summary.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("Medical note chunker tests: ")
+class MedicalNoteChunkerTest {
+
+    @Test
+    void split_ShouldReturnSingleChunk_WhenNoteFits() {
+        assertThat(MedicalNoteChunker.split("  Short note.  ", 100)).containsExactly("Short note.");
+    }
+
+    @Test
+    void split_ShouldPackWholeParagraphs_WhenTheyFitTogether() {
+        String note = "History: asthma.\n\nMedication: salbutamol.\r\n  \r\nPlan: follow up in two weeks.";
+
+        assertThat(MedicalNoteChunker.split(note, 45)).containsExactly(
+                "History: asthma.\n\nMedication: salbutamol.",
+                "Plan: follow up in two weeks."
+        );
+    }
+
+    @Test
+    void split_ShouldSplitOversizedParagraphOnSentences() {
+        String note = "Intro.\n\nFever for three days. Cough since Monday. No chest pain.\n\nPlan: rest.";
+
+        List<String> chunks = MedicalNoteChunker.split(note, 30);
+
+        assertThat(chunks).containsExactly(
+                "Intro.",
+                "Fever for three days.",
+                "Cough since Monday.",
+                "No chest pain.",
+                "Plan: rest."
+        );
+    }
+
+    @Test
+    void split_ShouldCutAtSizeLimit_WhenNoBoundaryIsLeft() {
+        assertThat(MedicalNoteChunker.split("abcdefghij", 4)).containsExactly("abcd", "efgh", "ij");
+    }
+
+    @Test
+    void split_ShouldNeverExceedChunkSize() {
+        String note = "Line one of the history.\nLine two of the history.\n\n" + "word ".repeat(200);
+
+        assertThat(MedicalNoteChunker.split(note, 50)).allSatisfy(chunk -> assertThat(chunk).hasSizeLessThanOrEqualTo(50));
+    }
+}
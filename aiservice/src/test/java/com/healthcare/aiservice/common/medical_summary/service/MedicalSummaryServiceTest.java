@@ -1,28 +1,52 @@
 package com.healthcare.aiservice.common.medical_summary.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.aiservice.cache.AiResponseCache;
 import com.healthcare.aiservice.common.medical_summary.dto.MedicalSummaryRequest;
 import com.healthcare.aiservice.common.medical_summary.dto.MedicalSummaryResponse;
 import com.healthcare.aiservice.common.medical_summary.dto.MedicationInfo;
+import com.healthcare.aiservice.common.prompt.model.FeaturePrompts;
+import com.healthcare.aiservice.common.prompt.model.ResolvedPrompt;
+import com.healthcare.aiservice.common.prompt.template.PromptVariables;
 import com.healthcare.aiservice.common.prompt.service.interfaces.AiPromptFactory;
 import com.healthcare.aiservice.common.provider.AiClient;
+import com.healthcare.aiservice.common.provider.stream.AiStreamEvent;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.constant.PromptSource;
+import com.healthcare.aiservice.config.propertie.AiLongSummaryProperties;
+import com.healthcare.aiservice.exception.rest_exception.FeatureRequestInvalidException;
 import com.healthcare.aiservice.exception.rest_exception.ai_response_invalid_exception.AiResponseInvalidException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.IntStream;
+
+import java.util.function.Supplier;
 
 import static com.healthcare.aiservice.config.constant.FeatureName.MEDICAL_SUMMARY;
 import static com.healthcare.aiservice.exception.rest_exception.ai_response_invalid_exception.AiResponseInvalidExceptionMessages.MEDICAL_SUMMARY_EXCEPTION_MESSAGE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,15 +56,53 @@ class MedicalSummaryServiceTest {
     private static final String SYSTEM_PROMPT = "system prompt";
     private static final String USER_PROMPT = "user prompt";
 
+    private static final FeaturePrompts PROMPTS = new FeaturePrompts(
+            new ResolvedPrompt(null, PromptSource.FALLBACK, null, SYSTEM_PROMPT),
+            new ResolvedPrompt(null, PromptSource.FALLBACK, null, "%s"),
+            PromptVariables.ofNote(USER_PROMPT),
+            AiProviderModel.LLAMA_3
+    );
+
+    private static final String REDUCE_SYSTEM_PROMPT = "reduce system prompt";
+
+    private static final String LONG_NOTE = """
+            Day 1: admitted with fever and productive cough.
+
+            Day 2: influenza confirmed, paracetamol started.
+
+            Day 3: fever resolved, discharge with rest advised.
+            """;
+
+    private static final FeaturePrompts REDUCE_PROMPTS = new FeaturePrompts(
+            new ResolvedPrompt(null, PromptSource.FALLBACK, null, REDUCE_SYSTEM_PROMPT),
+            new ResolvedPrompt(null, PromptSource.FALLBACK, null, "{{partialSummaries}}"),
+            PromptVariables.builder().build(),
+            AiProviderModel.LLAMA_3
+    );
+
     @Mock
     private AiClient aiClient;
 
     @Mock
     private AiPromptFactory promptFactory;
 
-    @InjectMocks
+    @Mock
+    private AiResponseCache responseCache;
+
     private MedicalSummaryService medicalSummaryService;
 
+    @BeforeEach
+    void setUp() {
+        medicalSummaryService = new MedicalSummaryService(
+                aiClient,
+                promptFactory,
+                responseCache,
+                new ObjectMapper(),
+                Schedulers.immediate(),
+                new AiLongSummaryProperties(true, 100, 60, 2, 2)
+        );
+    }
+
     @Test
     void summarize_ShouldReturnMedicalSummaryResponse() {
         MedicalSummaryRequest request = new MedicalSummaryRequest(
@@ -57,6 +119,8 @@ class MedicalSummaryServiceTest {
         mockPrompts(request);
 
         when(aiClient.call(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
                 SYSTEM_PROMPT,
                 USER_PROMPT,
                 MedicalSummaryResponse.class
@@ -68,12 +132,11 @@ class MedicalSummaryServiceTest {
         assertThat(actualResponse).isEqualTo(expectedResponse);
 
         verify(promptFactory)
-                .getSystemPrompt(MEDICAL_SUMMARY);
-
-        verify(promptFactory)
-                .getUserPrompt(MEDICAL_SUMMARY, request);
+                .getPrompts(MEDICAL_SUMMARY, request);
 
         verify(aiClient).call(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
                 SYSTEM_PROMPT,
                 USER_PROMPT,
                 MedicalSummaryResponse.class
@@ -90,6 +153,8 @@ class MedicalSummaryServiceTest {
         mockPrompts(request);
 
         when(aiClient.call(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
                 SYSTEM_PROMPT,
                 USER_PROMPT,
                 MedicalSummaryResponse.class
@@ -116,6 +181,8 @@ class MedicalSummaryServiceTest {
         mockPrompts(request);
 
         when(aiClient.call(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
                 SYSTEM_PROMPT,
                 USER_PROMPT,
                 MedicalSummaryResponse.class
@@ -151,6 +218,8 @@ class MedicalSummaryServiceTest {
         mockPrompts(request);
 
         when(aiClient.call(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
                 SYSTEM_PROMPT,
                 USER_PROMPT,
                 MedicalSummaryResponse.class
@@ -174,13 +243,222 @@ class MedicalSummaryServiceTest {
         );
     }
 
+    @Test
+    void summarizeStream_ShouldPassTokensAndNormalizeResult() {
+        MedicalSummaryRequest request =
+                new MedicalSummaryRequest("note");
+
+        MedicalSummaryResponse aiResponse =
+                new MedicalSummaryResponse(
+                        "  Patient has headache.  ",
+                        null,
+                        null,
+                        List.of("Rest")
+                );
+
+        mockPrompts(request);
+
+        when(aiClient.stream(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
+                SYSTEM_PROMPT,
+                USER_PROMPT,
+                MedicalSummaryResponse.class
+        )).thenReturn(Flux.just(
+                AiStreamEvent.token("{\"summary\""),
+                AiStreamEvent.result(aiResponse)
+        ));
+
+        List<AiStreamEvent<MedicalSummaryResponse>> events =
+                medicalSummaryService.summarizeStream(request)
+                        .collectList()
+                        .block();
+
+        assertThat(events).containsExactly(
+                AiStreamEvent.token("{\"summary\""),
+                AiStreamEvent.result(new MedicalSummaryResponse(
+                        "Patient has headache.",
+                        List.of(),
+                        List.of(),
+                        List.of("Rest")
+                ))
+        );
+    }
+
+    @Test
+    void summarizeStream_ShouldFail_WhenStreamedSummaryIsBlank() {
+        MedicalSummaryRequest request =
+                new MedicalSummaryRequest("note");
+
+        mockPrompts(request);
+
+        when(aiClient.stream(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
+                SYSTEM_PROMPT,
+                USER_PROMPT,
+                MedicalSummaryResponse.class
+        )).thenReturn(Flux.just(
+                AiStreamEvent.token("{}"),
+                AiStreamEvent.result(new MedicalSummaryResponse(" ", null, null, null))
+        ));
+
+        assertThatThrownBy(() -> medicalSummaryService.summarizeStream(request).blockLast())
+                .isInstanceOf(AiResponseInvalidException.class)
+                .hasMessageContaining(MEDICAL_SUMMARY_EXCEPTION_MESSAGE);
+    }
+
+    @Test
+    void summarize_ShouldSummarizeChunksAndMergeDuplicates_WhenNoteExceedsThreshold() {
+        MedicalSummaryRequest request = new MedicalSummaryRequest(LONG_NOTE);
+
+        mockLongNotePrompts();
+
+        when(aiClient.call(
+                eq(FeatureName.MEDICAL_SUMMARY),
+                eq(AiProviderModel.LLAMA_3),
+                eq(SYSTEM_PROMPT),
+                anyString(),
+                eq(MedicalSummaryResponse.class)
+        )).thenAnswer(invocation -> new MedicalSummaryResponse(
+                "Part " + invocation.<String>getArgument(3).charAt(0),
+                List.of("Influenza"),
+                List.of(),
+                List.of()
+        ));
+
+        when(aiClient.call(
+                eq(FeatureName.MEDICAL_SUMMARY),
+                eq(AiProviderModel.LLAMA_3),
+                eq(REDUCE_SYSTEM_PROMPT),
+                anyString(),
+                eq(MedicalSummaryResponse.class)
+        )).thenReturn(new MedicalSummaryResponse(
+                " Influenza treated, patient discharged. ",
+                List.of("Influenza", " influenza "),
+                List.of(new MedicationInfo("Paracetamol", ""), new MedicationInfo("paracetamol", "500 mg")),
+                List.of("Rest", "rest")
+        ));
+
+        MedicalSummaryResponse result = medicalSummaryService.summarize(request);
+
+        assertThat(result).isEqualTo(new MedicalSummaryResponse(
+                "Influenza treated, patient discharged.",
+                List.of("Influenza"),
+                List.of(new MedicationInfo("paracetamol", "500 mg")),
+                List.of("Rest")
+        ));
+
+        ArgumentCaptor<String> reduceUserPrompt = ArgumentCaptor.forClass(String.class);
+
+        verify(aiClient, times(3)).call(
+                eq(FeatureName.MEDICAL_SUMMARY),
+                eq(AiProviderModel.LLAMA_3),
+                eq(SYSTEM_PROMPT),
+                anyString(),
+                eq(MedicalSummaryResponse.class)
+        );
+        verify(aiClient).call(
+                eq(FeatureName.MEDICAL_SUMMARY),
+                eq(AiProviderModel.LLAMA_3),
+                eq(REDUCE_SYSTEM_PROMPT),
+                reduceUserPrompt.capture(),
+                eq(MedicalSummaryResponse.class)
+        );
+
+        assertThat(reduceUserPrompt.getValue())
+                .containsSubsequence("\"Part 1\"", "\"Part 2\"", "\"Part 3\"");
+    }
+
+    @Test
+    void summarizeStream_ShouldStreamReduceStep_WhenNoteExceedsThreshold() {
+        MedicalSummaryRequest request = new MedicalSummaryRequest(LONG_NOTE);
+
+        mockLongNotePrompts();
+
+        when(aiClient.call(
+                eq(FeatureName.MEDICAL_SUMMARY),
+                eq(AiProviderModel.LLAMA_3),
+                eq(SYSTEM_PROMPT),
+                anyString(),
+                eq(MedicalSummaryResponse.class)
+        )).thenReturn(new MedicalSummaryResponse("Part", null, null, null));
+
+        when(aiClient.stream(
+                eq(FeatureName.MEDICAL_SUMMARY),
+                eq(AiProviderModel.LLAMA_3),
+                eq(REDUCE_SYSTEM_PROMPT),
+                anyString(),
+                eq(MedicalSummaryResponse.class)
+        )).thenReturn(Flux.just(
+                AiStreamEvent.token("{\"summary\""),
+                AiStreamEvent.result(new MedicalSummaryResponse("Whole stay.", List.of("Flu", "FLU"), null, null))
+        ));
+
+        List<AiStreamEvent<MedicalSummaryResponse>> events =
+                medicalSummaryService.summarizeStream(request)
+                        .collectList()
+                        .block();
+
+        assertThat(events).containsExactly(
+                AiStreamEvent.token("{\"summary\""),
+                AiStreamEvent.result(new MedicalSummaryResponse("Whole stay.", List.of("Flu"), List.of(), List.of()))
+        );
+    }
+
+    @Test
+    void summarize_ShouldRejectNoteOverSinglePromptLimit_WhenLongSummaryIsDisabled() {
+        medicalSummaryService = new MedicalSummaryService(
+                aiClient,
+                promptFactory,
+                responseCache,
+                new ObjectMapper(),
+                Schedulers.immediate(),
+                new AiLongSummaryProperties(false, 100, 60, 2, 2)
+        );
+
+        MedicalSummaryRequest request = new MedicalSummaryRequest(
+                "a".repeat(MedicalSummaryService.SINGLE_PROMPT_MAX_NOTE_LENGTH + 1)
+        );
+
+        assertThatThrownBy(() -> medicalSummaryService.summarize(request))
+                .isInstanceOf(FeatureRequestInvalidException.class);
+        assertThatThrownBy(() -> medicalSummaryService.summarizeStream(request))
+                .isInstanceOf(FeatureRequestInvalidException.class);
+
+        verifyNoInteractions(aiClient, promptFactory, responseCache);
+    }
+
+    private void mockLongNotePrompts() {
+        when(promptFactory.getChunkPrompts(eq(MEDICAL_SUMMARY), anyList()))
+                .thenAnswer(invocation -> {
+                    List<String> chunks = invocation.getArgument(1);
+
+                    return IntStream.range(0, chunks.size())
+                            .mapToObj(index -> new FeaturePrompts(
+                                    PROMPTS.systemPrompt(),
+                                    new ResolvedPrompt(null, PromptSource.FALLBACK, null, "{{chunkNumber}} {{note}}"),
+                                    PromptVariables.builder()
+                                            .note(chunks.get(index))
+                                            .chunkNumber(String.valueOf(index + 1))
+                                            .build(),
+                                    AiProviderModel.LLAMA_3
+                            ))
+                            .toList();
+                });
+
+        when(promptFactory.getReducePrompts(MEDICAL_SUMMARY, AiProviderModel.LLAMA_3))
+                .thenReturn(REDUCE_PROMPTS);
+
+        lenient().when(responseCache.getOrCompute(any(), any(), any(), eq(REDUCE_PROMPTS), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(5).get());
+    }
+
     private void mockPrompts(MedicalSummaryRequest request) {
-        when(promptFactory.getSystemPrompt(MEDICAL_SUMMARY))
-                .thenReturn(SYSTEM_PROMPT);
+        when(promptFactory.getPrompts(MEDICAL_SUMMARY, request))
+                .thenReturn(PROMPTS);
 
-        when(promptFactory.getUserPrompt(
-                MEDICAL_SUMMARY,
-                request
-        )).thenReturn(USER_PROMPT);
+        lenient().when(responseCache.getOrCompute(any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
     }
 }
\ No newline at end of file
@@ -8,6 +8,8 @@ import com.healthcare.aiservice.common.message_classification.dto.MessageClassif
 import com.healthcare.aiservice.common.message_classification.dto.MessageClassificationResponse;
 import com.healthcare.aiservice.common.message_classification.service.MessageClassificationService;
 import com.healthcare.aiservice.common.web.converter.NormalizedStringToEnumConverterFactory;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.exception.rest_exception.AiCapacityExceededException;
 import com.healthcare.aiservice.security.config.SecurityConfig;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -21,14 +23,18 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
+
 import static com.healthcare.aiservice.common.message_classification.controller.API.MessageClassificationApiPaths.CLASSIFY_MESSAGE_URL;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -111,4 +117,47 @@ class MessageClassificationControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.status").value(400));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should return 429 with Retry-After when the AI provider is at capacity")
+    void shouldReturnTooManyRequestsWhenAiProviderIsAtCapacity() throws Exception {
+        MessageClassificationRequest request = new MessageClassificationRequest(
+                "I need to reschedule my appointment."
+        );
+
+        when(messageClassificationService.classify(any(MessageClassificationRequest.class)))
+                .thenThrow(new AiCapacityExceededException(
+                        FeatureName.MESSAGE_CLASSIFICATION,
+                        "queue is full",
+                        Duration.ofSeconds(5)
+                ));
+
+        mockMvc.perform(post(CLASSIFY_MESSAGE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"))
+                .andExpect(jsonPath("$.error").value("AI_PROVIDER_OVERLOADED"));
+    }
+
+    @Test
+    @DisplayName("Should round a sub-second Retry-After up to one second")
+    void shouldRoundSubSecondRetryAfterUp() throws Exception {
+        MessageClassificationRequest request = new MessageClassificationRequest(
+                "I need to reschedule my appointment."
+        );
+
+        when(messageClassificationService.classify(any(MessageClassificationRequest.class)))
+                .thenThrow(new AiCapacityExceededException(
+                        FeatureName.MESSAGE_CLASSIFICATION,
+                        "queue is full",
+                        Duration.ofMillis(250)
+                ));
+
+        mockMvc.perform(post(CLASSIFY_MESSAGE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+}
@@ -1,10 +1,17 @@
 package com.healthcare.aiservice.common.message_classification.service;
 
+import com.healthcare.aiservice.cache.AiResponseCache;
 import com.healthcare.aiservice.common.message_classification.category.MessageCategory;
 import com.healthcare.aiservice.common.message_classification.dto.MessageClassificationRequest;
 import com.healthcare.aiservice.common.message_classification.dto.MessageClassificationResponse;
+import com.healthcare.aiservice.common.prompt.model.FeaturePrompts;
+import com.healthcare.aiservice.common.prompt.model.ResolvedPrompt;
+import com.healthcare.aiservice.common.prompt.template.PromptVariables;
 import com.healthcare.aiservice.common.prompt.service.interfaces.AiPromptFactory;
 import com.healthcare.aiservice.common.provider.AiClient;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.constant.PromptSource;
 import com.healthcare.aiservice.exception.rest_exception.ai_response_invalid_exception.AiResponseInvalidException;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -14,11 +21,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.function.Supplier;
+
 import static com.healthcare.aiservice.config.constant.FeatureName.MESSAGE_CLASSIFICATION;
 import static com.healthcare.aiservice.exception.rest_exception.ai_response_invalid_exception.AiResponseInvalidExceptionMessages.CLASSIFICATION_EXCEPTION_MESSAGE;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,12 +39,22 @@ class MessageClassificationServiceTest {
     private static final String SYSTEM_PROMPT = "system";
     private static final String USER_PROMPT = "user";
 
+    private static final FeaturePrompts PROMPTS = new FeaturePrompts(
+            new ResolvedPrompt(null, PromptSource.FALLBACK, null, SYSTEM_PROMPT),
+            new ResolvedPrompt(null, PromptSource.FALLBACK, null, "%s"),
+            PromptVariables.ofNote(USER_PROMPT),
+            AiProviderModel.LLAMA_3
+    );
+
     @Mock
     private AiClient aiClient;
 
     @Mock
     private AiPromptFactory promptFactory;
 
+    @Mock
+    private AiResponseCache responseCache;
+
     @InjectMocks
     private MessageClassificationService service;
 
@@ -45,6 +66,8 @@ class MessageClassificationServiceTest {
         mockPrompts(request);
 
         when(aiClient.call(
+                FeatureName.MESSAGE_CLASSIFICATION,
+                AiProviderModel.LLAMA_3,
                 SYSTEM_PROMPT,
                 USER_PROMPT,
                 MessageClassificationResponse.class
@@ -66,6 +89,8 @@ class MessageClassificationServiceTest {
         mockPrompts(request);
 
         when(aiClient.call(
+                FeatureName.MESSAGE_CLASSIFICATION,
+                AiProviderModel.LLAMA_3,
                 SYSTEM_PROMPT,
                 USER_PROMPT,
                 MessageClassificationResponse.class
@@ -90,6 +115,8 @@ class MessageClassificationServiceTest {
         mockPrompts(request);
 
         when(aiClient.call(
+                FeatureName.MESSAGE_CLASSIFICATION,
+                AiProviderModel.LLAMA_3,
                 SYSTEM_PROMPT,
                 USER_PROMPT,
                 MessageClassificationResponse.class
@@ -116,6 +143,8 @@ class MessageClassificationServiceTest {
         mockPrompts(request);
 
         when(aiClient.call(
+                FeatureName.MESSAGE_CLASSIFICATION,
+                AiProviderModel.LLAMA_3,
                 SYSTEM_PROMPT,
                 USER_PROMPT,
                 MessageClassificationResponse.class
@@ -131,12 +160,10 @@ class MessageClassificationServiceTest {
     }
 
     private void mockPrompts(MessageClassificationRequest request) {
-        when(promptFactory.getSystemPrompt(MESSAGE_CLASSIFICATION))
-                .thenReturn(SYSTEM_PROMPT);
+        when(promptFactory.getPrompts(MESSAGE_CLASSIFICATION, request))
+                .thenReturn(PROMPTS);
 
-        when(promptFactory.getUserPrompt(
-                MESSAGE_CLASSIFICATION,
-                request
-        )).thenReturn(USER_PROMPT);
+        lenient().when(responseCache.getOrCompute(any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
     }
 }
\ No newline at end of file
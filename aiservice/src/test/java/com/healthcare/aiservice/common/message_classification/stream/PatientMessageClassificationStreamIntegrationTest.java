@@ -0,0 +1,293 @@
+package com.healthcare.aiservice.common.message_classification.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.aiservice.common.message_classification.category.MessageCategory;
+import com.healthcare.aiservice.common.message_classification.dto.MessageClassificationRequest;
+import com.healthcare.aiservice.common.message_classification.dto.MessageClassificationResponse;
+import com.healthcare.aiservice.common.message_classification.model.ProcessedPatientMessage;
+import com.healthcare.aiservice.common.message_classification.service.MessageClassificationService;
+import com.healthcare.aiservice.common.provider.AiAdmissionController;
+import com.healthcare.aiservice.common.validation.FeatureRequestValidator;
+import com.healthcare.aiservice.config.ClassificationStreamKafkaConfiguration;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.propertie.AiClassificationStreamProperties;
+import com.healthcare.aiservice.exception.rest_exception.AiCapacityExceededException;
+import com.healthcare.aiservice.repository.ProcessedPatientMessageRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.StreamSupport;
+
+import static com.healthcare.aiservice.config.AiBatchSchedulerConfiguration.AI_BATCH_SCHEDULER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(
+        classes = PatientMessageClassificationStreamIntegrationTest.StreamTestConfiguration.class,
+        properties = {
+                "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+                "ai.classification-stream.enabled=true",
+                "ai.classification-stream.partitions=1",
+                "ai.classification-stream.batch-window=50ms",
+                "ai.classification-stream.retry-backoff=100ms",
+                "ai.classification-stream.resume-check-interval=50ms"
+        }
+)
+@EmbeddedKafka(
+        kraft = true,
+        topics = {
+                "patient.message.received.v1",
+                "patient.message.received.v1.DLT",
+                "patient.message.classified.v1"
+        }
+)
+@ActiveProfiles("test")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("Patient message classification stream integration tests: ")
+class PatientMessageClassificationStreamIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(20);
+
+    private static final MessageClassificationResponse APPOINTMENT =
+            new MessageClassificationResponse(MessageCategory.APPOINTMENT, "Patient wants to reschedule.");
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    @Autowired
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AiClassificationStreamProperties properties;
+
+    @Autowired
+    private ClassificationStreamBackpressure backpressure;
+
+    @MockitoBean
+    private MessageClassificationService classificationService;
+
+    @MockitoBean
+    private ProcessedPatientMessageRepository processedRepository;
+
+    @MockitoBean
+    private AiAdmissionController admissionController;
+
+    private final Map<String, ProcessedPatientMessage> processedMessages = new ConcurrentHashMap<>();
+
+    private Consumer<String, String> outputConsumer;
+
+    @BeforeEach
+    void setUp() {
+        when(processedRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            Iterable<String> ids = invocation.getArgument(0);
+
+            return StreamSupport.stream(ids.spliterator(), false)
+                    .map(processedMessages::get)
+                    .filter(message -> message != null)
+                    .toList();
+        });
+        when(processedRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            Iterable<ProcessedPatientMessage> messages = invocation.getArgument(0);
+            messages.forEach(message -> processedMessages.put(message.messageId(), message));
+            return messages;
+        });
+
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("stream-test-" + System.nanoTime(), "false", broker);
+        outputConsumer = new DefaultKafkaConsumerFactory<>(consumerProps, new StringDeserializer(), new StringDeserializer())
+                .createConsumer();
+        broker.consumeFromEmbeddedTopics(outputConsumer, true, properties.resultTopic(), deadLetterTopic());
+    }
+
+    @AfterEach
+    void tearDown() {
+        outputConsumer.close();
+    }
+
+    @Test
+    void stream_ShouldPublishResultKeyedByMessageId_AndDeadLetterUnreadableMessages() throws Exception {
+        when(classificationService.classify(new MessageClassificationRequest("Can I move my visit?")))
+                .thenReturn(APPOINTMENT);
+
+        send("m-1", event("m-1", "Can I move my visit?"));
+        send("broken", "{not json");
+
+        List<ConsumerRecord<String, String>> records = poll(2);
+
+        ConsumerRecord<String, String> result = find(records, properties.resultTopic());
+        assertThat(result.key()).isEqualTo("m-1");
+        assertThat(objectMapper.readValue(result.value(), MessageClassificationResponse.class)).isEqualTo(APPOINTMENT);
+
+        ConsumerRecord<String, String> deadLetter = find(records, deadLetterTopic());
+        assertThat(deadLetter.value()).isEqualTo("{not json");
+        assertThat(new String(
+                deadLetter.headers().lastHeader(PatientMessageClassificationProcessor.ERROR_HEADER).value(),
+                StandardCharsets.UTF_8
+        )).isEqualTo("INVALID_REQUEST_BODY");
+        assertThat(processedMessages.values())
+                .extracting(ProcessedPatientMessage::outcome)
+                .contains(ClassificationStreamMetrics.INVALID);
+    }
+
+    @Test
+    void stream_ShouldDeadLetterMessageWithoutClassifying_WhenItExceedsRequestLimit() {
+        send("m-6", event("m-6", "a".repeat(5001)));
+
+        ConsumerRecord<String, String> deadLetter = find(poll(1), deadLetterTopic());
+
+        assertThat(deadLetter.key()).isEqualTo("m-6");
+        assertThat(new String(
+                deadLetter.headers().lastHeader(PatientMessageClassificationProcessor.ERROR_HEADER).value(),
+                StandardCharsets.UTF_8
+        )).isEqualTo("VALIDATION_ERROR");
+        assertThat(processedMessages).containsKey("m-6");
+        verify(classificationService, never()).classify(any(MessageClassificationRequest.class));
+    }
+
+    @Test
+    void stream_ShouldClassifyMessageOnce_WhenItIsDeliveredTwice() {
+        when(classificationService.classify(any(MessageClassificationRequest.class))).thenReturn(APPOINTMENT);
+
+        send("m-2", event("m-2", "Please reschedule."));
+        assertThat(poll(1)).hasSize(1);
+
+        send("m-2", event("m-2", "Please reschedule."));
+        send("m-3", event("m-3", "Please reschedule too."));
+
+        List<ConsumerRecord<String, String>> records = poll(1);
+
+        assertThat(records).extracting(ConsumerRecord::key).containsExactly("m-3");
+        verify(classificationService, times(2)).classify(any(MessageClassificationRequest.class));
+    }
+
+    @Test
+    void stream_ShouldRetryMessage_WhenProviderIsAtCapacity() {
+        when(classificationService.classify(any(MessageClassificationRequest.class)))
+                .thenThrow(new AiCapacityExceededException(FeatureName.MESSAGE_CLASSIFICATION, "queue is full", Duration.ofSeconds(1)))
+                .thenReturn(APPOINTMENT);
+
+        send("m-4", event("m-4", "Need a new appointment."));
+
+        assertThat(poll(1)).extracting(ConsumerRecord::key).containsExactly("m-4");
+        verify(classificationService, times(2)).classify(any(MessageClassificationRequest.class));
+    }
+
+    @Test
+    void stream_ShouldPauseConsumer_WhileAdmissionQueueIsSaturated() {
+        when(classificationService.classify(any(MessageClassificationRequest.class))).thenReturn(APPOINTMENT);
+        when(admissionController.queueFill(FeatureName.MESSAGE_CLASSIFICATION)).thenReturn(1.0);
+
+        send("m-5", event("m-5", "Can I come earlier?"));
+
+        await().atMost(TIMEOUT).until(backpressure::isPaused);
+
+        when(admissionController.queueFill(FeatureName.MESSAGE_CLASSIFICATION)).thenReturn(0.0);
+
+        await().atMost(TIMEOUT).until(() -> !backpressure.isPaused());
+    }
+
+    private void send(String key, String value) {
+        kafkaTemplate.send(properties.inputTopic(), key, value).join();
+    }
+
+    private String event(String messageId, String message) {
+        try {
+            return objectMapper.writeValueAsString(new PatientMessageEvent(messageId, message));
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private List<ConsumerRecord<String, String>> poll(int expected) {
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+
+        await().atMost(TIMEOUT).until(() -> {
+            KafkaTestUtils.getRecords(outputConsumer, Duration.ofMillis(200)).forEach(records::add);
+            return records.size() >= expected;
+        });
+
+        return records;
+    }
+
+    private static ConsumerRecord<String, String> find(List<ConsumerRecord<String, String>> records, String topic) {
+        return records.stream()
+                .filter(record -> record.topic().equals(topic))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private String deadLetterTopic() {
+        return properties.inputTopic() + ClassificationStreamKafkaConfiguration.DLT_SUFFIX;
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({
+            KafkaAutoConfiguration.class,
+            JacksonAutoConfiguration.class,
+            ValidationAutoConfiguration.class
+    })
+    @EnableConfigurationProperties(AiClassificationStreamProperties.class)
+    @Import({
+            ClassificationStreamKafkaConfiguration.class,
+            ClassificationStreamMetrics.class,
+            ClassificationStreamBackpressure.class,
+            PatientMessageClassificationProcessor.class,
+            FeatureRequestValidator.class,
+            PatientMessageClassificationListener.class
+    })
+    static class StreamTestConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean(name = AI_BATCH_SCHEDULER, destroyMethod = "dispose")
+        Scheduler aiBatchScheduler() {
+            return Schedulers.newBoundedElastic(2, 100, "stream-test");
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.healthcare.aiservice.common.note_analysis.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.aiservice.common.message_classification.category.MessageCategory;
+import com.healthcare.aiservice.common.message_classification.dto.MessageClassificationResponse;
+import com.healthcare.aiservice.common.note_analysis.dto.NoteAnalysisFeatureResult;
+import com.healthcare.aiservice.common.note_analysis.dto.NoteAnalysisRequest;
+import com.healthcare.aiservice.common.note_analysis.dto.NoteAnalysisResponse;
+import com.healthcare.aiservice.common.note_analysis.service.NoteAnalysisService;
+import com.healthcare.aiservice.common.web.converter.NormalizedStringToEnumConverterFactory;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+
+import static com.healthcare.aiservice.common.note_analysis.controller.API.NoteAnalysisApiPaths.ANALYZE_NOTE_URL;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(
+        controllers = NoteAnalysisController.class,
+        properties = {
+                "auth-filter.enabled=false",
+                "request-id-filter.enabled=false",
+                "user-context-filter.enabled=false"
+        }
+)
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("Note analysis controller tests: ")
+class NoteAnalysisControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private NoteAnalysisService noteAnalysisService;
+
+    @MockitoBean
+    private ChatClient.Builder chatClientBuilder;
+
+    @MockitoBean
+    private NormalizedStringToEnumConverterFactory converterFactory;
+
+    @Test
+    void analyze_ShouldReturnCombinedResponse() throws Exception {
+        NoteAnalysisRequest request = new NoteAnalysisRequest(
+                "I need to reschedule my appointment.",
+                Set.of(FeatureName.MESSAGE_CLASSIFICATION)
+        );
+
+        when(noteAnalysisService.analyze(any(NoteAnalysisRequest.class)))
+                .thenReturn(NoteAnalysisResponse.builder()
+                        .classification(NoteAnalysisFeatureResult.success(
+                                120L,
+                                new MessageClassificationResponse(MessageCategory.APPOINTMENT, "Reschedule.")
+                        ))
+                        .durationMs(125L)
+                        .build());
+
+        mockMvc.perform(post(ANALYZE_NOTE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.classification.status").value("SUCCESS"))
+                .andExpect(jsonPath("$.classification.durationMs").value(120))
+                .andExpect(jsonPath("$.classification.result.category").value("APPOINTMENT"))
+                .andExpect(jsonPath("$.durationMs").value(125));
+    }
+
+    @Test
+    void analyze_ShouldReturnBadRequest_WhenNoFeatureIsRequested() throws Exception {
+        NoteAnalysisRequest request = new NoteAnalysisRequest("Headache for two days.", Set.of());
+
+        mockMvc.perform(post(ANALYZE_NOTE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+
+        verifyNoInteractions(noteAnalysisService);
+    }
+}
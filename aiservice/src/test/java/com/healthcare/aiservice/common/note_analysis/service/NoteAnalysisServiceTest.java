@@ -0,0 +1,196 @@
+package com.healthcare.aiservice.common.note_analysis.service;
+
+import com.healthcare.aiservice.common.dto.AiResultStatus;
+import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionRequest;
+import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionResponse;
+import com.healthcare.aiservice.common.medical_extraction.service.MedicalInfoExtractionService;
+import com.healthcare.aiservice.common.medical_summary.dto.MedicalSummaryRequest;
+import com.healthcare.aiservice.common.medical_summary.dto.MedicalSummaryResponse;
+import com.healthcare.aiservice.common.medical_summary.service.MedicalSummaryService;
+import com.healthcare.aiservice.common.message_classification.category.MessageCategory;
+import com.healthcare.aiservice.common.message_classification.dto.MessageClassificationRequest;
+import com.healthcare.aiservice.common.message_classification.dto.MessageClassificationResponse;
+import com.healthcare.aiservice.common.message_classification.service.MessageClassificationService;
+import com.healthcare.aiservice.common.note_analysis.dto.NoteAnalysisRequest;
+import com.healthcare.aiservice.common.note_analysis.dto.NoteAnalysisResponse;
+import com.healthcare.aiservice.common.validation.FeatureRequestValidator;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.exception.dto.ValidationError;
+import com.healthcare.aiservice.exception.rest_exception.AiCapacityExceededException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.i18n.LocaleContextHolder;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("Note analysis service tests: ")
+class NoteAnalysisServiceTest {
+
+    private static final String NOTE = "Patient asks to move the appointment. Headache for two days.";
+
+    private static final MedicalSummaryResponse SUMMARY = new MedicalSummaryResponse(
+            "Headache for two days.", List.of(), List.of(), List.of()
+    );
+
+    private static final MedicalInfoExtractionResponse EXTRACTION = new MedicalInfoExtractionResponse(
+            List.of("headache"), List.of(), List.of(), List.of(), List.of(), List.of()
+    );
+
+    private static final MessageClassificationResponse CLASSIFICATION = new MessageClassificationResponse(
+            MessageCategory.APPOINTMENT, "Patient wants to reschedule."
+    );
+
+    @Mock
+    private MedicalSummaryService summaryService;
+
+    @Mock
+    private MedicalInfoExtractionService extractionService;
+
+    @Mock
+    private MessageClassificationService classificationService;
+
+    private final Scheduler scheduler = Schedulers.newBoundedElastic(3, 10, "note-analysis-test");
+
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+
+    private NoteAnalysisService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new NoteAnalysisService(
+                summaryService,
+                extractionService,
+                classificationService,
+                new FeatureRequestValidator(validatorFactory.getValidator()),
+                scheduler
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+        validatorFactory.close();
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    void analyze_ShouldRunFeaturesConcurrently() {
+        CountDownLatch allStarted = new CountDownLatch(3);
+
+        when(summaryService.summarize(new MedicalSummaryRequest(NOTE)))
+                .thenAnswer(invocation -> awaitOthers(allStarted, SUMMARY));
+        when(extractionService.extract(new MedicalInfoExtractionRequest(NOTE)))
+                .thenAnswer(invocation -> awaitOthers(allStarted, EXTRACTION));
+        when(classificationService.classify(new MessageClassificationRequest(NOTE)))
+                .thenAnswer(invocation -> awaitOthers(allStarted, CLASSIFICATION));
+
+        NoteAnalysisResponse response = service.analyze(new NoteAnalysisRequest(NOTE, Set.of(FeatureName.values())));
+
+        assertThat(response.summary().status()).isEqualTo(AiResultStatus.SUCCESS);
+        assertThat(response.summary().result()).isEqualTo(SUMMARY);
+        assertThat(response.extraction().result()).isEqualTo(EXTRACTION);
+        assertThat(response.classification().result()).isEqualTo(CLASSIFICATION);
+    }
+
+    @Test
+    void analyze_ShouldRunOnlyRequestedFeatures() {
+        when(classificationService.classify(new MessageClassificationRequest(NOTE))).thenReturn(CLASSIFICATION);
+
+        NoteAnalysisResponse response = service.analyze(
+                new NoteAnalysisRequest(NOTE, Set.of(FeatureName.MESSAGE_CLASSIFICATION))
+        );
+
+        assertThat(response.classification().result()).isEqualTo(CLASSIFICATION);
+        assertThat(response.summary()).isNull();
+        assertThat(response.extraction()).isNull();
+        verifyNoInteractions(summaryService, extractionService);
+    }
+
+    @Test
+    void analyze_ShouldReturnFailedFeature_WithoutFailingOthers() {
+        when(summaryService.summarize(new MedicalSummaryRequest(NOTE)))
+                .thenThrow(new AiCapacityExceededException(
+                        FeatureName.MEDICAL_SUMMARY,
+                        "queue is full",
+                        Duration.ofSeconds(5)
+                ));
+        when(extractionService.extract(new MedicalInfoExtractionRequest(NOTE))).thenReturn(EXTRACTION);
+
+        NoteAnalysisResponse response = service.analyze(new NoteAnalysisRequest(
+                NOTE,
+                Set.of(FeatureName.MEDICAL_SUMMARY, FeatureName.MEDICAL_EXTRACTION)
+        ));
+
+        assertThat(response.summary().status()).isEqualTo(AiResultStatus.FAILED);
+        assertThat(response.summary().result()).isNull();
+        assertThat(response.summary().error().status()).isEqualTo(429);
+        assertThat(response.extraction().status()).isEqualTo(AiResultStatus.SUCCESS);
+        assertThat(response.extraction().result()).isEqualTo(EXTRACTION);
+    }
+
+    @Test
+    void analyze_ShouldFailFeature_WhenNoteViolatesItsRequestConstraints() {
+        String longNote = "Headache for two days. ".repeat(300);
+
+        when(summaryService.summarize(new MedicalSummaryRequest(longNote))).thenReturn(SUMMARY);
+
+        NoteAnalysisResponse response = service.analyze(new NoteAnalysisRequest(
+                longNote,
+                Set.of(FeatureName.MEDICAL_SUMMARY, FeatureName.MESSAGE_CLASSIFICATION)
+        ));
+
+        assertThat(response.summary().status()).isEqualTo(AiResultStatus.SUCCESS);
+        assertThat(response.classification().status()).isEqualTo(AiResultStatus.FAILED);
+        assertThat(response.classification().error().status()).isEqualTo(400);
+        assertThat(response.classification().error().validationErrors())
+                .extracting(ValidationError::field)
+                .containsExactly("note");
+        verifyNoInteractions(classificationService);
+    }
+
+    @Test
+    void analyze_ShouldRunFeaturesWithCallerLocale() {
+        AtomicReference<Locale> workerLocale = new AtomicReference<>();
+        LocaleContextHolder.setLocale(Locale.GERMANY);
+
+        when(classificationService.classify(new MessageClassificationRequest(NOTE))).thenAnswer(invocation -> {
+            workerLocale.set(LocaleContextHolder.getLocale());
+            return CLASSIFICATION;
+        });
+
+        service.analyze(new NoteAnalysisRequest(NOTE, Set.of(FeatureName.MESSAGE_CLASSIFICATION)));
+
+        assertThat(workerLocale.get()).isEqualTo(Locale.GERMANY);
+    }
+
+    private static <T> T awaitOthers(CountDownLatch allStarted, T result) throws InterruptedException {
+        allStarted.countDown();
+
+        assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        return result;
+    }
+}
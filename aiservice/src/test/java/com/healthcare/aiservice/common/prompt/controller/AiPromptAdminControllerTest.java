@@ -34,6 +34,8 @@ import static com.healthcare.aiservice.common.prompt.controller.API.AiPromptApiP
 import static com.healthcare.aiservice.common.prompt.controller.API.AiPromptApiPaths.PROMPTS_URL;
 import static com.healthcare.aiservice.common.prompt.controller.API.AiPromptApiPaths.PROMPT_BY_ID_URL;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -215,7 +217,7 @@ class AiPromptAdminControllerTest {
                         TARGET_MODEL
                 );
 
-        when(service.getPromptVersions(expectedKey))
+        when(service.getPromptVersions(expectedKey, null, 50, false))
                 .thenReturn(List.of(
                         versionTwo,
                         versionOne
@@ -243,7 +245,7 @@ class AiPromptAdminControllerTest {
                 .andExpect(jsonPath("$[1].active")
                         .value(false));
 
-        verify(service).getPromptVersions(expectedKey);
+        verify(service).getPromptVersions(expectedKey, null, 50, false);
     }
 
     @Test
@@ -414,6 +416,85 @@ class AiPromptAdminControllerTest {
         verifyNoInteractions(service);
     }
 
+    @Test
+    void getPromptVersions_ShouldPassPageParametersAndReturnContent_WhenRequested()
+            throws Exception {
+
+        AiPromptKey expectedKey =
+                new AiPromptKey(
+                        FEATURE,
+                        TYPE,
+                        TARGET_MODEL
+                );
+
+        AiPromptResponse versionOne =
+                new AiPromptResponse(
+                        "prompt-v1",
+                        FEATURE,
+                        TYPE,
+                        TARGET_MODEL,
+                        1L,
+                        false,
+                        "system",
+                        CREATED_AT,
+                        null,
+                        "prompt content"
+                );
+
+        when(service.getPromptVersions(expectedKey, 2L, 10, true))
+                .thenReturn(List.of(versionOne));
+
+        mockMvc.perform(get(PROMPTS_URL)
+                        .param("feature", "MEDICAL_SUMMARY")
+                        .param("type", "SYSTEM")
+                        .param("targetModel", "LLAMA_3")
+                        .param("beforeVersion", "2")
+                        .param("limit", "10")
+                        .param("includeContent", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].version").value(1))
+                .andExpect(jsonPath("$[0].content").value("prompt content"));
+
+        verify(service).getPromptVersions(expectedKey, 2L, 10, true);
+    }
+
+    @Test
+    void getPromptVersions_ShouldOmitContent_WhenNotRequested()
+            throws Exception {
+
+        AiPromptKey expectedKey =
+                new AiPromptKey(
+                        FEATURE,
+                        TYPE,
+                        TARGET_MODEL
+                );
+
+        when(service.getPromptVersions(expectedKey, null, 50, false))
+                .thenReturn(List.of(createPromptResponse("prompt-v1", 1L, true)));
+
+        mockMvc.perform(get(PROMPTS_URL)
+                        .param("feature", "MEDICAL_SUMMARY")
+                        .param("type", "SYSTEM")
+                        .param("targetModel", "LLAMA_3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].content").doesNotExist());
+    }
+
+    @Test
+    void getPromptVersions_ShouldReturn400_WhenLimitIsAboveMaximum()
+            throws Exception {
+
+        mockMvc.perform(get(PROMPTS_URL)
+                        .param("feature", "MEDICAL_SUMMARY")
+                        .param("type", "SYSTEM")
+                        .param("targetModel", "LLAMA_3")
+                        .param("limit", "201"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(service);
+    }
+
     @Test
     void getPromptVersions_ShouldNormalizeEnumParameters()
             throws Exception {
@@ -425,7 +506,7 @@ class AiPromptAdminControllerTest {
                         AiProviderModel.LLAMA_3
                 );
 
-        when(service.getPromptVersions(expectedKey))
+        when(service.getPromptVersions(expectedKey, null, 50, false))
                 .thenReturn(List.of());
 
         mockMvc.perform(get(PROMPTS_URL)
@@ -442,7 +523,10 @@ class AiPromptAdminControllerTest {
                 ArgumentCaptor.forClass(AiPromptKey.class);
 
         verify(service).getPromptVersions(
-                keyCaptor.capture()
+                keyCaptor.capture(),
+                isNull(),
+                eq(50),
+                eq(false)
         );
 
         assertThat(keyCaptor.getValue())
@@ -538,7 +622,8 @@ class AiPromptAdminControllerTest {
                 active,
                 "system",
                 CREATED_AT,
-                active ? UPDATED_AT : null
+                active ? UPDATED_AT : null,
+                null
         );
     }
 }
\ No newline at end of file
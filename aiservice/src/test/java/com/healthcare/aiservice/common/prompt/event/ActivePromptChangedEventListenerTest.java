@@ -1,7 +1,9 @@
 package com.healthcare.aiservice.common.prompt.event;
 
+import com.healthcare.aiservice.cache.AiResponseCache;
 import com.healthcare.aiservice.common.prompt.model.AiPromptKey;
 import com.healthcare.aiservice.common.prompt.service.PromptCacheEvictionService;
+import com.healthcare.aiservice.common.prompt.template.PromptTemplateCache;
 import com.healthcare.aiservice.config.constant.AiProviderModel;
 import com.healthcare.aiservice.config.constant.FeatureName;
 import com.healthcare.aiservice.config.constant.PromptType;
@@ -32,6 +34,12 @@ class ActivePromptChangedEventListenerTest {
     @Mock
     private PromptCacheEvictionService cacheEvictionService;
 
+    @Mock
+    private AiResponseCache aiResponseCache;
+
+    @Mock
+    private PromptTemplateCache templateCache;
+
     @InjectMocks
     private ActivePromptChangedEventListener listener;
 
@@ -47,4 +55,30 @@ class ActivePromptChangedEventListenerTest {
 
         verifyNoMoreInteractions(cacheEvictionService);
     }
-}
\ No newline at end of file
+
+    @Test
+    void handle_ShouldEvictAiResponsesOfChangedFeature() {
+        ActivePromptChangedEvent event =
+                new ActivePromptChangedEvent(PROMPT_KEY);
+
+        listener.handle(event);
+
+        verify(aiResponseCache)
+                .evict(FeatureName.MEDICAL_SUMMARY);
+
+        verifyNoMoreInteractions(aiResponseCache);
+    }
+
+    @Test
+    void handle_ShouldEvictCompiledTemplateOfChangedPrompt() {
+        ActivePromptChangedEvent event =
+                new ActivePromptChangedEvent(PROMPT_KEY);
+
+        listener.handle(event);
+
+        verify(templateCache)
+                .evict(PROMPT_KEY);
+
+        verifyNoMoreInteractions(templateCache);
+    }
+}
@@ -0,0 +1,112 @@
+package com.healthcare.aiservice.common.prompt.event;
+
+import com.healthcare.aiservice.cache.CacheNames;
+import com.healthcare.aiservice.cache.PromptCacheKey;
+import com.healthcare.aiservice.common.prompt.model.AiPrompt;
+import com.healthcare.aiservice.common.prompt.model.AiPromptKey;
+import com.healthcare.aiservice.common.prompt.service.CachedActivePromptService;
+import com.healthcare.aiservice.config.AbstractMongoRedisIntegrationTest;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.constant.PromptType;
+import com.healthcare.aiservice.repository.AiPromptRepository;
+import com.healthcare.aiservice.repository.ChangeStreamCheckpointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(properties = "ai.prompt-change-stream.enabled=true")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("AI prompt change stream integration tests: ")
+class AiPromptChangeStreamIT extends AbstractMongoRedisIntegrationTest {
+
+    private static final String PROMPT_ID = "change-stream-prompt-id";
+
+    private static final AiPromptKey PROMPT_KEY =
+            new AiPromptKey(
+                    FeatureName.MESSAGE_CLASSIFICATION,
+                    PromptType.SYSTEM,
+                    AiProviderModel.LLAMA_3
+            );
+
+    @Autowired
+    private AiPromptRepository repository;
+
+    @Autowired
+    private ChangeStreamCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private CachedActivePromptService cachedActivePromptService;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private ChatClient chatClient;
+
+    @MockitoBean
+    private DiscoveryClient discoveryClient;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+
+        repository.save(AiPrompt.builder()
+                .id(PROMPT_ID)
+                .feature(PROMPT_KEY.feature())
+                .type(PROMPT_KEY.type())
+                .targetModel(PROMPT_KEY.targetModel())
+                .version(1L)
+                .content("active prompt")
+                .active(true)
+                .createdByUserId("system")
+                .createdByUsername("system")
+                .build());
+    }
+
+    @Test
+    void directActiveFlip_ShouldEvictCachedActivePrompt_AndStoreResumeToken() {
+        Cache cache = cacheManager.getCache(CacheNames.ACTIVE_PROMPTS);
+        String cacheKey = PromptCacheKey.of(PROMPT_KEY);
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            cachedActivePromptService.findActivePrompt(PROMPT_KEY);
+
+            assertThat(cache.get(cacheKey)).isNotNull();
+        });
+
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(PROMPT_ID)),
+                Update.update("active", false),
+                AiPrompt.class
+        );
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(cache.get(cacheKey)).isNull());
+
+        assertThat(cachedActivePromptService.findActivePrompt(PROMPT_KEY)).isNull();
+        assertThat(checkpointRepository.findById(mongoTemplate.getCollectionName(AiPrompt.class)))
+                .hasValueSatisfying(checkpoint -> assertThat(checkpoint.resumeToken()).contains("_data"));
+    }
+}
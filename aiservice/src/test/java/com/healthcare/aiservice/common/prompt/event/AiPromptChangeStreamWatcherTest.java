@@ -0,0 +1,182 @@
+package com.healthcare.aiservice.common.prompt.event;
+
+import com.healthcare.aiservice.cache.AiResponseCache;
+import com.healthcare.aiservice.common.prompt.model.AiPrompt;
+import com.healthcare.aiservice.common.prompt.model.AiPromptKey;
+import com.healthcare.aiservice.common.prompt.service.PromptCacheEvictionService;
+import com.healthcare.aiservice.common.prompt.template.PromptTemplateCache;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.constant.PromptType;
+import com.healthcare.aiservice.config.propertie.AiPromptChangeStreamProperties;
+import com.healthcare.aiservice.repository.ChangeStreamCheckpointRepository;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import org.bson.BsonBoolean;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("AI prompt change stream watcher tests: ")
+class AiPromptChangeStreamWatcherTest {
+
+    private static final AiPromptKey PROMPT_KEY =
+            new AiPromptKey(
+                    FeatureName.MEDICAL_SUMMARY,
+                    PromptType.SYSTEM,
+                    AiProviderModel.LLAMA_3
+            );
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoConverter mongoConverter;
+
+    @Mock
+    private ChangeStreamCheckpointRepository checkpointRepository;
+
+    @Mock
+    private PromptCacheEvictionService cacheEvictionService;
+
+    @Mock
+    private AiResponseCache aiResponseCache;
+
+    @Mock
+    private PromptTemplateCache templateCache;
+
+    private AiPromptChangeStreamWatcher watcher;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(mongoTemplate.getConverter()).thenReturn(mongoConverter);
+        lenient().when(mongoConverter.read(any(), any(Document.class))).thenAnswer(invocation -> prompt(
+                invocation.getArgument(1, Document.class).getBoolean("active")
+        ));
+
+        watcher = new AiPromptChangeStreamWatcher(
+                mongoTemplate,
+                checkpointRepository,
+                cacheEvictionService,
+                aiResponseCache,
+                templateCache,
+                new AiPromptChangeStreamProperties(
+                        true,
+                        Duration.ofSeconds(1),
+                        Duration.ofMinutes(1),
+                        Duration.ofSeconds(5)
+                )
+        );
+    }
+
+    @Test
+    void handle_ShouldInvalidatePromptKey_WhenActiveFlagIsUpdated() {
+        boolean open = watcher.handle(change(OperationType.UPDATE, document(false), "active"));
+
+        assertThat(open).isTrue();
+        verify(cacheEvictionService).evictIfPresent(PROMPT_KEY);
+        verify(aiResponseCache).evict(FeatureName.MEDICAL_SUMMARY);
+        verify(templateCache).evict(PROMPT_KEY);
+    }
+
+    @Test
+    void handle_ShouldInvalidatePromptKey_WhenActivePromptIsInserted() {
+        watcher.handle(change(OperationType.INSERT, document(true), null));
+
+        verify(cacheEvictionService).evictIfPresent(PROMPT_KEY);
+        verify(templateCache).evict(PROMPT_KEY);
+    }
+
+    @Test
+    void handle_ShouldIgnoreChange_WhenInactivePromptIsInsertedOrEdited() {
+        watcher.handle(change(OperationType.INSERT, document(false), null));
+        watcher.handle(change(OperationType.UPDATE, document(false), "content"));
+
+        verifyNoInteractions(cacheEvictionService, aiResponseCache, templateCache);
+    }
+
+    @Test
+    void handle_ShouldInvalidateAllPrompts_WhenPromptIsDeleted() {
+        watcher.handle(change(OperationType.DELETE, null, null));
+
+        verify(cacheEvictionService).evictAll();
+        verify(templateCache).clear();
+
+        for (FeatureName feature : FeatureName.values()) {
+            verify(aiResponseCache).evict(feature);
+        }
+    }
+
+    @Test
+    void handle_ShouldRequestReopen_WhenStreamIsInvalidated() {
+        boolean open = watcher.handle(change(OperationType.INVALIDATE, null, null));
+
+        assertThat(open).isFalse();
+        verifyNoInteractions(cacheEvictionService, aiResponseCache, templateCache);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ChangeStreamDocument<Document> change(
+            OperationType operationType,
+            Document fullDocument,
+            String updatedField
+    ) {
+        ChangeStreamDocument<Document> change = mock(ChangeStreamDocument.class);
+
+        when(change.getOperationType()).thenReturn(operationType);
+        lenient().when(change.getFullDocument()).thenReturn(fullDocument);
+
+        if (updatedField != null) {
+            lenient().when(change.getUpdateDescription()).thenReturn(new UpdateDescription(
+                    List.of(),
+                    new BsonDocument(updatedField, "active".equals(updatedField)
+                            ? BsonBoolean.FALSE
+                            : new BsonString("edited"))
+            ));
+        }
+
+        return change;
+    }
+
+    private static Document document(boolean active) {
+        return new Document("_id", "prompt-id")
+                .append("feature", FeatureName.MEDICAL_SUMMARY.name())
+                .append("active", active);
+    }
+
+    private static AiPrompt prompt(boolean active) {
+        return AiPrompt.builder()
+                .id("prompt-id")
+                .feature(PROMPT_KEY.feature())
+                .type(PROMPT_KEY.type())
+                .targetModel(PROMPT_KEY.targetModel())
+                .version(1L)
+                .content("prompt")
+                .active(active)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.healthcare.aiservice.common.prompt.service;
 
 import com.healthcare.aiservice.cache.CacheNames;
 import com.healthcare.aiservice.cache.PromptCacheKey;
+import com.healthcare.aiservice.cache.TwoLevelCacheManager;
 import com.healthcare.aiservice.common.prompt.model.AiPrompt;
 import com.healthcare.aiservice.common.prompt.model.AiPromptKey;
 import com.healthcare.aiservice.config.AbstractMongoRedisIntegrationTest;
@@ -14,7 +15,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
@@ -74,7 +74,7 @@ class CachedActivePromptServiceRedisIntegrationTest
         AiPrompt secondResult = service.findActivePrompt(PROMPT_KEY);
 
         assertThat(cacheManager)
-                .isInstanceOf(RedisCacheManager.class);
+                .isInstanceOf(TwoLevelCacheManager.class);
 
         assertThat(firstResult)
                 .usingRecursiveComparison()
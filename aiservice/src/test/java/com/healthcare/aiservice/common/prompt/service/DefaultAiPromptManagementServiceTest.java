@@ -14,6 +14,7 @@ import com.healthcare.aiservice.exception.rest_exception.AiPromptNotFoundExcepti
 import com.healthcare.aiservice.exception.rest_exception.AiPromptStateInvalidException;
 import com.healthcare.aiservice.exception.rest_exception.AiPromptVersionConflictException;
 import com.healthcare.aiservice.repository.AiPromptRepository;
+import com.healthcare.aiservice.repository.AiPromptVersionRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -85,6 +86,9 @@ class DefaultAiPromptManagementServiceTest {
     @Mock
     private AiPromptRepository repository;
 
+    @Mock
+    private AiPromptVersionRepository versionRepository;
+
     @Mock
     private PromptTextNormalizer normalizer;
 
@@ -620,11 +624,12 @@ class DefaultAiPromptManagementServiceTest {
                         false
                 );
 
-        when(repository
-                .findByFeatureAndTypeAndTargetModelOrderByVersionDesc(
-                        FEATURE,
-                        TYPE,
-                        TARGET_MODEL
+        when(versionRepository
+                .findVersions(
+                        PROMPT_KEY,
+                        4L,
+                        50,
+                        false
                 ))
                 .thenReturn(
                         List.of(
@@ -635,7 +640,7 @@ class DefaultAiPromptManagementServiceTest {
                 );
 
         List<AiPromptResponse> result =
-                service.getPromptVersions(PROMPT_KEY);
+                service.getPromptVersions(PROMPT_KEY, 4L, 50, false);
 
         assertThat(result)
                 .hasSize(3);
@@ -656,14 +661,16 @@ class DefaultAiPromptManagementServiceTest {
                         "prompt-v1"
                 );
 
-        verify(repository)
-                .findByFeatureAndTypeAndTargetModelOrderByVersionDesc(
-                        FEATURE,
-                        TYPE,
-                        TARGET_MODEL
+        verify(versionRepository)
+                .findVersions(
+                        PROMPT_KEY,
+                        4L,
+                        50,
+                        false
                 );
 
         verifyNoInteractions(
+                repository,
                 normalizer,
                 activationRetryExecutor
         );
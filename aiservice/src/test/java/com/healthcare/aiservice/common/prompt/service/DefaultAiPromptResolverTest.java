@@ -5,6 +5,9 @@ import com.healthcare.aiservice.config.constant.AiProviderModel;
 import com.healthcare.aiservice.config.constant.PromptSource;
 import com.healthcare.aiservice.config.constant.PromptType;
 import com.healthcare.aiservice.common.prompt.model.*;
+import com.healthcare.aiservice.common.prompt.template.PromptTemplate;
+import com.healthcare.aiservice.common.prompt.template.PromptTemplateCache;
+import com.healthcare.aiservice.common.prompt.template.PromptVariables;
 import com.healthcare.aiservice.config.constant.FeatureName;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -13,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.function.Supplier;
@@ -37,6 +41,9 @@ class DefaultAiPromptResolverTest {
     @Mock
     private Supplier<String> fallbackPromptSupplier;
 
+    @Spy
+    private PromptTemplateCache templateCache;
+
     @InjectMocks
     private DefaultAiPromptResolver resolver;
 
@@ -60,6 +67,33 @@ class DefaultAiPromptResolverTest {
         verify(fallbackPromptSupplier, never()).get();
     }
 
+    @Test
+    void resolvePrompt_ShouldReuseCompiledTemplate_WhenActivePromptIsUnchanged() {
+        AiPrompt activePrompt = createPrompt("prompt-id", 3L, "Allowed categories: {{allowedCategories}}");
+
+        when(activePromptService.findActivePrompt(PROMPT_KEY))
+                .thenReturn(activePrompt);
+
+        PromptTemplate first = resolver.resolvePrompt(PROMPT_KEY, fallbackPromptSupplier).template();
+        PromptTemplate second = resolver.resolvePrompt(PROMPT_KEY, fallbackPromptSupplier).template();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.render(PromptVariables.builder().allowedCategories("- URGENT").build()))
+                .isEqualTo("Allowed categories: - URGENT");
+    }
+
+    @Test
+    void resolvePrompt_ShouldRecompileTemplate_WhenActivePromptContentChanges() {
+        when(activePromptService.findActivePrompt(PROMPT_KEY))
+                .thenReturn(createPrompt("prompt-id", 3L, "Old prompt"))
+                .thenReturn(createPrompt("prompt-id", 4L, "New prompt"));
+
+        resolver.resolvePrompt(PROMPT_KEY, fallbackPromptSupplier);
+        ResolvedPrompt result = resolver.resolvePrompt(PROMPT_KEY, fallbackPromptSupplier);
+
+        assertThat(result.render(PromptVariables.ofNote("note"))).isEqualTo("New prompt");
+    }
+
     @Test
     void resolvePrompt_ShouldReturnFallbackPrompt_WhenNoActivePromptExists() {
 
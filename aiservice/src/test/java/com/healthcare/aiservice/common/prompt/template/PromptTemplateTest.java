@@ -0,0 +1,78 @@
+package com.healthcare.aiservice.common.prompt.template;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("Prompt template tests: ")
+class PromptTemplateTest {
+
+    private static final PromptVariables VARIABLES = PromptVariables.builder()
+            .note("Patient has a fever")
+            .allowedCategories("- URGENT")
+            .locale("en-US")
+            .build();
+
+    @Test
+    void render_ShouldReplaceNamedPlaceholders() {
+        PromptTemplate template = PromptTemplate.compile(
+                "Categories: {{allowedCategories}}, locale: {{ locale }}, note: \"{{note}}\"");
+
+        assertThat(template.render(VARIABLES))
+                .isEqualTo("Categories: - URGENT, locale: en-US, note: \"Patient has a fever\"");
+    }
+
+    @Test
+    void render_ShouldReturnSourceItself_WhenTemplateHasNoPlaceholders() {
+        String source = "You are a medical assistant.";
+
+        assertThat(PromptTemplate.compile(source).render(VARIABLES)).isSameAs(source);
+    }
+
+    @Test
+    void render_ShouldKeepUnknownPlaceholdersAsText() {
+        PromptTemplate template = PromptTemplate.compile("{{patient}} {{note}} {{");
+
+        assertThat(template.render(VARIABLES)).isEqualTo("{{patient}} Patient has a fever {{");
+    }
+
+    @Test
+    void render_ShouldRenderMissingVariablesAsEmptyText() {
+        PromptTemplate template = PromptTemplate.compile("[{{allowedCategories}}]");
+
+        assertThat(template.render(PromptVariables.ofNote("note"))).isEqualTo("[]");
+    }
+
+    @Test
+    void render_ShouldSupportLegacyFormatPlaceholders_WhenPositionalNoteIsEnabled() {
+        PromptTemplate template = PromptTemplate.compileWithPositionalNote("Note: %s (100%%)");
+
+        assertThat(template.render(VARIABLES)).isEqualTo("Note: Patient has a fever (100%)");
+        assertThat(template.uses(PromptPlaceholder.NOTE)).isTrue();
+    }
+
+    @Test
+    void render_ShouldUnescapeFormatMarker_WhenPositionalTemplateHasNoPlaceholders() {
+        PromptTemplate template = PromptTemplate.compileWithPositionalNote("100%%");
+
+        assertThat(template.render(VARIABLES)).isEqualTo("100%");
+    }
+
+    @Test
+    void render_ShouldKeepFormatMarkersAsText_WhenPositionalNoteIsDisabled() {
+        PromptTemplate template = PromptTemplate.compile("Answer with 100% certainty: %s");
+
+        assertThat(template.render(VARIABLES)).isEqualTo("Answer with 100% certainty: %s");
+        assertThat(template.uses(PromptPlaceholder.NOTE)).isFalse();
+    }
+
+    @Test
+    void uses_ShouldReportLocale_OnlyWhenTemplateReferencesIt() {
+        assertThat(PromptTemplate.compile("{{locale}}").uses(PromptPlaceholder.LOCALE)).isTrue();
+        assertThat(PromptTemplate.compile("{{note}}").uses(PromptPlaceholder.LOCALE)).isFalse();
+    }
+}
@@ -0,0 +1,165 @@
+package com.healthcare.aiservice.common.provider;
+
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.propertie.AiAdmissionProperties;
+import com.healthcare.aiservice.exception.rest_exception.AiCapacityExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("AI admission controller tests: ")
+class AiAdmissionControllerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void acquire_ShouldAdmitImmediately_WhenSlotIsFree() {
+        AiAdmissionController controller = controller(1, 10, Duration.ofSeconds(5));
+
+        AiAdmissionController.Permit permit = controller.acquire(FeatureName.MEDICAL_SUMMARY);
+
+        assertThat(gauge(AiAdmissionController.ACTIVE_METRIC)).isEqualTo(1.0);
+
+        permit.close();
+        permit.close();
+
+        assertThat(gauge(AiAdmissionController.ACTIVE_METRIC)).isZero();
+        assertThat(meterRegistry.get(AiAdmissionController.QUEUE_WAIT_METRIC)
+                .tag(AiAdmissionController.FEATURE_TAG, FeatureName.MEDICAL_SUMMARY.getValue())
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void acquire_ShouldRejectWithRetryAfter_WhenFeatureQueueIsFull() {
+        AiAdmissionController controller = controller(1, 0, Duration.ofSeconds(5));
+
+        try (AiAdmissionController.Permit ignored = controller.acquire(FeatureName.MEDICAL_SUMMARY)) {
+            assertThatThrownBy(() -> controller.acquire(FeatureName.MEDICAL_SUMMARY))
+                    .isInstanceOf(AiCapacityExceededException.class)
+                    .hasMessageContaining("queue is full")
+                    .satisfies(ex -> assertThat(((AiCapacityExceededException) ex).getRetryAfter())
+                            .isEqualTo(Duration.ofSeconds(3)));
+        }
+
+        assertThat(rejected(FeatureName.MEDICAL_SUMMARY, AiAdmissionController.QUEUE_FULL_REASON)).isEqualTo(1.0);
+    }
+
+    @Test
+    void acquire_ShouldReject_WhenQueueDeadlinePasses() {
+        AiAdmissionController controller = controller(1, 10, Duration.ofMillis(50));
+
+        try (AiAdmissionController.Permit ignored = controller.acquire(FeatureName.MEDICAL_SUMMARY)) {
+            assertThatThrownBy(() -> controller.acquire(FeatureName.MEDICAL_SUMMARY))
+                    .isInstanceOf(AiCapacityExceededException.class)
+                    .hasMessageContaining("queue deadline");
+        }
+
+        assertThat(rejected(FeatureName.MEDICAL_SUMMARY, AiAdmissionController.QUEUE_TIMEOUT_REASON)).isEqualTo(1.0);
+        assertThat(gauge(AiAdmissionController.ACTIVE_METRIC)).isZero();
+    }
+
+    @Test
+    void release_ShouldAdmitClassificationBeforeSummary_WhenBothAreQueued() throws Exception {
+        AiAdmissionController controller = controller(1, 10, Duration.ofSeconds(5));
+        List<FeatureName> admissionOrder = new CopyOnWriteArrayList<>();
+
+        AiAdmissionController.Permit running = controller.acquire(FeatureName.MEDICAL_SUMMARY);
+
+        Future<?> summary = executor.submit(() -> admitAndRelease(controller, FeatureName.MEDICAL_SUMMARY, admissionOrder));
+        awaitQueueDepth(FeatureName.MEDICAL_SUMMARY, 1);
+
+        Future<?> classification = executor.submit(() ->
+                admitAndRelease(controller, FeatureName.MESSAGE_CLASSIFICATION, admissionOrder));
+        awaitQueueDepth(FeatureName.MESSAGE_CLASSIFICATION, 1);
+
+        running.close();
+
+        summary.get();
+        classification.get();
+
+        assertThat(admissionOrder).containsExactly(FeatureName.MESSAGE_CLASSIFICATION, FeatureName.MEDICAL_SUMMARY);
+        assertThat(gauge(AiAdmissionController.ACTIVE_METRIC)).isZero();
+    }
+
+    @Test
+    void constructor_ShouldFail_WhenFeatureQueueIsNotConfigured() {
+        AiAdmissionProperties properties = new AiAdmissionProperties(
+                1,
+                Duration.ofSeconds(3),
+                Duration.ofMinutes(1),
+                Map.of(FeatureName.MEDICAL_SUMMARY, new AiAdmissionProperties.FeatureQueue(1, 1, Duration.ofSeconds(1)))
+        );
+
+        assertThatThrownBy(() -> new AiAdmissionController(properties, meterRegistry))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("medical-extraction");
+    }
+
+    private void admitAndRelease(AiAdmissionController controller, FeatureName feature, List<FeatureName> admissionOrder) {
+        try (AiAdmissionController.Permit ignored = controller.acquire(feature)) {
+            admissionOrder.add(feature);
+        }
+    }
+
+    private void awaitQueueDepth(FeatureName feature, int depth) {
+        await().atMost(Duration.ofSeconds(5)).until(() -> meterRegistry.get(AiAdmissionController.QUEUE_DEPTH_METRIC)
+                .tag(AiAdmissionController.FEATURE_TAG, feature.getValue())
+                .gauge()
+                .value() == depth);
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private double rejected(FeatureName feature, String reason) {
+        return meterRegistry.get(AiAdmissionController.REJECTED_METRIC)
+                .tag(AiAdmissionController.FEATURE_TAG, feature.getValue())
+                .tag(AiAdmissionController.REASON_TAG, reason)
+                .counter()
+                .count();
+    }
+
+    private AiAdmissionController controller(int maxConcurrency, int capacity, Duration maxQueueTime) {
+        return new AiAdmissionController(
+                new AiAdmissionProperties(
+                        maxConcurrency,
+                        Duration.ofSeconds(3),
+                        Duration.ofMinutes(1),
+                        Map.of(
+                                FeatureName.MESSAGE_CLASSIFICATION,
+                                new AiAdmissionProperties.FeatureQueue(capacity, 6, maxQueueTime),
+                                FeatureName.MEDICAL_EXTRACTION,
+                                new AiAdmissionProperties.FeatureQueue(capacity, 3, maxQueueTime),
+                                FeatureName.MEDICAL_SUMMARY,
+                                new AiAdmissionProperties.FeatureQueue(capacity, 1, maxQueueTime)
+                        )
+                ),
+                meterRegistry
+        );
+    }
+}
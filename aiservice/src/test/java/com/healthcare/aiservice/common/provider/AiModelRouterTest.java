@@ -0,0 +1,168 @@
+package com.healthcare.aiservice.common.provider;
+
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.propertie.AiRoutingProperties;
+import com.healthcare.aiservice.exception.rest_exception.InvalidAiModelOverrideException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("AI model router tests: ")
+class AiModelRouterTest {
+
+    private static final FeatureName FEATURE = FeatureName.MESSAGE_CLASSIFICATION;
+    private static final long FAST_NANOS = Duration.ofMillis(500).toNanos();
+    private static final long SLOW_NANOS = Duration.ofSeconds(10).toNanos();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void route_ShouldPickPreferredModel_WhenItHasNoSamplesYet() {
+        AiModelRouter router = router(true);
+
+        assertThat(router.route(FEATURE)).isEqualTo(AiProviderModel.LLAMA_3_2);
+        assertThat(router.route(FeatureName.MEDICAL_SUMMARY)).isEqualTo(AiProviderModel.LLAMA_3);
+    }
+
+    @Test
+    void route_ShouldFallBack_WhenPreferredModelExceedsLatencyTarget() {
+        AiModelRouter router = router(true);
+
+        router.recordSuccess(FEATURE, AiProviderModel.LLAMA_3_2, SLOW_NANOS);
+
+        assertThat(router.route(FEATURE)).isEqualTo(AiProviderModel.LLAMA_3);
+    }
+
+    @Test
+    void route_ShouldFallBack_WhenPreferredModelErrorRateIsTooHigh() {
+        AiModelRouter router = router(true);
+
+        router.recordSuccess(FEATURE, AiProviderModel.LLAMA_3_2, FAST_NANOS);
+        router.recordFailure(FEATURE, AiProviderModel.LLAMA_3_2);
+        router.recordFailure(FEATURE, AiProviderModel.LLAMA_3_2);
+
+        assertThat(router.route(FEATURE)).isEqualTo(AiProviderModel.LLAMA_3);
+        assertThat(meterRegistry.get(AiModelRouter.ERROR_RATE_METRIC)
+                .tag(AiModelRouter.FEATURE_TAG, FEATURE.getValue())
+                .tag(AiModelRouter.MODEL_TAG, AiProviderModel.LLAMA_3_2.name())
+                .gauge()
+                .value()).isGreaterThan(0.3);
+    }
+
+    @Test
+    void route_ShouldPickLowestExpectedLatency_WhenNoModelIsWithinTarget() {
+        AiModelRouter router = router(true);
+
+        router.recordSuccess(FEATURE, AiProviderModel.LLAMA_3_2, SLOW_NANOS);
+        router.recordSuccess(FEATURE, AiProviderModel.LLAMA_3, SLOW_NANOS / 2);
+
+        assertThat(router.route(FEATURE)).isEqualTo(AiProviderModel.LLAMA_3);
+        assertThat(meterRegistry.get(AiModelRouter.SELECTED_METRIC)
+                .tag(AiModelRouter.REASON_TAG, AiModelRouter.DEGRADED_REASON)
+                .counter()
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void route_ShouldUseOverrideHeader_WhenOverrideIsEnabled() {
+        AiModelRouter router = router(true);
+        withHeader("llama-3");
+
+        assertThat(router.route(FEATURE)).isEqualTo(AiProviderModel.LLAMA_3);
+    }
+
+    @Test
+    void route_ShouldIgnoreOverrideHeader_WhenOverrideIsDisabled() {
+        AiModelRouter router = router(false);
+        withHeader("LLAMA_3");
+
+        assertThat(router.route(FEATURE)).isEqualTo(AiProviderModel.LLAMA_3_2);
+    }
+
+    @Test
+    void route_ShouldThrowException_WhenOverrideModelIsNotConfigured() {
+        AiModelRouter router = router(true);
+        withHeader("GPT_5");
+
+        assertThatThrownBy(() -> router.route(FEATURE))
+                .isInstanceOf(InvalidAiModelOverrideException.class)
+                .hasMessageContaining(AiModelRouter.MODEL_OVERRIDE_HEADER);
+    }
+
+    @Test
+    void constructor_ShouldFail_WhenFeatureRefersToUnconfiguredModel() {
+        AiRoutingProperties properties = properties(true, Map.of(
+                FeatureName.MESSAGE_CLASSIFICATION, route(AiProviderModel.GEMINI),
+                FeatureName.MEDICAL_EXTRACTION, route(AiProviderModel.LLAMA_3),
+                FeatureName.MEDICAL_SUMMARY, route(AiProviderModel.LLAMA_3)
+        ));
+
+        assertThatThrownBy(() -> new AiModelRouter(properties, meterRegistry))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("GEMINI");
+    }
+
+    @Test
+    void modelName_ShouldReturnConfiguredEndpointModel() {
+        assertThat(router(true).modelName(AiProviderModel.LLAMA_3_2)).isEqualTo("llama3.2:3b");
+    }
+
+    private void withHeader(String value) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(AiModelRouter.MODEL_OVERRIDE_HEADER, value);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private AiModelRouter router(boolean overrideEnabled) {
+        return new AiModelRouter(
+                properties(overrideEnabled, Map.of(
+                        FeatureName.MESSAGE_CLASSIFICATION, route(AiProviderModel.LLAMA_3_2, AiProviderModel.LLAMA_3),
+                        FeatureName.MEDICAL_EXTRACTION, route(AiProviderModel.LLAMA_3),
+                        FeatureName.MEDICAL_SUMMARY, route(AiProviderModel.LLAMA_3)
+                )),
+                meterRegistry
+        );
+    }
+
+    private AiRoutingProperties.FeatureRoute route(AiProviderModel... models) {
+        return new AiRoutingProperties.FeatureRoute(List.of(models), Duration.ofSeconds(3));
+    }
+
+    private AiRoutingProperties properties(
+            boolean overrideEnabled,
+            Map<FeatureName, AiRoutingProperties.FeatureRoute> features
+    ) {
+        return new AiRoutingProperties(
+                overrideEnabled,
+                0.5,
+                0.0,
+                0.3,
+                Map.of(
+                        AiProviderModel.LLAMA_3, new AiRoutingProperties.ModelEndpoint("llama3:latest", null),
+                        AiProviderModel.LLAMA_3_2, new AiRoutingProperties.ModelEndpoint("llama3.2:3b", null)
+                ),
+                features
+        );
+    }
+}
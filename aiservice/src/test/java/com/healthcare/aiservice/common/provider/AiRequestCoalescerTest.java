@@ -0,0 +1,180 @@
+package com.healthcare.aiservice.common.provider;
+
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.propertie.AiAdmissionProperties;
+import com.healthcare.aiservice.exception.rest_exception.AiCapacityExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("AI request coalescer tests: ")
+class AiRequestCoalescerTest {
+
+    private static final FeatureName FEATURE = FeatureName.MESSAGE_CLASSIFICATION;
+    private static final String KEY = "v1:v1:llama3:hash";
+    private static final int CALLERS = 3;
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(2);
+    private static final Duration CALL_TIMEOUT = Duration.ofMillis(200);
+
+    private SimpleMeterRegistry meterRegistry;
+    private AiRequestCoalescer coalescer;
+    private ExecutorService executor;
+
+    private final AtomicInteger loaderCalls = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new AiRequestCoalescer(
+                new AiAdmissionProperties(
+                        1,
+                        RETRY_AFTER,
+                        CALL_TIMEOUT,
+                        Map.of(FEATURE, new AiAdmissionProperties.FeatureQueue(1, 1, Duration.ZERO))
+                ),
+                meterRegistry
+        );
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_ShouldShareOneLoad_WhenIdenticalRequestsAreInFlight() {
+        List<CompletableFuture<String>> results = startCallers(() -> {
+            loaderCalls.incrementAndGet();
+            awaitRelease();
+            return "classified";
+        });
+
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        assertThat(results).allSatisfy(result ->
+                assertThat(result.join()).isEqualTo("classified"));
+        assertThat(loaderCalls).hasValue(1);
+        assertThat(meterRegistry.get(AiRequestCoalescer.IN_FLIGHT_METRIC).gauge().value()).isZero();
+    }
+
+    @Test
+    void execute_ShouldPropagateSameException_WhenSharedLoadFails() {
+        IllegalStateException failure = new IllegalStateException("Ollama is unavailable");
+
+        List<CompletableFuture<String>> results = startCallers(() -> {
+            loaderCalls.incrementAndGet();
+            awaitRelease();
+            throw failure;
+        });
+
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        assertThat(results).allSatisfy(result ->
+                assertThatThrownBy(result::join).hasCause(failure));
+        assertThat(loaderCalls).hasValue(1);
+    }
+
+    @Test
+    void execute_ShouldRejectFollowers_WhenSharedLoadOutlastsCallTimeout() {
+        List<CompletableFuture<String>> results = startCallers(() -> {
+            loaderCalls.incrementAndGet();
+            awaitRelease();
+            return "classified";
+        });
+
+        awaitCoalesced(CALLERS - 1);
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> results.stream().filter(CompletableFuture::isCompletedExceptionally).count() == CALLERS - 1);
+
+        release.countDown();
+
+        assertThat(results)
+                .filteredOn(CompletableFuture::isCompletedExceptionally)
+                .allSatisfy(result -> assertThatThrownBy(result::join)
+                        .hasCauseInstanceOf(AiCapacityExceededException.class)
+                        .cause()
+                        .satisfies(ex -> assertThat(((AiCapacityExceededException) ex).getRetryAfter())
+                                .isEqualTo(RETRY_AFTER)));
+        assertThat(results)
+                .filteredOn(result -> !result.isCompletedExceptionally())
+                .singleElement()
+                .satisfies(result -> assertThat(result.join()).isEqualTo("classified"));
+        assertThat(loaderCalls).hasValue(1);
+    }
+
+    @Test
+    void execute_ShouldLoadAgain_WhenPreviousRequestCompleted() {
+        coalescer.execute(FEATURE, KEY, String.class, this::load);
+        coalescer.execute(FEATURE, KEY, String.class, this::load);
+
+        assertThat(loaderCalls).hasValue(2);
+        assertThat(meterRegistry.find(AiRequestCoalescer.COALESCED_METRIC).counter()).isNull();
+    }
+
+    @Test
+    void execute_ShouldNotCoalesce_WhenFeaturesDiffer() {
+        coalescer.execute(FeatureName.MEDICAL_SUMMARY, KEY, String.class, () ->
+                coalescer.execute(FEATURE, KEY, String.class, this::load));
+
+        assertThat(loaderCalls).hasValue(1);
+        assertThat(meterRegistry.find(AiRequestCoalescer.COALESCED_METRIC).counter()).isNull();
+    }
+
+    private List<CompletableFuture<String>> startCallers(Supplier<String> loader) {
+        return IntStream.range(0, CALLERS)
+                .mapToObj(caller -> CompletableFuture.supplyAsync(
+                        () -> coalescer.execute(FEATURE, KEY, String.class, loader),
+                        executor
+                ))
+                .toList();
+    }
+
+    private void awaitCoalesced(int expected) {
+        await().atMost(Duration.ofSeconds(5)).until(() -> {
+            var counter = meterRegistry.find(AiRequestCoalescer.COALESCED_METRIC)
+                    .tag(AiRequestCoalescer.FEATURE_TAG, FEATURE.getValue())
+                    .counter();
+            return counter != null && counter.count() == expected;
+        });
+    }
+
+    private String load() {
+        loaderCalls.incrementAndGet();
+        return "classified";
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
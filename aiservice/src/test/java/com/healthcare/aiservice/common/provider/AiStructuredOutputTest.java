@@ -0,0 +1,78 @@
+package com.healthcare.aiservice.common.provider;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.aiservice.common.message_classification.dto.MessageClassificationResponse;
+import com.healthcare.aiservice.config.propertie.AiStructuredOutputProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.ollama.api.OllamaOptions;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("AI structured output tests: ")
+class AiStructuredOutputTest {
+
+    @Test
+    void chatOptions_ShouldCarryRoutedModelAndResponseSchema_WhenEnabled() {
+        AiStructuredOutput structuredOutput = structuredOutput(true, 2, 1_000L);
+
+        OllamaOptions options = (OllamaOptions) structuredOutput.chatOptions(
+                "llama3:latest",
+                MessageClassificationResponse.class
+        );
+
+        assertThat(options.getModel()).isEqualTo("llama3:latest");
+        assertThat(options.getFormat())
+                .isInstanceOf(Map.class)
+                .asInstanceOf(MAP)
+                .extractingByKey("properties")
+                .asInstanceOf(MAP)
+                .containsKeys("category", "reason");
+        assertThat(structuredOutput.schemaJson(MessageClassificationResponse.class))
+                .contains("\"APPOINTMENT\"");
+    }
+
+    @Test
+    void chatOptions_ShouldBeNull_WhenDisabled() {
+        assertThat(structuredOutput(false, 2, 1_000L).chatOptions("llama3:latest", MessageClassificationResponse.class))
+                .isNull();
+    }
+
+    @Test
+    void repairBudget_ShouldStop_WhenAttemptsOrTokensAreUsedUp() {
+        AiStructuredOutput.RepairBudget attemptsBudget = structuredOutput(true, 2, 1_000L).repairBudget();
+
+        assertThat(attemptsBudget.tryStartAttempt()).isTrue();
+        assertThat(attemptsBudget.tryStartAttempt()).isTrue();
+        assertThat(attemptsBudget.tryStartAttempt()).isFalse();
+
+        AiStructuredOutput.RepairBudget tokensBudget = structuredOutput(true, 5, 100L).repairBudget();
+
+        assertThat(tokensBudget.tryStartAttempt()).isTrue();
+        tokensBudget.spend(100L);
+        assertThat(tokensBudget.tryStartAttempt()).isFalse();
+        assertThat(tokensBudget.attempts()).isEqualTo(1);
+    }
+
+    @Test
+    void repairBudget_ShouldBeNull_WhenRepairIsDisabled() {
+        assertThat(structuredOutput(true, 0, 1_000L).repairBudget()).isNull();
+    }
+
+    private static AiStructuredOutput structuredOutput(boolean enabled, int maxAttempts, long maxTokens) {
+        return new AiStructuredOutput(
+                new AiStructuredOutputProperties(
+                        enabled,
+                        new AiStructuredOutputProperties.Repair(maxAttempts, maxTokens, Duration.ofSeconds(10), 4_000)
+                ),
+                new ObjectMapper()
+        );
+    }
+}
@@ -0,0 +1,214 @@
+package com.healthcare.aiservice.common.provider;
+
+import com.healthcare.aiservice.common.prompt.model.AiPromptKey;
+import com.healthcare.aiservice.common.prompt.service.CachedActivePromptService;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.constant.PromptType;
+import com.healthcare.aiservice.config.propertie.AiRoutingProperties;
+import com.healthcare.aiservice.config.propertie.AiWarmupProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.ollama.api.OllamaOptions;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("AI warm-up runner tests: ")
+class AiWarmupRunnerTest {
+
+    private static final String WARMUP_PROMPT = "Reply with OK.";
+
+    @Mock
+    private AiChatClients chatClients;
+
+    @Mock
+    private ChatClient chatClient;
+
+    @Mock
+    private ChatClient.ChatClientRequestSpec requestSpec;
+
+    @Mock
+    private ChatClient.CallResponseSpec callResponseSpec;
+
+    @Mock
+    private CachedActivePromptService activePromptService;
+
+    private AiWarmupRunner runner;
+
+    @AfterEach
+    void tearDown() {
+        if (runner != null) {
+            runner.destroy();
+        }
+    }
+
+    @Test
+    void onApplicationReady_ShouldDoNothing_WhenWarmupIsDisabled() {
+        runner = runner(false);
+
+        runner.onApplicationReady();
+
+        verifyNoInteractions(chatClients, activePromptService);
+    }
+
+    @Test
+    void warmUp_ShouldLoadActivePromptForEveryFeaturePromptTypeAndRoutedModel() {
+        runner = runner(true);
+        when(chatClients.models()).thenReturn(Set.of());
+
+        runner.warmUp();
+
+        for (PromptType type : PromptType.values()) {
+            verify(activePromptService).findActivePrompt(key(FeatureName.MESSAGE_CLASSIFICATION, type, AiProviderModel.LLAMA_3_2));
+            verify(activePromptService).findActivePrompt(key(FeatureName.MESSAGE_CLASSIFICATION, type, AiProviderModel.LLAMA_3));
+            verify(activePromptService).findActivePrompt(key(FeatureName.MEDICAL_EXTRACTION, type, AiProviderModel.LLAMA_3));
+            verify(activePromptService).findActivePrompt(key(FeatureName.MEDICAL_SUMMARY, type, AiProviderModel.LLAMA_3));
+        }
+
+        verify(activePromptService, times(4 * PromptType.values().length)).findActivePrompt(any());
+    }
+
+    @Test
+    void warmUp_ShouldSendShortGenerationToEveryModel_WhenPromptLoadingFails() {
+        runner = runner(true);
+        when(activePromptService.findActivePrompt(any())).thenThrow(new IllegalStateException("mongo down"));
+        mockChatClient(Set.of(AiProviderModel.LLAMA_3, AiProviderModel.LLAMA_3_2));
+
+        runner.warmUp();
+
+        ArgumentCaptor<OllamaOptions> options = ArgumentCaptor.forClass(OllamaOptions.class);
+        verify(requestSpec, times(2)).options(options.capture());
+
+        assertThat(options.getAllValues())
+                .extracting(OllamaOptions::getModel)
+                .containsExactlyInAnyOrder("llama3:latest", "llama3.2:3b");
+        assertThat(options.getAllValues())
+                .allSatisfy(option -> {
+                    assertThat(option.getNumPredict()).isEqualTo(1);
+                    assertThat(option.getKeepAlive()).isEqualTo("1800s");
+                });
+    }
+
+    @Test
+    void warmUp_ShouldWarmModelsInParallel() {
+        runner = runner(true);
+        CountDownLatch allStarted = new CountDownLatch(2);
+        mockChatClient(Set.of(AiProviderModel.LLAMA_3, AiProviderModel.LLAMA_3_2));
+        when(callResponseSpec.content()).thenAnswer(invocation -> {
+            allStarted.countDown();
+            assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return "OK";
+        });
+
+        runner.warmUp();
+
+        assertThat(allStarted.getCount()).isZero();
+    }
+
+    @Test
+    void health_ShouldBeOutOfServiceUntilWarmupFinishes() {
+        runner = runner(true);
+        AiWarmupHealthIndicator healthIndicator = new AiWarmupHealthIndicator(runner);
+        when(chatClients.models()).thenReturn(Set.of());
+
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        runner.warmUp();
+
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void health_ShouldBeUp_WhenWarmupIsDisabled() {
+        runner = runner(false);
+
+        assertThat(new AiWarmupHealthIndicator(runner).health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void keepAlive_ShouldPingRemainingModels_WhenOneModelFails() {
+        runner = runner(true);
+        mockChatClient(Set.of(AiProviderModel.LLAMA_3, AiProviderModel.LLAMA_3_2));
+        when(callResponseSpec.content())
+                .thenThrow(new IllegalStateException("model unavailable"))
+                .thenReturn("OK");
+
+        runner.keepAlive();
+
+        verify(callResponseSpec, times(2)).content();
+        verify(activePromptService, never()).findActivePrompt(any());
+    }
+
+    private void mockChatClient(Set<AiProviderModel> models) {
+        when(chatClients.models()).thenReturn(models);
+        when(chatClients.get(any())).thenReturn(chatClient);
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.user(WARMUP_PROMPT)).thenReturn(requestSpec);
+        when(requestSpec.options(any(OllamaOptions.class))).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(callResponseSpec);
+    }
+
+    private AiPromptKey key(FeatureName feature, PromptType type, AiProviderModel model) {
+        return AiPromptKey.builder()
+                .feature(feature)
+                .type(type)
+                .targetModel(model)
+                .build();
+    }
+
+    private AiWarmupRunner runner(boolean enabled) {
+        AiRoutingProperties routingProperties = new AiRoutingProperties(
+                false,
+                0.2,
+                0.0,
+                0.3,
+                Map.of(
+                        AiProviderModel.LLAMA_3, new AiRoutingProperties.ModelEndpoint("llama3:latest", null),
+                        AiProviderModel.LLAMA_3_2, new AiRoutingProperties.ModelEndpoint("llama3.2:3b", null)
+                ),
+                Map.of(
+                        FeatureName.MESSAGE_CLASSIFICATION, route(AiProviderModel.LLAMA_3_2, AiProviderModel.LLAMA_3),
+                        FeatureName.MEDICAL_EXTRACTION, route(AiProviderModel.LLAMA_3),
+                        FeatureName.MEDICAL_SUMMARY, route(AiProviderModel.LLAMA_3)
+                )
+        );
+
+        AiWarmupProperties properties = new AiWarmupProperties(
+                enabled,
+                WARMUP_PROMPT,
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(30),
+                Duration.ofMinutes(10)
+        );
+
+        return new AiWarmupRunner(chatClients, routingProperties, properties, activePromptService);
+    }
+
+    private AiRoutingProperties.FeatureRoute route(AiProviderModel... models) {
+        return new AiRoutingProperties.FeatureRoute(List.of(models), Duration.ofSeconds(3));
+    }
+}
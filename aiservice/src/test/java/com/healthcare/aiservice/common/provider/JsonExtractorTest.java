@@ -1,5 +1,8 @@
 package com.healthcare.aiservice.common.provider;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.aiservice.common.medical_summary.dto.MedicalSummaryResponse;
+import com.healthcare.aiservice.exception.AiResponseParsingException;
 import com.healthcare.aiservice.exception.rest_exception.JsonExtractorException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -13,6 +16,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @DisplayName("JSON extractor tests: ")
 class JsonExtractorTest {
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
     @Test
     void extractObject_ShouldReturnJson_WhenResponseContainsOnlyJson() {
         String rawResponse = """
@@ -135,4 +140,107 @@ class JsonExtractorTest {
             }
             """.strip());
     }
-}
\ No newline at end of file
+
+    @Test
+    void extractObject_ShouldIgnoreTrailingProse_WhenProseContainsBraces() {
+        String rawResponse = """
+            {"summary": "Headache reported"}
+
+            Note: fields use the {name} placeholder format.
+            """;
+
+        String result = JsonExtractor.extractObject(rawResponse);
+
+        assertThat(result).isEqualTo("{\"summary\": \"Headache reported\"}");
+    }
+
+    @Test
+    void extractObject_ShouldIgnoreBracesInsideStrings() {
+        String rawResponse = "{\"summary\": \"Patient wrote \\\"}{\\\" on the form\"} trailing }";
+
+        String result = JsonExtractor.extractObject(rawResponse);
+
+        assertThat(result).isEqualTo("{\"summary\": \"Patient wrote \\\"}{\\\" on the form\"}");
+    }
+
+    @Test
+    void extractObject_ShouldThrowJsonExtractorException_WhenJsonObjectIsTruncated() {
+        assertThatThrownBy(() -> JsonExtractor.extractObject("{\"summary\": \"Headache"))
+                .isInstanceOf(JsonExtractorException.class)
+                .hasMessageContaining("JSON object not found in AI response");
+    }
+
+    @Test
+    void parseObject_ShouldBindFirstBalancedObject_WhenSurroundedByProseWithBraces() {
+        String rawResponse = """
+            Using template {summary}:
+            ```json
+            {
+              "summary": "Headache {mild}",
+              "recommendations": ["Follow-up"]
+            }
+            ```
+            Let me know if you need {anything} else.
+            """;
+
+        MedicalSummaryResponse result = JsonExtractor.parseObject(
+                rawResponse,
+                objectMapper,
+                MedicalSummaryResponse.class
+        );
+
+        assertThat(result.summary()).isEqualTo("Headache {mild}");
+        assertThat(result.recommendations()).containsExactly("Follow-up");
+    }
+
+    @Test
+    void parseObject_ShouldBindFromStringBuilder() {
+        StringBuilder rawResponse = new StringBuilder()
+                .append("Result: ")
+                .append("{\"summary\": ")
+                .append("\"Headache reported\"}");
+
+        MedicalSummaryResponse result = JsonExtractor.parseObject(
+                rawResponse,
+                objectMapper,
+                MedicalSummaryResponse.class
+        );
+
+        assertThat(result.summary()).isEqualTo("Headache reported");
+    }
+
+    @Test
+    void parseObject_ShouldThrowAiResponseParsingException_WhenObjectCannotBeBound() {
+        String rawResponse = "{\"summary\": [1, 2]} done";
+
+        assertThatThrownBy(() -> JsonExtractor.parseObject(
+                rawResponse,
+                objectMapper,
+                MedicalSummaryResponse.class
+        ))
+                .isInstanceOf(AiResponseParsingException.class)
+                .hasMessageContaining("Failed to parse AI response to MedicalSummaryResponse")
+                .satisfies(ex -> {
+                    AiResponseParsingException parsingException = (AiResponseParsingException) ex;
+                    assertThat(parsingException.getRawResponse()).isEqualTo(rawResponse);
+                    assertThat(parsingException.getExtractedJson()).isEqualTo("{\"summary\": [1, 2]}");
+                });
+    }
+
+    @Test
+    void parseObject_ShouldThrowAiResponseParsingException_WhenOnlyBalancedObjectIsInvalidJson() {
+        assertThatThrownBy(() -> JsonExtractor.parseObject(
+                "Summary: {Headache reported}",
+                objectMapper,
+                MedicalSummaryResponse.class
+        ))
+                .isInstanceOf(AiResponseParsingException.class);
+    }
+
+    @Test
+    void parseObject_ShouldThrowJsonExtractorException_WhenResponseIsBlank() {
+        assertThatThrownBy(() -> JsonExtractor.parseObject(" ", objectMapper, MedicalSummaryResponse.class))
+                .isInstanceOf(JsonExtractorException.class)
+                .hasMessageContaining("AI response is empty");
+    }
+}
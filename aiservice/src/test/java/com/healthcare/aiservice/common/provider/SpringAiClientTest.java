@@ -1,10 +1,16 @@
 package com.healthcare.aiservice.common.provider;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.healthcare.aiservice.common.medical_summary.dto.MedicalSummaryResponse;
 import com.healthcare.aiservice.common.provider.logging.AiParsingErrorLogger;
+import com.healthcare.aiservice.common.provider.logging.AiRequestMetrics;
+import com.healthcare.aiservice.common.provider.logging.AiTokenUsage;
+import com.healthcare.aiservice.common.provider.stream.AiStreamEvent;
+import com.healthcare.aiservice.common.provider.stream.AiStreamEventType;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.FeatureName;
 import com.healthcare.aiservice.exception.AiResponseParsingException;
+import com.healthcare.aiservice.exception.rest_exception.AiCapacityExceededException;
 import com.healthcare.aiservice.exception.rest_exception.JsonExtractorException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -12,17 +18,33 @@ import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.ollama.api.OllamaOptions;
 import org.springframework.ai.retry.NonTransientAiException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -42,11 +64,32 @@ class SpringAiClientTest {
     private ChatClient.CallResponseSpec callResponseSpec;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private ChatClient.StreamResponseSpec streamResponseSpec;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
 
     @Mock
     private AiParsingErrorLogger parsingErrorLogger;
 
+    @Mock
+    private AiChatClients chatClients;
+
+    @Mock
+    private AiAdmissionController admissionController;
+
+    @Mock
+    private AiModelRouter modelRouter;
+
+    @Mock
+    private AiAdmissionController.Permit permit;
+
+    @Mock
+    private AiRequestMetrics requestMetrics;
+
+    @Mock
+    private AiStructuredOutput structuredOutput;
+
     @InjectMocks
     private SpringAiClient springAiClient;
 
@@ -71,15 +114,17 @@ class SpringAiClientTest {
                 List.of("MRI examination")
         );
 
+        when(admissionController.acquire(FeatureName.MEDICAL_SUMMARY)).thenReturn(permit);
+        when(chatClients.get(AiProviderModel.LLAMA_3)).thenReturn(chatClient);
         when(chatClient.prompt()).thenReturn(requestSpec);
         when(requestSpec.system(systemPrompt)).thenReturn(requestSpec);
         when(requestSpec.user(userPrompt)).thenReturn(requestSpec);
         when(requestSpec.call()).thenReturn(callResponseSpec);
-        when(callResponseSpec.content()).thenReturn(rawResponse);
-        when(objectMapper.readValue(any(String.class), eq(MedicalSummaryResponse.class)))
-                .thenReturn(expectedResponse);
+        when(callResponseSpec.chatResponse()).thenReturn(chatResponse(rawResponse));
 
         MedicalSummaryResponse actualResponse = springAiClient.call(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
                 systemPrompt,
                 userPrompt,
                 MedicalSummaryResponse.class
@@ -87,14 +132,20 @@ class SpringAiClientTest {
 
         assertThat(actualResponse).isEqualTo(expectedResponse);
 
+        verify(permit).close();
+        verify(modelRouter).recordSuccess(eq(FeatureName.MEDICAL_SUMMARY), eq(AiProviderModel.LLAMA_3), anyLong());
+        verify(requestMetrics).recordStage(
+                eq(FeatureName.MEDICAL_SUMMARY), any(), eq(AiRequestMetrics.Stage.MODEL_CALL), anyLong());
+        verify(requestMetrics).recordStage(
+                eq(FeatureName.MEDICAL_SUMMARY), any(), eq(AiRequestMetrics.Stage.PARSING), anyLong());
+
         verify(chatClient).prompt();
         verify(requestSpec).system(systemPrompt);
         verify(requestSpec).user(userPrompt);
         verify(requestSpec).call();
-        verify(callResponseSpec).content();
-        verify(objectMapper).readValue(any(String.class), eq(MedicalSummaryResponse.class));
+        verify(callResponseSpec).chatResponse();
 
-        verifyNoMoreInteractions(chatClient, requestSpec, callResponseSpec, objectMapper, parsingErrorLogger);
+        verifyNoMoreInteractions(chatClient, requestSpec, callResponseSpec, parsingErrorLogger);
     }
 
     @Test
@@ -104,13 +155,17 @@ class SpringAiClientTest {
 
         NonTransientAiException exception = new NonTransientAiException("AI provider failed");
 
+        when(admissionController.acquire(FeatureName.MEDICAL_SUMMARY)).thenReturn(permit);
+        when(chatClients.get(AiProviderModel.LLAMA_3)).thenReturn(chatClient);
         when(chatClient.prompt()).thenReturn(requestSpec);
         when(requestSpec.system(systemPrompt)).thenReturn(requestSpec);
         when(requestSpec.user(userPrompt)).thenReturn(requestSpec);
         when(requestSpec.call()).thenReturn(callResponseSpec);
-        when(callResponseSpec.content()).thenThrow(exception);
+        when(callResponseSpec.chatResponse()).thenThrow(exception);
 
         assertThatThrownBy(() -> springAiClient.call(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
                 systemPrompt,
                 userPrompt,
                 MedicalSummaryResponse.class
@@ -118,13 +173,38 @@ class SpringAiClientTest {
                 .isInstanceOf(NonTransientAiException.class)
                 .hasMessageContaining("AI provider failed");
 
+        verify(permit).close();
+        verify(modelRouter).recordFailure(FeatureName.MEDICAL_SUMMARY, AiProviderModel.LLAMA_3);
+
         verify(chatClient).prompt();
         verify(requestSpec).system(systemPrompt);
         verify(requestSpec).user(userPrompt);
         verify(requestSpec).call();
-        verify(callResponseSpec).content();
+        verify(callResponseSpec).chatResponse();
+
+        verifyNoMoreInteractions(chatClient, requestSpec, callResponseSpec, parsingErrorLogger);
+    }
+
+    @Test
+    void call_ShouldNotCallAiProvider_WhenAdmissionIsRejected() {
+        AiCapacityExceededException exception = new AiCapacityExceededException(
+                FeatureName.MEDICAL_SUMMARY,
+                "queue is full",
+                Duration.ofSeconds(5)
+        );
+
+        when(admissionController.acquire(FeatureName.MEDICAL_SUMMARY)).thenThrow(exception);
+
+        assertThatThrownBy(() -> springAiClient.call(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
+                "system prompt",
+                "user prompt",
+                MedicalSummaryResponse.class
+        ))
+                .isSameAs(exception);
 
-        verifyNoMoreInteractions(chatClient, requestSpec, callResponseSpec, objectMapper, parsingErrorLogger);
+        verifyNoMoreInteractions(chatClients, chatClient, requestSpec, callResponseSpec, parsingErrorLogger, modelRouter);
     }
 
     @Test
@@ -132,13 +212,17 @@ class SpringAiClientTest {
         String systemPrompt = "system prompt";
         String userPrompt = "user prompt";
 
+        when(admissionController.acquire(FeatureName.MEDICAL_SUMMARY)).thenReturn(permit);
+        when(chatClients.get(AiProviderModel.LLAMA_3)).thenReturn(chatClient);
         when(chatClient.prompt()).thenReturn(requestSpec);
         when(requestSpec.system(systemPrompt)).thenReturn(requestSpec);
         when(requestSpec.user(userPrompt)).thenReturn(requestSpec);
         when(requestSpec.call()).thenReturn(callResponseSpec);
-        when(callResponseSpec.content()).thenReturn("   ");
+        when(callResponseSpec.chatResponse()).thenReturn(chatResponse("   "));
 
         assertThatThrownBy(() -> springAiClient.call(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
                 systemPrompt,
                 userPrompt,
                 MedicalSummaryResponse.class
@@ -150,9 +234,9 @@ class SpringAiClientTest {
         verify(requestSpec).system(systemPrompt);
         verify(requestSpec).user(userPrompt);
         verify(requestSpec).call();
-        verify(callResponseSpec).content();
+        verify(callResponseSpec).chatResponse();
 
-        verifyNoMoreInteractions(chatClient, requestSpec, callResponseSpec, objectMapper, parsingErrorLogger);
+        verifyNoMoreInteractions(chatClient, requestSpec, callResponseSpec, parsingErrorLogger);
     }
 
     @Test
@@ -160,19 +244,23 @@ class SpringAiClientTest {
         String systemPrompt = "system prompt";
         String userPrompt = "user prompt";
 
+        when(admissionController.acquire(FeatureName.MEDICAL_SUMMARY)).thenReturn(permit);
+        when(chatClients.get(AiProviderModel.LLAMA_3)).thenReturn(chatClient);
         when(chatClient.prompt()).thenReturn(requestSpec);
         when(requestSpec.system(systemPrompt)).thenReturn(requestSpec);
         when(requestSpec.user(userPrompt)).thenReturn(requestSpec);
         when(requestSpec.call()).thenReturn(callResponseSpec);
-        when(callResponseSpec.content()).thenReturn("""
+        when(callResponseSpec.chatResponse()).thenReturn(chatResponse("""
             Here is the result:
 
             Symptoms:
             - Fever
             - Headache
-            """);
+            """));
 
         assertThatThrownBy(() -> springAiClient.call(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
                 systemPrompt,
                 userPrompt,
                 MedicalSummaryResponse.class
@@ -184,9 +272,9 @@ class SpringAiClientTest {
         verify(requestSpec).system(systemPrompt);
         verify(requestSpec).user(userPrompt);
         verify(requestSpec).call();
-        verify(callResponseSpec).content();
+        verify(callResponseSpec).chatResponse();
 
-        verifyNoMoreInteractions(chatClient, requestSpec, callResponseSpec, objectMapper, parsingErrorLogger);
+        verifyNoMoreInteractions(chatClient, requestSpec, callResponseSpec, parsingErrorLogger);
     }
 
     @Test
@@ -205,30 +293,392 @@ class SpringAiClientTest {
             }
             """;
 
+        when(admissionController.acquire(FeatureName.MEDICAL_SUMMARY)).thenReturn(permit);
+        when(chatClients.get(AiProviderModel.LLAMA_3)).thenReturn(chatClient);
         when(chatClient.prompt()).thenReturn(requestSpec);
         when(requestSpec.system(systemPrompt)).thenReturn(requestSpec);
         when(requestSpec.user(userPrompt)).thenReturn(requestSpec);
         when(requestSpec.call()).thenReturn(callResponseSpec);
-        when(callResponseSpec.content()).thenReturn(rawResponse);
-
-        when(objectMapper.readValue(any(String.class), eq(MedicalSummaryResponse.class)))
-                .thenThrow(new JsonProcessingException("Cannot parse JSON") {});
+        when(callResponseSpec.chatResponse()).thenReturn(chatResponse(rawResponse));
 
         assertThatThrownBy(() -> springAiClient.call(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
                 systemPrompt,
                 userPrompt,
                 MedicalSummaryResponse.class
         ))
                 .isInstanceOf(AiResponseParsingException.class)
-                .hasMessageContaining("Failed to parse AI response to MedicalSummaryResponse");
+                .hasMessageContaining("Failed to parse AI response to MedicalSummaryResponse")
+                .satisfies(ex -> assertThat(((AiResponseParsingException) ex).getExtractedJson())
+                        .isEqualTo(rawResponse.strip()));
 
         verify(chatClient).prompt();
         verify(requestSpec).system(systemPrompt);
         verify(requestSpec).user(userPrompt);
         verify(requestSpec).call();
-        verify(callResponseSpec).content();
-        verify(objectMapper).readValue(any(String.class), eq(MedicalSummaryResponse.class));
+        verify(callResponseSpec).chatResponse();
+
+        verifyNoMoreInteractions(chatClient, requestSpec, callResponseSpec, parsingErrorLogger);
+    }
+
+    @Test
+    void stream_ShouldEmitTokensAndParsedResult_WhenAiProviderStreamsValidJson() throws Exception {
+        String systemPrompt = "system prompt";
+        String userPrompt = "user prompt";
+
+        MedicalSummaryResponse expectedResponse = new MedicalSummaryResponse(
+                "Headache reported",
+                null,
+                null,
+                null
+        );
+
+        when(admissionController.acquire(FeatureName.MEDICAL_SUMMARY)).thenReturn(permit);
+        when(chatClients.get(AiProviderModel.LLAMA_3)).thenReturn(chatClient);
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.system(systemPrompt)).thenReturn(requestSpec);
+        when(requestSpec.user(userPrompt)).thenReturn(requestSpec);
+        when(requestSpec.stream()).thenReturn(streamResponseSpec);
+        when(streamResponseSpec.chatResponse()).thenReturn(Flux.just(
+                chatResponse("{\"summary\": "),
+                chatResponse(""),
+                chatResponse("\"Headache reported\"}")
+        ));
+
+        List<AiStreamEvent<MedicalSummaryResponse>> events = springAiClient.stream(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
+                systemPrompt,
+                userPrompt,
+                MedicalSummaryResponse.class
+        ).collectList().block();
+
+        assertThat(events).containsExactly(
+                AiStreamEvent.token("{\"summary\": "),
+                AiStreamEvent.token("\"Headache reported\"}"),
+                AiStreamEvent.result(expectedResponse)
+        );
+
+        verify(permit).close();
+        verify(modelRouter).recordSuccess(eq(FeatureName.MEDICAL_SUMMARY), eq(AiProviderModel.LLAMA_3), anyLong());
+    }
+
+    @Test
+    void stream_ShouldFailAfterTokens_WhenStreamedResponseContainsNoJson() {
+        String systemPrompt = "system prompt";
+        String userPrompt = "user prompt";
+
+        when(admissionController.acquire(FeatureName.MEDICAL_SUMMARY)).thenReturn(permit);
+        when(chatClients.get(AiProviderModel.LLAMA_3)).thenReturn(chatClient);
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.system(systemPrompt)).thenReturn(requestSpec);
+        when(requestSpec.user(userPrompt)).thenReturn(requestSpec);
+        when(requestSpec.stream()).thenReturn(streamResponseSpec);
+        when(streamResponseSpec.chatResponse()).thenReturn(Flux.just(chatResponse("Symptoms:"), chatResponse(" fever")));
+
+        List<AiStreamEventType> emittedTypes = new java.util.ArrayList<>();
+
+        assertThatThrownBy(() -> springAiClient.stream(
+                        FeatureName.MEDICAL_SUMMARY,
+                        AiProviderModel.LLAMA_3,
+                        systemPrompt,
+                        userPrompt,
+                        MedicalSummaryResponse.class
+                )
+                .doOnNext(event -> emittedTypes.add(event.type()))
+                .blockLast())
+                .isInstanceOf(JsonExtractorException.class)
+                .hasMessageContaining("JSON object not found in AI response");
+
+        assertThat(emittedTypes).containsExactly(AiStreamEventType.TOKEN, AiStreamEventType.TOKEN);
+
+        verifyNoMoreInteractions(parsingErrorLogger);
+    }
+
+    @Test
+    void call_ShouldRecordTokenUsage_WhenResponseMetadataReportsIt() {
+        String rawResponse = "{\"summary\": \"Headache reported\"}";
+        ChatResponse response = chatResponse(rawResponse, ChatResponseMetadata.builder()
+                .usage(new DefaultUsage(120, 30))
+                .keyValue(SpringAiClient.EVAL_DURATION_METADATA, Duration.ofMillis(600))
+                .build());
+
+        when(admissionController.acquire(FeatureName.MEDICAL_SUMMARY)).thenReturn(permit);
+        when(chatClients.get(AiProviderModel.LLAMA_3)).thenReturn(chatClient);
+        when(modelRouter.modelName(AiProviderModel.LLAMA_3)).thenReturn("llama3:latest");
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.system("system prompt")).thenReturn(requestSpec);
+        when(requestSpec.user("user prompt")).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(callResponseSpec);
+        when(callResponseSpec.chatResponse()).thenReturn(response);
+
+        springAiClient.call(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
+                "system prompt",
+                "user prompt",
+                MedicalSummaryResponse.class
+        );
+
+        verify(requestMetrics).recordTokenUsage(
+                FeatureName.MEDICAL_SUMMARY,
+                "llama3:latest",
+                new AiTokenUsage(120L, 30L, Duration.ofMillis(600).toNanos())
+        );
+    }
+
+    @Test
+    void stream_ShouldRecordTimeToFirstTokenAndUsageOfFinalChunk() {
+        ChatResponse finalChunk = chatResponse("\"Headache reported\"}", ChatResponseMetadata.builder()
+                .usage(new DefaultUsage(80, 12))
+                .build());
+
+        when(admissionController.acquire(FeatureName.MEDICAL_SUMMARY)).thenReturn(permit);
+        when(chatClients.get(AiProviderModel.LLAMA_3)).thenReturn(chatClient);
+        when(modelRouter.modelName(AiProviderModel.LLAMA_3)).thenReturn("llama3:latest");
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.system("system prompt")).thenReturn(requestSpec);
+        when(requestSpec.user("user prompt")).thenReturn(requestSpec);
+        when(requestSpec.stream()).thenReturn(streamResponseSpec);
+        when(streamResponseSpec.chatResponse()).thenReturn(Flux.just(chatResponse("{\"summary\": "), finalChunk));
+
+        springAiClient.stream(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
+                "system prompt",
+                "user prompt",
+                MedicalSummaryResponse.class
+        ).blockLast();
+
+        verify(requestMetrics).recordTimeToFirstToken(eq(FeatureName.MEDICAL_SUMMARY), eq("llama3:latest"), anyLong());
+        verify(requestMetrics).recordTokenUsage(
+                eq(FeatureName.MEDICAL_SUMMARY),
+                eq("llama3:latest"),
+                argThat(usage -> usage.promptTokens() == 80L && usage.completionTokens() == 12L)
+        );
+    }
+
+    @Test
+    void call_ShouldConstrainOutputToResponseSchema_WhenStructuredOutputProvidesOptions() {
+        ChatOptions options = OllamaOptions.builder()
+                .model("llama3:latest")
+                .format(Map.of("type", "object"))
+                .build();
+
+        when(admissionController.acquire(FeatureName.MEDICAL_SUMMARY)).thenReturn(permit);
+        when(chatClients.get(AiProviderModel.LLAMA_3)).thenReturn(chatClient);
+        when(modelRouter.modelName(AiProviderModel.LLAMA_3)).thenReturn("llama3:latest");
+        when(structuredOutput.chatOptions("llama3:latest", MedicalSummaryResponse.class)).thenReturn(options);
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.system("system prompt")).thenReturn(requestSpec);
+        when(requestSpec.user("user prompt")).thenReturn(requestSpec);
+        when(requestSpec.options(options)).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(callResponseSpec);
+        when(callResponseSpec.chatResponse()).thenReturn(chatResponse("{\"summary\": \"Headache reported\"}"));
+
+        springAiClient.call(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
+                "system prompt",
+                "user prompt",
+                MedicalSummaryResponse.class
+        );
+
+        verify(requestSpec).options(options);
+        verify(requestMetrics).recordResponseParse(
+                FeatureName.MEDICAL_SUMMARY,
+                "llama3:latest",
+                null,
+                AiRequestMetrics.ParseOutcome.PARSED
+        );
+    }
+
+    @Test
+    void call_ShouldRepairOnlyUnreadableFragment_WhenRepairBudgetAllows() {
+        String brokenJson = "{\"summary\": \"Headache reported\",}";
+
+        stubRepairableCall(
+                new AiStructuredOutput.RepairBudget(2, 1_000L, Duration.ofSeconds(10).toNanos()),
+                chatResponse("Here is the summary: " + brokenJson),
+                chatResponse("{\"summary\": \"Headache reported\"}")
+        );
+
+        MedicalSummaryResponse response = springAiClient.call(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
+                "system prompt",
+                "user prompt",
+                MedicalSummaryResponse.class
+        );
+
+        assertThat(response.summary()).isEqualTo("Headache reported");
+
+        ArgumentCaptor<String> userPrompts = ArgumentCaptor.forClass(String.class);
+        verify(requestSpec, times(2)).user(userPrompts.capture());
+
+        assertThat(userPrompts.getAllValues().get(1))
+                .contains(brokenJson)
+                .doesNotContain("user prompt", "Here is the summary");
+
+        verify(requestMetrics).recordResponseParse(
+                FeatureName.MEDICAL_SUMMARY,
+                "llama3:latest",
+                null,
+                AiRequestMetrics.ParseOutcome.REPAIRED
+        );
+        verify(requestMetrics).recordStage(
+                eq(FeatureName.MEDICAL_SUMMARY), eq("llama3:latest"), eq(AiRequestMetrics.Stage.REPAIR), anyLong());
+        verify(modelRouter).recordSuccess(eq(FeatureName.MEDICAL_SUMMARY), eq(AiProviderModel.LLAMA_3), anyLong());
+    }
+
+    @Test
+    void call_ShouldThrowOriginalParsingFailure_WhenRepairBudgetIsExhausted() {
+        String brokenJson = "{\"summary\": \"Headache reported\",}";
+
+        stubRepairableCall(
+                new AiStructuredOutput.RepairBudget(1, 1_000L, Duration.ofSeconds(10).toNanos()),
+                chatResponse(brokenJson),
+                chatResponse("still not JSON")
+        );
+
+        assertThatThrownBy(() -> springAiClient.call(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
+                "system prompt",
+                "user prompt",
+                MedicalSummaryResponse.class
+        ))
+                .isInstanceOf(AiResponseParsingException.class)
+                .satisfies(ex -> assertThat(((AiResponseParsingException) ex).getExtractedJson())
+                        .isEqualTo(brokenJson));
+
+        verify(requestSpec, times(2)).call();
+        verify(requestMetrics).recordResponseParse(
+                FeatureName.MEDICAL_SUMMARY,
+                "llama3:latest",
+                null,
+                AiRequestMetrics.ParseOutcome.FAILED
+        );
+        verify(modelRouter).recordFailure(FeatureName.MEDICAL_SUMMARY, AiProviderModel.LLAMA_3);
+    }
+
+    @Test
+    void call_ShouldNotRepair_WhenUnreadableFragmentExceedsMaxLength() {
+        String brokenJson = "{\"summary\": \"" + "Headache reported. ".repeat(300) + "\",}";
+
+        stubUnrepairedCall(
+                new AiStructuredOutput.RepairBudget(2, 1_000L, Duration.ofSeconds(10).toNanos()),
+                chatResponse(brokenJson)
+        );
+
+        assertThatThrownBy(() -> springAiClient.call(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
+                "system prompt",
+                "user prompt",
+                MedicalSummaryResponse.class
+        ))
+                .isInstanceOf(AiResponseParsingException.class)
+                .satisfies(ex -> assertThat(((AiResponseParsingException) ex).getExtractedJson())
+                        .isEqualTo(brokenJson));
+
+        verify(requestSpec, times(1)).call();
+        verify(admissionController, times(1)).acquire(FeatureName.MEDICAL_SUMMARY);
+        verify(requestMetrics).recordResponseParse(
+                FeatureName.MEDICAL_SUMMARY,
+                "llama3:latest",
+                null,
+                AiRequestMetrics.ParseOutcome.FAILED
+        );
+    }
+
+    @Test
+    void call_ShouldAdmitEachRepairCallSeparately() {
+        String brokenJson = "{\"summary\": \"Headache reported\",}";
+
+        stubRepairableCall(
+                new AiStructuredOutput.RepairBudget(2, 1_000L, Duration.ofSeconds(10).toNanos()),
+                chatResponse(brokenJson),
+                chatResponse("{\"summary\": \"Headache reported\"}")
+        );
+
+        springAiClient.call(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
+                "system prompt",
+                "user prompt",
+                MedicalSummaryResponse.class
+        );
+
+        verify(admissionController, times(2)).acquire(FeatureName.MEDICAL_SUMMARY);
+        verify(permit, times(2)).close();
+    }
+
+    @Test
+    void call_ShouldThrowOriginalParsingFailure_WhenRepairCallIsNotAdmitted() {
+        String brokenJson = "{\"summary\": \"Headache reported\",}";
+
+        stubUnrepairedCall(
+                new AiStructuredOutput.RepairBudget(2, 1_000L, Duration.ofSeconds(10).toNanos()),
+                chatResponse(brokenJson)
+        );
+        when(admissionController.acquire(FeatureName.MEDICAL_SUMMARY))
+                .thenReturn(permit)
+                .thenThrow(new AiCapacityExceededException(
+                        FeatureName.MEDICAL_SUMMARY,
+                        "queue is full",
+                        Duration.ofSeconds(5)
+                ));
+
+        assertThatThrownBy(() -> springAiClient.call(
+                FeatureName.MEDICAL_SUMMARY,
+                AiProviderModel.LLAMA_3,
+                "system prompt",
+                "user prompt",
+                MedicalSummaryResponse.class
+        ))
+                .isInstanceOf(AiResponseParsingException.class);
+
+        verify(requestSpec, times(1)).call();
+    }
+
+    private void stubRepairableCall(
+            AiStructuredOutput.RepairBudget budget,
+            ChatResponse firstResponse,
+            ChatResponse repairResponse
+    ) {
+        when(admissionController.acquire(FeatureName.MEDICAL_SUMMARY)).thenReturn(permit);
+        when(chatClients.get(AiProviderModel.LLAMA_3)).thenReturn(chatClient);
+        when(modelRouter.modelName(AiProviderModel.LLAMA_3)).thenReturn("llama3:latest");
+        when(structuredOutput.repairBudget()).thenReturn(budget);
+        when(structuredOutput.schemaJson(MedicalSummaryResponse.class)).thenReturn("{\"type\": \"object\"}");
+        when(structuredOutput.maxFragmentLength()).thenReturn(4_000);
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.system(anyString())).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(callResponseSpec);
+        when(callResponseSpec.chatResponse()).thenReturn(firstResponse, repairResponse);
+    }
+
+    private void stubUnrepairedCall(AiStructuredOutput.RepairBudget budget, ChatResponse response) {
+        when(admissionController.acquire(FeatureName.MEDICAL_SUMMARY)).thenReturn(permit);
+        when(chatClients.get(AiProviderModel.LLAMA_3)).thenReturn(chatClient);
+        when(modelRouter.modelName(AiProviderModel.LLAMA_3)).thenReturn("llama3:latest");
+        when(structuredOutput.repairBudget()).thenReturn(budget);
+        when(structuredOutput.maxFragmentLength()).thenReturn(4_000);
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.system(anyString())).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(callResponseSpec);
+        when(callResponseSpec.chatResponse()).thenReturn(response);
+    }
+
+    private static ChatResponse chatResponse(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
 
-        verifyNoMoreInteractions(chatClient, requestSpec, callResponseSpec, objectMapper, parsingErrorLogger);
+    private static ChatResponse chatResponse(String text, ChatResponseMetadata metadata) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))), metadata);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package com.healthcare.aiservice.common.provider.fake;
+
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Replaces the Ollama chat model with {@link FakeChatModel} when the {@value #PROFILE} profile is active,
+ * e.g. {@code mvn spring-boot:test-run -Dspring-boot.run.profiles=test,fake-ai} or in load tests.
+ * Routed models must not set a base URL, otherwise they get their own Ollama client.
+ */
+@Configuration
+@Profile(FakeAiConfiguration.PROFILE)
+public class FakeAiConfiguration {
+
+    public static final String PROFILE = "fake-ai";
+
+    @Bean
+    @Primary
+    public ChatModel fakeChatModel(FakeAiProperties properties) {
+        return new FakeChatModel(properties);
+    }
+}
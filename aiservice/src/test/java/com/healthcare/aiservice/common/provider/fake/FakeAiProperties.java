@@ -0,0 +1,81 @@
+package com.healthcare.aiservice.common.provider.fake;
+
+import com.healthcare.aiservice.config.constant.FeatureName;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.Map;
+
+// Scoped to the profile, so test contexts that do not use the fake model never bind or validate it.
+@Profile(FakeAiConfiguration.PROFILE)
+@Validated
+@ConfigurationProperties(prefix = "fake-ai")
+public record FakeAiProperties(
+
+        long seed,
+
+        @NotNull(message = "Fake AI latency must not be null.")
+        @Valid
+        Latency latency,
+
+        @NotNull(message = "Fake AI streaming must not be null.")
+        @Valid
+        Streaming streaming,
+
+        @DecimalMin(value = "0.0", message = "Fake AI failure rate must be between 0 and 1")
+        @DecimalMax(value = "1.0", message = "Fake AI failure rate must be between 0 and 1")
+        double failureRate,
+
+        @DecimalMin(value = "0.0", message = "Fake AI malformed rate must be between 0 and 1")
+        @DecimalMax(value = "1.0", message = "Fake AI malformed rate must be between 0 and 1")
+        double malformedRate,
+
+        @NotEmpty(message = "Fake AI responses must not be empty.")
+        Map<FeatureName,
+                @NotNull(message = "Fake AI canned response must not be null.")
+                @Valid
+                        CannedResponse> responses
+) {
+
+    public record Latency(
+
+            @NotNull(message = "Fake AI median latency must not be null.")
+            Duration median,
+
+            @NotNull(message = "Fake AI p99 latency must not be null.")
+            Duration p99
+    ) {
+    }
+
+    public record Streaming(
+
+            @Min(
+                    value = 1,
+                    message = "Fake AI streaming chunk size must be at least 1"
+            )
+            int chunkSize,
+
+            @NotNull(message = "Fake AI time to first token must not be null.")
+            Duration timeToFirstToken
+    ) {
+    }
+
+    public record CannedResponse(
+
+            @NotBlank(message = "Fake AI system prompt marker must not be blank.")
+            String marker,
+
+            @NotBlank(message = "Fake AI canned response body must not be blank.")
+            String body
+    ) {
+    }
+}
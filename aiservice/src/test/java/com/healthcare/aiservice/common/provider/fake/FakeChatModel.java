@@ -0,0 +1,159 @@
+package com.healthcare.aiservice.common.provider.fake;
+
+import com.healthcare.aiservice.config.constant.FeatureName;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.retry.TransientAiException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deterministic stand-in for the AI provider. The feature is recognised by a marker in the system prompt
+ * and answered with its canned JSON after a log-normally distributed latency drawn from a seeded random,
+ * so two runs with the same seed and request order see the same latencies, failures and malformed answers.
+ */
+public class FakeChatModel implements ChatModel {
+
+    static final String MALFORMED_RESPONSE = "Sorry, I cannot help with that request.";
+    static final String UNKNOWN_FEATURE_RESPONSE = "{}";
+
+    // z-score of the 99th percentile of the standard normal distribution.
+    private static final double P99_Z_SCORE = 2.326;
+
+    private final FakeAiProperties properties;
+    private final Random random;
+    private final double logMedianNanos;
+    private final double sigma;
+
+    public FakeChatModel(FakeAiProperties properties) {
+        Duration median = properties.latency().median();
+        Duration p99 = properties.latency().p99();
+
+        if (p99.compareTo(median) < 0) {
+            throw new IllegalStateException(
+                    "Fake AI p99 latency %s must not be below median latency %s".formatted(p99, median));
+        }
+
+        this.properties = properties;
+        this.random = new Random(properties.seed());
+        this.logMedianNanos = Math.log(Math.max(1L, median.toNanos()));
+        this.sigma = (Math.log(Math.max(1L, p99.toNanos())) - logMedianNanos) / P99_Z_SCORE;
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        Outcome outcome = nextOutcome(prompt);
+
+        sleep(outcome.latency());
+
+        if (outcome.failed()) {
+            throw failure();
+        }
+
+        return response(outcome.body());
+    }
+
+    // Time to first token is part of the sampled latency; the rest is spread evenly over the chunks.
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        return Flux.defer(() -> {
+            Outcome outcome = nextOutcome(prompt);
+            List<String> chunks = chunks(outcome.body(), properties.streaming().chunkSize());
+
+            Duration firstToken = min(properties.streaming().timeToFirstToken(), outcome.latency());
+            Duration perChunk = outcome.latency().minus(firstToken).dividedBy(chunks.size());
+
+            Flux<ChatResponse> tokens = Flux.fromIterable(chunks)
+                    .concatMap(chunk -> Mono.just(response(chunk)).delayElement(perChunk));
+
+            if (outcome.failed()) {
+                tokens = tokens.take(chunks.size() / 2).concatWith(Flux.error(failure()));
+            }
+
+            return Mono.delay(firstToken).thenMany(tokens);
+        });
+    }
+
+    // A single draw per request under one lock keeps the sequence reproducible for a given request order.
+    private Outcome nextOutcome(Prompt prompt) {
+        String body = body(prompt);
+
+        synchronized (random) {
+            long latencyNanos = Math.round(Math.exp(logMedianNanos + sigma * random.nextGaussian()));
+            boolean failed = random.nextDouble() < properties.failureRate();
+            boolean malformed = random.nextDouble() < properties.malformedRate();
+
+            return new Outcome(Duration.ofNanos(latencyNanos), failed, malformed ? MALFORMED_RESPONSE : body);
+        }
+    }
+
+    private String body(Prompt prompt) {
+        String systemPrompt = systemPrompt(prompt);
+
+        for (Map.Entry<FeatureName, FakeAiProperties.CannedResponse> entry : properties.responses().entrySet()) {
+            if (systemPrompt.contains(entry.getValue().marker())) {
+                return entry.getValue().body();
+            }
+        }
+
+        return UNKNOWN_FEATURE_RESPONSE;
+    }
+
+    private String systemPrompt(Prompt prompt) {
+        StringBuilder systemPrompt = new StringBuilder();
+
+        for (Message message : prompt.getInstructions()) {
+            if (message.getMessageType() == MessageType.SYSTEM && message.getText() != null) {
+                systemPrompt.append(message.getText());
+            }
+        }
+
+        return systemPrompt.toString();
+    }
+
+    private static List<String> chunks(String body, int chunkSize) {
+        List<String> chunks = new ArrayList<>(body.length() / chunkSize + 1);
+
+        for (int start = 0; start < body.length(); start += chunkSize) {
+            chunks.add(body.substring(start, Math.min(body.length(), start + chunkSize)));
+        }
+
+        return chunks;
+    }
+
+    private static ChatResponse response(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+
+    private static TransientAiException failure() {
+        return new TransientAiException("Injected fake AI provider failure");
+    }
+
+    private static Duration min(Duration first, Duration second) {
+        return first.compareTo(second) <= 0 ? first : second;
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TransientAiException("Interrupted while simulating AI provider latency");
+        }
+    }
+
+    private record Outcome(Duration latency, boolean failed, String body) {
+    }
+}
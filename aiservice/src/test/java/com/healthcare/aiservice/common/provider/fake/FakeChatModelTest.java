@@ -0,0 +1,128 @@
+package com.healthcare.aiservice.common.provider.fake;
+
+import com.healthcare.aiservice.config.constant.FeatureName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.retry.TransientAiException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("Fake chat model tests: ")
+class FakeChatModelTest {
+
+    private static final String CLASSIFICATION_BODY = "{\"category\": \"APPOINTMENT\", \"reason\": \"Reschedule.\"}";
+    private static final String SUMMARY_BODY = "{\"summary\": \"Patient is stable.\"}";
+
+    @Test
+    void call_ShouldReturnCannedResponse_WhenSystemPromptContainsFeatureMarker() {
+        FakeChatModel model = new FakeChatModel(properties(0.0, 0.0));
+
+        assertThat(text(model.call(prompt("You are a classification assistant.")))).isEqualTo(CLASSIFICATION_BODY);
+        assertThat(text(model.call(prompt("You summarize notes.")))).isEqualTo(SUMMARY_BODY);
+    }
+
+    @Test
+    void call_ShouldReturnEmptyObject_WhenNoFeatureMarkerMatches() {
+        FakeChatModel model = new FakeChatModel(properties(0.0, 0.0));
+
+        assertThat(text(model.call(prompt("You are a poet."))))
+                .isEqualTo(FakeChatModel.UNKNOWN_FEATURE_RESPONSE);
+    }
+
+    @Test
+    void call_ShouldInjectFailuresAndMalformedAnswers_WhenRatesAreOne() {
+        assertThatThrownBy(() -> new FakeChatModel(properties(1.0, 0.0)).call(prompt("classification")))
+                .isInstanceOf(TransientAiException.class);
+
+        assertThat(text(new FakeChatModel(properties(0.0, 1.0)).call(prompt("classification"))))
+                .isEqualTo(FakeChatModel.MALFORMED_RESPONSE);
+    }
+
+    @Test
+    void call_ShouldReplaySameOutcomes_WhenSeedIsEqual() {
+        assertThat(outcomes(new FakeChatModel(properties(0.5, 0.3))))
+                .isEqualTo(outcomes(new FakeChatModel(properties(0.5, 0.3))))
+                .contains("failed", CLASSIFICATION_BODY, FakeChatModel.MALFORMED_RESPONSE);
+    }
+
+    @Test
+    void stream_ShouldEmitChunksOfCannedResponse() {
+        FakeChatModel model = new FakeChatModel(properties(0.0, 0.0));
+
+        List<String> chunks = model.stream(prompt("classification"))
+                .map(FakeChatModelTest::text)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(chunks).hasSize((CLASSIFICATION_BODY.length() + 7) / 8)
+                .allSatisfy(chunk -> assertThat(chunk).hasSizeLessThanOrEqualTo(8));
+        assertThat(String.join("", chunks)).isEqualTo(CLASSIFICATION_BODY);
+    }
+
+    @Test
+    void constructor_ShouldFail_WhenP99IsBelowMedian() {
+        FakeAiProperties properties = new FakeAiProperties(
+                1L,
+                new FakeAiProperties.Latency(Duration.ofSeconds(2), Duration.ofSeconds(1)),
+                new FakeAiProperties.Streaming(8, Duration.ZERO),
+                0.0,
+                0.0,
+                Map.of()
+        );
+
+        assertThatThrownBy(() -> new FakeChatModel(properties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("p99");
+    }
+
+    private List<String> outcomes(FakeChatModel model) {
+        List<String> outcomes = new ArrayList<>();
+
+        for (int i = 0; i < 40; i++) {
+            try {
+                outcomes.add(text(model.call(prompt("classification"))));
+            } catch (TransientAiException ex) {
+                outcomes.add("failed");
+            }
+        }
+
+        return outcomes;
+    }
+
+    private static Prompt prompt(String systemPrompt) {
+        return new Prompt(List.of(new SystemMessage(systemPrompt), new UserMessage("Patient note")));
+    }
+
+    private static String text(ChatResponse response) {
+        return response.getResult().getOutput().getText();
+    }
+
+    private FakeAiProperties properties(double failureRate, double malformedRate) {
+        return new FakeAiProperties(
+                7L,
+                new FakeAiProperties.Latency(Duration.ofNanos(1_000), Duration.ofNanos(10_000)),
+                new FakeAiProperties.Streaming(8, Duration.ZERO),
+                failureRate,
+                malformedRate,
+                Map.of(
+                        FeatureName.MESSAGE_CLASSIFICATION,
+                        new FakeAiProperties.CannedResponse("classification", CLASSIFICATION_BODY),
+                        FeatureName.MEDICAL_SUMMARY,
+                        new FakeAiProperties.CannedResponse("summarize", SUMMARY_BODY)
+                )
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package com.healthcare.aiservice.common.provider.logging;
+
+import com.healthcare.aiservice.config.constant.AiPayloadCompression;
+import org.bson.types.Binary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("AI payload codec tests: ")
+class AiPayloadCodecTest {
+
+    private static final String PAYLOAD = "{\"note\": \"Patient reports headache and fever for three days. ü\"}".repeat(50);
+
+    @ParameterizedTest
+    @EnumSource(AiPayloadCompression.class)
+    void decode_ShouldRestoreEncodedPayload(AiPayloadCompression compression) {
+        Binary encoded = AiPayloadCodec.encode(PAYLOAD, compression);
+
+        assertThat(AiPayloadCodec.decode(encoded, compression)).isEqualTo(PAYLOAD);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = AiPayloadCompression.class, names = {"GZIP", "ZSTD"})
+    void encode_ShouldShrinkRepetitivePayload_WhenCompressionIsEnabled(AiPayloadCompression compression) {
+        Binary encoded = AiPayloadCodec.encode(PAYLOAD, compression);
+
+        assertThat(encoded.length()).isLessThan(PAYLOAD.getBytes(StandardCharsets.UTF_8).length / 5);
+    }
+
+    @Test
+    void encodeAndDecode_ShouldPassNullThrough() {
+        assertThat(AiPayloadCodec.encode(null, AiPayloadCompression.ZSTD)).isNull();
+        assertThat(AiPayloadCodec.decode(null, AiPayloadCompression.ZSTD)).isNull();
+    }
+}
@@ -0,0 +1,298 @@
+package com.healthcare.aiservice.common.provider.logging;
+
+import com.healthcare.aiservice.common.provider.AiModelRouter;
+import com.healthcare.aiservice.common.provider.logging.annotation.LogAiUsage;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.propertie.AiMetricsProperties;
+import com.healthcare.aiservice.config.propertie.AiProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("AI usage logging aspect tests: ")
+class AiUsageLoggingAspectTest {
+
+    private static final String PROVIDER = "ollama";
+    private static final String MODEL = "llama3:latest";
+    private static final String ROUTED_MODEL = "llama3.2:3b";
+    private static final String PROMPT_VERSION = "v2/v3";
+    private static final String REQUEST = "request";
+
+    @Mock
+    private AiUsageLogger aiUsageLogger;
+
+    @Mock
+    private AiModelRouter modelRouter;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private FeatureCalls calls;
+
+    @BeforeEach
+    void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new FeatureCalls());
+        factory.addAspect(new AiUsageLoggingAspect(
+                new AiProperties(PROVIDER, MODEL),
+                aiUsageLogger,
+                modelRouter,
+                new AiRequestMetrics(
+                        new AiMetricsProperties(List.of(0.5, 0.95, 0.99), List.of(Duration.ofSeconds(1))),
+                        meterRegistry
+                )
+        ));
+        calls = factory.getProxy();
+    }
+
+    @Test
+    void logAiUsage_ShouldLogPromptVersionRecordedByFeatureMethod() {
+        calls.call(REQUEST);
+
+        verify(aiUsageLogger).logSuccess(
+                eq(FeatureName.MEDICAL_SUMMARY),
+                eq(PROVIDER),
+                eq(MODEL),
+                eq(PROMPT_VERSION),
+                eq(REQUEST),
+                eq("response"),
+                anyLong(),
+                isNull(),
+                isNull()
+        );
+    }
+
+    @Test
+    void logAiUsage_ShouldLogPromptVersion_WhenFeatureMethodFails() {
+        assertThatThrownBy(() -> calls.fail(REQUEST))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(aiUsageLogger).logFailure(
+                eq(FeatureName.MEDICAL_SUMMARY),
+                eq(PROVIDER),
+                eq(MODEL),
+                eq(PROMPT_VERSION),
+                eq(REQUEST),
+                any(IllegalStateException.class),
+                anyLong(),
+                isNull(),
+                isNull()
+        );
+    }
+
+    @Test
+    void logAiUsage_ShouldLogPromptVersion_WhenStreamCompletes() {
+        List<String> events = calls.stream(REQUEST).collectList().block();
+
+        assertThat(events).containsExactly("first", "last");
+
+        verify(aiUsageLogger).logSuccess(
+                eq(FeatureName.MEDICAL_SUMMARY),
+                eq(PROVIDER),
+                eq(MODEL),
+                eq(PROMPT_VERSION),
+                eq(REQUEST),
+                eq("last"),
+                anyLong(),
+                any(Long.class),
+                isNull()
+        );
+    }
+
+    @Test
+    void logAiUsage_ShouldLogRoutedModel_WhenFeatureMethodRecordsIt() {
+        when(modelRouter.modelName(AiProviderModel.LLAMA_3_2)).thenReturn(ROUTED_MODEL);
+
+        calls.callRouted(REQUEST);
+
+        verify(aiUsageLogger).logSuccess(
+                eq(FeatureName.MESSAGE_CLASSIFICATION),
+                eq(PROVIDER),
+                eq(ROUTED_MODEL),
+                eq(PROMPT_VERSION),
+                eq(REQUEST),
+                eq("response"),
+                anyLong(),
+                isNull(),
+                isNull()
+        );
+    }
+
+    @Test
+    void logAiUsage_ShouldLogNullPromptVersion_WhenFeatureMethodDoesNotRecordIt() {
+        calls.callWithoutPrompt(REQUEST);
+
+        verify(aiUsageLogger).logSuccess(
+                eq(FeatureName.MESSAGE_CLASSIFICATION),
+                eq(PROVIDER),
+                eq(MODEL),
+                isNull(),
+                eq(REQUEST),
+                eq("response"),
+                anyLong(),
+                isNull(),
+                isNull()
+        );
+    }
+
+    @Test
+    void logAiUsage_ShouldRecordRequestTimerWithOutcomeAndPromptSource() {
+        calls.call(REQUEST);
+        assertThatThrownBy(() -> calls.fail(REQUEST));
+
+        assertThat(requestTimerCount(FeatureName.MEDICAL_SUMMARY, AiRequestMetrics.SUCCESS)).isEqualTo(1);
+        assertThat(requestTimerCount(FeatureName.MEDICAL_SUMMARY, AiRequestMetrics.ERROR)).isEqualTo(1);
+        assertThat(meterRegistry.get(AiRequestMetrics.REQUEST_METRIC)
+                .tag(AiRequestMetrics.OUTCOME_TAG, AiRequestMetrics.SUCCESS)
+                .timer()
+                .getId()
+                .getTag(AiRequestMetrics.PROMPT_SOURCE_TAG)).isEqualTo("unknown");
+        assertThat(inFlight(FeatureName.MEDICAL_SUMMARY)).isZero();
+    }
+
+    @Test
+    void logAiUsage_ShouldKeepStreamInFlight_UntilStreamTerminates() {
+        Flux<String> stream = calls.stream(REQUEST);
+
+        assertThat(inFlight(FeatureName.MEDICAL_SUMMARY)).isZero();
+
+        stream.doOnNext(event -> assertThat(inFlight(FeatureName.MEDICAL_SUMMARY)).isEqualTo(1.0))
+                .take(1)
+                .blockLast();
+
+        assertThat(inFlight(FeatureName.MEDICAL_SUMMARY)).isZero();
+        assertThat(requestTimerCount(FeatureName.MEDICAL_SUMMARY, AiRequestMetrics.CANCELLED)).isEqualTo(1);
+    }
+
+    @Test
+    void logAiUsage_ShouldLogTokenUsageRecordedOnCallerAndBoundThreads() {
+        calls.callWithTokens(REQUEST);
+
+        verify(aiUsageLogger).logSuccess(
+                eq(FeatureName.MEDICAL_SUMMARY),
+                eq(PROVIDER),
+                eq(MODEL),
+                isNull(),
+                eq(REQUEST),
+                eq("response"),
+                anyLong(),
+                isNull(),
+                eq(new AiTokenUsage(30L, 12L, 3_000L))
+        );
+    }
+
+    @Test
+    void logAiUsage_ShouldLogTokenUsageRecordedThroughStreamContext() {
+        List<String> events = calls.streamWithTokens(REQUEST).collectList().block();
+
+        assertThat(events).containsExactly("token");
+
+        verify(aiUsageLogger).logSuccess(
+                eq(FeatureName.MEDICAL_SUMMARY),
+                eq(PROVIDER),
+                eq(MODEL),
+                isNull(),
+                eq(REQUEST),
+                eq("token"),
+                anyLong(),
+                any(Long.class),
+                eq(new AiTokenUsage(20L, 8L, 2_000L))
+        );
+    }
+
+    private long requestTimerCount(FeatureName feature, String outcome) {
+        return meterRegistry.get(AiRequestMetrics.REQUEST_METRIC)
+                .tag(AiRequestMetrics.FEATURE_TAG, feature.getValue())
+                .tag(AiRequestMetrics.MODEL_TAG, MODEL)
+                .tag(AiRequestMetrics.OUTCOME_TAG, outcome)
+                .timer()
+                .count();
+    }
+
+    private double inFlight(FeatureName feature) {
+        return meterRegistry.get(AiRequestMetrics.IN_FLIGHT_METRIC)
+                .tag(AiRequestMetrics.FEATURE_TAG, feature.getValue())
+                .gauge()
+                .value();
+    }
+
+    static class FeatureCalls {
+
+        @LogAiUsage(feature = FeatureName.MEDICAL_SUMMARY)
+        public String call(String request) {
+            AiUsageContext.recordPromptVersion(PROMPT_VERSION);
+            return "response";
+        }
+
+        @LogAiUsage(feature = FeatureName.MEDICAL_SUMMARY)
+        public String fail(String request) {
+            AiUsageContext.recordPromptVersion(PROMPT_VERSION);
+            throw new IllegalStateException("AI provider is unavailable");
+        }
+
+        @LogAiUsage(feature = FeatureName.MEDICAL_SUMMARY)
+        public Flux<String> stream(String request) {
+            AiUsageContext.recordPromptVersion(PROMPT_VERSION);
+            return Flux.just("first", "last");
+        }
+
+        @LogAiUsage(feature = FeatureName.MESSAGE_CLASSIFICATION)
+        public String callRouted(String request) {
+            AiUsageContext.recordPromptVersion(PROMPT_VERSION);
+            AiUsageContext.recordModel(AiProviderModel.LLAMA_3_2);
+            return "response";
+        }
+
+        @LogAiUsage(feature = FeatureName.MESSAGE_CLASSIFICATION)
+        public String callWithoutPrompt(String request) {
+            return "response";
+        }
+
+        @LogAiUsage(feature = FeatureName.MEDICAL_SUMMARY)
+        public String callWithTokens(String request) {
+            AiUsageContext.recordTokenUsage(new AiTokenUsage(10L, 4L, 1_000L));
+
+            Callable<Void> chunk = AiUsageContext.bind(() -> {
+                AiUsageContext.recordTokenUsage(new AiTokenUsage(20L, 8L, 2_000L));
+                return null;
+            });
+
+            Mono.fromCallable(chunk).subscribeOn(Schedulers.boundedElastic()).block();
+
+            return "response";
+        }
+
+        @LogAiUsage(feature = FeatureName.MEDICAL_SUMMARY)
+        public Flux<String> streamWithTokens(String request) {
+            return Flux.deferContextual(context -> Flux.just("token")
+                    .publishOn(Schedulers.parallel())
+                    .doOnComplete(() -> AiUsageContext.tokenUsageRecorder(context)
+                            .accept(new AiTokenUsage(20L, 8L, 2_000L))));
+        }
+    }
+}
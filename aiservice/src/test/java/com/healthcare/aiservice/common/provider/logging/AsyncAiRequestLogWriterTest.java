@@ -0,0 +1,280 @@
+package com.healthcare.aiservice.common.provider.logging;
+
+import com.healthcare.aiservice.common.provider.logging.model.AiRequestLog;
+import com.healthcare.aiservice.config.constant.AiPayloadCompression;
+import com.healthcare.aiservice.config.constant.AiRequestLogOverflowPolicy;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.propertie.AiRequestLogProperties;
+import com.healthcare.aiservice.repository.AiRequestLogRepository;
+import com.healthcare.aiservice.repository.AiStatisticsRollupRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("Async AI request log writer tests: ")
+class AsyncAiRequestLogWriterTest {
+
+    private static final Duration NEVER = Duration.ofHours(1);
+    private static final int ROLLUP_CAPACITY = 100;
+
+    @Mock
+    private AiRequestLogRepository repository;
+
+    @Mock
+    private AiStatisticsRollupRepository rollupRepository;
+
+    private final List<List<AiRequestLog>> insertedBatches = new CopyOnWriteArrayList<>();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AsyncAiRequestLogWriter writer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        lenient().doAnswer(invocation -> {
+            insertedBatches.add(List.copyOf(invocation.<List<AiRequestLog>>getArgument(0)));
+            return invocation.getArgument(0);
+        }).when(repository).insert((Iterable<AiRequestLog>) any());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.destroy();
+        }
+    }
+
+    @Test
+    void submit_ShouldInsertBatch_WhenBatchSizeIsReached() {
+        writer = createWriter(10, 2, NEVER, AiRequestLogOverflowPolicy.DROP);
+
+        submit(AiRequestStatus.SUCCESS);
+        submit(AiRequestStatus.SUCCESS);
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(insertedBatches).hasSize(1));
+
+        assertThat(insertedBatches.get(0)).hasSize(2);
+    }
+
+    @Test
+    void submit_ShouldRecordRollup_WhenBatchIsInserted() {
+        writer = createWriter(10, 2, NEVER, AiRequestLogOverflowPolicy.DROP);
+
+        submit(AiRequestStatus.SUCCESS);
+        submit(AiRequestStatus.FAILED);
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> verify(rollupRepository).record(List.of(
+                        requestLog(AiRequestStatus.SUCCESS),
+                        requestLog(AiRequestStatus.FAILED)
+                )));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void destroy_ShouldRecordRollup_WhenBatchInsertFails() throws InterruptedException {
+        doThrow(new IllegalStateException("Mongo is unavailable"))
+                .when(repository).insert((Iterable<AiRequestLog>) any());
+
+        writer = createWriter(10, 100, NEVER, AiRequestLogOverflowPolicy.DROP);
+
+        submit(AiRequestStatus.SUCCESS);
+        writer.destroy();
+
+        verify(rollupRepository).record(List.of(requestLog(AiRequestStatus.SUCCESS)));
+        assertThat(dropped(AsyncAiRequestLogWriter.WRITE_ERROR)).isEqualTo(1);
+    }
+
+    @Test
+    void destroy_ShouldRecordRollupOfEveryCall_WhenEntriesAreDropped() throws InterruptedException {
+        writer = createWriter(1, 100, NEVER, AiRequestLogOverflowPolicy.DROP);
+
+        submit(AiRequestStatus.SUCCESS);
+        submit(AiRequestStatus.SUCCESS);
+        writer.destroy();
+
+        assertThat(dropped(AsyncAiRequestLogWriter.OVERFLOW)).isEqualTo(1);
+        assertThat(insertedBatches).hasSize(1);
+        verify(rollupRepository).record(List.of(
+                requestLog(AiRequestStatus.SUCCESS),
+                requestLog(AiRequestStatus.SUCCESS)
+        ));
+    }
+
+    @Test
+    void flush_ShouldRetryRollupBatch_WhenRecordFails() {
+        doThrow(new IllegalStateException("Mongo is unavailable"))
+                .doNothing()
+                .when(rollupRepository).record(any());
+
+        writer = createWriter(10, 100, Duration.ofMillis(20), AiRequestLogOverflowPolicy.DROP);
+
+        submit(AiRequestStatus.SUCCESS);
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> verify(rollupRepository, times(2))
+                        .record(List.of(requestLog(AiRequestStatus.SUCCESS))));
+    }
+
+    @Test
+    void submit_ShouldCountRollupDrop_WhenRollupQueueIsFull() {
+        writer = createWriter(10, 100, NEVER, AiRequestLogOverflowPolicy.DROP, 1);
+
+        submit(AiRequestStatus.SUCCESS);
+        submit(AiRequestStatus.SUCCESS);
+
+        assertThat(meterRegistry.get(AsyncAiRequestLogWriter.ROLLUP_DROPPED_METRIC)
+                .tag(AsyncAiRequestLogWriter.REASON_TAG, AsyncAiRequestLogWriter.OVERFLOW)
+                .counter()
+                .count()).isEqualTo(1);
+        assertThat(meterRegistry.get(AsyncAiRequestLogWriter.ROLLUP_QUEUE_DEPTH_METRIC).gauge().value())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void submit_ShouldInsertPartialBatch_WhenFlushIntervalElapses() {
+        writer = createWriter(10, 100, Duration.ofMillis(20), AiRequestLogOverflowPolicy.DROP);
+
+        submit(AiRequestStatus.SUCCESS);
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(insertedBatches).hasSize(1));
+
+        assertThat(insertedBatches.get(0)).hasSize(1);
+    }
+
+    @Test
+    void submit_ShouldDropEntry_WhenQueueIsFullAndPolicyIsDrop() {
+        writer = createWriter(1, 100, NEVER, AiRequestLogOverflowPolicy.DROP);
+
+        submit(AiRequestStatus.SUCCESS);
+        submit(AiRequestStatus.SUCCESS);
+
+        assertThat(writer.queueDepth()).isEqualTo(1);
+        assertThat(dropped(AsyncAiRequestLogWriter.OVERFLOW)).isEqualTo(1);
+        assertThat(meterRegistry.get(AsyncAiRequestLogWriter.QUEUE_DEPTH_METRIC).gauge().value())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void submit_ShouldDropEntryAfterTimeout_WhenQueueIsFullAndPolicyIsBlock() {
+        writer = createWriter(1, 100, NEVER, AiRequestLogOverflowPolicy.BLOCK);
+
+        submit(AiRequestStatus.SUCCESS);
+        submit(AiRequestStatus.SUCCESS);
+
+        assertThat(dropped(AsyncAiRequestLogWriter.OVERFLOW)).isEqualTo(1);
+    }
+
+    @Test
+    void submit_ShouldSampleSuccessfulEntriesButKeepFailures_WhenQueueIsUnderPressure() {
+        writer = createWriter(2, 100, NEVER, AiRequestLogOverflowPolicy.SAMPLE);
+
+        submit(AiRequestStatus.SUCCESS);
+        submit(AiRequestStatus.SUCCESS);
+        submit(AiRequestStatus.FAILED);
+
+        assertThat(writer.queueDepth()).isEqualTo(2);
+        assertThat(dropped(AsyncAiRequestLogWriter.SAMPLED)).isEqualTo(1);
+    }
+
+    @Test
+    void destroy_ShouldDrainPendingEntries() throws InterruptedException {
+        writer = createWriter(10, 100, NEVER, AiRequestLogOverflowPolicy.DROP);
+
+        submit(AiRequestStatus.SUCCESS);
+        submit(AiRequestStatus.FAILED);
+
+        writer.destroy();
+
+        assertThat(insertedBatches).hasSize(1);
+        assertThat(insertedBatches.get(0)).hasSize(2);
+        assertThat(writer.queueDepth()).isZero();
+
+        submit(AiRequestStatus.SUCCESS);
+
+        assertThat(dropped(AsyncAiRequestLogWriter.SHUTDOWN)).isEqualTo(1);
+    }
+
+    private double dropped(String reason) {
+        return meterRegistry.get(AsyncAiRequestLogWriter.DROPPED_METRIC)
+                .tag(AsyncAiRequestLogWriter.REASON_TAG, reason)
+                .counter()
+                .count();
+    }
+
+    private void submit(AiRequestStatus status) {
+        AiRequestLog metadata = requestLog(status);
+
+        writer.submit(metadata, () -> metadata);
+    }
+
+    private static AiRequestLog requestLog(AiRequestStatus status) {
+        return AiRequestLog.builder()
+                .feature(FeatureName.MEDICAL_SUMMARY)
+                .status(status)
+                .durationMs(10L)
+                .build();
+    }
+
+    private AsyncAiRequestLogWriter createWriter(
+            int capacity,
+            int batchSize,
+            Duration flushInterval,
+            AiRequestLogOverflowPolicy overflowPolicy
+    ) {
+        return createWriter(capacity, batchSize, flushInterval, overflowPolicy, ROLLUP_CAPACITY);
+    }
+
+    private AsyncAiRequestLogWriter createWriter(
+            int capacity,
+            int batchSize,
+            Duration flushInterval,
+            AiRequestLogOverflowPolicy overflowPolicy,
+            int rollupCapacity
+    ) {
+        return new AsyncAiRequestLogWriter(
+                repository,
+                rollupRepository,
+                new AiRequestLogProperties(
+                        capacity,
+                        batchSize,
+                        flushInterval,
+                        overflowPolicy,
+                        0.0,
+                        Duration.ofMillis(10),
+                        Duration.ofSeconds(5),
+                        1.0,
+                        AiPayloadCompression.NONE,
+                        10_000,
+                        rollupCapacity
+                ),
+                meterRegistry
+        );
+    }
+}
@@ -0,0 +1,123 @@
+package com.healthcare.aiservice.common.provider.logging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.aiservice.common.provider.logging.model.AiRequestLog;
+import com.healthcare.aiservice.config.constant.AiPayloadCompression;
+import com.healthcare.aiservice.config.constant.AiRequestLogOverflowPolicy;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.propertie.AiRequestLogProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("Mongo AI usage logger tests: ")
+class MongoAiUsageLoggerTest {
+
+    private static final Map<String, String> REQUEST = Map.of("note", "Patient reports headache.");
+    private static final Map<String, String> RESPONSE = Map.of("summary", "Headache.");
+
+    @Mock
+    private AiRequestLogWriter writer;
+
+    @Test
+    void logSuccess_ShouldStoreCompressedPayloads_WhenSuccessIsSampled() {
+        logger(1.0, 10_000).logSuccess(FeatureName.MEDICAL_SUMMARY, "ollama", "llama3", "v1", REQUEST, RESPONSE, 120L, null, null);
+
+        AiRequestLog log = submitted(AiRequestStatus.SUCCESS);
+
+        assertThat(log.payloadCompression()).isEqualTo(AiPayloadCompression.GZIP);
+        assertThat(AiPayloadCodec.decode(log.requestPayload(), log.payloadCompression()))
+                .isEqualTo("{\"note\":\"Patient reports headache.\"}");
+        assertThat(AiPayloadCodec.decode(log.responsePayload(), log.payloadCompression()))
+                .isEqualTo("{\"summary\":\"Headache.\"}");
+    }
+
+    @Test
+    void logSuccess_ShouldKeepMetadataOnly_WhenSuccessIsNotSampled() {
+        logger(0.0, 10_000).logSuccess(FeatureName.MEDICAL_SUMMARY, "ollama", "llama3", "v1", REQUEST, RESPONSE, 120L, 15L, new AiTokenUsage(42L, 17L, 850_000_000L));
+
+        AiRequestLog log = submitted(AiRequestStatus.SUCCESS);
+
+        assertThat(log.requestPayload()).isNull();
+        assertThat(log.responsePayload()).isNull();
+        assertThat(log.payloadCompression()).isNull();
+        assertThat(log.status()).isEqualTo(AiRequestStatus.SUCCESS);
+        assertThat(log.durationMs()).isEqualTo(120L);
+        assertThat(log.timeToFirstTokenMs()).isEqualTo(15L);
+        assertThat(log.promptTokens()).isEqualTo(42L);
+        assertThat(log.completionTokens()).isEqualTo(17L);
+        assertThat(log.generationMs()).isEqualTo(850L);
+    }
+
+    @Test
+    void logFailure_ShouldAlwaysStoreRequestPayload_AndTruncateIt() {
+        logger(0.0, 10).logFailure(
+                FeatureName.MEDICAL_SUMMARY,
+                "ollama",
+                "llama3",
+                "v1",
+                REQUEST,
+                new IllegalStateException("model unavailable"),
+                300L,
+                null,
+                null
+        );
+
+        AiRequestLog log = submitted(AiRequestStatus.FAILED);
+
+        assertThat(AiPayloadCodec.decode(log.requestPayload(), log.payloadCompression())).isEqualTo("{\"note\":\"P");
+        assertThat(log.errorType()).isEqualTo("IllegalStateException");
+        assertThat(log.errorMessage()).isEqualTo("model unavailable");
+    }
+
+    @SuppressWarnings("unchecked")
+    private AiRequestLog submitted(AiRequestStatus status) {
+        ArgumentCaptor<AiRequestLog> metadata = ArgumentCaptor.forClass(AiRequestLog.class);
+        ArgumentCaptor<Supplier<AiRequestLog>> supplier = ArgumentCaptor.forClass(Supplier.class);
+
+        verify(writer).submit(metadata.capture(), supplier.capture());
+
+        AiRequestLog log = supplier.getValue().get();
+
+        assertThat(metadata.getValue().status()).isEqualTo(status);
+        assertThat(metadata.getValue().requestPayload()).isNull();
+        assertThat(metadata.getValue().responsePayload()).isNull();
+        assertThat(metadata.getValue().durationMs()).isEqualTo(log.durationMs());
+
+        return log;
+    }
+
+    private MongoAiUsageLogger logger(double payloadSampleRate, int payloadMaxLength) {
+        return new MongoAiUsageLogger(
+                writer,
+                new ObjectMapper(),
+                new AiRequestLogProperties(
+                        100,
+                        10,
+                        Duration.ofSeconds(1),
+                        AiRequestLogOverflowPolicy.DROP,
+                        0.0,
+                        Duration.ofMillis(10),
+                        Duration.ofSeconds(5),
+                        payloadSampleRate,
+                        AiPayloadCompression.GZIP,
+                        payloadMaxLength,
+                        1000
+                )
+        );
+    }
+}
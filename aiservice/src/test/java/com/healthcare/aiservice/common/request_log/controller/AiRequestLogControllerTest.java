@@ -0,0 +1,88 @@
+package com.healthcare.aiservice.common.request_log.controller;
+
+import com.healthcare.aiservice.common.provider.logging.AiPayloadCodec;
+import com.healthcare.aiservice.common.provider.logging.AiRequestStatus;
+import com.healthcare.aiservice.common.provider.logging.model.AiRequestLog;
+import com.healthcare.aiservice.common.request_log.service.AiRequestLogService;
+import com.healthcare.aiservice.common.web.converter.NormalizedStringToEnumConverterFactory;
+import com.healthcare.aiservice.config.constant.AiPayloadCompression;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.exception.rest_exception.AiRequestLogNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+
+import static com.healthcare.aiservice.common.request_log.controller.API.AiRequestLogApiPaths.REQUEST_LOG_BY_ID_ADMIN_URL;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(
+        controllers = AiRequestLogController.class,
+        properties = {
+                "auth-filter.enabled=false",
+                "request-id-filter.enabled=false",
+                "user-context-filter.enabled=false"
+        }
+)
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("AI request log controller tests: ")
+class AiRequestLogControllerTest {
+
+    private static final String REQUEST_LOG_ID = "6a462f4da54bd47af37800eb";
+    private static final String REQUEST_JSON = "{\"note\":\"Headache for two days.\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AiRequestLogService aiRequestLogService;
+
+    @MockitoBean
+    private ChatClient.Builder chatClientBuilder;
+
+    @MockitoBean
+    private NormalizedStringToEnumConverterFactory converterFactory;
+
+    @Test
+    void getRequestLog_ShouldReturnDecompressedPayload() throws Exception {
+        when(aiRequestLogService.get(REQUEST_LOG_ID)).thenReturn(AiRequestLog.builder()
+                .id(REQUEST_LOG_ID)
+                .feature(FeatureName.MEDICAL_SUMMARY)
+                .status(AiRequestStatus.FAILED)
+                .errorType("AiTimeoutException")
+                .payloadCompression(AiPayloadCompression.ZSTD)
+                .requestPayload(AiPayloadCodec.encode(REQUEST_JSON, AiPayloadCompression.ZSTD))
+                .durationMs(30_000L)
+                .createdAt(Instant.parse("2026-06-01T13:45:00Z"))
+                .build());
+
+        mockMvc.perform(get(REQUEST_LOG_BY_ID_ADMIN_URL, REQUEST_LOG_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(REQUEST_LOG_ID))
+                .andExpect(jsonPath("$.status").value("FAILED"))
+                .andExpect(jsonPath("$.request").value(REQUEST_JSON))
+                .andExpect(jsonPath("$.response").doesNotExist());
+    }
+
+    @Test
+    void getRequestLog_ShouldReturnNotFound_WhenEntryIsMissing() throws Exception {
+        when(aiRequestLogService.get(REQUEST_LOG_ID)).thenThrow(new AiRequestLogNotFoundException(REQUEST_LOG_ID));
+
+        mockMvc.perform(get(REQUEST_LOG_BY_ID_ADMIN_URL, REQUEST_LOG_ID))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -2,21 +2,26 @@ package com.healthcare.aiservice.common.statistics.controller;
 
 import com.healthcare.aiservice.common.provider.logging.AiRequestStatus;
 import com.healthcare.aiservice.common.provider.logging.model.AiRequestLog;
+import com.healthcare.aiservice.common.statistics.model.AiRequestStatsBucket;
 import com.healthcare.aiservice.config.AbstractMongoDbIntegrationTest;
 import com.healthcare.aiservice.config.constant.FeatureName;
 import com.healthcare.aiservice.repository.AiRequestLogRepository;
+import com.healthcare.aiservice.repository.AiStatisticsRollupRepository;
 import org.junit.jupiter.api.*;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.time.Instant;
+import java.util.List;
 
 import static com.healthcare.aiservice.common.statistics.controller.API.AiStatisticsApiPaths.STATISTICS_ADMIN_URL;
 import static org.hamcrest.Matchers.hasItem;
@@ -37,6 +42,12 @@ class AiStatisticsControllerIT extends AbstractMongoDbIntegrationTest {
     @Autowired
     private AiRequestLogRepository repository;
 
+    @Autowired
+    private AiStatisticsRollupRepository rollupRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
     @MockitoBean
     private ChatClient chatClient;
 
@@ -45,46 +56,55 @@ class AiStatisticsControllerIT extends AbstractMongoDbIntegrationTest {
 
     private static final String OLLAMA = "ollama";
     private static final String LLAMA_MODEL = "llama3:latest";
-    private static final String EMPTY_JSON = "{}";
+    private static final String PROMPT_VERSION = "v1/v1";
 
     @BeforeEach
     void setUp() {
         repository.deleteAll();
+        mongoTemplate.remove(new Query(), AiRequestStatsBucket.class);
+
+        List<AiRequestLog> logs = List.of(
+                AiRequestLog.builder()
+                        .feature(FeatureName.MEDICAL_SUMMARY)
+                        .provider(OLLAMA)
+                        .model(LLAMA_MODEL)
+                        .promptVersion(PROMPT_VERSION)
+                        .status(AiRequestStatus.SUCCESS)
+                        .durationMs(100L)
+                        .promptTokens(400L)
+                        .completionTokens(60L)
+                        .generationMs(1_000L)
+                        .createdAt(Instant.now())
+                        .build(),
+
+                AiRequestLog.builder()
+                        .feature(FeatureName.MEDICAL_SUMMARY)
+                        .provider(OLLAMA)
+                        .model(LLAMA_MODEL)
+                        .promptVersion(PROMPT_VERSION)
+                        .status(AiRequestStatus.SUCCESS)
+                        .durationMs(200L)
+                        .promptTokens(500L)
+                        .completionTokens(90L)
+                        .generationMs(2_000L)
+                        .createdAt(Instant.now())
+                        .build(),
+
+                AiRequestLog.builder()
+                        .feature(FeatureName.MESSAGE_CLASSIFICATION)
+                        .provider(OLLAMA)
+                        .model(LLAMA_MODEL)
+                        .promptVersion(PROMPT_VERSION)
+                        .status(AiRequestStatus.FAILED)
+                        .durationMs(300L)
+                        .errorType("JsonExtractorException")
+                        .errorMessage("JSON object not found")
+                        .createdAt(Instant.now())
+                        .build()
+        );
 
-        repository.save(AiRequestLog.builder()
-                .feature(FeatureName.MEDICAL_SUMMARY)
-                .provider(OLLAMA)
-                .model(LLAMA_MODEL)
-                .request(EMPTY_JSON)
-                .response(EMPTY_JSON)
-                .status(AiRequestStatus.SUCCESS)
-                .durationMs(100L)
-                .createdAt(Instant.now())
-                .build());
-
-        repository.save(AiRequestLog.builder()
-                .feature(FeatureName.MEDICAL_SUMMARY)
-                .provider(OLLAMA)
-                .model(LLAMA_MODEL)
-                .request(EMPTY_JSON)
-                .response(EMPTY_JSON)
-                .status(AiRequestStatus.SUCCESS)
-                .durationMs(200L)
-                .createdAt(Instant.now())
-                .build());
-
-        repository.save(AiRequestLog.builder()
-                .feature(FeatureName.MESSAGE_CLASSIFICATION)
-                .provider(OLLAMA)
-                .model(LLAMA_MODEL)
-                .request(EMPTY_JSON)
-                .response(EMPTY_JSON)
-                .status(AiRequestStatus.FAILED)
-                .durationMs(300L)
-                .errorType("JsonExtractorException")
-                .errorMessage("JSON object not found")
-                .createdAt(Instant.now())
-                .build());
+        repository.saveAll(logs);
+        rollupRepository.record(logs);
     }
 
     @Test
@@ -95,11 +115,39 @@ class AiStatisticsControllerIT extends AbstractMongoDbIntegrationTest {
                 .andExpect(jsonPath("$.successfulRequests").value(2))
                 .andExpect(jsonPath("$.failedRequests").value(1))
                 .andExpect(jsonPath("$.averageDurationMs").value(200))
+                .andExpect(jsonPath("$.minDurationMs").value(100))
+                .andExpect(jsonPath("$.maxDurationMs").value(300))
+                .andExpect(jsonPath("$.latency.p50Ms").value(200))
+                .andExpect(jsonPath("$.latencyBreakdown.length()").value(2))
+                .andExpect(jsonPath("$.latencyBreakdown[0].feature").value(FeatureName.MEDICAL_SUMMARY.name()))
+                .andExpect(jsonPath("$.latencyBreakdown[0].promptVersion").value(PROMPT_VERSION))
+                .andExpect(jsonPath("$.latencyBreakdown[0].requests").value(2))
+                .andExpect(jsonPath("$.tokenUsage.promptTokens").value(900))
+                .andExpect(jsonPath("$.tokenUsage.completionTokens").value(150))
+                .andExpect(jsonPath("$.tokenUsage.tokensPerSecond").value(50.0))
+                .andExpect(jsonPath("$.tokenUsageByBucket[0].granularity").value("MINUTE"))
                 .andExpect(jsonPath(featureStatisticsJsonPath(FeatureName.MEDICAL_SUMMARY)).value(hasItem(2)))
                 .andExpect(jsonPath(featureStatisticsJsonPath(FeatureName.MESSAGE_CLASSIFICATION)).value(hasItem(1)))
                 .andExpect(jsonPath(featureStatisticsJsonPath(FeatureName.MEDICAL_EXTRACTION)).value(hasItem(0)));
     }
 
+    @Test
+    void getStatistics_ShouldReturnEmptyStatistics_WhenWindowHasNoRequests() throws Exception {
+        mockMvc.perform(get(STATISTICS_ADMIN_URL)
+                        .param("from", "2020-01-01T00:00:00Z")
+                        .param("to", "2020-01-02T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRequests").value(0));
+    }
+
+    @Test
+    void getStatistics_ShouldReturn400_WhenWindowIsInverted() throws Exception {
+        mockMvc.perform(get(STATISTICS_ADMIN_URL)
+                        .param("from", "2020-01-02T00:00:00Z")
+                        .param("to", "2020-01-01T00:00:00Z"))
+                .andExpect(status().isBadRequest());
+    }
+
     private String featureStatisticsJsonPath(FeatureName feature) {
         return "requestsByFeature[?(@.feature=='" + feature + "')].requests";
     }
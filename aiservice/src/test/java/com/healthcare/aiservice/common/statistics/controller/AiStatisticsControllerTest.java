@@ -18,9 +18,11 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.List;
 
 import static com.healthcare.aiservice.common.statistics.controller.API.AiStatisticsApiPaths.STATISTICS_ADMIN_URL;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -69,7 +71,7 @@ class AiStatisticsControllerTest {
                 ))
                 .build();
 
-        when(statisticsService.getStatistic()).thenReturn(response);
+        when(statisticsService.getStatistic(isNull(), isNull())).thenReturn(response);
 
         mockMvc.perform(get(STATISTICS_ADMIN_URL))
                 .andExpect(status().isOk())
@@ -84,4 +86,21 @@ class AiStatisticsControllerTest {
                 .andExpect(jsonPath("$.requestsByFeature[2].feature").value(FeatureName.MESSAGE_CLASSIFICATION.name()))
                 .andExpect(jsonPath("$.requestsByFeature[2].requests").value(8));
     }
+
+    @Test
+    void getStatistics_ShouldPassTimeWindow_WhenRangeIsProvided() throws Exception {
+        Instant from = Instant.parse("2025-01-01T00:00:00Z");
+        Instant to = Instant.parse("2025-01-02T00:00:00Z");
+
+        when(statisticsService.getStatistic(from, to))
+                .thenReturn(AiStatisticsResponse.empty(from, to));
+
+        mockMvc.perform(get(STATISTICS_ADMIN_URL)
+                        .param("from", "2025-01-01T00:00:00Z")
+                        .param("to", "2025-01-02T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from").value("2025-01-01T00:00:00Z"))
+                .andExpect(jsonPath("$.to").value("2025-01-02T00:00:00Z"))
+                .andExpect(jsonPath("$.totalRequests").value(0));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.healthcare.aiservice.common.statistics.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("Statistics bucket range planning tests: ")
+class StatsBucketRangeTest {
+
+    private static final Instant RETENTION_BOUNDARY = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    void plan_ShouldUseMinuteBucketsForEdgesAndHourBucketsInBetween() {
+        List<StatsBucketRange> ranges = StatsBucketRange.plan(
+                instant("2025-01-02T10:15:30Z"),
+                instant("2025-01-02T13:20:10Z"),
+                RETENTION_BOUNDARY
+        );
+
+        assertThat(ranges).containsExactly(
+                range(StatsGranularity.MINUTE, "2025-01-02T10:15:00Z", "2025-01-02T11:00:00Z"),
+                range(StatsGranularity.HOUR, "2025-01-02T11:00:00Z", "2025-01-02T13:00:00Z"),
+                range(StatsGranularity.MINUTE, "2025-01-02T13:00:00Z", "2025-01-02T13:21:00Z")
+        );
+    }
+
+    @Test
+    void plan_ShouldUseOnlyHourBuckets_WhenRangeIsHourAligned() {
+        List<StatsBucketRange> ranges = StatsBucketRange.plan(
+                instant("2025-01-02T10:00:00Z"),
+                instant("2025-01-02T12:00:00Z"),
+                RETENTION_BOUNDARY
+        );
+
+        assertThat(ranges).containsExactly(
+                range(StatsGranularity.HOUR, "2025-01-02T10:00:00Z", "2025-01-02T12:00:00Z")
+        );
+    }
+
+    @Test
+    void plan_ShouldUseOnlyMinuteBuckets_WhenRangeIsWithinOneHour() {
+        List<StatsBucketRange> ranges = StatsBucketRange.plan(
+                instant("2025-01-02T10:15:00Z"),
+                instant("2025-01-02T10:45:00Z"),
+                RETENTION_BOUNDARY
+        );
+
+        assertThat(ranges).containsExactly(
+                range(StatsGranularity.MINUTE, "2025-01-02T10:15:00Z", "2025-01-02T10:45:00Z")
+        );
+    }
+
+    @Test
+    void plan_ShouldWidenEdgesToHours_WhenMinuteBucketsAreExpired() {
+        List<StatsBucketRange> ranges = StatsBucketRange.plan(
+                instant("2024-12-30T10:15:00Z"),
+                instant("2025-01-02T13:20:00Z"),
+                RETENTION_BOUNDARY
+        );
+
+        assertThat(ranges).containsExactly(
+                range(StatsGranularity.HOUR, "2024-12-30T10:00:00Z", "2025-01-02T13:00:00Z"),
+                range(StatsGranularity.MINUTE, "2025-01-02T13:00:00Z", "2025-01-02T13:20:00Z")
+        );
+    }
+
+    private static Instant instant(String value) {
+        return Instant.parse(value);
+    }
+
+    private static StatsBucketRange range(StatsGranularity granularity, String from, String to) {
+        return new StatsBucketRange(granularity, instant(from), instant(to));
+    }
+}
@@ -3,22 +3,38 @@ package com.healthcare.aiservice.common.statistics.service;
 
 
 import com.healthcare.aiservice.common.statistics.dto.AiStatisticsResponse;
+import com.healthcare.aiservice.common.statistics.dto.LatencyStatistics;
+import com.healthcare.aiservice.common.statistics.dto.TokenUsageBucketStatistics;
+import com.healthcare.aiservice.common.statistics.model.LatencyHistograms;
+import com.healthcare.aiservice.common.statistics.model.StatsGranularity;
 import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.propertie.AiStatisticsProperties;
+import com.healthcare.aiservice.exception.rest_exception.InvalidStatisticsRangeException;
 import com.healthcare.aiservice.repository.MongoTemplateAiStatisticsRepository;
 import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
 import java.util.List;
 
 import static com.healthcare.aiservice.common.statistics.constnats.AiStatisticsAggregationConstants.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.withinPercentage;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -26,22 +42,38 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class MongoTemplateAiStatisticsServiceTest {
 
+    private static final Duration DEFAULT_WINDOW = Duration.ofDays(30);
+    private static final Instant FROM = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2025-01-02T00:00:00Z");
+    private static final String MODEL = "llama3:latest";
+
     @Mock
     private MongoTemplateAiStatisticsRepository repository;
 
-    @InjectMocks
     private MongoTemplateAiStatisticsService service;
 
+    @BeforeEach
+    void setUp() {
+        service = new MongoTemplateAiStatisticsService(
+                repository,
+                new AiStatisticsProperties(DEFAULT_WINDOW, Duration.ofDays(2), Duration.ofDays(400))
+        );
+    }
+
     @Test
     void getStatistic_ShouldReturnEmptyStatistics_WhenRepositoryReturnsNull() {
-        when(repository.getAiStatistics()).thenReturn(null);
+        when(repository.getAiStatistics(FROM, TO)).thenReturn(null);
 
-        AiStatisticsResponse result = service.getStatistic();
+        AiStatisticsResponse result = service.getStatistic(FROM, TO);
 
+        assertThat(result.from()).isEqualTo(FROM);
+        assertThat(result.to()).isEqualTo(TO);
         assertThat(result.totalRequests()).isZero();
         assertThat(result.successfulRequests()).isZero();
         assertThat(result.failedRequests()).isZero();
         assertThat(result.averageDurationMs()).isZero();
+        assertThat(result.minDurationMs()).isZero();
+        assertThat(result.maxDurationMs()).isZero();
 
         assertThat(result.requestsByFeature())
                 .hasSize(FeatureName.values().length)
@@ -61,7 +93,10 @@ class MongoTemplateAiStatisticsServiceTest {
                         new Document(KEY_COUNT, 5L)
                 ))
                 .append(FACET_AVERAGE, List.of(
-                        new Document(KEY_AVERAGE_DURATION_MS, 843.4)
+                        new Document(KEY_COUNT, 125L)
+                                .append(KEY_DURATION_SUM_MS, 105_425L)
+                                .append(KEY_MIN_DURATION_MS, 112L)
+                                .append(KEY_MAX_DURATION_MS, 4210L)
                 ))
                 .append(FACET_BY_FEATURE, List.of(
                         new Document(KEY_ID, FeatureName.MEDICAL_SUMMARY.name())
@@ -70,14 +105,16 @@ class MongoTemplateAiStatisticsServiceTest {
                                 .append(KEY_COUNT, 40L)
                 ));
 
-        when(repository.getAiStatistics()).thenReturn(aggregationResult);
+        when(repository.getAiStatistics(FROM, TO)).thenReturn(aggregationResult);
 
-        AiStatisticsResponse result = service.getStatistic();
+        AiStatisticsResponse result = service.getStatistic(FROM, TO);
 
         assertThat(result.totalRequests()).isEqualTo(125L);
         assertThat(result.successfulRequests()).isEqualTo(120L);
         assertThat(result.failedRequests()).isEqualTo(5L);
         assertThat(result.averageDurationMs()).isEqualTo(843L);
+        assertThat(result.minDurationMs()).isEqualTo(112L);
+        assertThat(result.maxDurationMs()).isEqualTo(4210L);
 
         assertThat(result.requestsByFeature())
                 .anySatisfy(stat -> {
@@ -100,15 +137,15 @@ class MongoTemplateAiStatisticsServiceTest {
                 .append(FACET_TOTAL, List.of(new Document(KEY_COUNT, 1L)))
                 .append(FACET_SUCCESSFUL, List.of(new Document(KEY_COUNT, 1L)))
                 .append(FACET_FAILED, List.of(new Document(KEY_COUNT, 0L)))
-                .append(FACET_AVERAGE, List.of(new Document(KEY_AVERAGE_DURATION_MS, 100.0)))
+                .append(FACET_AVERAGE, List.of(new Document(KEY_COUNT, 1L).append(KEY_DURATION_SUM_MS, 100L)))
                 .append(FACET_BY_FEATURE, List.of(
                         new Document(KEY_ID, "UNKNOWN_FEATURE")
                                 .append(KEY_COUNT, 99L)
                 ));
 
-        when(repository.getAiStatistics()).thenReturn(aggregationResult);
+        when(repository.getAiStatistics(FROM, TO)).thenReturn(aggregationResult);
 
-        AiStatisticsResponse result = service.getStatistic();
+        AiStatisticsResponse result = service.getStatistic(FROM, TO);
 
         assertThat(result.requestsByFeature())
                 .hasSize(FeatureName.values().length)
@@ -124,10 +161,150 @@ class MongoTemplateAiStatisticsServiceTest {
                 .append(FACET_AVERAGE, List.of())
                 .append(FACET_BY_FEATURE, List.of());
 
-        when(repository.getAiStatistics()).thenReturn(aggregationResult);
+        when(repository.getAiStatistics(FROM, TO)).thenReturn(aggregationResult);
 
-        AiStatisticsResponse result = service.getStatistic();
+        AiStatisticsResponse result = service.getStatistic(FROM, TO);
 
         assertThat(result.averageDurationMs()).isZero();
     }
-}
\ No newline at end of file
+
+    @Test
+    void getStatistic_ShouldReturnLatencyPercentilesByFeatureModelAndPromptVersion() {
+        Document aggregationResult = new Document()
+                .append(FACET_LATENCY, List.of(
+                        latencyDocument(FeatureName.MEDICAL_SUMMARY, "v2/v3", List.of(
+                                latencyBucket(100L, 90L),
+                                latencyBucket(1000L, 9L),
+                                latencyBucket(5000L, 1L)
+                        )),
+                        latencyDocument(FeatureName.MEDICAL_SUMMARY, "v1/v1", List.of(
+                                latencyBucket(300L, 100L)
+                        )),
+                        latencyDocument("UNKNOWN_FEATURE", "v1/v1", List.of(
+                                latencyBucket(300L, 100L)
+                        ))
+                ));
+
+        when(repository.getAiStatistics(FROM, TO)).thenReturn(aggregationResult);
+
+        AiStatisticsResponse result = service.getStatistic(FROM, TO);
+
+        assertThat(result.latencyBreakdown())
+                .extracting(LatencyStatistics::promptVersion)
+                .containsExactly("v1/v1", "v2/v3");
+
+        LatencyStatistics latest = result.latencyBreakdown().get(1);
+
+        assertThat(latest.feature()).isEqualTo(FeatureName.MEDICAL_SUMMARY);
+        assertThat(latest.model()).isEqualTo(MODEL);
+        assertThat(latest.requests()).isEqualTo(100L);
+        assertThat(latest.latency().p50Ms()).isCloseTo(100L, withinPercentage(1));
+        assertThat(latest.latency().p95Ms()).isCloseTo(1000L, withinPercentage(1));
+        assertThat(latest.latency().p99Ms()).isCloseTo(1000L, withinPercentage(1));
+
+        assertThat(result.latency().p50Ms()).isCloseTo(300L, withinPercentage(1));
+        assertThat(result.latency().p95Ms()).isCloseTo(300L, withinPercentage(1));
+    }
+
+    @Test
+    void getStatistic_ShouldReturnTokenTotalsAndThroughputPerBucket() {
+        Instant minute = Instant.parse("2025-01-01T00:59:00Z");
+        Instant hour = Instant.parse("2025-01-01T01:00:00Z");
+
+        Document aggregationResult = new Document()
+                .append(FACET_AVERAGE, List.of(new Document(KEY_COUNT, 3L)
+                        .append(KEY_PROMPT_TOKENS, 900L)
+                        .append(KEY_COMPLETION_TOKENS, 300L)
+                        .append(KEY_GENERATION_MS, 6_000L)))
+                .append(FACET_TOKENS, List.of(
+                        tokenDocument(StatsGranularity.MINUTE.name(), minute, 300L, 100L, 1_000L),
+                        tokenDocument(StatsGranularity.HOUR.name(), hour, 600L, 200L, 5_000L),
+                        tokenDocument("DAY", hour, 1L, 1L, 1L)
+                ));
+
+        when(repository.getAiStatistics(FROM, TO)).thenReturn(aggregationResult);
+
+        AiStatisticsResponse result = service.getStatistic(FROM, TO);
+
+        assertThat(result.tokenUsage().promptTokens()).isEqualTo(900L);
+        assertThat(result.tokenUsage().completionTokens()).isEqualTo(300L);
+        assertThat(result.tokenUsage().tokensPerSecond()).isEqualTo(50.0);
+
+        assertThat(result.tokenUsageByBucket())
+                .extracting(TokenUsageBucketStatistics::bucketStart, TokenUsageBucketStatistics::granularity)
+                .containsExactly(
+                        tuple(minute, StatsGranularity.MINUTE),
+                        tuple(hour, StatsGranularity.HOUR)
+                );
+        assertThat(result.tokenUsageByBucket().get(0).tokenUsage().tokensPerSecond()).isEqualTo(100.0);
+        assertThat(result.tokenUsageByBucket().get(1).tokenUsage().tokensPerSecond()).isEqualTo(40.0);
+    }
+
+    @Test
+    void getStatistic_ShouldReturnEmptyLatency_WhenLatencyFacetIsMissing() {
+        when(repository.getAiStatistics(FROM, TO)).thenReturn(new Document());
+
+        AiStatisticsResponse result = service.getStatistic(FROM, TO);
+
+        assertThat(result.latencyBreakdown()).isEmpty();
+        assertThat(result.latency().p99Ms()).isZero();
+    }
+
+    @Test
+    void getStatistic_ShouldUseDefaultWindowEndingAtTo_WhenFromIsMissing() {
+        AiStatisticsResponse result = service.getStatistic(null, TO);
+
+        assertThat(result.from()).isEqualTo(TO.minus(DEFAULT_WINDOW));
+        assertThat(result.to()).isEqualTo(TO);
+        verify(repository).getAiStatistics(TO.minus(DEFAULT_WINDOW), TO);
+    }
+
+    @Test
+    void getStatistic_ShouldUseDefaultWindowEndingNow_WhenRangeIsMissing() {
+        Instant before = Instant.now();
+
+        AiStatisticsResponse result = service.getStatistic(null, null);
+
+        assertThat(result.to()).isAfterOrEqualTo(before);
+        assertThat(Duration.between(result.from(), result.to())).isEqualTo(DEFAULT_WINDOW);
+        verify(repository).getAiStatistics(any(Instant.class), eq(result.to()));
+    }
+
+    @Test
+    void getStatistic_ShouldThrowInvalidStatisticsRangeException_WhenFromIsNotBeforeTo() {
+        assertThatThrownBy(() -> service.getStatistic(TO, FROM))
+                .isInstanceOf(InvalidStatisticsRangeException.class);
+
+        verifyNoInteractions(repository);
+    }
+
+    private static Document latencyDocument(FeatureName feature, String promptVersion, List<Document> buckets) {
+        return latencyDocument(feature.name(), promptVersion, buckets);
+    }
+
+    private static Document latencyDocument(String feature, String promptVersion, List<Document> buckets) {
+        return new Document(KEY_ID, new Document(FIELD_FEATURE, feature)
+                .append(FIELD_MODEL, MODEL)
+                .append(FIELD_PROMPT_VERSION, promptVersion))
+                .append(KEY_BUCKETS, buckets);
+    }
+
+    private static Document latencyBucket(long durationMs, long count) {
+        return new Document(KEY_BUCKET, LatencyHistograms.bucketOf(durationMs))
+                .append(KEY_COUNT, count);
+    }
+
+    private static Document tokenDocument(
+            String granularity,
+            Instant bucketStart,
+            long promptTokens,
+            long completionTokens,
+            long generationMs
+    ) {
+        return new Document(KEY_ID, new Document(FIELD_GRANULARITY, granularity)
+                .append(FIELD_BUCKET_START, Date.from(bucketStart)))
+                .append(KEY_PROMPT_TOKENS, promptTokens)
+                .append(KEY_COMPLETION_TOKENS, completionTokens)
+                .append(KEY_GENERATION_MS, generationMs);
+    }
+}
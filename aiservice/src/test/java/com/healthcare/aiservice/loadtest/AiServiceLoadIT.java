@@ -0,0 +1,230 @@
+package com.healthcare.aiservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.aiservice.common.medical_extraction.dto.MedicalInfoExtractionRequest;
+import com.healthcare.aiservice.common.medical_summary.dto.MedicalSummaryRequest;
+import com.healthcare.aiservice.common.message_classification.dto.MessageClassificationRequest;
+import com.healthcare.aiservice.common.provider.fake.FakeAiConfiguration;
+import com.healthcare.aiservice.config.AbstractMongoRedisIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.healthcare.aiservice.common.medical_extraction.controller.API.MedicalInfoExtractionApiPaths.EXTRACT_MEDICAL_INFO_URL;
+import static com.healthcare.aiservice.common.medical_summary.controller.API.MedicalSummaryApiPaths.MEDICAL_NOTE_SUMMARY_URL;
+import static com.healthcare.aiservice.common.message_classification.controller.API.MessageClassificationApiPaths.CLASSIFY_MESSAGE_URL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Drives the feature endpoints against {@link com.healthcare.aiservice.common.provider.fake.FakeChatModel}
+ * at a fixed arrival rate and reports throughput, latency percentiles, admission queueing and the time
+ * spent in Mongo and Redis. Arrivals are open-loop: latency is measured from the scheduled start, so a
+ * saturated service shows up as latency instead of a silently lower request rate.
+ *
+ * <pre>
+ * mvn test -Dtest=AiServiceLoadIT -Dload-test.enabled=true -Dload-test.rps=50 -Dload-test.duration=PT1M
+ * </pre>
+ */
+@Slf4j
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles(FakeAiConfiguration.PROFILE)
+@EnabledIfSystemProperty(named = "load-test.enabled", matches = "true")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("AI service load tests: ")
+class AiServiceLoadIT extends AbstractMongoRedisIntegrationTest {
+
+    private static final String ADMISSION_QUEUE_WAIT_METRIC = "ai.admission.queue.wait";
+    private static final String MONGO_COMMANDS_METRIC = "mongodb.driver.commands";
+    private static final String REDIS_COMMANDS_METRIC = "lettuce.command.completion";
+
+    private static final long MAX_TRACKED_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private static final List<String> ENDPOINTS = List.of(
+            CLASSIFY_MESSAGE_URL,
+            EXTRACT_MEDICAL_INFO_URL,
+            MEDICAL_NOTE_SUMMARY_URL
+    );
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private DiscoveryClient discoveryClient;
+
+    @Test
+    void featureEndpoints_ShouldSustainConfiguredRate() throws Exception {
+        LoadSettings settings = LoadSettings.fromSystemProperties();
+        long totalRequests = settings.rps() * settings.duration().toSeconds();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.rps();
+
+        Histogram latency = new ConcurrentHistogram(MAX_TRACKED_NANOS, 3);
+        Histogram clientQueueing = new ConcurrentHistogram(MAX_TRACKED_NANOS, 3);
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        TimerTotals admissionBefore = totals(ADMISSION_QUEUE_WAIT_METRIC);
+        TimerTotals mongoBefore = totals(MONGO_COMMANDS_METRIC);
+        TimerTotals redisBefore = totals(REDIS_COMMANDS_METRIC);
+
+        ExecutorService workers = Executors.newFixedThreadPool(settings.workers());
+        long startNanos = System.nanoTime();
+
+        try {
+            for (long i = 0; i < totalRequests; i++) {
+                long scheduledNanos = startNanos + i * intervalNanos;
+                long index = i;
+
+                LockSupport.parkNanos(scheduledNanos - System.nanoTime());
+
+                workers.execute(() -> {
+                    clientQueueing.recordValue(Math.max(0L, System.nanoTime() - scheduledNanos));
+
+                    int status = send(index, settings.distinctNotes());
+
+                    latency.recordValue(Math.min(MAX_TRACKED_NANOS, System.nanoTime() - scheduledNanos));
+                    statuses.computeIfAbsent(status, ignored -> new LongAdder()).increment();
+                });
+            }
+        } finally {
+            workers.shutdown();
+        }
+
+        assertThat(workers.awaitTermination(10, TimeUnit.MINUTES)).isTrue();
+
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+
+        log.info("""
+
+                        AI service load test: {} requests at {} rps over {}
+                          throughput:        {} req/s
+                          statuses:          {}
+                          latency ms:        p50={} p95={} p99={} max={}
+                          client queueing:   p99={} ms
+                          admission queue:   {}
+                          mongo commands:    {}
+                          redis commands:    {}""",
+                totalRequests,
+                settings.rps(),
+                settings.duration(),
+                "%.1f".formatted(totalRequests / elapsedSeconds),
+                statuses,
+                millis(latency, 50.0),
+                millis(latency, 95.0),
+                millis(latency, 99.0),
+                "%.1f".formatted(latency.getMaxValue() / 1e6),
+                millis(clientQueueing, 99.0),
+                totals(ADMISSION_QUEUE_WAIT_METRIC).minus(admissionBefore).describe(totalRequests),
+                totals(MONGO_COMMANDS_METRIC).minus(mongoBefore).describe(totalRequests),
+                totals(REDIS_COMMANDS_METRIC).minus(redisBefore).describe(totalRequests)
+        );
+
+        assertThat(latency.getTotalCount()).isEqualTo(totalRequests);
+        assertThat(statuses).containsKey(200);
+    }
+
+    private int send(long index, int distinctNotes) {
+        String endpoint = ENDPOINTS.get((int) (index % ENDPOINTS.size()));
+        String note = "Patient %d reports headache and fever for three days and asks to move the appointment."
+                .formatted(index % distinctNotes);
+
+        try {
+            return mockMvc.perform(post(endpoint)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request(endpoint, note))))
+                    .andReturn()
+                    .getResponse()
+                    .getStatus();
+        } catch (Exception ex) {
+            log.warn("Load test request failed. endpoint={}, error={}", endpoint, ex.toString());
+            return 0;
+        }
+    }
+
+    private static Object request(String endpoint, String note) {
+        return switch (endpoint) {
+            case CLASSIFY_MESSAGE_URL -> new MessageClassificationRequest(note);
+            case EXTRACT_MEDICAL_INFO_URL -> new MedicalInfoExtractionRequest(note);
+            default -> new MedicalSummaryRequest(note);
+        };
+    }
+
+    private TimerTotals totals(String metric) {
+        long count = 0L;
+        double totalNanos = 0.0;
+
+        for (Timer timer : meterRegistry.find(metric).timers()) {
+            count += timer.count();
+            totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+        }
+
+        return new TimerTotals(count, totalNanos);
+    }
+
+    private static String millis(Histogram histogram, double percentile) {
+        return "%.1f".formatted(histogram.getValueAtPercentile(percentile) / 1e6);
+    }
+
+    private record TimerTotals(long count, double totalNanos) {
+
+        private TimerTotals minus(TimerTotals other) {
+            return new TimerTotals(count - other.count, totalNanos - other.totalNanos);
+        }
+
+        private String describe(long requests) {
+            if (count == 0L) {
+                return "no samples";
+            }
+
+            return "%d calls, %.1f ms total, %.2f ms per request, %.2f ms mean".formatted(
+                    count,
+                    totalNanos / 1e6,
+                    totalNanos / 1e6 / requests,
+                    totalNanos / 1e6 / count
+            );
+        }
+    }
+
+    private record LoadSettings(int rps, Duration duration, int workers, int distinctNotes) {
+
+        private static LoadSettings fromSystemProperties() {
+            return new LoadSettings(
+                    Integer.getInteger("load-test.rps", 20),
+                    Duration.parse(System.getProperty("load-test.duration", "PT30S")),
+                    Integer.getInteger("load-test.workers", 200),
+                    Integer.getInteger("load-test.distinct-notes", 1_000)
+            );
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.healthcare.aiservice.repository;
+
+import com.healthcare.aiservice.common.ai_job.model.AiJob;
+import com.healthcare.aiservice.common.ai_job.model.AiJobStatus;
+import com.healthcare.aiservice.config.AbstractMongoDbIntegrationTest;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.exception.dto.ErrorResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DataMongoTest(properties = {
+        "spring.data.mongodb.auto-index-creation=true"
+})
+@Import(MongoTemplateAiJobQueueRepository.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("AI job queue repository integration tests: ")
+class MongoTemplateAiJobQueueRepositoryIntegrationTest
+        extends AbstractMongoDbIntegrationTest {
+
+    private static final Instant NOW =
+            Instant.parse("2026-07-28T10:00:00Z");
+
+    private static final Duration LEASE =
+            Duration.ofMinutes(5);
+
+    @Autowired
+    private AiJobRepository jobRepository;
+
+    @Autowired
+    private AiJobQueueRepository queueRepository;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository.deleteAll();
+    }
+
+    @Test
+    void claimNext_ShouldClaimOldestQueuedJobOnce() {
+        AiJob older = jobRepository.insert(queuedJob("hash-1", NOW.minusSeconds(10)));
+        jobRepository.insert(queuedJob("hash-2", NOW));
+
+        AiJob claimed = queueRepository.claimNext(NOW, NOW.plus(LEASE)).orElseThrow();
+
+        assertThat(claimed.id()).isEqualTo(older.id());
+        assertThat(claimed.status()).isEqualTo(AiJobStatus.RUNNING);
+        assertThat(claimed.attempts()).isEqualTo(1);
+        assertThat(queueRepository.claimNext(NOW, NOW.plus(LEASE)).orElseThrow().id())
+                .isNotEqualTo(older.id());
+        assertThat(queueRepository.claimNext(NOW, NOW.plus(LEASE))).isEmpty();
+    }
+
+    @Test
+    void claimNext_ShouldReclaimJob_WhenLeaseHasExpired() {
+        jobRepository.insert(queuedJob("hash-1", NOW));
+        AiJob first = queueRepository.claimNext(NOW, NOW.plus(LEASE)).orElseThrow();
+
+        Instant afterLease = NOW.plus(LEASE).plusSeconds(1);
+        AiJob second = queueRepository.claimNext(afterLease, afterLease.plus(LEASE)).orElseThrow();
+
+        assertThat(second.id()).isEqualTo(first.id());
+        assertThat(second.attempts()).isEqualTo(2);
+        assertThat(queueRepository.complete(first, "{}", afterLease, afterLease)).isFalse();
+        assertThat(queueRepository.complete(second, "{}", afterLease, afterLease)).isTrue();
+        assertThat(jobRepository.findById(first.id()).orElseThrow().status()).isEqualTo(AiJobStatus.SUCCEEDED);
+    }
+
+    @Test
+    void claimNext_ShouldNotClaimReleasedJob_BeforeItsRetryTime() {
+        jobRepository.insert(queuedJob("hash-1", NOW));
+        AiJob claimed = queueRepository.claimNext(NOW, NOW.plus(LEASE)).orElseThrow();
+        Instant retryAt = NOW.plusSeconds(5);
+
+        assertThat(queueRepository.release(claimed, retryAt)).isTrue();
+        assertThat(queueRepository.claimNext(NOW.plusSeconds(1), NOW.plus(LEASE))).isEmpty();
+
+        AiJob reclaimed = queueRepository.claimNext(retryAt, retryAt.plus(LEASE)).orElseThrow();
+
+        assertThat(reclaimed.id()).isEqualTo(claimed.id());
+        assertThat(reclaimed.attempts()).isEqualTo(2);
+        assertThat(reclaimed.notBefore()).isNull();
+    }
+
+    @Test
+    void requeueFailed_ShouldResetFailedJob() {
+        jobRepository.insert(queuedJob("hash-1", NOW));
+        AiJob claimed = queueRepository.claimNext(NOW, NOW.plus(LEASE)).orElseThrow();
+        ErrorResponse error = ErrorResponse.builder().status(502).error("AI_RESPONSE_PARSING_ERROR").build();
+
+        assertThat(queueRepository.fail(claimed, error, NOW, NOW.plus(Duration.ofDays(1)))).isTrue();
+
+        AiJob requeued = queueRepository.requeueFailed("hash-1", NOW.plusSeconds(1)).orElseThrow();
+
+        assertThat(requeued.status()).isEqualTo(AiJobStatus.QUEUED);
+        assertThat(requeued.attempts()).isZero();
+        assertThat(requeued.error()).isNull();
+        assertThat(requeued.expiresAt()).isNull();
+    }
+
+    @Test
+    void insert_ShouldRejectSecondJobWithSameInputHash() {
+        jobRepository.insert(queuedJob("hash-1", NOW));
+
+        assertThatThrownBy(() -> jobRepository.insert(queuedJob("hash-1", NOW)))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    private static AiJob queuedJob(String inputHash, Instant createdAt) {
+        return AiJob.builder()
+                .feature(FeatureName.MEDICAL_SUMMARY)
+                .note("Patient reports headache.")
+                .inputHash(inputHash)
+                .status(AiJobStatus.QUEUED)
+                .createdAt(createdAt)
+                .build();
+    }
+}
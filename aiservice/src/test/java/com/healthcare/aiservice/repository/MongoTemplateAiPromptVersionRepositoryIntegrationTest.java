@@ -0,0 +1,99 @@
+package com.healthcare.aiservice.repository;
+
+import com.healthcare.aiservice.common.prompt.model.AiPrompt;
+import com.healthcare.aiservice.common.prompt.model.AiPromptKey;
+import com.healthcare.aiservice.config.AbstractMongoDbIntegrationTest;
+import com.healthcare.aiservice.config.constant.AiProviderModel;
+import com.healthcare.aiservice.config.constant.FeatureName;
+import com.healthcare.aiservice.config.constant.PromptType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DataMongoTest(properties = {
+        "spring.data.mongodb.auto-index-creation=true"
+})
+@Import(MongoTemplateAiPromptVersionRepository.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("AI prompt version repository integration tests: ")
+class MongoTemplateAiPromptVersionRepositoryIntegrationTest
+        extends AbstractMongoDbIntegrationTest {
+
+    private static final AiPromptKey PROMPT_KEY =
+            new AiPromptKey(
+                    FeatureName.MEDICAL_SUMMARY,
+                    PromptType.SYSTEM,
+                    AiProviderModel.LLAMA_3
+            );
+
+    @Autowired
+    private AiPromptRepository repository;
+
+    @Autowired
+    private MongoTemplateAiPromptVersionRepository versionRepository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+
+        LongStream.rangeClosed(1, 5)
+                .forEach(version -> repository.save(createPrompt(PROMPT_KEY.feature(), version)));
+
+        repository.save(createPrompt(FeatureName.MESSAGE_CLASSIFICATION, 9L));
+    }
+
+    @Test
+    void findVersions_ShouldReturnPagesInDescendingVersionOrder_WhenKeyedByLastVersion() {
+        List<AiPrompt> firstPage =
+                versionRepository.findVersions(PROMPT_KEY, null, 2, false);
+
+        List<AiPrompt> secondPage =
+                versionRepository.findVersions(PROMPT_KEY, firstPage.get(1).version(), 2, false);
+
+        List<AiPrompt> lastPage =
+                versionRepository.findVersions(PROMPT_KEY, secondPage.get(1).version(), 2, false);
+
+        assertThat(firstPage).extracting(AiPrompt::version).containsExactly(5L, 4L);
+        assertThat(secondPage).extracting(AiPrompt::version).containsExactly(3L, 2L);
+        assertThat(lastPage).extracting(AiPrompt::version).containsExactly(1L);
+    }
+
+    @Test
+    void findVersions_ShouldExcludeContent_UnlessRequested() {
+        assertThat(versionRepository.findVersions(PROMPT_KEY, null, 5, false))
+                .hasSize(5)
+                .allSatisfy(prompt -> {
+                    assertThat(prompt.content()).isNull();
+                    assertThat(prompt.feature()).isEqualTo(PROMPT_KEY.feature());
+                });
+
+        assertThat(versionRepository.findVersions(PROMPT_KEY, null, 5, true))
+                .extracting(AiPrompt::content)
+                .containsExactly("content 5", "content 4", "content 3", "content 2", "content 1");
+    }
+
+    private AiPrompt createPrompt(FeatureName feature, long version) {
+        return AiPrompt.builder()
+                .feature(feature)
+                .type(PROMPT_KEY.type())
+                .targetModel(PROMPT_KEY.targetModel())
+                .version(version)
+                .content("content " + version)
+                .active(false)
+                .createdByUserId("system")
+                .createdByUsername("system")
+                .build();
+    }
+}
@@ -36,6 +36,7 @@ import static com.healthcare.aiservice.common.prompt.controller.API.AiPromptApiP
 import static com.healthcare.aiservice.common.statistics.controller.API.AiStatisticsApiPaths.STATISTICS_ADMIN_URL;
 import static jakarta.ws.rs.HttpMethod.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -128,7 +129,7 @@ class AdminEndpointAuthorizationIT
                 Set.of(Role.ROLE_ADMIN)
         );
 
-        when(statisticService.getStatistic())
+        when(statisticService.getStatistic(isNull(), isNull()))
                 .thenReturn(emptyStatistics());
 
         mockMvc.perform(
@@ -149,7 +150,7 @@ class AdminEndpointAuthorizationIT
                         .value(0));
 
         verify(statisticService)
-                .getStatistic();
+                .getStatistic(null, null);
     }
 
     @ParameterizedTest(
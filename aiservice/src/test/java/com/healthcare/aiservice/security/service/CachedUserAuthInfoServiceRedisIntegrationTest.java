@@ -2,6 +2,7 @@ package com.healthcare.aiservice.security.service;
 
 
 import com.healthcare.aiservice.cache.CacheNames;
+import com.healthcare.aiservice.cache.TwoLevelCacheManager;
 import com.healthcare.aiservice.config.AbstractMongoRedisIntegrationTest;
 import com.healthcare.aiservice.exception.UserServiceUnavailableException;
 
@@ -18,7 +19,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import java.util.ArrayList;
@@ -82,7 +82,7 @@ class CachedUserAuthInfoServiceRedisIntegrationTest
                 service.getUserAuthInfoByUserId(USER_ID);
 
         assertThat(cacheManager)
-                .isInstanceOf(RedisCacheManager.class);
+                .isInstanceOf(TwoLevelCacheManager.class);
 
         assertThat(firstResult)
                 .usingRecursiveComparison()